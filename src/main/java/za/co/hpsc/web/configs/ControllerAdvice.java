@@ -1,6 +1,7 @@
 package za.co.hpsc.web.configs;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageConversionException;
@@ -9,6 +10,8 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 import za.co.hpsc.web.exceptions.FatalException;
 import za.co.hpsc.web.exceptions.NonFatalException;
+import za.co.hpsc.web.exceptions.PreconditionFailedException;
+import za.co.hpsc.web.exceptions.ServiceUnavailableException;
 import za.co.hpsc.web.exceptions.ValidationException;
 import za.co.hpsc.web.models.ControllerResponse;
 import za.co.hpsc.web.utils.ValueUtil;
@@ -61,6 +64,28 @@ public class ControllerAdvice {
         return new ResponseEntity<>(errorResponse, status);
     }
 
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ControllerResponse> handlePreconditionFailedException(PreconditionFailedException ex,
+                                                                                WebRequest request) {
+        logError(ex, request);
+        HttpStatus status = HttpStatus.PRECONDITION_FAILED;
+        ControllerResponse errorResponse = buildErrorResponse(ex.getMessage(), status);
+        return new ResponseEntity<>(errorResponse, status);
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ControllerResponse> handleServiceUnavailableException(ServiceUnavailableException ex,
+                                                                                WebRequest request) {
+        logError(ex, request);
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        ControllerResponse errorResponse = buildErrorResponse(ex.getMessage(), status);
+        HttpHeaders headers = new HttpHeaders();
+        if (ex.getRetryAfterSeconds() != null) {
+            headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+        }
+        return new ResponseEntity<>(errorResponse, headers, status);
+    }
+
     @ExceptionHandler(HttpMessageConversionException.class)
     public ResponseEntity<ControllerResponse> handleHttpMessageConversionException(HttpMessageConversionException ex,
                                                                                    WebRequest request) {
@@ -0,0 +1,80 @@
+package za.co.hpsc.web.configs;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configures the bounded executors used by the application.
+ *
+ * <p>
+ * Each executor is backed by virtual threads, but capped at a fixed number of concurrent
+ * tasks so that a single large request can not monopolise the host.
+ * </p>
+ */
+@Configuration
+public class ExecutorConfig {
+    public static final String SECTION_PARSER_EXECUTOR = "sectionParserExecutor";
+    public static final String IMPORT_JOB_EXECUTOR = "importJobExecutor";
+    public static final String MATCH_IMPORT_EXECUTOR = "matchImportExecutor";
+
+    /**
+     * Executor used to parse the XML sections of a WinMSS.cab file in parallel.
+     *
+     * @param threads the maximum number of sections parsed concurrently.
+     * @return the bounded section parser executor.
+     */
+    @Bean(name = SECTION_PARSER_EXECUTOR, destroyMethod = "close")
+    public ExecutorService sectionParserExecutor(
+            @Value("${hpsc.web.app.import.sections.threads:4}") int threads) {
+        return Executors.newFixedThreadPool(Math.max(1, threads),
+                Thread.ofVirtual().name("section-parser-", 0).factory());
+    }
+
+    /**
+     * Executor used to import the matches of a WinMSS.cab file concurrently.
+     *
+     * <p>
+     * Each match holds a database connection while it is persisted, so the number of threads
+     * should stay well below the size of the connection pool.
+     * </p>
+     *
+     * @param threads the maximum number of matches imported concurrently.
+     * @return the bounded match import executor.
+     */
+    @Bean(name = MATCH_IMPORT_EXECUTOR, destroyMethod = "close")
+    public ExecutorService matchImportExecutor(
+            @Value("${hpsc.web.app.import.matches.threads:4}") int threads) {
+        return Executors.newFixedThreadPool(Math.max(1, threads),
+                Thread.ofVirtual().name("match-import-", 0).factory());
+    }
+
+    /**
+     * Executor used to run asynchronous WinMSS import jobs.
+     *
+     * <p>
+     * The number of workers caps how many imports run against the database at once, and
+     * the queue capacity caps how many submitted jobs may wait for a worker. Submissions
+     * beyond that are rejected.
+     * </p>
+     *
+     * @param workers       the maximum number of imports that run concurrently.
+     * @param queueCapacity the maximum number of imports waiting for a worker.
+     * @return the bounded import job executor.
+     */
+    @Bean(name = IMPORT_JOB_EXECUTOR, destroyMethod = "close")
+    public ExecutorService importJobExecutor(
+            @Value("${hpsc.web.app.import.jobs.workers:2}") int workers,
+            @Value("${hpsc.web.app.import.jobs.queue-capacity:10}") int queueCapacity) {
+        int poolSize = Math.max(1, workers);
+        return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                Thread.ofVirtual().name("import-job-", 0).factory());
+    }
+}
@@ -0,0 +1,137 @@
+package za.co.hpsc.web.configs;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+import za.co.hpsc.web.models.award.request.AwardRequest;
+import za.co.hpsc.web.models.award.request.AwardRequestForCSV;
+import za.co.hpsc.web.models.image.request.ImageRequest;
+import za.co.hpsc.web.models.image.request.ImageRequestForCsv;
+import za.co.hpsc.web.models.ipsc.common.request.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of pre-configured, reusable Jackson readers.
+ *
+ * <p>
+ * Building a mapper, registering modules and resolving a schema or parametric type is
+ * far more expensive than the actual deserialization of a small payload. The registry
+ * performs this work once; the mappers are never reconfigured after the readers have been
+ * created, and {@link ObjectReader} instances are immutable, so all readers can safely be
+ * shared between concurrent requests.
+ * </p>
+ */
+@Component
+public class ObjectReaderRegistry {
+    // The request types of the sections in a WinMSS.cab file
+    protected static final List<Class<?>> IPSC_REQUEST_TYPES = List.of(
+            ClubRequest.class, MatchRequest.class, StageRequest.class, TagRequest.class,
+            MemberRequest.class, ClassificationRequest.class, EnrolledRequest.class,
+            SquadRequest.class, TeamRequest.class, ScoreRequest.class);
+
+    /**
+     * JSON factory used to stream the WinMSS.cab file envelope.
+     * Parsers created by it do not close the source stream.
+     */
+    @Getter
+    private final JsonFactory jsonFactory;
+    /**
+     * Reader for the WinMSS.cab file envelope.
+     */
+    @Getter
+    private final ObjectReader ipscRequestReader;
+    /**
+     * Reader for award CSV data, configured with the {@link AwardRequestForCSV} schema and mix-in.
+     */
+    @Getter
+    private final ObjectReader awardRequestReader;
+    /**
+     * Reader for image CSV data, configured with the {@link ImageRequestForCsv} schema and mix-in.
+     */
+    @Getter
+    private final ObjectReader imageRequestReader;
+
+    private final XmlMapper xmlMapper;
+    private final Map<Class<?>, ObjectReader> xmlDataReaders = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectReader> xmlRowReaders = new ConcurrentHashMap<>();
+
+    public ObjectReaderRegistry() {
+        this.jsonFactory = JsonFactory.builder()
+                .disable(StreamReadFeature.AUTO_CLOSE_SOURCE)
+                .build();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        this.ipscRequestReader = objectMapper.readerFor(IpscRequest.class);
+
+        this.xmlMapper = new XmlMapper();
+        this.xmlMapper.registerModule(new JavaTimeModule());
+        // Resolves the readers of the known section types up front
+        IPSC_REQUEST_TYPES.forEach(clazz -> {
+            getXmlDataReader(clazz);
+            getXmlRowReader(clazz);
+        });
+
+        this.awardRequestReader = initAwardRequestReader();
+        this.imageRequestReader = initImageRequestReader();
+    }
+
+    /**
+     * Returns the reader for an XML section of the given request type, wrapped in
+     * an {@link XmlDataWrapper}.
+     *
+     * @param clazz the class type of the request objects in the section.
+     * @return the reader for an {@link XmlDataWrapper} of the given request type.
+     */
+    public ObjectReader getXmlDataReader(Class<?> clazz) {
+        return xmlDataReaders.computeIfAbsent(clazz, c -> {
+            JavaType wrapperType = xmlMapper.getTypeFactory()
+                    .constructParametricType(XmlDataWrapper.class, c);
+            return xmlMapper.readerFor(wrapperType);
+        });
+    }
+
+    /**
+     * Returns the reader for a single {@code row} element of the given request type.
+     *
+     * @param clazz the class type of the request object.
+     * @return the reader for a single row of the given request type.
+     */
+    public ObjectReader getXmlRowReader(Class<?> clazz) {
+        return xmlRowReaders.computeIfAbsent(clazz, xmlMapper::readerFor);
+    }
+
+    protected ObjectReader initAwardRequestReader() {
+        CsvMapper csvMapper = new CsvMapper();
+        csvMapper.registerModule(new JavaTimeModule());
+        csvMapper.addMixIn(AwardRequest.class, AwardRequestForCSV.class);
+        CsvSchema csvSchema = csvMapper
+                .schemaFor(AwardRequestForCSV.class)
+                .withArrayElementSeparator("|")
+                .withColumnReordering(true)
+                .withHeader();
+        return csvMapper.readerFor(AwardRequest.class).with(csvSchema);
+    }
+
+    protected ObjectReader initImageRequestReader() {
+        CsvMapper csvMapper = new CsvMapper();
+        csvMapper.addMixIn(ImageRequest.class, ImageRequestForCsv.class);
+        CsvSchema csvSchema = csvMapper
+                .schemaFor(ImageRequestForCsv.class)
+                .withArrayElementSeparator("|")
+                .withColumnReordering(true)
+                .withHeader();
+        return csvMapper.readerFor(ImageRequest.class).with(csvSchema);
+    }
+}
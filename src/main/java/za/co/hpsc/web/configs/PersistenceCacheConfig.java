@@ -0,0 +1,94 @@
+package za.co.hpsc.web.configs;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import za.co.hpsc.web.constants.PersistenceConstants;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configures the in-process second-level cache of the reference entities.
+ *
+ * <p>
+ * Clubs and competitors, and the natural-key queries that find them, are cached in Caffeine
+ * regions through JCache. Each region holds a configurable maximum number of entries, which
+ * expire a configurable time after they were written. The update timestamps of the query cache
+ * are never evicted, so that a cached query result can not outlive a write to its tables.
+ * </p>
+ */
+@Configuration
+public class PersistenceCacheConfig {
+    public static final List<String> ENTITY_CACHE_REGIONS = List.of(
+            PersistenceConstants.CLUB_CACHE_REGION,
+            PersistenceConstants.COMPETITOR_CACHE_REGION);
+    public static final List<String> QUERY_CACHE_REGIONS = List.of(
+            PersistenceConstants.CLUB_QUERY_CACHE_REGION,
+            PersistenceConstants.COMPETITOR_QUERY_CACHE_REGION,
+            RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+
+    /**
+     * Cache manager holding the second-level cache regions.
+     *
+     * <p>
+     * Each application context gets a cache manager of its own, so that contexts sharing a JVM
+     * do not share cached entities.
+     * </p>
+     *
+     * @param maximumSize       the maximum number of entries per region.
+     * @param timeToLiveMinutes the number of minutes after which an entry expires.
+     * @return the second-level cache manager.
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager persistenceCacheManager(
+            @Value("${hpsc.web.app.persistence.cache.maximum-size:10000}") long maximumSize,
+            @Value("${hpsc.web.app.persistence.cache.time-to-live-minutes:60}") long timeToLiveMinutes) {
+        CachingProvider cachingProvider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = cachingProvider.getCacheManager(
+                URI.create("hpsc-web:" + UUID.randomUUID()), cachingProvider.getDefaultClassLoader());
+
+        ENTITY_CACHE_REGIONS.forEach(region -> cacheManager.createCache(region,
+                getRegionConfiguration(maximumSize, timeToLiveMinutes)));
+        QUERY_CACHE_REGIONS.forEach(region -> cacheManager.createCache(region,
+                getRegionConfiguration(maximumSize, timeToLiveMinutes)));
+
+        // Evicting an update timestamp could make a stale query result appear current
+        CaffeineConfiguration<Object, Object> timestampsConfiguration = new CaffeineConfiguration<>();
+        timestampsConfiguration.setStoreByValue(false);
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                timestampsConfiguration);
+        return cacheManager;
+    }
+
+    /**
+     * Hands the second-level cache manager to Hibernate.
+     *
+     * @param persistenceCacheManager the second-level cache manager.
+     * @return the Hibernate properties customizer.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer persistenceCacheCustomizer(CacheManager persistenceCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, persistenceCacheManager);
+    }
+
+    protected static CaffeineConfiguration<Object, Object> getRegionConfiguration(long maximumSize,
+                                                                                   long timeToLiveMinutes) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        configuration.setMaximumSize(OptionalLong.of(Math.max(1, maximumSize)));
+        configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.MINUTES.toNanos(Math.max(1, timeToLiveMinutes))));
+        return configuration;
+    }
+}
@@ -0,0 +1,90 @@
+package za.co.hpsc.web.configs;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.function.BiFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Exposes the hit, miss and put counts of the second-level cache regions as metrics.
+ *
+ * <p>
+ * The counts are read from the Hibernate statistics, which must be enabled with
+ * {@code hibernate.generate_statistics}. Each meter is tagged with its region, and with whether
+ * the region holds entities or query results. Nothing is bound without an entity manager factory.
+ * </p>
+ */
+@Component
+public class PersistenceCacheMetrics implements MeterBinder {
+    public static final String HITS_METRIC = "hpsc.persistence.cache.hits";
+    public static final String MISSES_METRIC = "hpsc.persistence.cache.misses";
+    public static final String PUTS_METRIC = "hpsc.persistence.cache.puts";
+    public static final String SIZE_METRIC = "hpsc.persistence.cache.size";
+
+    protected final ObjectProvider<EntityManagerFactory> entityManagerFactoryProvider;
+
+    public PersistenceCacheMetrics(ObjectProvider<EntityManagerFactory> entityManagerFactoryProvider) {
+        this.entityManagerFactoryProvider = entityManagerFactoryProvider;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        EntityManagerFactory entityManagerFactory = entityManagerFactoryProvider.getIfAvailable();
+        if (entityManagerFactory == null) {
+            return;
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        PersistenceCacheConfig.ENTITY_CACHE_REGIONS.forEach(region ->
+                bindRegion(registry, statistics, region, "entity", Statistics::getDomainDataRegionStatistics));
+        PersistenceCacheConfig.QUERY_CACHE_REGIONS.forEach(region ->
+                bindRegion(registry, statistics, region, "query", Statistics::getQueryRegionStatistics));
+    }
+
+    protected void bindRegion(MeterRegistry registry, Statistics statistics, String region, String type,
+                              BiFunction<Statistics, String, CacheRegionStatistics> regionStatistics) {
+        FunctionCounter.builder(HITS_METRIC, statistics,
+                        s -> getCount(regionStatistics.apply(s, region), CacheRegionStatistics::getHitCount))
+                .tag("region", region)
+                .tag("type", type)
+                .description("The number of lookups served by the second-level cache region")
+                .register(registry);
+        FunctionCounter.builder(MISSES_METRIC, statistics,
+                        s -> getCount(regionStatistics.apply(s, region), CacheRegionStatistics::getMissCount))
+                .tag("region", region)
+                .tag("type", type)
+                .description("The number of lookups not found in the second-level cache region")
+                .register(registry);
+        FunctionCounter.builder(PUTS_METRIC, statistics,
+                        s -> getCount(regionStatistics.apply(s, region), CacheRegionStatistics::getPutCount))
+                .tag("region", region)
+                .tag("type", type)
+                .description("The number of entries put into the second-level cache region")
+                .register(registry);
+        Gauge.builder(SIZE_METRIC, statistics,
+                        s -> getCount(regionStatistics.apply(s, region),
+                                CacheRegionStatistics::getElementCountInMemory))
+                .tag("region", region)
+                .tag("type", type)
+                .description("The number of entries held by the second-level cache region")
+                .register(registry);
+    }
+
+    // Regions are created on first use, and report no statistics before that
+    protected static double getCount(CacheRegionStatistics regionStatistics,
+                                     ToLongFunction<CacheRegionStatistics> count) {
+        if (regionStatistics == null) {
+            return 0;
+        }
+        return Math.max(0, count.applyAsLong(regionStatistics));
+    }
+}
@@ -0,0 +1,13 @@
+package za.co.hpsc.web.configs;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the scheduled housekeeping tasks of the application, such as the eviction of
+ * finished import jobs.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,146 @@
+package za.co.hpsc.web.configs;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
+/**
+ * Verifies on startup that the indexes behind the natural-key lookups of the repositories exist.
+ *
+ * <p>
+ * Each expected index is identified by its table and leading columns, rather than by its name,
+ * so that an equivalent index created by hand also satisfies the check. Startup fails with an
+ * {@link IllegalStateException} listing every missing index. The check is toggled with
+ * {@code hpsc.web.app.persistence.index-check.enabled}, and skipped when there is no data source.
+ * </p>
+ */
+@Slf4j
+@Component
+public class SchemaIndexVerifier implements ApplicationRunner {
+    public static final List<ExpectedIndex> EXPECTED_INDEXES = List.of(
+            new ExpectedIndex("club", List.of("name"), true),
+            new ExpectedIndex("club", List.of("abbreviation"), false),
+            new ExpectedIndex("competitor", List.of("sapsa_number"), false),
+            new ExpectedIndex("competitor", List.of("first_name", "last_name"), false),
+            new ExpectedIndex("ipsc_match", List.of("name", "scheduled_date"), false),
+            new ExpectedIndex("ipsc_match", List.of("scheduled_date", "id"), false),
+            new ExpectedIndex("ipsc_match_stage", List.of("match_id", "stage_number"), true),
+            new ExpectedIndex("match_competitor", List.of("match_id", "competitor_id"), false),
+            new ExpectedIndex("match_stage_competitor", List.of("match_stage_id", "competitor_id"), false),
+            new ExpectedIndex("import_ledger", List.of("ledger_type", "ledger_key"), true)
+    );
+
+    protected final ObjectProvider<DataSource> dataSourceProvider;
+
+    @Value("${hpsc.web.app.persistence.index-check.enabled:true}")
+    protected boolean enabled;
+
+    public SchemaIndexVerifier(ObjectProvider<DataSource> dataSourceProvider) {
+        this.dataSourceProvider = dataSourceProvider;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        if (!enabled) {
+            log.warn("The schema index check is disabled");
+            return;
+        }
+        verify(EXPECTED_INDEXES);
+    }
+
+    /**
+     * Verifies that the given indexes exist.
+     *
+     * @param expectedIndexes the indexes expected to exist.
+     * @throws IllegalStateException if any of the indexes is missing.
+     * @throws SQLException          if the database metadata can not be read.
+     */
+    public void verify(List<ExpectedIndex> expectedIndexes) throws SQLException {
+        DataSource dataSource = dataSourceProvider.getIfAvailable();
+        if (dataSource == null) {
+            return;
+        }
+
+        List<ExpectedIndex> missingIndexes = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+
+            // Reads the indexes of each table only once
+            Map<String, List<ActualIndex>> indexesByTable = new HashMap<>();
+            for (ExpectedIndex expectedIndex : expectedIndexes) {
+                List<ActualIndex> actualIndexes = indexesByTable.get(expectedIndex.table());
+                if (actualIndexes == null) {
+                    actualIndexes = readIndexes(connection, metaData, expectedIndex.table());
+                    indexesByTable.put(expectedIndex.table(), actualIndexes);
+                }
+                if (actualIndexes.stream().noneMatch(expectedIndex::isSatisfiedBy)) {
+                    missingIndexes.add(expectedIndex);
+                }
+            }
+        }
+
+        if (!missingIndexes.isEmpty()) {
+            throw new IllegalStateException("Missing database indexes: " + missingIndexes +
+                    "; apply the migrations in db/migration");
+        }
+        log.info("Verified {} database indexes", expectedIndexes.size());
+    }
+
+    // Reads the indexes of a table, with their columns in index order
+    private List<ActualIndex> readIndexes(Connection connection, DatabaseMetaData metaData, String table)
+            throws SQLException {
+        String tableName = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : table;
+        Map<String, ActualIndex> indexesByName = new LinkedHashMap<>();
+        try (ResultSet resultSet = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(),
+                tableName, false, true)) {
+            while (resultSet.next()) {
+                String indexName = resultSet.getString("INDEX_NAME");
+                String columnName = resultSet.getString("COLUMN_NAME");
+                if ((indexName == null) || (columnName == null)) {
+                    continue;
+                }
+                boolean unique = !resultSet.getBoolean("NON_UNIQUE");
+                short position = resultSet.getShort("ORDINAL_POSITION");
+                indexesByName.computeIfAbsent(indexName, name -> new ActualIndex(unique, new TreeMap<>()))
+                        .columnsByPosition().put(position, columnName.toLowerCase(Locale.ROOT));
+            }
+        }
+        return List.copyOf(indexesByName.values());
+    }
+
+    /**
+     * An index expected to exist.
+     *
+     * @param table   the name of the table.
+     * @param columns the leading columns of the index, in order.
+     * @param unique  whether the index must be unique on exactly these columns.
+     */
+    public record ExpectedIndex(String table, List<String> columns, boolean unique) {
+        boolean isSatisfiedBy(ActualIndex actualIndex) {
+            List<String> actualColumns = List.copyOf(actualIndex.columnsByPosition().values());
+            if (unique) {
+                return actualIndex.unique() && actualColumns.equals(columns);
+            }
+            return (actualColumns.size() >= columns.size())
+                    && actualColumns.subList(0, columns.size()).equals(columns);
+        }
+
+        @Override
+        public String toString() {
+            return table + "(" + String.join(", ", columns) + ")" + (unique ? " unique" : "");
+        }
+    }
+
+    private record ActualIndex(boolean unique, SortedMap<Short, String> columnsByPosition) {
+    }
+}
@@ -0,0 +1,44 @@
+package za.co.hpsc.web.constants;
+
+/**
+ * Defines constants for the persistence layer.
+ *
+ * <p>
+ * Entity identifiers are generated from a shared table of pooled generators, one row per entity,
+ * so that identifiers can be allocated in blocks without an insert per entity. This keeps the
+ * inserts of an import eligible for JDBC batching, which identity columns are not.
+ * </p>
+ */
+public final class PersistenceConstants {
+    private PersistenceConstants() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static final String ID_GENERATOR_TABLE = "id_generator";
+    public static final String ID_GENERATOR_NAME_COLUMN = "sequence_name";
+    public static final String ID_GENERATOR_VALUE_COLUMN = "next_val";
+    // The number of identifiers allocated per generator round trip; matches the JDBC batch size
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    public static final String CLUB_ID_GENERATOR = "club";
+    public static final String COMPETITOR_ID_GENERATOR = "competitor";
+    public static final String IPSC_MATCH_ID_GENERATOR = "ipsc_match";
+    public static final String IPSC_MATCH_STAGE_ID_GENERATOR = "ipsc_match_stage";
+    public static final String MATCH_COMPETITOR_ID_GENERATOR = "match_competitor";
+    public static final String MATCH_STAGE_COMPETITOR_ID_GENERATOR = "match_stage_competitor";
+    public static final String IMPORT_LEDGER_ID_GENERATOR = "import_ledger";
+
+    // Named entity graphs; collections are lazy unless a graph or a fetch join loads them
+    public static final String IPSC_MATCH_ONLY_GRAPH = "IpscMatch.matchOnly";
+    public static final String COMPETITOR_ONLY_GRAPH = "Competitor.competitorOnly";
+
+    // Second-level cache regions of the reference entities and of their natural-key queries
+    public static final String CLUB_CACHE_REGION = "club";
+    public static final String COMPETITOR_CACHE_REGION = "competitor";
+    public static final String CLUB_QUERY_CACHE_REGION = "club-query";
+    public static final String COMPETITOR_QUERY_CACHE_REGION = "competitor-query";
+
+    // Rows fetched per round trip when streaming results; MySQL honours it only with useCursorFetch=true,
+    // which application.properties passes to the driver
+    public static final String RESULTS_FETCH_SIZE = "500";
+}
@@ -0,0 +1,112 @@
+package za.co.hpsc.web.controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.*;
+import za.co.hpsc.web.exceptions.FatalException;
+import za.co.hpsc.web.exceptions.NonFatalException;
+import za.co.hpsc.web.exceptions.ServiceUnavailableException;
+import za.co.hpsc.web.exceptions.ValidationException;
+import za.co.hpsc.web.models.ControllerResponse;
+import za.co.hpsc.web.models.ipsc.job.ImportJobResponse;
+import za.co.hpsc.web.services.IpscImportJobService;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+/**
+ * Controller responsible for asynchronous WinMSS import jobs.
+ *
+ * <p>
+ * Provides endpoints to submit a WinMSS.cab file for import, which returns a job id
+ * immediately, and to retrieve the status, progress and results of a submitted job.
+ * </p>
+ */
+@Controller
+@RequestMapping("/v2/ipsc/imports")
+@Tag(name = "IPSC Imports", description = "Asynchronous WinMSS import jobs")
+public final class IpscImportController {
+    private final IpscImportJobService ipscImportJobService;
+
+    IpscImportController(IpscImportJobService ipscImportJobService) {
+        this.ipscImportJobService = ipscImportJobService;
+    }
+
+    /**
+     * Submits a WinMSS.cab file to be imported asynchronously.
+     *
+     * <p>
+     * The request body is streamed to the import job, rather than read into a string.
+     * </p>
+     *
+     * @param cabFileStream the request body, containing the WinMSS.cab file in JSON format.
+     * @return the queued {@link ImportJobResponse}, including the id of the job.
+     * @throws ValidationException         if the provided CAB file is empty.
+     * @throws ServiceUnavailableException if the import queue is full.
+     * @throws FatalException              if the job can not be queued.
+     */
+    @Operation(
+            summary = "Submit a WinMSS import",
+            description = "Queues the WinMSS.cab file content for import and returns the job id immediately."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Import job queued",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ImportJobResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid CAB file content",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ControllerResponse.class))),
+            @ApiResponse(responseCode = "503", description = "The import queue is full; retry after Retry-After",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ControllerResponse.class))),
+            @ApiResponse(responseCode = "500", description = "The import job could not be queued",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ControllerResponse.class)))
+    })
+    @PostMapping(value = "", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    ResponseEntity<ImportJobResponse> submitImport(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Content of the WinMSS.cab file",
+                    required = true
+            )
+            InputStream cabFileStream)
+            throws ValidationException, ServiceUnavailableException, FatalException {
+        return ResponseEntity.accepted().body(ipscImportJobService.submitImport(cabFileStream));
+    }
+
+    /**
+     * Retrieves the status, progress and, once completed, the results of an import job.
+     *
+     * @param jobId the id of the import job.
+     * @return the {@link ImportJobResponse} of the job.
+     * @throws NonFatalException if the job does not exist or has expired.
+     */
+    @Operation(
+            summary = "Get a WinMSS import job",
+            description = "Returns the status and progress of an import job, and its results once completed."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import job retrieved successfully",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ImportJobResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Import job not found",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ControllerResponse.class)))
+    })
+    @GetMapping(value = "/{jobId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    ResponseEntity<ImportJobResponse> getImportJob(
+            @Parameter(description = "Unique identifier of the import job", required = true)
+            @PathVariable UUID jobId) {
+        return ResponseEntity.ok(ipscImportJobService.getImportJob(jobId)
+                .orElseThrow(() -> new NonFatalException("Import job %s not found".formatted(jobId))));
+    }
+}
@@ -7,14 +7,34 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import za.co.hpsc.web.enums.ExportFormat;
 import za.co.hpsc.web.exceptions.FatalException;
+import za.co.hpsc.web.exceptions.PreconditionFailedException;
+import za.co.hpsc.web.exceptions.ValidationException;
+import za.co.hpsc.web.models.ipsc.common.data.SerializedResponse;
+import za.co.hpsc.web.models.ipsc.common.holders.records.IpscMatchRecordHolder;
+import za.co.hpsc.web.models.ipsc.common.request.MatchSearchRequest;
 import za.co.hpsc.web.models.ipsc.match.request.MatchOnlyRequest;
+import za.co.hpsc.web.models.ipsc.match.response.MatchLookupResponse;
 import za.co.hpsc.web.models.ipsc.match.response.MatchOnlyResponse;
+import za.co.hpsc.web.models.ipsc.match.response.MatchSearchResponse;
 import za.co.hpsc.web.services.IpscMatchService;
+import za.co.hpsc.web.services.MatchResultExportService;
+import za.co.hpsc.web.services.MatchResultExportService.ResultsExport;
+import za.co.hpsc.web.utils.ETagUtil;
+
+import java.time.LocalDate;
+import java.util.List;
 
 // TODO: add Javadoc
 // TODO: add tests
@@ -24,9 +44,11 @@ import za.co.hpsc.web.services.IpscMatchService;
 @Tag(name = "IPSC Matches", description = "Operations pertaining to IPSC matches")
 public final class IpscMatchController {
     private final IpscMatchService ipscMatchService;
+    private final MatchResultExportService matchResultExportService;
 
-    IpscMatchController(IpscMatchService ipscMatchService) {
+    IpscMatchController(IpscMatchService ipscMatchService, MatchResultExportService matchResultExportService) {
         this.ipscMatchService = ipscMatchService;
+        this.matchResultExportService = matchResultExportService;
     }
 
     @Operation(
@@ -63,6 +85,8 @@ public final class IpscMatchController {
                     content = @Content),
             @ApiResponse(responseCode = "404", description = "Match not found",
                     content = @Content),
+            @ApiResponse(responseCode = "412", description = "Match changed since the If-Match entity tag",
+                    content = @Content),
             @ApiResponse(responseCode = "500", description = "Failed to process match update",
                     content = @Content)
     })
@@ -76,9 +100,14 @@ public final class IpscMatchController {
                     required = true,
                     content = @Content(schema = @Schema(implementation = MatchOnlyRequest.class))
             )
-            @RequestBody MatchOnlyRequest matchOnlyRequest)
+            @RequestBody MatchOnlyRequest matchOnlyRequest,
+            @Parameter(description = "Entity tag of the match the update is based on")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
             throws FatalException {
-        return ResponseEntity.ok(ipscMatchService.updateMatch(matchId, matchOnlyRequest).orElse(null));
+        Long expectedVersion = resolveExpectedVersion(matchId, ifMatch);
+        MatchOnlyResponse matchOnlyResponse = ipscMatchService.updateMatch(matchId, matchOnlyRequest,
+                expectedVersion).orElse(null);
+        return ResponseEntity.ok().eTag(getETag(matchId)).body(matchOnlyResponse);
     }
 
     @Operation(
@@ -91,6 +120,8 @@ public final class IpscMatchController {
                     content = @Content),
             @ApiResponse(responseCode = "404", description = "Match not found",
                     content = @Content),
+            @ApiResponse(responseCode = "412", description = "Match changed since the If-Match entity tag",
+                    content = @Content),
             @ApiResponse(responseCode = "500", description = "Failed to process match modification",
                     content = @Content)
     })
@@ -104,12 +135,33 @@ public final class IpscMatchController {
                     required = true,
                     content = @Content(schema = @Schema(implementation = MatchOnlyRequest.class))
             )
-            @RequestBody MatchOnlyRequest matchOnlyRequest)
+            @RequestBody MatchOnlyRequest matchOnlyRequest,
+            @Parameter(description = "Entity tag of the match the modification is based on")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
             throws FatalException {
+        Long expectedVersion = resolveExpectedVersion(matchId, ifMatch);
+        MatchOnlyResponse matchOnlyResponse = ipscMatchService.modifyMatch(matchId, matchOnlyRequest,
+                expectedVersion).orElseThrow(() -> new FatalException("Failed to modify match"));
+        return ResponseEntity.ok().eTag(getETag(matchId)).body(matchOnlyResponse);
+    }
 
-
-        return ResponseEntity.ok(ipscMatchService.modifyMatch(matchId, matchOnlyRequest)
-                .orElseThrow(() -> new FatalException("Failed to modify match")));
+    @Operation(
+            summary = "Search IPSC matches",
+            description = "Returns a page of matches by ids, name prefix and date range, ordered by scheduled date."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matches retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = MatchSearchResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid match id, date range, cursor or limit",
+                    content = @Content),
+            @ApiResponse(responseCode = "500", description = "Failed to search matches",
+                    content = @Content)
+    })
+    @GetMapping(value = "", produces = MediaType.APPLICATION_JSON_VALUE)
+    ResponseEntity<MatchSearchResponse> searchMatches(
+            @ParameterObject @ModelAttribute MatchSearchRequest matchSearchRequest) throws FatalException {
+        return ResponseEntity.ok(ipscMatchService.searchMatches(matchSearchRequest)
+                .orElseThrow(() -> new FatalException("Failed to search matches")));
     }
 
     @Operation(
@@ -119,16 +171,160 @@ public final class IpscMatchController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Match retrieved successfully",
                     content = @Content(schema = @Schema(implementation = MatchOnlyRequest.class))),
+            @ApiResponse(responseCode = "304", description = "Match unchanged since the If-None-Match entity tag",
+                    content = @Content),
             @ApiResponse(responseCode = "404", description = "Match not found",
                     content = @Content),
             @ApiResponse(responseCode = "500", description = "Failed to retrieve match",
                     content = @Content)
     })
     @GetMapping(value = "/{matchId}", produces = MediaType.APPLICATION_JSON_VALUE)
-    ResponseEntity<MatchOnlyResponse> getMatch(
+    ResponseEntity<byte[]> getMatch(
+            @Parameter(description = "Unique identifier of the match", required = true, example = "123")
+            @PathVariable Long matchId,
+            @Parameter(description = "Entity tags of the match the client already holds")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch)
+            throws FatalException {
+        // On a miss, compare the current version first, so that an unchanged match is not loaded
+        if ((ifNoneMatch != null) && !ipscMatchService.isSerializedMatchCached(matchId)) {
+            String eTag = getETag(matchId);
+            if (ETagUtil.matchesIfNoneMatch(ifNoneMatch, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+        }
+
+        // The cached response carries the version it was read at, so a hit needs no query
+        SerializedResponse serializedResponse = ipscMatchService.getSerializedMatch(matchId)
+                .orElseThrow(() -> new FatalException("Failed to retrieve match"));
+        String eTag = ETagUtil.toETag(serializedResponse.version());
+        if (ETagUtil.matchesIfNoneMatch(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        return ResponseEntity.ok().eTag(eTag).contentType(MediaType.APPLICATION_JSON)
+                .body(serializedResponse.body());
+    }
+
+    @Operation(
+            summary = "Get IPSC matches by ids",
+            description = "Returns several matches at once, in the requested order, marking the ids not found."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matches retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "No ids, or more ids than allowed at once",
+                    content = @Content),
+            @ApiResponse(responseCode = "500", description = "Failed to retrieve matches",
+                    content = @Content)
+    })
+    @GetMapping(value = "/batch", produces = MediaType.APPLICATION_JSON_VALUE)
+    ResponseEntity<List<MatchLookupResponse>> getMatches(
+            @Parameter(description = "Unique identifiers of the matches", required = true, example = "123,124")
+            @RequestParam("ids") List<Long> matchIds) throws FatalException {
+        return ResponseEntity.ok(ipscMatchService.getMatches(matchIds)
+                .orElseThrow(() -> new FatalException("Failed to retrieve matches")));
+    }
+
+    @Operation(
+            summary = "Get IPSC match results by id",
+            description = "Returns the competitor and stage results of a single match when it exists."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Match results retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = IpscMatchRecordHolder.class))),
+            @ApiResponse(responseCode = "404", description = "Match not found",
+                    content = @Content),
+            @ApiResponse(responseCode = "500", description = "Failed to retrieve match results",
+                    content = @Content)
+    })
+    @GetMapping(value = "/{matchId}/results", produces = MediaType.APPLICATION_JSON_VALUE)
+    ResponseEntity<byte[]> getMatchResults(
             @Parameter(description = "Unique identifier of the match", required = true, example = "123")
             @PathVariable Long matchId) throws FatalException {
-        return ResponseEntity.ok(ipscMatchService.getMatch(matchId)
-                .orElseThrow(() -> new FatalException("Failed to retrieve match")));
+        SerializedResponse serializedResponse = ipscMatchService.getSerializedMatchResults(matchId)
+                .orElseThrow(() -> new FatalException("Failed to retrieve match results"));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(serializedResponse.body());
+    }
+
+    @Operation(
+            summary = "Export IPSC match results by id",
+            description = "Streams the competitor and stage results of a single match as NDJSON or CSV."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Match results streamed successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid match id or export format",
+                    content = @Content),
+            @ApiResponse(responseCode = "404", description = "Match not found",
+                    content = @Content)
+    })
+    @GetMapping(value = "/{matchId}/results/export")
+    ResponseEntity<StreamingResponseBody> exportMatchResults(
+            @Parameter(description = "Unique identifier of the match", required = true, example = "123")
+            @PathVariable Long matchId,
+            @Parameter(description = "Format of the export: ndjson or csv", example = "csv")
+            @RequestParam(value = "format", defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = getExportFormat(format);
+        ResultsExport resultsExport = matchResultExportService.exportMatch(matchId, exportFormat);
+        return getExportResponse(resultsExport, exportFormat, "match-%d-results".formatted(matchId));
+    }
+
+    @Operation(
+            summary = "Export IPSC match results by date range",
+            description = "Streams the competitor and stage results of the matches in a date range as NDJSON or CSV."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Match results streamed successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid date range or export format",
+                    content = @Content)
+    })
+    @GetMapping(value = "/results/export")
+    ResponseEntity<StreamingResponseBody> exportMatchesResults(
+            @Parameter(description = "First scheduled date of the matches", required = true, example = "2026-01-01")
+            @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "Last scheduled date of the matches, inclusive", required = true,
+                    example = "2026-12-31")
+            @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "Format of the export: ndjson or csv", example = "csv")
+            @RequestParam(value = "format", defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = getExportFormat(format);
+        ResultsExport resultsExport = matchResultExportService.exportMatches(startDate, endDate, exportFormat);
+        return getExportResponse(resultsExport, exportFormat,
+                "match-results-%s-%s".formatted(startDate, endDate));
+    }
+
+    private ExportFormat getExportFormat(String format) {
+        return ExportFormat.getByName(format).orElseThrow(() ->
+                new ValidationException("Unsupported export format '%s'".formatted(format)));
+    }
+
+    private ResponseEntity<StreamingResponseBody> getExportResponse(ResultsExport resultsExport,
+                                                                    ExportFormat exportFormat, String fileName) {
+        // The results are written as they are read, after the response has been committed
+        StreamingResponseBody streamingResponseBody = resultsExport::writeTo;
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(fileName + "." + exportFormat.getName())
+                        .build()
+                        .toString())
+                .body(streamingResponseBody);
+    }
+
+    private String getETag(Long matchId) throws FatalException {
+        return ETagUtil.toETag(ipscMatchService.getMatchVersion(matchId)
+                .orElseThrow(() -> new FatalException("Failed to retrieve match version")));
+    }
+
+    private Long resolveExpectedVersion(Long matchId, String ifMatch) throws FatalException {
+        if (ifMatch == null) {
+            return null;
+        }
+
+        // The write is skipped unless the match is still at the version of the entity tag
+        Long version = ipscMatchService.getMatchVersion(matchId)
+                .orElseThrow(() -> new FatalException("Failed to retrieve match version"));
+        if (!ETagUtil.matchesIfMatch(ifMatch, ETagUtil.toETag(version))) {
+            throw new PreconditionFailedException("Match with id %d has been modified".formatted(matchId));
+        }
+        return version;
     }
-}
\ No newline at end of file
+}
@@ -6,6 +6,9 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import za.co.hpsc.web.constants.PersistenceConstants;
 import za.co.hpsc.web.models.ipsc.common.dto.ClubDto;
 import za.co.hpsc.web.utils.ValueUtil;
 
@@ -24,15 +27,28 @@ import java.util.List;
  * Additionally, it overrides the {@code toString} method to return the club's name as a
  * string representation.
  * </p>
+ *
+ * <p>
+ * Clubs rarely change, so they are held in the second-level cache, and are invalidated whenever
+ * they are written through the persistence context.
+ * </p>
  */
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(indexes = @Index(name = "idx_club_abbreviation", columnList = "abbreviation"))
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = PersistenceConstants.CLUB_CACHE_REGION)
 public class Club {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = PersistenceConstants.CLUB_ID_GENERATOR)
+    @TableGenerator(name = PersistenceConstants.CLUB_ID_GENERATOR,
+            table = PersistenceConstants.ID_GENERATOR_TABLE,
+            pkColumnName = PersistenceConstants.ID_GENERATOR_NAME_COLUMN,
+            valueColumnName = PersistenceConstants.ID_GENERATOR_VALUE_COLUMN,
+            pkColumnValue = PersistenceConstants.CLUB_ID_GENERATOR,
+            allocationSize = PersistenceConstants.ID_ALLOCATION_SIZE)
     private Long id;
 
     @NotNull
@@ -44,7 +60,7 @@ public class Club {
     private LocalDateTime dateCreated;
     private LocalDateTime dateUpdated;
 
-    @OneToMany(mappedBy = "club", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "club")
     private List<IpscMatch> matches = new ArrayList<>();
 
     public Club(String name, String abbreviation) {
@@ -6,6 +6,9 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import za.co.hpsc.web.constants.PersistenceConstants;
 import za.co.hpsc.web.models.ipsc.common.dto.CompetitorDto;
 import za.co.hpsc.web.utils.ValueUtil;
 
@@ -27,15 +30,33 @@ import java.util.List;
  * Additionally, it overrides the {@code toString} method to provide a formatted string
  * representation of the competitor's name, including middle names if available.
  * </p>
+ *
+ * <p>
+ * The match and stage results of the competitor are loaded lazily, so that a competitor lookup
+ * does not load the competitor's whole history. The competitor itself is held in the
+ * second-level cache, as the same regular shooters are looked up by every import.
+ * </p>
  */
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_competitor_sapsa_number", columnList = "sapsa_number"),
+        @Index(name = "idx_competitor_name", columnList = "first_name, last_name")
+})
+@NamedEntityGraph(name = PersistenceConstants.COMPETITOR_ONLY_GRAPH)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = PersistenceConstants.COMPETITOR_CACHE_REGION)
 public class Competitor {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = PersistenceConstants.COMPETITOR_ID_GENERATOR)
+    @TableGenerator(name = PersistenceConstants.COMPETITOR_ID_GENERATOR,
+            table = PersistenceConstants.ID_GENERATOR_TABLE,
+            pkColumnName = PersistenceConstants.ID_GENERATOR_NAME_COLUMN,
+            valueColumnName = PersistenceConstants.ID_GENERATOR_VALUE_COLUMN,
+            pkColumnValue = PersistenceConstants.COMPETITOR_ID_GENERATOR,
+            allocationSize = PersistenceConstants.ID_ALLOCATION_SIZE)
     private Long id;
 
     @NotNull
@@ -55,9 +76,9 @@ public class Competitor {
     private LocalDateTime dateCreated;
     private LocalDateTime dateUpdated;
 
-    @OneToMany(mappedBy = "competitor", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "competitor")
     private List<MatchCompetitor> competitorMatches = new ArrayList<>();
-    @OneToMany(mappedBy = "competitor", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "competitor")
     private List<MatchStageCompetitor> competitorStageMatches = new ArrayList<>();
 
     /**
@@ -0,0 +1,84 @@
+package za.co.hpsc.web.domain;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import za.co.hpsc.web.constants.PersistenceConstants;
+import za.co.hpsc.web.enums.ImportLedgerType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents an entry in the ledger of imported WinMSS.cab files and matches.
+ *
+ * <p>
+ * The {@code ImportLedger} class is an entity in the persistence layer that records the content
+ * hash of what was imported, together with the JSON payload needed to answer the same import
+ * again without parsing, transforming or persisting it. A CAB file entry is keyed on the hash of
+ * the file, and holds the keys and section hashes of its matches in file order. A match entry is
+ * keyed on the natural key of the match, and holds the hash of the match section it was last
+ * imported from, the ID of the match, and its match record.
+ * </p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_import_ledger_type_key",
+        columnNames = {"ledger_type", "ledger_key"}),
+        indexes = @Index(name = "idx_import_ledger_match_id", columnList = "match_id"))
+public class ImportLedger {
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = PersistenceConstants.IMPORT_LEDGER_ID_GENERATOR)
+    @TableGenerator(name = PersistenceConstants.IMPORT_LEDGER_ID_GENERATOR,
+            table = PersistenceConstants.ID_GENERATOR_TABLE,
+            pkColumnName = PersistenceConstants.ID_GENERATOR_NAME_COLUMN,
+            valueColumnName = PersistenceConstants.ID_GENERATOR_VALUE_COLUMN,
+            pkColumnValue = PersistenceConstants.IMPORT_LEDGER_ID_GENERATOR,
+            allocationSize = PersistenceConstants.ID_ALLOCATION_SIZE)
+    private Long id;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ImportLedgerType ledgerType;
+    @NotNull
+    @Column(nullable = false, length = 320)
+    private String ledgerKey;
+
+    @NotNull
+    @Column(nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "match_id")
+    private Long matchId;
+
+    @NotNull
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    private LocalDateTime dateCreated;
+    private LocalDateTime dateUpdated;
+
+    public ImportLedger(ImportLedgerType ledgerType, String ledgerKey) {
+        // Initialises the ledger key
+        this.ledgerType = ledgerType;
+        this.ledgerKey = ledgerKey;
+    }
+
+    @PrePersist
+    void onInsert() {
+        this.dateCreated = LocalDateTime.now();
+        this.dateUpdated = this.dateCreated;
+    }
+
+    @PreUpdate
+    void onUpdate() {
+        this.dateUpdated = LocalDateTime.now();
+    }
+}
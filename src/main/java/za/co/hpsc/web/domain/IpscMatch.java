@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import za.co.hpsc.web.constants.IpscConstants;
+import za.co.hpsc.web.constants.PersistenceConstants;
 import za.co.hpsc.web.converters.FirearmTypeConverter;
 import za.co.hpsc.web.converters.MatchCategoryConverter;
 import za.co.hpsc.web.enums.FirearmType;
@@ -32,15 +33,31 @@ import java.util.List;
  * Additionally, it overrides the {@code toString} method to return a context-specific
  * representation of the match's display name.
  * </p>
+ *
+ * <p>
+ * The stages and match competitors are loaded lazily. Reads that need them use the fetch plans
+ * of the repositories instead.
+ * </p>
  */
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_ipsc_match_name_scheduled_date", columnList = "name, scheduled_date"),
+        @Index(name = "idx_ipsc_match_scheduled_date_id", columnList = "scheduled_date, id")
+})
+@NamedEntityGraph(name = PersistenceConstants.IPSC_MATCH_ONLY_GRAPH, attributeNodes = @NamedAttributeNode("club"))
 public class IpscMatch {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = PersistenceConstants.IPSC_MATCH_ID_GENERATOR)
+    @TableGenerator(name = PersistenceConstants.IPSC_MATCH_ID_GENERATOR,
+            table = PersistenceConstants.ID_GENERATOR_TABLE,
+            pkColumnName = PersistenceConstants.ID_GENERATOR_NAME_COLUMN,
+            valueColumnName = PersistenceConstants.ID_GENERATOR_VALUE_COLUMN,
+            pkColumnValue = PersistenceConstants.IPSC_MATCH_ID_GENERATOR,
+            allocationSize = PersistenceConstants.ID_ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne
@@ -59,9 +76,9 @@ public class IpscMatch {
     @Convert(converter = MatchCategoryConverter.class)
     private MatchCategory matchCategory;
 
-    @OneToMany(mappedBy = "match", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "match")
     private List<IpscMatchStage> matchStages = new ArrayList<>();
-    @OneToMany(mappedBy = "match", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "match")
     private List<MatchCompetitor> matchCompetitors = new ArrayList<>();
 
     private LocalDateTime dateCreated;
@@ -69,6 +86,9 @@ public class IpscMatch {
     private LocalDateTime dateEdited;
     private LocalDateTime dateRefreshed;
 
+    @Version
+    private Long version;
+
     public void init(MatchDto matchDto) {
         if (matchDto != null) {
             // Initialises the match attributes
@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import za.co.hpsc.web.constants.PersistenceConstants;
 import za.co.hpsc.web.models.ipsc.common.dto.MatchStageDto;
 import za.co.hpsc.web.utils.ValueUtil;
 
@@ -31,9 +32,17 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_ipsc_match_stage_match_stage_number",
+        columnNames = {"match_id", "stage_number"}))
 public class IpscMatchStage {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = PersistenceConstants.IPSC_MATCH_STAGE_ID_GENERATOR)
+    @TableGenerator(name = PersistenceConstants.IPSC_MATCH_STAGE_ID_GENERATOR,
+            table = PersistenceConstants.ID_GENERATOR_TABLE,
+            pkColumnName = PersistenceConstants.ID_GENERATOR_NAME_COLUMN,
+            valueColumnName = PersistenceConstants.ID_GENERATOR_VALUE_COLUMN,
+            pkColumnValue = PersistenceConstants.IPSC_MATCH_STAGE_ID_GENERATOR,
+            allocationSize = PersistenceConstants.ID_ALLOCATION_SIZE)
     private Long id;
 
     @NotNull
@@ -59,7 +68,7 @@ public class IpscMatchStage {
     private LocalDateTime dateCreated;
     private LocalDateTime dateUpdated;
 
-    @OneToMany(mappedBy = "matchStage", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "matchStage")
     private List<MatchStageCompetitor> matchStageCompetitors = new ArrayList<>();
 
     /**
@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import za.co.hpsc.web.constants.PersistenceConstants;
 import za.co.hpsc.web.converters.*;
 import za.co.hpsc.web.enums.*;
 import za.co.hpsc.web.models.ipsc.common.dto.MatchCompetitorDto;
@@ -26,15 +27,28 @@ import java.time.LocalDateTime;
  * Additionally, it overrides the {@code toString} method to provide a concise string representation
  * that includes the match and competitor details.
  * </p>
+ *
+ * <p>
+ * The row carries no optimistic version of its own. It is only written by an import of its
+ * match, which loads the {@link IpscMatch} with a forced version increment, so the version of
+ * the match guards its results.
+ * </p>
  */
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(indexes = @Index(name = "idx_match_competitor_match_competitor", columnList = "match_id, competitor_id"))
 public class MatchCompetitor {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = PersistenceConstants.MATCH_COMPETITOR_ID_GENERATOR)
+    @TableGenerator(name = PersistenceConstants.MATCH_COMPETITOR_ID_GENERATOR,
+            table = PersistenceConstants.ID_GENERATOR_TABLE,
+            pkColumnName = PersistenceConstants.ID_GENERATOR_NAME_COLUMN,
+            valueColumnName = PersistenceConstants.ID_GENERATOR_VALUE_COLUMN,
+            pkColumnValue = PersistenceConstants.MATCH_COMPETITOR_ID_GENERATOR,
+            allocationSize = PersistenceConstants.ID_ALLOCATION_SIZE)
     private Long id;
 
     @NotNull
@@ -0,0 +1,54 @@
+package za.co.hpsc.web.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Enum representing the formats in which match results can be exported.
+ *
+ * <p>
+ * Newline-delimited JSON holds one competitor, with all their stage results, per line. CSV
+ * holds one stage result per line, with the match and competitor columns repeated on each.
+ * </p>
+ */
+@Getter
+@AllArgsConstructor
+public enum ExportFormat {
+    NDJSON("ndjson", "application/x-ndjson"),
+    CSV("csv", "text/csv");
+
+    private final String name;
+    private final String mediaType;
+
+    /**
+     * Retrieves an optional {@code ExportFormat} instance based on the provided name.
+     *
+     * <p>
+     * The method performs a case-insensitive search to find a matching export format
+     * by its name. If the input is null, empty, or no match is found, an empty
+     * {@code Optional} is returned.
+     * </p>
+     *
+     * @param name the name of the export format to search for.
+     *             Can be null or empty.
+     * @return an {@code Optional} containing the matching {@code ExportFormat} if found,
+     * or an empty {@code Optional} otherwise.
+     */
+    public static Optional<ExportFormat> getByName(String name) {
+        if ((name == null) || (name.isBlank())) {
+            return Optional.empty();
+        }
+
+        return Arrays.stream(ExportFormat.values())
+                .filter(exportFormat -> exportFormat.getName().equalsIgnoreCase(name.trim()))
+                .findFirst();
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+}
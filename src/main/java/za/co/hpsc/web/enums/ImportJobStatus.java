@@ -0,0 +1,39 @@
+package za.co.hpsc.web.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Enum representing the lifecycle of an asynchronous WinMSS import job.
+ *
+ * <p>
+ * A job is queued when it is submitted, then moves through the parsing, transforming and
+ * persisting phases before it either completes or fails.
+ * </p>
+ */
+@Getter
+@AllArgsConstructor
+public enum ImportJobStatus {
+    QUEUED("Queued"),
+    PARSING("Parsing"),
+    TRANSFORMING("Transforming"),
+    PERSISTING("Persisting"),
+    COMPLETED("Completed"),
+    FAILED("Failed");
+
+    private final String name;
+
+    /**
+     * Indicates whether the job has finished, either successfully or not.
+     *
+     * @return {@code true} if the job has completed or failed, {@code false} otherwise.
+     */
+    public boolean isFinished() {
+        return (this == COMPLETED) || (this == FAILED);
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+}
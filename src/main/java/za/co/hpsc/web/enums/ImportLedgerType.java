@@ -0,0 +1,26 @@
+package za.co.hpsc.web.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Enum representing the kinds of entries in the import ledger.
+ *
+ * <p>
+ * A CAB file entry is keyed on the content hash of an uploaded WinMSS.cab file, and a match
+ * entry on the natural key of a match imported from one.
+ * </p>
+ */
+@Getter
+@AllArgsConstructor
+public enum ImportLedgerType {
+    CAB_FILE("CAB file"),
+    MATCH("Match");
+
+    private final String name;
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+}
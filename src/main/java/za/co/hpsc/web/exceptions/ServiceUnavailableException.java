@@ -0,0 +1,102 @@
+package za.co.hpsc.web.exceptions;
+
+/**
+ * Represents a request that can not be served at the moment, such as an import submitted while
+ * the import queue is full.
+ *
+ * <p>
+ * This class extends {@link RuntimeException} and is typically used to ask the client to retry
+ * the same request later, optionally after a given number of seconds.
+ * </p>
+ */
+public class ServiceUnavailableException extends RuntimeException {
+    private final Long retryAfterSeconds;
+
+    /**
+     * Constructs a new {@code ServiceUnavailableException} exception with null as its detail message.
+     * The cause is not initialised, and may subsequently be initialised by a call
+     * to {@link #initCause}.
+     */
+    public ServiceUnavailableException() {
+        super();
+        this.retryAfterSeconds = null;
+    }
+
+    /**
+     * Constructs a new {@code ServiceUnavailableException} exception with the specified detail message.
+     * The cause is not initialised, and may subsequently be initialised by a call
+     * to {@link #initCause}.
+     *
+     * @param message the detail message. The detail message is saved for later retrieval
+     *                by the {@link #getMessage()} method.
+     */
+    public ServiceUnavailableException(String message) {
+        super(message);
+        this.retryAfterSeconds = null;
+    }
+
+    /**
+     * Constructs a new {@code ServiceUnavailableException} exception with the specified detail message
+     * and cause.
+     *
+     * <p>
+     * Note that the detail message associated with {@code cause} is <i>not</i> automatically
+     * incorporated in this exception's detail message.
+     * </p>
+     *
+     * @param message the detail message (which is saved for later retrieval by the
+     *                {@link #getMessage()} method).
+     * @param cause   the cause (which is saved for later retrieval by the
+     *                {@link #getCause()} method). A null value is permitted and indicates
+     *                that the cause is nonexistent or unknown.
+     */
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+        this.retryAfterSeconds = null;
+    }
+
+    /**
+     * Constructs a new {@code ServiceUnavailableException} exception with the specified detail message,
+     * the number of seconds after which the request may be retried, and cause.
+     *
+     * @param message           the detail message (which is saved for later retrieval by the
+     *                          {@link #getMessage()} method).
+     * @param retryAfterSeconds the number of seconds after which the request may be retried.
+     *                          A null value is permitted and indicates that it is unknown.
+     * @param cause             the cause (which is saved for later retrieval by the
+     *                          {@link #getCause()} method). A null value is permitted and indicates
+     *                          that the cause is nonexistent or unknown.
+     */
+    public ServiceUnavailableException(String message, Long retryAfterSeconds, Throwable cause) {
+        super(message, cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Constructs a new {@code ServiceUnavailableException} exception with the specified cause and a
+     * detail message of {@code (cause == null ? null : cause.toString())} (which typically
+     * contains the class and detail message of {@code cause}).
+     *
+     * <p>
+     * This constructor is useful for exceptions that are little more than
+     * wrappers for other throwable objets.
+     * </p>
+     *
+     * @param cause the cause (which is saved for later retrieval by the
+     *              {@link #getCause()} method). A null value is permitted and indicates
+     *              that the cause is nonexistent or unknown.
+     */
+    public ServiceUnavailableException(Throwable cause) {
+        super(cause);
+        this.retryAfterSeconds = null;
+    }
+
+    /**
+     * Returns the number of seconds after which the request may be retried.
+     *
+     * @return the number of seconds, or null if it is unknown.
+     */
+    public Long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,25 @@
+package za.co.hpsc.web.models.ipsc.common.data;
+
+import java.time.LocalDateTime;
+
+/**
+ * The identifying details of a competitor to be resolved to an existing entity.
+ *
+ * <p>
+ * A competitor is looked up by its ICS alias (SAPSA number) first, then by its first and last
+ * name, narrowed down by date of birth. Lookups with the same details are equal, so they can be
+ * used as keys of a resolution map.
+ * </p>
+ *
+ * @param icsAlias        the ICS alias associated with the competitor.
+ * @param firstName       the first name of the competitor.
+ * @param lastName        the last name of the competitor.
+ * @param dateTimeOfBirth the date and time of birth of the competitor.
+ */
+public record CompetitorLookup(
+        String icsAlias,
+        String firstName,
+        String lastName,
+        LocalDateTime dateTimeOfBirth
+) {
+}
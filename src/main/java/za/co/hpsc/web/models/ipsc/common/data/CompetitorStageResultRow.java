@@ -0,0 +1,86 @@
+package za.co.hpsc.web.models.ipsc.common.data;
+
+import za.co.hpsc.web.enums.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * The result of a competitor enrolled in a match on one stage, read with a projection query.
+ *
+ * <p>
+ * Each row combines a stage competitor with the match competitor of the same competitor and
+ * division, and with the competitor itself, so that the result records of a match can be built
+ * without loading any entities. The rows of one match competitor share its ID.
+ * </p>
+ *
+ * @param matchCompetitorId   the ID of the match competitor.
+ * @param firstName           the first name of the competitor.
+ * @param lastName            the last name of the competitor.
+ * @param middleNames         the middle names of the competitor.
+ * @param dateOfBirth         the date of birth of the competitor.
+ * @param sapsaNumber         the SAPSA number of the competitor.
+ * @param competitorNumber    the competitor number of the competitor.
+ * @param matchClub           the club the competitor represented in the match.
+ * @param clubName            the name of the club of the match. Can be null.
+ * @param competitorCategory  the category the competitor entered the match in.
+ * @param firearmType         the firearm type the competitor entered the match with.
+ * @param division            the division the competitor entered the match in.
+ * @param powerFactor         the power factor the competitor entered the match with.
+ * @param matchPoints         the match points of the competitor.
+ * @param matchRanking        the match ranking of the competitor.
+ * @param matchDateEdited     the date and time the match results of the competitor were last edited.
+ * @param stageName           the name of the stage.
+ * @param scoreA              the number of A hits on the stage.
+ * @param scoreB              the number of B hits on the stage.
+ * @param scoreC              the number of C hits on the stage.
+ * @param scoreD              the number of D hits on the stage.
+ * @param points              the points scored on the stage.
+ * @param misses              the number of misses on the stage.
+ * @param penalties           the number of penalties on the stage.
+ * @param procedurals         the number of procedural penalties on the stage.
+ * @param time                the time taken on the stage.
+ * @param hitFactor           the hit factor on the stage.
+ * @param stagePoints         the stage points of the competitor.
+ * @param stagePercentage     the stage percentage of the competitor.
+ * @param stageRanking        the stage ranking of the competitor.
+ * @param stageDateEdited     the date and time the stage results of the competitor were last edited.
+ */
+public record CompetitorStageResultRow(
+        Long matchCompetitorId,
+
+        String firstName,
+        String lastName,
+        String middleNames,
+        LocalDate dateOfBirth,
+        Integer sapsaNumber,
+        String competitorNumber,
+
+        ClubIdentifier matchClub,
+        String clubName,
+        CompetitorCategory competitorCategory,
+        FirearmType firearmType,
+        Division division,
+        PowerFactor powerFactor,
+        BigDecimal matchPoints,
+        BigDecimal matchRanking,
+        LocalDateTime matchDateEdited,
+
+        String stageName,
+        Integer scoreA,
+        Integer scoreB,
+        Integer scoreC,
+        Integer scoreD,
+        Integer points,
+        Integer misses,
+        Integer penalties,
+        Integer procedurals,
+        BigDecimal time,
+        BigDecimal hitFactor,
+        BigDecimal stagePoints,
+        BigDecimal stagePercentage,
+        BigDecimal stageRanking,
+        LocalDateTime stageDateEdited
+) {
+}
@@ -0,0 +1,23 @@
+package za.co.hpsc.web.models.ipsc.common.data;
+
+import java.time.LocalDateTime;
+
+/**
+ * A reference to a persisted match, resolved from its natural key without loading the match.
+ *
+ * <p>
+ * The edit date is the date of the latest score update imported for the match, and serves as
+ * the version of its results. The optimistic lock version is the version of the match row, which
+ * an import of the results checks before writing them.
+ * </p>
+ *
+ * @param id         the ID of the match.
+ * @param dateEdited the date and time the results of the match were last edited.
+ * @param version    the optimistic lock version of the match.
+ */
+public record MatchReference(
+        Long id,
+        LocalDateTime dateEdited,
+        Long version
+) {
+}
@@ -0,0 +1,33 @@
+package za.co.hpsc.web.models.ipsc.common.data;
+
+import za.co.hpsc.web.enums.FirearmType;
+import za.co.hpsc.web.enums.MatchCategory;
+
+import java.time.LocalDateTime;
+
+/**
+ * The details of a persisted match that head its results, read with a projection query.
+ *
+ * @param id               the ID of the match.
+ * @param name             the name of the match.
+ * @param scheduledDate    the date and time the match was scheduled for.
+ * @param clubName         the name of the club of the match. Can be null.
+ * @param clubAbbreviation the abbreviation of the club of the match. Can be null.
+ * @param matchFirearmType the firearm type of the match.
+ * @param matchCategory    the category of the match.
+ * @param dateEdited       the date and time the results of the match were last edited.
+ */
+public record MatchResultsHeader(
+        Long id,
+        String name,
+        LocalDateTime scheduledDate,
+
+        String clubName,
+        String clubAbbreviation,
+
+        FirearmType matchFirearmType,
+        MatchCategory matchCategory,
+
+        LocalDateTime dateEdited
+) {
+}
@@ -0,0 +1,23 @@
+package za.co.hpsc.web.models.ipsc.common.data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * The filters of a match search. A null or empty filter matches every match.
+ *
+ * @param matchIds        the IDs the matches must have. Can be null or empty.
+ * @param namePrefix      the prefix the names of the matches must start with. Can be null or
+ *                        blank.
+ * @param scheduledFrom   the earliest scheduled date and time of the matches, inclusive. Can be
+ *                        null.
+ * @param scheduledBefore the latest scheduled date and time of the matches, exclusive. Can be
+ *                        null.
+ */
+public record MatchSearchCriteria(
+        List<Long> matchIds,
+        String namePrefix,
+        LocalDateTime scheduledFrom,
+        LocalDateTime scheduledBefore
+) {
+}
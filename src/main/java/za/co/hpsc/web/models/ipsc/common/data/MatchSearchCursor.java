@@ -0,0 +1,20 @@
+package za.co.hpsc.web.models.ipsc.common.data;
+
+import java.time.LocalDateTime;
+
+/**
+ * The position of the last match of a page of search results, after which the next page starts.
+ *
+ * <p>
+ * Matches are searched in order of their scheduled date, and then their ID, so that the pair
+ * identifies a position in the results even where several matches share a scheduled date.
+ * </p>
+ *
+ * @param scheduledDate the scheduled date and time of the last match of the page.
+ * @param id            the ID of the last match of the page.
+ */
+public record MatchSearchCursor(
+        LocalDateTime scheduledDate,
+        Long id
+) {
+}
@@ -0,0 +1,23 @@
+package za.co.hpsc.web.models.ipsc.common.data;
+
+import za.co.hpsc.web.enums.FirearmType;
+
+import java.time.LocalDateTime;
+
+/**
+ * A match found by a match search, read as a projection without loading the match.
+ *
+ * @param id               the ID of the match.
+ * @param name             the name of the match.
+ * @param scheduledDate    the scheduled date and time of the match.
+ * @param clubName         the name of the club hosting the match. Can be null.
+ * @param matchFirearmType the firearm type of the match. Can be null.
+ */
+public record MatchSearchRow(
+        Long id,
+        String name,
+        LocalDateTime scheduledDate,
+        String clubName,
+        FirearmType matchFirearmType
+) {
+}
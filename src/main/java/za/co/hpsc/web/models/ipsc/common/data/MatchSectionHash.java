@@ -0,0 +1,20 @@
+package za.co.hpsc.web.models.ipsc.common.data;
+
+/**
+ * The content hash of the section of a CAB file that holds the results of one match.
+ *
+ * <p>
+ * The match key is the natural key of the match, its name and scheduled date, under which the
+ * match is recorded in the import ledger. The section hash is the hash of everything the match
+ * was mapped from, so that an unchanged hash means the match would be imported the same again.
+ * </p>
+ *
+ * @param matchKey    the natural key of the match.
+ * @param sectionHash the content hash of the match section. Can be null for a match that did
+ *                    not produce a record when it was imported.
+ */
+public record MatchSectionHash(
+        String matchKey,
+        String sectionHash
+) {
+}
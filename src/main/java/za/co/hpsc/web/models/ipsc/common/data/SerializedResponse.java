@@ -0,0 +1,15 @@
+package za.co.hpsc.web.models.ipsc.common.data;
+
+/**
+ * A response body that has been serialised to JSON once, so that it can be written again
+ * without being read or serialised.
+ *
+ * @param version the version of the match the response was read from, or null if the response
+ *                is not versioned.
+ * @param body    the JSON body of the response.
+ */
+public record SerializedResponse(
+        Long version,
+        byte[] body
+) {
+}
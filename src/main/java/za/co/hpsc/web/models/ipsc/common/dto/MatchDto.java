@@ -36,6 +36,7 @@ import java.util.UUID;
 public class MatchDto {
     private UUID uuid = UUID.randomUUID();
     private Long id;
+    private Long version;
     private transient Integer index;
 
     private ClubDto club;
@@ -63,6 +64,7 @@ public class MatchDto {
         if (matchEntity != null) {
             // Initialises match details
             this.id = matchEntity.getId();
+            this.version = matchEntity.getVersion();
 
             // Initialises club details from the associated entity
             if (matchEntity.getClub() != null) {
@@ -93,6 +95,7 @@ public class MatchDto {
         if (matchEntity != null) {
             // Initialises match details
             this.id = matchEntity.getId();
+            this.version = matchEntity.getVersion();
 
             // Initialises club details from the DTO or associated entity
             if (clubDto != null) {
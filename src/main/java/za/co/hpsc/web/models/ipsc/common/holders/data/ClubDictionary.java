@@ -0,0 +1,134 @@
+package za.co.hpsc.web.models.ipsc.common.holders.data;
+
+import za.co.hpsc.web.constants.IpscConstants;
+import za.co.hpsc.web.domain.Club;
+import za.co.hpsc.web.enums.ClubIdentifier;
+
+import java.util.*;
+
+/**
+ * An immutable dictionary of the persisted clubs.
+ *
+ * <p>
+ * The clubs are indexed by ID, by name and by abbreviation, with names and abbreviations compared
+ * ignoring case, as the database collation does. Each {@link ClubIdentifier} is resolved to the
+ * club with its name, or failing that to the club with its abbreviation. Where several clubs
+ * share a key, the first one is kept. Null clubs and clubs without an ID are not indexed.
+ * </p>
+ *
+ * <p>
+ * A dictionary is never modified; {@link #with(Club)} returns a copy that includes the given club.
+ * </p>
+ */
+public class ClubDictionary {
+    private final Map<Long, Club> clubsById = new LinkedHashMap<>();
+    private final Map<String, Club> clubsByName = new HashMap<>();
+    private final Map<String, Club> clubsByAbbreviation = new HashMap<>();
+    private final Map<ClubIdentifier, Club> clubsByIdentifier = new EnumMap<>(ClubIdentifier.class);
+
+    /**
+     * Constructs a new, empty {@code ClubDictionary}.
+     */
+    public ClubDictionary() {
+        this(null);
+    }
+
+    /**
+     * Constructs a new {@code ClubDictionary} over the given clubs.
+     *
+     * @param clubs the persisted clubs. Can be null.
+     */
+    public ClubDictionary(Collection<Club> clubs) {
+        if (clubs != null) {
+            clubs.stream()
+                    .filter(Objects::nonNull)
+                    .filter(club -> club.getId() != null)
+                    .forEach(club -> clubsById.putIfAbsent(club.getId(), club));
+        }
+
+        clubsById.values().forEach(club -> {
+            getKey(club.getName()).ifPresent(key -> clubsByName.putIfAbsent(key, club));
+            getKey(club.getAbbreviation()).ifPresent(key -> clubsByAbbreviation.putIfAbsent(key, club));
+        });
+
+        Arrays.stream(ClubIdentifier.values())
+                .filter(clubIdentifier -> !IpscConstants.EXCLUDE_CLUB_IDENTIFIERS.contains(clubIdentifier))
+                .forEach(clubIdentifier -> findByName(clubIdentifier.getName())
+                        .or(() -> findByAbbreviation(clubIdentifier.getAbbreviation()))
+                        .ifPresent(club -> clubsByIdentifier.put(clubIdentifier, club)));
+    }
+
+    /**
+     * Returns a copy of this dictionary that includes the given club, replacing any club with the
+     * same ID.
+     *
+     * @param club the club to include. Can be null.
+     * @return the new dictionary, or this dictionary if the club can not be indexed.
+     */
+    public ClubDictionary with(Club club) {
+        if ((club == null) || (club.getId() == null)) {
+            return this;
+        }
+
+        // A replaced club keeps its position, so that it keeps precedence over clubs sharing its keys
+        Map<Long, Club> clubs = new LinkedHashMap<>(clubsById);
+        clubs.put(club.getId(), club);
+        return new ClubDictionary(clubs.values());
+    }
+
+    /**
+     * Returns the club with the given ID.
+     *
+     * @param id the club ID.
+     * @return an {@link Optional} containing the club, or empty if there is none.
+     */
+    public Optional<Club> findById(Long id) {
+        return Optional.ofNullable((id != null) ? clubsById.get(id) : null);
+    }
+
+    /**
+     * Returns the club with the given name, ignoring case.
+     *
+     * @param name the club name.
+     * @return an {@link Optional} containing the club, or empty if there is none.
+     */
+    public Optional<Club> findByName(String name) {
+        return getKey(name).map(clubsByName::get);
+    }
+
+    /**
+     * Returns the club with the given abbreviation, ignoring case.
+     *
+     * @param abbreviation the club abbreviation.
+     * @return an {@link Optional} containing the club, or empty if there is none.
+     */
+    public Optional<Club> findByAbbreviation(String abbreviation) {
+        return getKey(abbreviation).map(clubsByAbbreviation::get);
+    }
+
+    /**
+     * Returns the club identified by the given club identifier.
+     *
+     * @param clubIdentifier the club identifier.
+     * @return an {@link Optional} containing the club, or empty if there is none.
+     */
+    public Optional<Club> findByIdentifier(ClubIdentifier clubIdentifier) {
+        return Optional.ofNullable((clubIdentifier != null) ? clubsByIdentifier.get(clubIdentifier) : null);
+    }
+
+    /**
+     * Returns the number of clubs in the dictionary.
+     *
+     * @return the number of clubs.
+     */
+    public int size() {
+        return clubsById.size();
+    }
+
+    protected static Optional<String> getKey(String value) {
+        if ((value == null) || value.isBlank()) {
+            return Optional.empty();
+        }
+        return Optional.of(value.trim().toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,107 @@
+package za.co.hpsc.web.models.ipsc.common.holders.data;
+
+import za.co.hpsc.web.domain.IpscMatchStage;
+import za.co.hpsc.web.domain.MatchCompetitor;
+import za.co.hpsc.web.domain.MatchStageCompetitor;
+
+import java.util.*;
+
+/**
+ * A per-match index over the stages, match competitors and stage competitors already persisted
+ * for a match.
+ *
+ * <p>
+ * The entities are prefetched once per import of the match and replace the per-stage,
+ * per-competitor and per-stage-competitor lookups otherwise needed to reuse existing rows. They
+ * are keyed on the same natural keys as those lookups: the stage number, the competitor ID, and
+ * the match stage ID with the competitor ID. Lists in the index retain the order of the source
+ * collections. Null entries and entries without the key are not indexed.
+ * </p>
+ */
+public class MatchEntityIndex {
+    private final Map<Integer, IpscMatchStage> stagesByStageNumber = new HashMap<>();
+    private final Map<Long, List<MatchCompetitor>> matchCompetitorsByCompetitorId = new HashMap<>();
+    private final Map<StageCompetitorKey, List<MatchStageCompetitor>> matchStageCompetitorsByKey =
+            new HashMap<>();
+
+    /**
+     * Constructs a new, empty {@code MatchEntityIndex}, for a match that has not been persisted.
+     */
+    public MatchEntityIndex() {
+        this(null, null, null);
+    }
+
+    /**
+     * Constructs a new {@code MatchEntityIndex} over the given entities of a single match.
+     *
+     * @param matchStages           the persisted stages of the match. Can be null.
+     * @param matchCompetitors      the persisted match competitors of the match. Can be null.
+     * @param matchStageCompetitors the persisted stage competitors of the match. Can be null.
+     */
+    public MatchEntityIndex(List<IpscMatchStage> matchStages, List<MatchCompetitor> matchCompetitors,
+                            List<MatchStageCompetitor> matchStageCompetitors) {
+        // Keeps the first stage for each stage number
+        if (matchStages != null) {
+            matchStages.stream()
+                    .filter(Objects::nonNull)
+                    .filter(matchStage -> matchStage.getStageNumber() != null)
+                    .forEach(matchStage -> stagesByStageNumber.putIfAbsent(matchStage.getStageNumber(), matchStage));
+        }
+        if (matchCompetitors != null) {
+            matchCompetitors.stream()
+                    .filter(Objects::nonNull)
+                    .filter(matchCompetitor -> matchCompetitor.getCompetitor() != null)
+                    .filter(matchCompetitor -> matchCompetitor.getCompetitor().getId() != null)
+                    .forEach(matchCompetitor -> matchCompetitorsByCompetitorId
+                            .computeIfAbsent(matchCompetitor.getCompetitor().getId(), k -> new ArrayList<>())
+                            .add(matchCompetitor));
+        }
+        if (matchStageCompetitors != null) {
+            matchStageCompetitors.stream()
+                    .filter(Objects::nonNull)
+                    .filter(matchStageCompetitor -> matchStageCompetitor.getMatchStage() != null)
+                    .filter(matchStageCompetitor -> matchStageCompetitor.getMatchStage().getId() != null)
+                    .filter(matchStageCompetitor -> matchStageCompetitor.getCompetitor() != null)
+                    .filter(matchStageCompetitor -> matchStageCompetitor.getCompetitor().getId() != null)
+                    .forEach(matchStageCompetitor -> matchStageCompetitorsByKey
+                            .computeIfAbsent(new StageCompetitorKey(matchStageCompetitor.getMatchStage().getId(),
+                                    matchStageCompetitor.getCompetitor().getId()), k -> new ArrayList<>())
+                            .add(matchStageCompetitor));
+        }
+    }
+
+    /**
+     * Returns the first stage with the given stage number.
+     *
+     * @param stageNumber the stage number.
+     * @return an {@link Optional} containing the stage, or empty if there is none.
+     */
+    public Optional<IpscMatchStage> getStage(Integer stageNumber) {
+        return Optional.ofNullable((stageNumber != null) ? stagesByStageNumber.get(stageNumber) : null);
+    }
+
+    /**
+     * Returns the match competitors of the given competitor.
+     *
+     * @param competitorId the competitor ID.
+     * @return the match competitors, or an empty list if there are none.
+     */
+    public List<MatchCompetitor> getMatchCompetitors(Long competitorId) {
+        return Collections.unmodifiableList(matchCompetitorsByCompetitorId.getOrDefault(competitorId, List.of()));
+    }
+
+    /**
+     * Returns the stage competitors of the given competitor on the given match stage.
+     *
+     * @param matchStageId the match stage ID.
+     * @param competitorId the competitor ID.
+     * @return the stage competitors, or an empty list if there are none.
+     */
+    public List<MatchStageCompetitor> getMatchStageCompetitors(Long matchStageId, Long competitorId) {
+        return Collections.unmodifiableList(matchStageCompetitorsByKey
+                .getOrDefault(new StageCompetitorKey(matchStageId, competitorId), List.of()));
+    }
+
+    private record StageCompetitorKey(Long matchStageId, Long competitorId) {
+    }
+}
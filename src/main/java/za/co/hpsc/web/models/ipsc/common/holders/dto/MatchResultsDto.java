@@ -4,7 +4,10 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import za.co.hpsc.web.models.ipsc.common.data.MatchSectionHash;
 import za.co.hpsc.web.models.ipsc.common.dto.*;
+import za.co.hpsc.web.models.ipsc.common.records.MatchRecord;
+import za.co.hpsc.web.models.ipsc.common.response.IpscResponse;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -31,6 +34,13 @@ public class MatchResultsDto {
     private List<MatchCompetitorDto> matchCompetitors = new ArrayList<>();
     private List<MatchStageCompetitorDto> matchStageCompetitors = new ArrayList<>();
 
+    // The response the results were mapped from, so that they can be mapped again on a conflict
+    private transient IpscResponse ipscResponse;
+    // The content hash of the match section, under which the match is recorded in the import ledger
+    private transient MatchSectionHash matchSectionHash;
+    // The record of a match that is unchanged since it was last imported, and is not imported again
+    private transient MatchRecord matchRecord;
+
     /**
      * Constructs a new {@code MatchResultsDto} instance based on the provided match.
      *
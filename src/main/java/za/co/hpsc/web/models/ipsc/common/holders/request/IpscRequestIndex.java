@@ -0,0 +1,113 @@
+package za.co.hpsc.web.models.ipsc.common.holders.request;
+
+import za.co.hpsc.web.models.ipsc.common.request.*;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * A per-import index over the request collections of an {@link IpscRequestHolder}.
+ *
+ * <p>
+ * The index is built once, in a single pass over each collection, and replaces the repeated
+ * linear scans otherwise needed to join members, stages, enrolments, scores and clubs by their
+ * identifiers. Lists in the index retain the order of the source collections. Null entries and
+ * entries without the key are not indexed.
+ * </p>
+ */
+public class IpscRequestIndex {
+    private final Map<Integer, List<MemberRequest>> membersByMemberId;
+    private final Map<Integer, List<StageRequest>> stagesByMatchId;
+    private final Map<Integer, List<EnrolledRequest>> enrolledMembersByMatchId;
+    private final Map<Integer, List<ScoreRequest>> scoresByMatchId;
+    private final Map<Integer, ClubRequest> clubsByClubId;
+
+    /**
+     * Constructs a new {@code IpscRequestIndex} over the collections of the given holder.
+     *
+     * @param ipscRequestHolder the holder of the request collections to index. Can be null.
+     */
+    public IpscRequestIndex(IpscRequestHolder ipscRequestHolder) {
+        IpscRequestHolder holder = ((ipscRequestHolder != null) ? ipscRequestHolder : new IpscRequestHolder());
+        this.membersByMemberId = groupBy(holder.getMembers(), MemberRequest::getMemberId);
+        this.stagesByMatchId = groupBy(holder.getStages(), StageRequest::getMatchId);
+        this.enrolledMembersByMatchId = groupBy(holder.getEnrolledMembers(), EnrolledRequest::getMatchId);
+        this.scoresByMatchId = groupBy(holder.getScores(), ScoreRequest::getMatchId);
+
+        // Keeps the first club for each identifier
+        this.clubsByClubId = new HashMap<>();
+        if (holder.getClubs() != null) {
+            holder.getClubs().stream()
+                    .filter(Objects::nonNull)
+                    .filter(clubRequest -> clubRequest.getClubId() != null)
+                    .forEach(clubRequest -> clubsByClubId.putIfAbsent(clubRequest.getClubId(), clubRequest));
+        }
+    }
+
+    /**
+     * Returns the members with the given member ID.
+     *
+     * @param memberId the member ID.
+     * @return the matching members, or an empty list if there are none.
+     */
+    public List<MemberRequest> getMembers(Integer memberId) {
+        return Collections.unmodifiableList(membersByMemberId.getOrDefault(memberId, List.of()));
+    }
+
+    /**
+     * Returns the stages of the given match.
+     *
+     * @param matchId the match ID.
+     * @return the stages of the match, or an empty list if there are none.
+     */
+    public List<StageRequest> getStages(Integer matchId) {
+        return Collections.unmodifiableList(stagesByMatchId.getOrDefault(matchId, List.of()));
+    }
+
+    /**
+     * Returns the enrolled members of the given match.
+     *
+     * @param matchId the match ID.
+     * @return the enrolled members of the match, or an empty list if there are none.
+     */
+    public List<EnrolledRequest> getEnrolledMembers(Integer matchId) {
+        return Collections.unmodifiableList(enrolledMembersByMatchId.getOrDefault(matchId, List.of()));
+    }
+
+    /**
+     * Returns the scores of the given match.
+     *
+     * @param matchId the match ID.
+     * @return the scores of the match, or an empty list if there are none.
+     */
+    public List<ScoreRequest> getScores(Integer matchId) {
+        return Collections.unmodifiableList(scoresByMatchId.getOrDefault(matchId, List.of()));
+    }
+
+    /**
+     * Returns the first club with the given club ID.
+     *
+     * @param clubId the club ID.
+     * @return an {@link Optional} containing the club, or empty if there is none.
+     */
+    public Optional<ClubRequest> getClub(Integer clubId) {
+        return Optional.ofNullable((clubId != null) ? clubsByClubId.get(clubId) : null);
+    }
+
+    private static <T> Map<Integer, List<T>> groupBy(List<T> list, Function<T, Integer> keyFunction) {
+        Map<Integer, List<T>> map = new HashMap<>();
+        if (list == null) {
+            return map;
+        }
+
+        list.stream()
+                .filter(Objects::nonNull)
+                .forEach(item -> {
+                    Integer key = keyFunction.apply(item);
+                    if (key != null) {
+                        map.computeIfAbsent(key, k -> new ArrayList<>()).add(item);
+                    }
+                });
+        return map;
+    }
+}
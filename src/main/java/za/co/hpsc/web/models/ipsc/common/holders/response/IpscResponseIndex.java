@@ -0,0 +1,90 @@
+package za.co.hpsc.web.models.ipsc.common.holders.response;
+
+import za.co.hpsc.web.models.ipsc.common.response.EnrolledResponse;
+import za.co.hpsc.web.models.ipsc.common.response.IpscResponse;
+import za.co.hpsc.web.models.ipsc.common.response.MemberResponse;
+import za.co.hpsc.web.models.ipsc.common.response.ScoreResponse;
+
+import java.util.*;
+
+/**
+ * A per-match index over the members, enrolments and scores of an {@link IpscResponse}.
+ *
+ * <p>
+ * The index is built once, in a single pass over each collection, and replaces the repeated
+ * linear scans otherwise needed to join members to their enrolments and scores. Lists in the
+ * index retain the order of the source collections. Null entries and entries without a member
+ * ID are not indexed.
+ * </p>
+ */
+public class IpscResponseIndex {
+    private final Map<Integer, MemberResponse> membersByMemberId = new HashMap<>();
+    private final Map<Integer, List<EnrolledResponse>> enrolledMembersByMemberId = new HashMap<>();
+    private final Map<Integer, List<ScoreResponse>> scoresByMemberId = new HashMap<>();
+
+    /**
+     * Constructs a new {@code IpscResponseIndex} over the collections of the given response.
+     *
+     * @param ipscResponse the response to index. Can be null.
+     */
+    public IpscResponseIndex(IpscResponse ipscResponse) {
+        if (ipscResponse == null) {
+            return;
+        }
+
+        // Keeps the first member for each identifier
+        if (ipscResponse.getMembers() != null) {
+            ipscResponse.getMembers().stream()
+                    .filter(Objects::nonNull)
+                    .filter(memberResponse -> memberResponse.getMemberId() != null)
+                    .forEach(memberResponse ->
+                            membersByMemberId.putIfAbsent(memberResponse.getMemberId(), memberResponse));
+        }
+        if (ipscResponse.getEnrolledMembers() != null) {
+            ipscResponse.getEnrolledMembers().stream()
+                    .filter(Objects::nonNull)
+                    .filter(enrolledResponse -> enrolledResponse.getMemberId() != null)
+                    .forEach(enrolledResponse -> enrolledMembersByMemberId
+                            .computeIfAbsent(enrolledResponse.getMemberId(), k -> new ArrayList<>())
+                            .add(enrolledResponse));
+        }
+        if (ipscResponse.getScores() != null) {
+            ipscResponse.getScores().stream()
+                    .filter(Objects::nonNull)
+                    .filter(scoreResponse -> scoreResponse.getMemberId() != null)
+                    .forEach(scoreResponse -> scoresByMemberId
+                            .computeIfAbsent(scoreResponse.getMemberId(), k -> new ArrayList<>())
+                            .add(scoreResponse));
+        }
+    }
+
+    /**
+     * Returns the first member with the given member ID.
+     *
+     * @param memberId the member ID.
+     * @return an {@link Optional} containing the member, or empty if there is none.
+     */
+    public Optional<MemberResponse> getMember(Integer memberId) {
+        return Optional.ofNullable((memberId != null) ? membersByMemberId.get(memberId) : null);
+    }
+
+    /**
+     * Returns the enrolments of the given member.
+     *
+     * @param memberId the member ID.
+     * @return the enrolments of the member, or an empty list if there are none.
+     */
+    public List<EnrolledResponse> getEnrolledMembers(Integer memberId) {
+        return Collections.unmodifiableList(enrolledMembersByMemberId.getOrDefault(memberId, List.of()));
+    }
+
+    /**
+     * Returns the scores of the given member, across all matches and stages.
+     *
+     * @param memberId the member ID.
+     * @return the scores of the member, or an empty list if there are none.
+     */
+    public List<ScoreResponse> getScores(Integer memberId) {
+        return Collections.unmodifiableList(scoresByMemberId.getOrDefault(memberId, List.of()));
+    }
+}
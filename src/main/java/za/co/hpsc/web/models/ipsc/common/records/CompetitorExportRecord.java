@@ -0,0 +1,19 @@
+package za.co.hpsc.web.models.ipsc.common.records;
+
+/**
+ * A line of a newline-delimited JSON results export: the results of one competitor in one
+ * match.
+ *
+ * @param matchId       the unique database ID of the match.
+ * @param matchName     the name of the match.
+ * @param scheduledDate the scheduled date and time of the match.
+ * @param competitor    the competitor and their overall and stage results.
+ */
+public record CompetitorExportRecord(
+        Long matchId,
+        String matchName,
+        String scheduledDate,
+
+        CompetitorRecord competitor
+) {
+}
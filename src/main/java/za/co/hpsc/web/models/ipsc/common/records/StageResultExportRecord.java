@@ -0,0 +1,76 @@
+package za.co.hpsc.web.models.ipsc.common.records;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * A row of a CSV results export: the result of one competitor on one stage of a match, with the
+ * match and competitor columns repeated on each row.
+ */
+@JsonPropertyOrder({"matchId", "matchName", "scheduledDate", "firstName", "lastName", "middleNames",
+        "dateOfBirth", "sapsaNumber", "competitorNumber", "clubName", "competitorCategory", "firearmType",
+        "division", "powerFactor", "matchPoints", "matchRanking", "stageName", "scoreA", "scoreB", "scoreC",
+        "scoreD", "points", "misses", "penalties", "procedurals", "time", "hitFactor", "stagePoints",
+        "stagePercentage", "stageRanking", "dateEdited"})
+public record StageResultExportRecord(
+        Long matchId,
+        String matchName,
+        String scheduledDate,
+
+        String firstName,
+        String lastName,
+        String middleNames,
+        String dateOfBirth,
+        Integer sapsaNumber,
+        String competitorNumber,
+        String clubName,
+        String competitorCategory,
+
+        String firearmType,
+        String division,
+        String powerFactor,
+        String matchPoints,
+        String matchRanking,
+
+        String stageName,
+        Integer scoreA,
+        Integer scoreB,
+        Integer scoreC,
+        Integer scoreD,
+        Integer points,
+        Integer misses,
+        Integer penalties,
+        Integer procedurals,
+        String time,
+        String hitFactor,
+        String stagePoints,
+        String stagePercentage,
+        String stageRanking,
+        String dateEdited
+) {
+
+    /**
+     * Creates the row of a stage result of a competitor.
+     *
+     * @param competitorExportRecord the match and the competitor (required)
+     * @param stageResult            the stage result of the competitor (required)
+     * @return the export row
+     */
+    public static StageResultExportRecord of(CompetitorExportRecord competitorExportRecord,
+                                             MatchCompetitorStageResultRecord stageResult) {
+        CompetitorRecord competitor = competitorExportRecord.competitor();
+        CompetitorResultRecord results = competitor.results();
+        MatchCompetitorOverallResultsRecord overall = (results != null) ? results.overall() : null;
+
+        return new StageResultExportRecord(competitorExportRecord.matchId(), competitorExportRecord.matchName(),
+                competitorExportRecord.scheduledDate(), competitor.firstName(), competitor.lastName(),
+                competitor.middleNames(), competitor.dateOfBirth(), competitor.sapsaNumber(),
+                competitor.competitorNumber(), competitor.clubName(), competitor.competitorCategory(),
+                (results != null) ? results.firearmType() : null, (results != null) ? results.division() : null,
+                (results != null) ? results.powerFactor() : null, (overall != null) ? overall.matchPoints() : null,
+                (overall != null) ? overall.matchRanking() : null, stageResult.stageName(), stageResult.scoreA(),
+                stageResult.scoreB(), stageResult.scoreC(), stageResult.scoreD(), stageResult.points(),
+                stageResult.misses(), stageResult.penalties(), stageResult.procedurals(), stageResult.time(),
+                stageResult.hitFactor(), stageResult.stagePoints(), stageResult.stagePercentage(),
+                stageResult.stageRanking(), stageResult.dateEdited());
+    }
+}
@@ -3,6 +3,7 @@ package za.co.hpsc.web.models.ipsc.common.request;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 
 import java.time.LocalDate;
 
@@ -12,6 +13,12 @@ import java.time.LocalDate;
 public class MatchSearchRequest {
     private String[] matchId;
     private String matchName;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
     private LocalDate startDate;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
     private LocalDate endDate;
+
+    // The opaque cursor of the next page, as returned with the previous page
+    private String after;
+    private Integer limit;
 }
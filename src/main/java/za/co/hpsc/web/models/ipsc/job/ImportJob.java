@@ -0,0 +1,75 @@
+package za.co.hpsc.web.models.ipsc.job;
+
+import lombok.Getter;
+import za.co.hpsc.web.enums.ImportJobStatus;
+import za.co.hpsc.web.models.ipsc.common.holders.records.IpscMatchRecordHolder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Represents an asynchronous WinMSS import job.
+ *
+ * <p>
+ * The job is created when an import is submitted and is updated by the worker that runs it.
+ * Its progress, timestamps, results and error are published through volatile fields so that
+ * status requests always see a consistent view.
+ * </p>
+ */
+@Getter
+public class ImportJob {
+    private final UUID jobId;
+    private final ImportProgress progress = new ImportProgress();
+    private final LocalDateTime dateSubmitted;
+    private volatile LocalDateTime dateStarted;
+    private volatile LocalDateTime dateCompleted;
+    private volatile List<IpscMatchRecordHolder> results;
+    private volatile String error;
+
+    public ImportJob(UUID jobId) {
+        this.jobId = jobId;
+        this.dateSubmitted = LocalDateTime.now();
+    }
+
+    /**
+     * Marks the job as started.
+     */
+    public void start() {
+        this.dateStarted = LocalDateTime.now();
+        this.progress.setStatus(ImportJobStatus.PARSING);
+    }
+
+    /**
+     * Marks the job as completed with the given results.
+     *
+     * @param results the match record holders produced by the import.
+     */
+    public void complete(List<IpscMatchRecordHolder> results) {
+        this.results = results;
+        this.dateCompleted = LocalDateTime.now();
+        this.progress.setStatus(ImportJobStatus.COMPLETED);
+    }
+
+    /**
+     * Marks the job as failed with the given error message.
+     *
+     * @param error the reason the import failed.
+     */
+    public void fail(String error) {
+        this.error = error;
+        this.dateCompleted = LocalDateTime.now();
+        this.progress.setStatus(ImportJobStatus.FAILED);
+    }
+
+    /**
+     * Indicates whether the job finished before the given time.
+     *
+     * @param dateTime the time to compare against.
+     * @return {@code true} if the job has finished before the given time, {@code false} otherwise.
+     */
+    public boolean isFinishedBefore(LocalDateTime dateTime) {
+        LocalDateTime completed = this.dateCompleted;
+        return progress.getStatus().isFinished() && (completed != null) && completed.isBefore(dateTime);
+    }
+}
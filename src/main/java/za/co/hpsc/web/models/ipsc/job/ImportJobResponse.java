@@ -0,0 +1,58 @@
+package za.co.hpsc.web.models.ipsc.job;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import za.co.hpsc.web.enums.ImportJobStatus;
+import za.co.hpsc.web.models.ipsc.common.holders.records.IpscMatchRecordHolder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response describing the status, progress and, once completed, the results of an
+ * asynchronous WinMSS import job.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJobResponse {
+    private UUID jobId;
+    private ImportJobStatus status;
+    private int totalMatches;
+    private int matchesProcessed;
+    private int stagesProcessed;
+    private int scoresProcessed;
+    private LocalDateTime dateSubmitted;
+    private LocalDateTime dateStarted;
+    private LocalDateTime dateCompleted;
+    private String error;
+    private List<IpscMatchRecordHolder> results;
+
+    /**
+     * Constructs a snapshot of the given import job.
+     *
+     * <p>
+     * The results are only included once the job has completed.
+     * </p>
+     *
+     * @param importJob the import job to describe.
+     */
+    public ImportJobResponse(ImportJob importJob) {
+        if (importJob != null) {
+            ImportProgress progress = importJob.getProgress();
+            this.jobId = importJob.getJobId();
+            this.status = progress.getStatus();
+            this.totalMatches = progress.getTotalMatches();
+            this.matchesProcessed = progress.getMatchesProcessed();
+            this.stagesProcessed = progress.getStagesProcessed();
+            this.scoresProcessed = progress.getScoresProcessed();
+            this.dateSubmitted = importJob.getDateSubmitted();
+            this.dateStarted = importJob.getDateStarted();
+            this.dateCompleted = importJob.getDateCompleted();
+            this.error = importJob.getError();
+            this.results = (this.status == ImportJobStatus.COMPLETED) ? importJob.getResults() : null;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package za.co.hpsc.web.models.ipsc.job;
+
+import za.co.hpsc.web.enums.ImportJobStatus;
+import za.co.hpsc.web.models.ipsc.common.holders.dto.MatchResultsDto;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks the progress of a WinMSS import while it runs.
+ *
+ * <p>
+ * The import updates the phase and counters from its worker thread, while status
+ * requests read them concurrently, so all state is held in volatile or atomic fields.
+ * </p>
+ */
+public class ImportProgress {
+    private volatile ImportJobStatus status = ImportJobStatus.QUEUED;
+    private final AtomicInteger totalMatches = new AtomicInteger();
+    private final AtomicInteger matchesProcessed = new AtomicInteger();
+    private final AtomicInteger stagesProcessed = new AtomicInteger();
+    private final AtomicInteger scoresProcessed = new AtomicInteger();
+
+    public ImportJobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ImportJobStatus status) {
+        this.status = status;
+    }
+
+    public int getTotalMatches() {
+        return totalMatches.get();
+    }
+
+    public void setTotalMatches(int totalMatches) {
+        this.totalMatches.set(totalMatches);
+    }
+
+    public int getMatchesProcessed() {
+        return matchesProcessed.get();
+    }
+
+    public int getStagesProcessed() {
+        return stagesProcessed.get();
+    }
+
+    public int getScoresProcessed() {
+        return scoresProcessed.get();
+    }
+
+    /**
+     * Records a processed match, along with its stages and stage scores.
+     *
+     * @param matchResultsDto the match results that have been processed.
+     */
+    public void addProcessedMatch(MatchResultsDto matchResultsDto) {
+        matchesProcessed.incrementAndGet();
+        if (matchResultsDto == null) {
+            return;
+        }
+        if (matchResultsDto.getStages() != null) {
+            stagesProcessed.addAndGet(matchResultsDto.getStages().size());
+        }
+        if (matchResultsDto.getMatchStageCompetitors() != null) {
+            scoresProcessed.addAndGet(matchResultsDto.getMatchStageCompetitors().size());
+        }
+    }
+}
@@ -20,6 +20,7 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class MatchOnlyDto {
     private Long id;
+    private Long version;
     private ClubDto club;
     private String clubName;
 
@@ -58,6 +59,7 @@ public class MatchOnlyDto {
         if (matchEntity != null) {
             // Initialises match details
             this.id = matchEntity.getId();
+            this.version = matchEntity.getVersion();
 
             // Initialises club details from the associated entity
             if (matchEntity.getClub() != null) {
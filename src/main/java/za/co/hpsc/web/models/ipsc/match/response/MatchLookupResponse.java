@@ -0,0 +1,22 @@
+package za.co.hpsc.web.models.ipsc.match.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The outcome of looking up one of several requested matches.
+ *
+ * <p>
+ * The match ID is the ID as requested. Where no match exists with the ID, the match is null and
+ * found is false, so that a batch of lookups answers every ID in its requested position.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchLookupResponse {
+    private Long matchId;
+    private boolean found;
+    private MatchOnlyResponse match;
+}
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import za.co.hpsc.web.models.ipsc.common.data.MatchSearchRow;
 import za.co.hpsc.web.models.ipsc.common.holders.data.MatchHolder;
 import za.co.hpsc.web.models.ipsc.common.response.StageResponse;
 import za.co.hpsc.web.models.ipsc.match.dto.MatchOnlyDto;
@@ -54,6 +55,18 @@ public class MatchOnlyResponse extends MatchOnlyRequest {
         }
     }
 
+    public MatchOnlyResponse(MatchSearchRow matchSearchRow) {
+        super();
+        if (matchSearchRow != null) {
+            this.setMatchId(matchSearchRow.id());
+            this.setMatchName(matchSearchRow.name());
+            this.setMatchDate(matchSearchRow.scheduledDate());
+            this.setClub(matchSearchRow.clubName());
+            this.setFirearm((matchSearchRow.matchFirearmType() != null) ?
+                    matchSearchRow.matchFirearmType().getNames().getFirst() : null);
+        }
+    }
+
     public void init(Long matchId, MatchOnlyRequest right, boolean fullUpdate) {
         this.setMatchId(matchId);
 
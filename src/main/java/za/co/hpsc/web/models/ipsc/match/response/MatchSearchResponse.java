@@ -0,0 +1,24 @@
+package za.co.hpsc.web.models.ipsc.match.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A page of matches found by a match search.
+ *
+ * <p>
+ * The next cursor is passed back with the next search to read the next page, and is null on
+ * the last page.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchSearchResponse {
+    private List<MatchOnlyResponse> matches = new ArrayList<>();
+    private String nextCursor;
+}
@@ -1,12 +1,20 @@
 package za.co.hpsc.web.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import za.co.hpsc.web.constants.PersistenceConstants;
 import za.co.hpsc.web.domain.Club;
 
 import java.util.Optional;
 
 public interface ClubRepository extends JpaRepository<Club, Long> {
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = PersistenceConstants.CLUB_QUERY_CACHE_REGION)})
     Optional<Club> findByName(String name);
 
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = PersistenceConstants.CLUB_QUERY_CACHE_REGION)})
     Optional<Club> findByAbbreviation(String abbreviation);
 }
@@ -1,12 +1,33 @@
 package za.co.hpsc.web.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import za.co.hpsc.web.constants.PersistenceConstants;
 import za.co.hpsc.web.domain.Competitor;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CompetitorRepository extends JpaRepository<Competitor, Long> {
+    @EntityGraph(PersistenceConstants.COMPETITOR_ONLY_GRAPH)
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = PersistenceConstants.COMPETITOR_QUERY_CACHE_REGION)})
     List<Competitor> findAllBySapsaNumber(Integer icsAlias);
 
+    @EntityGraph(PersistenceConstants.COMPETITOR_ONLY_GRAPH)
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = PersistenceConstants.COMPETITOR_QUERY_CACHE_REGION)})
     List<Competitor> findAllByFirstNameAndLastName(String firstName, String lastName);
+
+    // The bulk lookups are not query cached: each import asks for a different set of keys, so an
+    // entry would rarely be hit again, and any competitor insert would invalidate it
+    @EntityGraph(PersistenceConstants.COMPETITOR_ONLY_GRAPH)
+    List<Competitor> findAllBySapsaNumberInOrderByIdAsc(Collection<Integer> sapsaNumbers);
+
+    @EntityGraph(PersistenceConstants.COMPETITOR_ONLY_GRAPH)
+    List<Competitor> findAllByFirstNameInAndLastNameInOrderByIdAsc(Collection<String> firstNames,
+                                                                   Collection<String> lastNames);
 }
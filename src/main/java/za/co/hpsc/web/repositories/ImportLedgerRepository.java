@@ -0,0 +1,23 @@
+package za.co.hpsc.web.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import za.co.hpsc.web.domain.ImportLedger;
+import za.co.hpsc.web.enums.ImportLedgerType;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ImportLedgerRepository extends JpaRepository<ImportLedger, Long> {
+    Optional<ImportLedger> findByLedgerTypeAndLedgerKey(ImportLedgerType ledgerType, String ledgerKey);
+
+    // Resolved from the (ledger_type, ledger_key) unique key, for all the matches of a CAB file at once
+    List<ImportLedger> findAllByLedgerTypeAndLedgerKeyIn(ImportLedgerType ledgerType, Collection<String> ledgerKeys);
+
+    @Modifying
+    @Query("delete from ImportLedger l where l.matchId = :matchId")
+    int deleteAllByMatchId(@Param("matchId") Long matchId);
+}
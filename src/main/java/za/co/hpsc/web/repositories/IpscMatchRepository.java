@@ -1,10 +1,56 @@
 package za.co.hpsc.web.repositories;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import za.co.hpsc.web.constants.PersistenceConstants;
 import za.co.hpsc.web.domain.IpscMatch;
+import za.co.hpsc.web.models.ipsc.common.data.MatchReference;
+import za.co.hpsc.web.models.ipsc.common.data.MatchResultsHeader;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
-public interface IpscMatchRepository extends JpaRepository<IpscMatch, Long> {
+public interface IpscMatchRepository extends JpaRepository<IpscMatch, Long>, IpscMatchSearchRepository {
     List<IpscMatch> findAllByName(String name);
+
+    // Resolved from the (name, scheduled_date) index, without loading the matches
+    Optional<MatchReference> findFirstByNameAndScheduledDateOrderByIdAsc(String name, LocalDateTime scheduledDate);
+
+    // Resolved from the (name, scheduled_date) index, then filtered on the club
+    Optional<MatchReference> findFirstByNameAndScheduledDateAndClubNameOrderByIdAsc(String name,
+                                                                                  LocalDateTime scheduledDate,
+                                                                                  String clubName);
+
+    Optional<MatchReference> findFirstByNameAndScheduledDateAndClubIsNullOrderByIdAsc(String name,
+                                                                                   LocalDateTime scheduledDate);
+
+    Optional<MatchReference> findFirstByNameOrderByIdAsc(String name);
+
+    @EntityGraph(PersistenceConstants.IPSC_MATCH_ONLY_GRAPH)
+    Optional<IpscMatch> findMatchOnlyById(Long id);
+
+    // Increments the version of the match on commit, even if only its child rows are written
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    Optional<IpscMatch> findLockedById(Long id);
+
+    @Query("select m from IpscMatch m left join fetch m.club " +
+            "left join fetch m.matchCompetitors mc left join fetch mc.competitor where m.id = :id")
+    Optional<IpscMatch> findWithMatchCompetitorsById(@Param("id") Long id);
+
+    @Query("select m from IpscMatch m left join fetch m.matchStages where m.id = :id")
+    Optional<IpscMatch> findWithMatchStagesById(@Param("id") Long id);
+
+    // Reads the version column only, to validate conditional requests without loading the match
+    @Query("select m.version from IpscMatch m where m.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("select new za.co.hpsc.web.models.ipsc.common.data.MatchResultsHeader(m.id, m.name, " +
+            "m.scheduledDate, c.name, c.abbreviation, m.matchFirearmType, m.matchCategory, m.dateEdited) " +
+            "from IpscMatch m left join m.club c where m.id = :id")
+    Optional<MatchResultsHeader> findResultsHeaderById(@Param("id") Long id);
 }
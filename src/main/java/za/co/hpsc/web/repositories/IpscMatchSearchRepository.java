@@ -0,0 +1,27 @@
+package za.co.hpsc.web.repositories;
+
+import za.co.hpsc.web.models.ipsc.common.data.MatchSearchCriteria;
+import za.co.hpsc.web.models.ipsc.common.data.MatchSearchCursor;
+import za.co.hpsc.web.models.ipsc.common.data.MatchSearchRow;
+
+import java.util.List;
+
+public interface IpscMatchSearchRepository {
+    /**
+     * Searches the matches that meet the given criteria, in order of their scheduled date and ID.
+     *
+     * <p>
+     * The matches are read as projections, joined with their clubs only, with a single statement.
+     * Instead of skipping the rows of the previous pages, the statement seeks past the given
+     * cursor on the {@code (scheduled_date, id)} index, so that every page is read in the same
+     * time.
+     * </p>
+     *
+     * @param criteria   the filters of the search. Can be null.
+     * @param after      the position after which to start. Can be null, to start at the first
+     *                   match.
+     * @param maxResults the maximum number of matches to read.
+     * @return the matches found, in order of their scheduled date and ID.
+     */
+    List<MatchSearchRow> searchMatches(MatchSearchCriteria criteria, MatchSearchCursor after, int maxResults);
+}
@@ -0,0 +1,86 @@
+package za.co.hpsc.web.repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.*;
+import za.co.hpsc.web.domain.Club;
+import za.co.hpsc.web.domain.IpscMatch;
+import za.co.hpsc.web.models.ipsc.common.data.MatchSearchCriteria;
+import za.co.hpsc.web.models.ipsc.common.data.MatchSearchCursor;
+import za.co.hpsc.web.models.ipsc.common.data.MatchSearchRow;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class IpscMatchSearchRepositoryImpl implements IpscMatchSearchRepository {
+    // Not a backslash, which MySQL would read as an escape within the string literal
+    private static final char LIKE_ESCAPE = '!';
+
+    private final EntityManager entityManager;
+
+    public IpscMatchSearchRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<MatchSearchRow> searchMatches(MatchSearchCriteria criteria, MatchSearchCursor after,
+                                              int maxResults) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<MatchSearchRow> query = criteriaBuilder.createQuery(MatchSearchRow.class);
+        Root<IpscMatch> match = query.from(IpscMatch.class);
+        Join<IpscMatch, Club> club = match.join("club", JoinType.LEFT);
+        Path<Long> id = match.get("id");
+        Path<String> name = match.get("name");
+        Path<LocalDateTime> scheduledDate = match.get("scheduledDate");
+
+        // Selects the columns of the response only; the stages and competitors are never joined
+        query.select(criteriaBuilder.construct(MatchSearchRow.class, id, name, scheduledDate,
+                club.get("name"), match.get("matchFirearmType")));
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (criteria != null) {
+            if ((criteria.matchIds() != null) && !criteria.matchIds().isEmpty()) {
+                predicates.add(id.in(criteria.matchIds()));
+            }
+            // A prefix match, without a function on the column, can still use the name index
+            if ((criteria.namePrefix() != null) && !criteria.namePrefix().isBlank()) {
+                predicates.add(criteriaBuilder.like(name, escapeLike(criteria.namePrefix().trim()) + "%",
+                        LIKE_ESCAPE));
+            }
+            if (criteria.scheduledFrom() != null) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(scheduledDate, criteria.scheduledFrom()));
+            }
+            if (criteria.scheduledBefore() != null) {
+                predicates.add(criteriaBuilder.lessThan(scheduledDate, criteria.scheduledBefore()));
+            }
+        }
+
+        // Seeks past the cursor; the leading range condition bounds the index scan, and the second
+        // condition skips the matches up to the cursor on the same scheduled date
+        if (after != null) {
+            predicates.add(criteriaBuilder.greaterThanOrEqualTo(scheduledDate, after.scheduledDate()));
+            predicates.add(criteriaBuilder.or(
+                    criteriaBuilder.greaterThan(scheduledDate, after.scheduledDate()),
+                    criteriaBuilder.greaterThan(id, after.id())));
+        }
+
+        query.where(predicates.toArray(Predicate[]::new));
+        query.orderBy(criteriaBuilder.asc(scheduledDate), criteriaBuilder.asc(id));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(maxResults)
+                .getResultList();
+    }
+
+    /**
+     * Escapes the wildcards of a LIKE pattern, so that the value is matched literally.
+     *
+     * @param value the value to be escaped.
+     * @return the escaped value.
+     */
+    protected String escapeLike(String value) {
+        return value.replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+    }
+}
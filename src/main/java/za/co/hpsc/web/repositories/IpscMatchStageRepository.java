@@ -1,10 +1,21 @@
 package za.co.hpsc.web.repositories;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import za.co.hpsc.web.domain.IpscMatchStage;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface IpscMatchStageRepository extends JpaRepository<IpscMatchStage, Long> {
     Optional<IpscMatchStage> findByMatchIdAndStageNumber(Long matchId, Integer stageNumber);
+
+    @EntityGraph(attributePaths = {"match", "match.club"})
+    List<IpscMatchStage> findAllByMatchId(Long matchId);
+
+    @Query("select s from IpscMatchStage s join fetch s.match m left join fetch m.club " +
+            "left join fetch s.matchStageCompetitors msc left join fetch msc.competitor where m.id = :matchId")
+    List<IpscMatchStage> findAllWithMatchStageCompetitorsByMatchId(@Param("matchId") Long matchId);
 }
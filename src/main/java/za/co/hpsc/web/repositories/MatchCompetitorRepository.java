@@ -1,10 +1,15 @@
 package za.co.hpsc.web.repositories;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import za.co.hpsc.web.domain.MatchCompetitor;
 
 import java.util.List;
 
-public interface MatchCompetitorRepository extends JpaRepository<MatchCompetitor, Long> {
+public interface MatchCompetitorRepository extends JpaRepository<MatchCompetitor, Long>,
+        MatchCompetitorUpsertRepository {
     List<MatchCompetitor> findAllByCompetitorIdAndMatchId(Long competitorId, Long matchId);
+
+    @EntityGraph(attributePaths = {"competitor", "match", "match.club"})
+    List<MatchCompetitor> findAllByMatchId(Long matchId);
 }
@@ -0,0 +1,20 @@
+package za.co.hpsc.web.repositories;
+
+import za.co.hpsc.web.domain.MatchCompetitor;
+
+import java.util.List;
+
+public interface MatchCompetitorUpsertRepository {
+    /**
+     * Inserts or updates the given, already persisted, match competitors by their IDs.
+     *
+     * <p>
+     * The rows are written in chunks, with a single statement per chunk. Match competitors
+     * without an ID are skipped. Must be called in a transaction.
+     * </p>
+     *
+     * @param matchCompetitors the match competitors to write. Can be null.
+     * @return the number of statements executed.
+     */
+    int upsertAll(List<MatchCompetitor> matchCompetitors);
+}
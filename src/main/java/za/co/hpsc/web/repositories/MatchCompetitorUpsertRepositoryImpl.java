@@ -0,0 +1,81 @@
+package za.co.hpsc.web.repositories;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import za.co.hpsc.web.converters.*;
+import za.co.hpsc.web.domain.MatchCompetitor;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+public class MatchCompetitorUpsertRepositoryImpl extends UpsertRepositorySupport<MatchCompetitor>
+        implements MatchCompetitorUpsertRepository {
+
+    private static final String TABLE_NAME = "match_competitor";
+    private static final List<String> COLUMN_NAMES = List.of("competitor_id", "match_id", "match_club",
+            "firearm_type", "division", "power_factor", "match_points", "match_ranking", "competitor_category");
+
+    private final ClubIdentifierConverter clubIdentifierConverter = new ClubIdentifierConverter();
+    private final FirearmTypeConverter firearmTypeConverter = new FirearmTypeConverter();
+    private final DivisionConverter divisionConverter = new DivisionConverter();
+    private final PowerFactorConverter powerFactorConverter = new PowerFactorConverter();
+    private final CompetitorCategoryConverter competitorCategoryConverter = new CompetitorCategoryConverter();
+
+    public MatchCompetitorUpsertRepositoryImpl(EntityManager entityManager, JdbcTemplate jdbcTemplate,
+                                               @Value("${hpsc.web.app.persistence.upsert.chunk-size:500}")
+                                               int chunkSize) {
+        super(entityManager, jdbcTemplate, chunkSize);
+    }
+
+    @Override
+    public int upsertAll(List<MatchCompetitor> matchCompetitors) {
+        return upsertEntities(matchCompetitors);
+    }
+
+    @Override
+    protected String getTableName() {
+        return TABLE_NAME;
+    }
+
+    @Override
+    protected List<String> getColumnNames() {
+        return COLUMN_NAMES;
+    }
+
+    @Override
+    protected List<Object> getColumnValues(MatchCompetitor matchCompetitor) {
+        return Arrays.asList(
+                (matchCompetitor.getCompetitor() != null) ? matchCompetitor.getCompetitor().getId() : null,
+                (matchCompetitor.getMatch() != null) ? matchCompetitor.getMatch().getId() : null,
+                clubIdentifierConverter.convertToDatabaseColumn(matchCompetitor.getMatchClub()),
+                firearmTypeConverter.convertToDatabaseColumn(matchCompetitor.getFirearmType()),
+                divisionConverter.convertToDatabaseColumn(matchCompetitor.getDivision()),
+                powerFactorConverter.convertToDatabaseColumn(matchCompetitor.getPowerFactor()),
+                matchCompetitor.getMatchPoints(),
+                matchCompetitor.getMatchRanking(),
+                competitorCategoryConverter.convertToDatabaseColumn(matchCompetitor.getCompetitorCategory()));
+    }
+
+    @Override
+    protected Class<MatchCompetitor> getEntityClass() {
+        return MatchCompetitor.class;
+    }
+
+    @Override
+    protected Long getId(MatchCompetitor matchCompetitor) {
+        return matchCompetitor.getId();
+    }
+
+    @Override
+    protected void setDateUpdated(MatchCompetitor matchCompetitor, LocalDateTime dateUpdated) {
+        matchCompetitor.setDateUpdated(dateUpdated);
+    }
+
+    @Override
+    protected void copyRetainedColumns(MatchCompetitor existingMatchCompetitor, MatchCompetitor matchCompetitor) {
+        matchCompetitor.setDateCreated(existingMatchCompetitor.getDateCreated());
+        matchCompetitor.setDateEdited(existingMatchCompetitor.getDateEdited());
+    }
+}
@@ -1,10 +1,39 @@
 package za.co.hpsc.web.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import za.co.hpsc.web.constants.PersistenceConstants;
 import za.co.hpsc.web.domain.MatchStageCompetitor;
+import za.co.hpsc.web.models.ipsc.common.data.CompetitorStageResultRow;
 
 import java.util.List;
+import java.util.stream.Stream;
 
-public interface MatchStageCompetitorRepository extends JpaRepository<MatchStageCompetitor, Long> {
+public interface MatchStageCompetitorRepository extends JpaRepository<MatchStageCompetitor, Long>,
+        MatchStageCompetitorUpsertRepository {
     List<MatchStageCompetitor> findAllByMatchStageIdAndCompetitorId(Long matchStageId, Long competitorId);
+
+    @EntityGraph(attributePaths = {"competitor", "matchStage", "matchStage.match", "matchStage.match.club"})
+    List<MatchStageCompetitor> findAllByMatchStageMatchId(Long matchId);
+
+    // Ordered by competitor, enrolment and stage, so that the rows of each enrolment are adjacent
+    @Query("select new za.co.hpsc.web.models.ipsc.common.data.CompetitorStageResultRow(mc.id, " +
+            "c.firstName, c.lastName, c.middleNames, c.dateOfBirth, c.sapsaNumber, c.competitorNumber, " +
+            "mc.matchClub, mcl.name, mc.competitorCategory, mc.firearmType, mc.division, mc.powerFactor, " +
+            "mc.matchPoints, mc.matchRanking, mc.dateEdited, s.stageName, msc.scoreA, msc.scoreB, " +
+            "msc.scoreC, msc.scoreD, msc.points, msc.misses, msc.penalties, msc.procedurals, msc.time, " +
+            "msc.hitFactor, msc.stagePoints, msc.stagePercentage, msc.stageRanking, msc.dateEdited) " +
+            "from MatchCompetitor mc join mc.competitor c join mc.match m left join m.club mcl " +
+            "join MatchStageCompetitor msc on msc.competitor = c " +
+            "and (msc.division = mc.division or (msc.division is null and mc.division is null)) " +
+            "join msc.matchStage s " +
+            "where m.id = :matchId and s.match = m " +
+            "order by c.id, mc.id, s.stageNumber, msc.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = PersistenceConstants.RESULTS_FETCH_SIZE))
+    Stream<CompetitorStageResultRow> streamResultRowsByMatchId(@Param("matchId") Long matchId);
 }
@@ -0,0 +1,20 @@
+package za.co.hpsc.web.repositories;
+
+import za.co.hpsc.web.domain.MatchStageCompetitor;
+
+import java.util.List;
+
+public interface MatchStageCompetitorUpsertRepository {
+    /**
+     * Inserts or updates the given, already persisted, match stage competitors by their IDs.
+     *
+     * <p>
+     * The rows are written in chunks, with a single statement per chunk. Match stage competitors
+     * without an ID are skipped. Must be called in a transaction.
+     * </p>
+     *
+     * @param matchStageCompetitors the match stage competitors to write. Can be null.
+     * @return the number of statements executed.
+     */
+    int upsertAll(List<MatchStageCompetitor> matchStageCompetitors);
+}
@@ -0,0 +1,102 @@
+package za.co.hpsc.web.repositories;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import za.co.hpsc.web.converters.ClubIdentifierConverter;
+import za.co.hpsc.web.converters.DivisionConverter;
+import za.co.hpsc.web.converters.FirearmTypeConverter;
+import za.co.hpsc.web.converters.PowerFactorConverter;
+import za.co.hpsc.web.domain.MatchStageCompetitor;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+public class MatchStageCompetitorUpsertRepositoryImpl extends UpsertRepositorySupport<MatchStageCompetitor>
+        implements MatchStageCompetitorUpsertRepository {
+
+    private static final String TABLE_NAME = "match_stage_competitor";
+    private static final List<String> COLUMN_NAMES = List.of("competitor_id", "match_stage_id", "match_club",
+            "firearm_type", "division", "power_factor", "score_a", "score_b", "score_c", "score_d", "points",
+            "misses", "penalties", "procedurals", "has_deduction", "deduction_percentage", "time", "hit_factor",
+            "stage_points", "stage_percentage", "stage_ranking", "is_disqualified", "competitor_category");
+
+    private final ClubIdentifierConverter clubIdentifierConverter = new ClubIdentifierConverter();
+    private final FirearmTypeConverter firearmTypeConverter = new FirearmTypeConverter();
+    private final DivisionConverter divisionConverter = new DivisionConverter();
+    private final PowerFactorConverter powerFactorConverter = new PowerFactorConverter();
+
+    public MatchStageCompetitorUpsertRepositoryImpl(EntityManager entityManager, JdbcTemplate jdbcTemplate,
+                                                    @Value("${hpsc.web.app.persistence.upsert.chunk-size:500}")
+                                                    int chunkSize) {
+        super(entityManager, jdbcTemplate, chunkSize);
+    }
+
+    @Override
+    public int upsertAll(List<MatchStageCompetitor> matchStageCompetitors) {
+        return upsertEntities(matchStageCompetitors);
+    }
+
+    @Override
+    protected String getTableName() {
+        return TABLE_NAME;
+    }
+
+    @Override
+    protected List<String> getColumnNames() {
+        return COLUMN_NAMES;
+    }
+
+    @Override
+    protected List<Object> getColumnValues(MatchStageCompetitor matchStageCompetitor) {
+        // The competitor category is mapped as an enumerated, by name
+        return Arrays.asList(
+                (matchStageCompetitor.getCompetitor() != null) ? matchStageCompetitor.getCompetitor().getId() : null,
+                (matchStageCompetitor.getMatchStage() != null) ? matchStageCompetitor.getMatchStage().getId() : null,
+                clubIdentifierConverter.convertToDatabaseColumn(matchStageCompetitor.getMatchClub()),
+                firearmTypeConverter.convertToDatabaseColumn(matchStageCompetitor.getFirearmType()),
+                divisionConverter.convertToDatabaseColumn(matchStageCompetitor.getDivision()),
+                powerFactorConverter.convertToDatabaseColumn(matchStageCompetitor.getPowerFactor()),
+                matchStageCompetitor.getScoreA(),
+                matchStageCompetitor.getScoreB(),
+                matchStageCompetitor.getScoreC(),
+                matchStageCompetitor.getScoreD(),
+                matchStageCompetitor.getPoints(),
+                matchStageCompetitor.getMisses(),
+                matchStageCompetitor.getPenalties(),
+                matchStageCompetitor.getProcedurals(),
+                matchStageCompetitor.getHasDeduction(),
+                matchStageCompetitor.getDeductionPercentage(),
+                matchStageCompetitor.getTime(),
+                matchStageCompetitor.getHitFactor(),
+                matchStageCompetitor.getStagePoints(),
+                matchStageCompetitor.getStagePercentage(),
+                matchStageCompetitor.getStageRanking(),
+                matchStageCompetitor.getIsDisqualified(),
+                (matchStageCompetitor.getCompetitorCategory() != null) ?
+                        matchStageCompetitor.getCompetitorCategory().name() : null);
+    }
+
+    @Override
+    protected Class<MatchStageCompetitor> getEntityClass() {
+        return MatchStageCompetitor.class;
+    }
+
+    @Override
+    protected Long getId(MatchStageCompetitor matchStageCompetitor) {
+        return matchStageCompetitor.getId();
+    }
+
+    @Override
+    protected void setDateUpdated(MatchStageCompetitor matchStageCompetitor, LocalDateTime dateUpdated) {
+        matchStageCompetitor.setDateUpdated(dateUpdated);
+    }
+
+    @Override
+    protected void copyRetainedColumns(MatchStageCompetitor existingMatchStageCompetitor,
+                                       MatchStageCompetitor matchStageCompetitor) {
+        matchStageCompetitor.setDateCreated(existingMatchStageCompetitor.getDateCreated());
+        matchStageCompetitor.setDateEdited(existingMatchStageCompetitor.getDateEdited());
+    }
+}
@@ -0,0 +1,224 @@
+package za.co.hpsc.web.repositories;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Base class for the repository fragments that write already persisted rows with multi-row
+ * upserts.
+ *
+ * <p>
+ * Rows are written in chunks of a configurable size, with a single statement per chunk:
+ * {@code INSERT ... ON DUPLICATE KEY UPDATE} on MySQL, which refers to the inserted values through
+ * a row alias and therefore needs MySQL 8.0.19 or later, and {@code MERGE INTO ... KEY (id)} on H2.
+ * Rows are keyed on their primary key, and the creation date of an existing row is retained.
+ * The rows carry no optimistic version; they are guarded by the version of their match, which
+ * the import writing them increments. Any other database falls back to merging the entities one
+ * by one, after copying the creation and edit dates of the existing rows onto them, so that the
+ * merge retains the same columns as the upserts.
+ * </p>
+ *
+ * <p>
+ * The statements bypass the persistence context, which is flushed first so that referenced rows
+ * exist. The upsert must therefore run in a transaction.
+ * </p>
+ *
+ * @param <T> the type of the entity.
+ */
+abstract class UpsertRepositorySupport<T> {
+    protected static final String ID_COLUMN = "id";
+    protected static final String DATE_CREATED_COLUMN = "date_created";
+    protected static final String DATE_UPDATED_COLUMN = "date_updated";
+    protected static final String NEW_ROW_ALIAS = "new";
+
+    protected final EntityManager entityManager;
+    protected final JdbcTemplate jdbcTemplate;
+    protected final int chunkSize;
+
+    private volatile UpsertMode upsertMode;
+
+    protected UpsertRepositorySupport(EntityManager entityManager, JdbcTemplate jdbcTemplate, int chunkSize) {
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * Inserts or updates the given entities by their IDs, in chunks.
+     *
+     * <p>
+     * Null entities and entities without an ID are skipped. The update date of each written
+     * entity is set to the current date and time.
+     * </p>
+     *
+     * @param entities the entities to write. Can be null.
+     * @return the number of statements executed.
+     */
+    protected int upsertEntities(List<T> entities) {
+        if ((entities == null) || entities.isEmpty()) {
+            return 0;
+        }
+
+        List<T> filteredEntities = entities.stream()
+                .filter(Objects::nonNull)
+                .filter(entity -> getId(entity) != null)
+                .toList();
+        if (filteredEntities.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime dateUpdated = LocalDateTime.now();
+        filteredEntities.forEach(entity -> setDateUpdated(entity, dateUpdated));
+
+        UpsertMode mode = getUpsertMode();
+        if (mode == UpsertMode.MERGE_ENTITIES) {
+            filteredEntities.forEach(this::mergeEntity);
+            return filteredEntities.size();
+        }
+
+        // Makes sure the rows referenced by the entities have been written
+        entityManager.flush();
+
+        int statementCount = 0;
+        for (int fromIndex = 0; fromIndex < filteredEntities.size(); fromIndex += chunkSize) {
+            List<T> chunk = filteredEntities.subList(fromIndex,
+                    Math.min(fromIndex + chunkSize, filteredEntities.size()));
+            String sql = (mode == UpsertMode.MYSQL) ? getMySqlUpsert(chunk.size()) : getH2Merge(chunk.size());
+            jdbcTemplate.update(sql, getArguments(chunk, mode, dateUpdated).toArray());
+            statementCount++;
+        }
+        return statementCount;
+    }
+
+    /**
+     * Returns the name of the table the entities are written to.
+     *
+     * @return the table name.
+     */
+    protected abstract String getTableName();
+
+    /**
+     * Returns the names of the columns written, apart from the ID and the audit dates.
+     *
+     * @return the column names, in the order of {@link #getColumnValues(Object)}.
+     */
+    protected abstract List<String> getColumnNames();
+
+    /**
+     * Returns the values of the columns written for the given entity.
+     *
+     * @param entity the entity.
+     * @return the column values, in the order of {@link #getColumnNames()}.
+     */
+    protected abstract List<Object> getColumnValues(T entity);
+
+    /**
+     * Returns the class of the entities written.
+     *
+     * @return the entity class.
+     */
+    protected abstract Class<T> getEntityClass();
+
+    protected abstract Long getId(T entity);
+
+    protected abstract void setDateUpdated(T entity, LocalDateTime dateUpdated);
+
+    /**
+     * Copies the columns that an upsert does not write, such as the creation date, from the
+     * existing row onto the entity about to be merged.
+     *
+     * @param existingEntity the managed entity of the existing row.
+     * @param entity         the entity about to be merged.
+     */
+    protected abstract void copyRetainedColumns(T existingEntity, T entity);
+
+    // Merges a detached entity, which would otherwise overwrite the retained columns of its row with nulls
+    protected void mergeEntity(T entity) {
+        T existingEntity = entityManager.find(getEntityClass(), getId(entity));
+        if (existingEntity != null) {
+            copyRetainedColumns(existingEntity, entity);
+        }
+        entityManager.merge(entity);
+    }
+
+    // Builds a multi-row insert that updates all columns, apart from the creation date, of existing rows;
+    // the inserted values are read through a row alias, since VALUES(column) is deprecated
+    protected String getMySqlUpsert(int rowCount) {
+        String rowPlaceholders = "(" + String.join(", ",
+                Collections.nCopies(getColumnNames().size() + 1, "?")) + ", ?, ?)";
+        String updates = getColumnNames().stream()
+                .map(column -> column + " = " + NEW_ROW_ALIAS + "." + column)
+                .collect(Collectors.joining(", "));
+
+        return "INSERT INTO " + getTableName() + " (" + getAllColumns() + ") VALUES " +
+                String.join(", ", Collections.nCopies(rowCount, rowPlaceholders)) +
+                " AS " + NEW_ROW_ALIAS + " ON DUPLICATE KEY UPDATE " + updates + ", " +
+                DATE_UPDATED_COLUMN + " = " + NEW_ROW_ALIAS + "." + DATE_UPDATED_COLUMN;
+    }
+
+    // Builds a multi-row merge that retains the creation date of existing rows
+    protected String getH2Merge(int rowCount) {
+        String existingRow = " FROM " + getTableName() + " WHERE " + ID_COLUMN + " = ?)";
+        String rowPlaceholders = "(" + String.join(", ",
+                Collections.nCopies(getColumnNames().size() + 1, "?")) +
+                ", COALESCE((SELECT " + DATE_CREATED_COLUMN + existingRow + ", ?), ?)";
+
+        return "MERGE INTO " + getTableName() + " (" + getAllColumns() + ") KEY (" + ID_COLUMN + ") VALUES " +
+                String.join(", ", Collections.nCopies(rowCount, rowPlaceholders));
+    }
+
+    protected List<Object> getArguments(List<T> chunk, UpsertMode mode, LocalDateTime dateUpdated) {
+        List<Object> arguments = new ArrayList<>();
+        chunk.forEach(entity -> {
+            arguments.add(getId(entity));
+            arguments.addAll(getColumnValues(entity));
+            if (mode == UpsertMode.H2) {
+                arguments.add(getId(entity));
+            }
+            arguments.add(dateUpdated);
+            arguments.add(dateUpdated);
+        });
+        return arguments;
+    }
+
+    protected UpsertMode getUpsertMode() {
+        if (upsertMode == null) {
+            Dialect dialect = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices().getDialect();
+            if (dialect instanceof MySQLDialect) {
+                upsertMode = UpsertMode.MYSQL;
+            } else if (dialect instanceof H2Dialect) {
+                upsertMode = UpsertMode.H2;
+            } else {
+                upsertMode = UpsertMode.MERGE_ENTITIES;
+            }
+        }
+        return upsertMode;
+    }
+
+    private String getAllColumns() {
+        List<String> columns = new ArrayList<>();
+        columns.add(ID_COLUMN);
+        columns.addAll(getColumnNames());
+        columns.add(DATE_CREATED_COLUMN);
+        columns.add(DATE_UPDATED_COLUMN);
+        return String.join(", ", columns);
+    }
+
+    protected enum UpsertMode {
+        MYSQL,
+        H2,
+        MERGE_ENTITIES
+    }
+}
@@ -0,0 +1,36 @@
+package za.co.hpsc.web.services;
+
+import za.co.hpsc.web.domain.Club;
+import za.co.hpsc.web.models.ipsc.common.holders.data.ClubDictionary;
+
+/**
+ * Holds an in-memory {@link ClubDictionary} of all persisted clubs.
+ *
+ * <p>
+ * The dictionary is loaded once at startup and replaced copy-on-write whenever a club is
+ * registered, so that readers never wait on a writer and never see a partially updated
+ * dictionary. Clubs saved through {@link TransactionService} are registered once their
+ * transaction has been committed.
+ * </p>
+ */
+public interface ClubDictionaryService {
+
+    /**
+     * Returns the current dictionary, loading it first if it has not been loaded yet.
+     *
+     * @return the current club dictionary.
+     */
+    ClubDictionary getDictionary();
+
+    /**
+     * Reloads the dictionary from the database.
+     */
+    void refresh();
+
+    /**
+     * Adds a persisted club to the dictionary, replacing any club with the same ID.
+     *
+     * @param club the persisted club. Can be null, in which case nothing is registered.
+     */
+    void register(Club club);
+}
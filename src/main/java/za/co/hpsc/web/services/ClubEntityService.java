@@ -1,6 +1,7 @@
 package za.co.hpsc.web.services;
 
 import za.co.hpsc.web.domain.Club;
+import za.co.hpsc.web.enums.ClubIdentifier;
 
 import java.util.Optional;
 
@@ -9,6 +10,11 @@ import java.util.Optional;
  * club information within the system.
  * It provides methods for searching and retrieving details about clubs based on
  * specific criteria.
+ *
+ * <p>
+ * Lookups are answered from the {@link ClubDictionaryService} where possible, and only fall back to
+ * the database for clubs that are not in the dictionary.
+ * </p>
  */
 public interface ClubEntityService {
     // TODO: add Javadoc
@@ -31,5 +37,19 @@ public interface ClubEntityService {
 
     // TODO: add Javadoc
     Optional<Club> findClubByNameOrAbbreviation(String name);
+
+    /**
+     * Searches for the {@link Club} entity identified by a {@link ClubIdentifier}.
+     *
+     * <p>
+     * The club is found by the name of the identifier, or failing that by its abbreviation.
+     * Excluded identifiers never identify a club.
+     * </p>
+     *
+     * @param clubIdentifier the identifier of the club to be searched for. Can be null.
+     * @return an {@code Optional} containing the {@link Club} if a match is found,
+     * or an empty {@code Optional} if no matching club is found.
+     */
+    Optional<Club> findClubByIdentifier(ClubIdentifier clubIdentifier);
 }
 
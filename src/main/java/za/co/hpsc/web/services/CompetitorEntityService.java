@@ -1,8 +1,11 @@
 package za.co.hpsc.web.services;
 
 import za.co.hpsc.web.domain.Competitor;
+import za.co.hpsc.web.models.ipsc.common.data.CompetitorLookup;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -28,4 +31,19 @@ public interface CompetitorEntityService {
      */
     Optional<Competitor> findCompetitor(String icsAlias, String firstName, String lastName,
                                         LocalDateTime dateTimeOfBirth);
+
+    /**
+     * Resolves a set of competitors in bulk, with the same rules as
+     * {@link #findCompetitor(String, String, String, LocalDateTime)}.
+     *
+     * <p>
+     * All SAPSA numbers and all names are each looked up with a few {@code IN (...)} queries,
+     * instead of one or two queries per competitor.
+     * </p>
+     *
+     * @param competitorLookups the identifying details of the competitors to be resolved.
+     * @return a map from each lookup to its matching {@link Competitor}. Lookups without a match
+     * are not contained in the map.
+     */
+    Map<CompetitorLookup, Competitor> findCompetitors(Collection<CompetitorLookup> competitorLookups);
 }
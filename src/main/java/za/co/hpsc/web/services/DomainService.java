@@ -36,6 +36,21 @@ public interface DomainService {
     Optional<DtoMapping> initMatchEntities(MatchResultsDto matchResults,
                                            String filterClubAbbreviation, String matchClubAbbreviation);
 
+    /**
+     * Resolves the club and competitors of the match results that were new when the match was
+     * mapped, by the same natural keys they were mapped by.
+     *
+     * <p>
+     * Matches are mapped before any of them is persisted, so a club or competitor that was new at
+     * the time may since have been inserted by the import of another match. The unique database
+     * IDs of those that now exist are set on their DTOs; the others remain new.
+     * </p>
+     *
+     * @param matchResults the match results whose club and competitors should be resolved. Can be
+     *                     null.
+     */
+    void resolveSharedEntities(MatchResultsDto matchResults);
+
     // TODO: add Javadoc
     Optional<MatchOnlyResultsDto> initMatchOnlyEntities(MatchOnlyDto matchOnlyDto);
 }
@@ -0,0 +1,109 @@
+package za.co.hpsc.web.services;
+
+import za.co.hpsc.web.models.ipsc.common.data.MatchSectionHash;
+import za.co.hpsc.web.models.ipsc.common.holders.records.IpscMatchRecordHolder;
+import za.co.hpsc.web.models.ipsc.common.records.MatchRecord;
+import za.co.hpsc.web.models.ipsc.common.response.IpscResponse;
+
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Keeps a ledger of the content hashes of imported WinMSS.cab files and matches, so that
+ * unchanged content is not parsed, transformed or persisted again.
+ *
+ * <p>
+ * Each imported match is recorded under its natural key, with the hash of the section it was
+ * imported from and its match record. Each imported CAB file is recorded under its content
+ * hash, with the keys and section hashes of its matches in file order. A CAB file is only
+ * answered from the ledger while every one of its matches is still recorded with the same
+ * section hash, so that evicting a match also invalidates the CAB files it was imported from.
+ * </p>
+ */
+public interface ImportLedgerService {
+
+    /**
+     * Computes the content hash of a WinMSS.cab file.
+     *
+     * @param content the content of the CAB file. Can be null.
+     * @return the hexadecimal SHA-256 hash of the content, or null if the content is null.
+     */
+    String hashContent(String content);
+
+    /**
+     * Creates the digest with which the content hash of a streamed WinMSS.cab file is computed.
+     *
+     * @return a new digest, to be updated with the bytes of the CAB file as they are read.
+     */
+    MessageDigest createContentDigest();
+
+    /**
+     * Completes the content hash of a streamed WinMSS.cab file.
+     *
+     * <p>
+     * The hash is the same as {@link #hashContent(String)} returns for the same UTF-8 content.
+     * </p>
+     *
+     * @param contentDigest a digest created by {@link #createContentDigest()}, updated with every
+     *                      byte of the CAB file. Can be null.
+     * @return the hexadecimal SHA-256 hash of the content, or null if the digest is null.
+     */
+    String hashContent(MessageDigest contentDigest);
+
+    /**
+     * Computes the content hash of the section of a CAB file that holds the results of a match.
+     *
+     * @param ipscResponse the results of the match, as mapped from the CAB file. Can be null.
+     * @return an {@link Optional} containing the {@link MatchSectionHash} of the match;
+     * otherwise, {@link Optional#empty()} if the response has no match.
+     */
+    Optional<MatchSectionHash> hashMatchSection(IpscResponse ipscResponse);
+
+    /**
+     * Answers a previously imported CAB file from the ledger.
+     *
+     * @param contentHash the content hash of the CAB file. Can be null.
+     * @return an {@link Optional} containing the match record holders of the import, in the same
+     * form as a full import returns them; otherwise, {@link Optional#empty()} if the CAB file was
+     * not imported before, or any of its matches has changed since.
+     */
+    Optional<List<IpscMatchRecordHolder>> findImport(String contentHash);
+
+    /**
+     * Finds the records of the matches that are unchanged since they were last imported.
+     *
+     * @param matchSectionHashes the section hashes of the matches to be imported. Can be null,
+     *                           and may contain null elements.
+     * @return the records of the unchanged matches, keyed by their section hash.
+     */
+    Map<MatchSectionHash, MatchRecord> findUnchangedMatchRecords(Collection<MatchSectionHash> matchSectionHashes);
+
+    /**
+     * Records an imported match, replacing any entry under the same natural key.
+     *
+     * @param matchSectionHash the section hash the match was imported from.
+     * @param matchId          the unique database ID of the imported match.
+     * @param matchRecord      the record of the imported match.
+     */
+    void recordMatch(MatchSectionHash matchSectionHash, Long matchId, MatchRecord matchRecord);
+
+    /**
+     * Records an imported CAB file, replacing any entry with the same content hash.
+     *
+     * @param contentHash    the content hash of the CAB file.
+     * @param matchSections  the keys and section hashes of the matches of the CAB file, in file
+     *                       order. The section hash is null for a match that produced no record.
+     */
+    void recordImport(String contentHash, List<MatchSectionHash> matchSections);
+
+    /**
+     * Evicts the entries of a match that was modified outside an import, so that the next
+     * import of the match, or of a CAB file that contains it, is persisted again.
+     *
+     * @param matchId the unique database ID of the match. Can be null.
+     */
+    void evictMatch(Long matchId);
+}
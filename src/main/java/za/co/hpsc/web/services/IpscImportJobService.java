@@ -0,0 +1,49 @@
+package za.co.hpsc.web.services;
+
+import za.co.hpsc.web.exceptions.FatalException;
+import za.co.hpsc.web.exceptions.ServiceUnavailableException;
+import za.co.hpsc.web.exceptions.ValidationException;
+import za.co.hpsc.web.models.ipsc.job.ImportJobResponse;
+
+import java.io.InputStream;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Provides an interface for running WinMSS imports asynchronously.
+ *
+ * <p>
+ * An import is submitted as a job and processed by a bounded pool of workers, so that the
+ * upload returns immediately and the number of imports running against the database at once
+ * is capped. The status, progress and results of a job can be retrieved by its id.
+ * </p>
+ */
+public interface IpscImportJobService {
+    /**
+     * Submits a WinMSS.cab file to be imported asynchronously.
+     *
+     * <p>
+     * The CAB file is copied to a temporary file before the job is queued, and streamed from
+     * there by the job, so that it is never held in memory as a whole.
+     * </p>
+     *
+     * @param cabFileStream the stream containing the WinMSS.cab file in a valid JSON format.
+     *                      It is read to its end, but not closed by this method.
+     * @return an {@link ImportJobResponse} describing the queued job, including its id.
+     * @throws ValidationException         if the provided CAB file stream is null or empty.
+     * @throws ServiceUnavailableException if the job can not be queued because the queue is full.
+     * @throws FatalException              if the CAB file can not be read, or the job can not be
+     *                                     queued for any other reason.
+     */
+    ImportJobResponse submitImport(InputStream cabFileStream)
+            throws ValidationException, ServiceUnavailableException, FatalException;
+
+    /**
+     * Retrieves the status, progress and, once completed, the results of an import job.
+     *
+     * @param jobId the id of the import job.
+     * @return an {@link Optional} containing the {@link ImportJobResponse} if the job exists,
+     * or empty if it does not exist or has expired.
+     */
+    Optional<ImportJobResponse> getImportJob(UUID jobId);
+}
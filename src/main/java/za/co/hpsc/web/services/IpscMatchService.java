@@ -1,9 +1,15 @@
 package za.co.hpsc.web.services;
 
 import za.co.hpsc.web.exceptions.FatalException;
+import za.co.hpsc.web.models.ipsc.common.data.SerializedResponse;
+import za.co.hpsc.web.models.ipsc.common.holders.records.IpscMatchRecordHolder;
+import za.co.hpsc.web.models.ipsc.common.request.MatchSearchRequest;
 import za.co.hpsc.web.models.ipsc.match.request.MatchOnlyRequest;
+import za.co.hpsc.web.models.ipsc.match.response.MatchLookupResponse;
 import za.co.hpsc.web.models.ipsc.match.response.MatchOnlyResponse;
+import za.co.hpsc.web.models.ipsc.match.response.MatchSearchResponse;
 
+import java.util.List;
 import java.util.Optional;
 
 // TODO: add Javadoc
@@ -15,8 +21,28 @@ public interface IpscMatchService {
     Optional<MatchOnlyResponse> updateMatch(Long matchId, MatchOnlyRequest MatchWithStagesResponse)
             throws FatalException;
 
+    Optional<MatchOnlyResponse> updateMatch(Long matchId, MatchOnlyRequest matchOnlyRequest, Long expectedVersion)
+            throws FatalException;
+
     Optional<MatchOnlyResponse> modifyMatch(Long matchId, MatchOnlyRequest matchOnlyRequest)
             throws FatalException;
 
+    Optional<MatchOnlyResponse> modifyMatch(Long matchId, MatchOnlyRequest matchOnlyRequest, Long expectedVersion)
+            throws FatalException;
+
     Optional<MatchOnlyResponse> getMatch(Long matchId);
+
+    Optional<SerializedResponse> getSerializedMatch(Long matchId);
+
+    boolean isSerializedMatchCached(Long matchId);
+
+    Optional<Long> getMatchVersion(Long matchId);
+
+    Optional<List<MatchLookupResponse>> getMatches(List<Long> matchIds);
+
+    Optional<IpscMatchRecordHolder> getMatchResults(Long matchId);
+
+    Optional<SerializedResponse> getSerializedMatchResults(Long matchId);
+
+    Optional<MatchSearchResponse> searchMatches(MatchSearchRequest matchSearchRequest);
 }
\ No newline at end of file
@@ -3,7 +3,9 @@ package za.co.hpsc.web.services;
 import za.co.hpsc.web.exceptions.FatalException;
 import za.co.hpsc.web.exceptions.ValidationException;
 import za.co.hpsc.web.models.ipsc.common.holders.records.IpscMatchRecordHolder;
+import za.co.hpsc.web.models.ipsc.job.ImportProgress;
 
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -31,4 +33,68 @@ public interface IpscService {
      */
     List<IpscMatchRecordHolder> importWinMssCabFile(String cabFileContent)
             throws ValidationException, FatalException;
+
+    /**
+     * Imports and processes the content of a WinMSS.cab file, reporting its progress.
+     *
+     * <p>
+     * The import moves the progress through the parsing, transforming and persisting phases,
+     * and counts the matches, stages and scores as each match is persisted.
+     * </p>
+     *
+     * @param cabFileContent the content of the WinMSS.cab file to be imported. It must be provided
+     *                       as a non-null string containing the data in a valid JSON format.
+     * @param importProgress the progress to be updated during the import. Can be null.
+     * @return a {@link IpscMatchRecordHolder} object containing the parsed match results
+     * extracted from the CAB file.
+     * @throws ValidationException if the provided CAB file content fails validation, indicating
+     *                             that the input data is incomplete, malformed, or otherwise invalid.
+     * @throws FatalException      if a critical error occurs during the processing of the CAB file,
+     *                             rendering the operation unable to complete.
+     */
+    List<IpscMatchRecordHolder> importWinMssCabFile(String cabFileContent, ImportProgress importProgress)
+            throws ValidationException, FatalException;
+
+    /**
+     * Imports and processes a WinMSS.cab file read from a stream.
+     *
+     * <p>
+     * Unlike {@link #importWinMssCabFile(String)}, the CAB file is never held in memory as a
+     * single string. The JSON envelope is read token by token and the rows of each XML section
+     * are parsed one at a time, so only the section currently being parsed is retained.
+     * </p>
+     *
+     * @param cabFileStream the stream containing the WinMSS.cab file in a valid JSON format.
+     *                      The stream is not closed by this method.
+     * @return a {@link IpscMatchRecordHolder} object containing the parsed match results
+     * extracted from the CAB file.
+     * @throws ValidationException if the provided CAB file stream is null, empty, or contains
+     *                             data that is malformed or otherwise invalid.
+     * @throws FatalException      if a critical error occurs while reading the CAB file stream,
+     *                             rendering the operation unable to complete.
+     */
+    List<IpscMatchRecordHolder> importWinMssCabStream(InputStream cabFileStream)
+            throws ValidationException, FatalException;
+
+    /**
+     * Imports and processes a WinMSS.cab file read from a stream, reporting its progress.
+     *
+     * <p>
+     * The content hash of the CAB file is computed as the stream is parsed, so that an
+     * identical CAB file is still answered from the import ledger without persisting it again,
+     * while the stream is only read once.
+     * </p>
+     *
+     * @param cabFileStream  the stream containing the WinMSS.cab file in a valid JSON format.
+     *                       The stream is read to its end, but not closed by this method.
+     * @param importProgress the progress to be updated during the import. Can be null.
+     * @return a {@link IpscMatchRecordHolder} object containing the parsed match results
+     * extracted from the CAB file.
+     * @throws ValidationException if the provided CAB file stream is null, empty, or contains
+     *                             data that is malformed or otherwise invalid.
+     * @throws FatalException      if a critical error occurs while reading the CAB file stream,
+     *                             rendering the operation unable to complete.
+     */
+    List<IpscMatchRecordHolder> importWinMssCabStream(InputStream cabFileStream, ImportProgress importProgress)
+            throws ValidationException, FatalException;
 }
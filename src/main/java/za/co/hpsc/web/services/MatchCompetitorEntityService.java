@@ -34,4 +34,14 @@ public interface MatchCompetitorEntityService {
      * criteria; never {@code null}, but may be empty if no matches are found.
      */
     List<MatchCompetitor> findMatchCompetitors(Long matchId, Long competitorId);
+
+    /**
+     * Retrieves all {@link MatchCompetitor} entities of the match with the provided match ID,
+     * for all competitors, in a single query.
+     *
+     * @param matchId the unique identifier of the match.
+     * @return a {@link List} of the {@link MatchCompetitor} entities of the match; never
+     * {@code null}, but empty if the match ID is {@code null} or none are found.
+     */
+    List<MatchCompetitor> findMatchCompetitorsByMatch(Long matchId);
 }
@@ -1,8 +1,14 @@
 package za.co.hpsc.web.services;
 
 import za.co.hpsc.web.domain.IpscMatch;
+import za.co.hpsc.web.models.ipsc.common.data.MatchReference;
+import za.co.hpsc.web.models.ipsc.common.data.MatchSearchCriteria;
+import za.co.hpsc.web.models.ipsc.common.data.MatchSearchCursor;
+import za.co.hpsc.web.models.ipsc.common.data.MatchSearchRow;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -25,11 +31,41 @@ public interface MatchEntityService {
      */
     Optional<IpscMatch> findMatchById(Long matchId);
 
+    /**
+     * Reads the optimistic lock version of a match, without loading the match.
+     * <p>
+     * The version is incremented by every write of the match, so that it validates conditional
+     * requests for the match with a single query on the primary key.
+     * </p>
+     *
+     * @param matchId the unique database ID of the match. Can be null.
+     * @return an {@link Optional} containing the version of the match when found; otherwise,
+     * {@link Optional#empty()}.
+     */
+    Optional<Long> findMatchVersion(Long matchId);
+
+    /**
+     * Finds a match by its database identifier, along with its results.
+     * <p>
+     * The club, stages, match competitors and stage competitors of the match, and the
+     * competitors they refer to, are loaded with a fixed number of queries, regardless of the
+     * size of the match. This is the fetch plan for generating records from a persisted match;
+     * {@link #findMatchById(Long)} loads the match and its club only.
+     * </p>
+     *
+     * @param matchId the unique database ID of the match. Can be null.
+     * @return an {@link Optional} containing the {@link IpscMatch} with its results loaded when
+     * found; otherwise, {@link Optional#empty()}.
+     */
+    Optional<IpscMatch> findMatchResultsById(Long matchId);
+
     /**
      * Finds a match by its name and scheduled date/time.
      * <p>
      * This lookup is useful when an external payload does not provide an internal ID
-     * but does include natural identifying fields for a match occurrence.
+     * but does include natural identifying fields for a match occurrence. The match is
+     * resolved with {@link #findMatchReference(String, LocalDateTime)}, and then loaded with
+     * its club only.
      * </p>
      *
      * @param name              the match name to search for; typically expected to match
@@ -39,4 +75,50 @@ public interface MatchEntityService {
      * otherwise, {@link Optional#empty()}.
      */
     Optional<IpscMatch> findMatchByNameAndScheduledDate(String name, LocalDateTime scheduledDateTime);
-}
\ No newline at end of file
+
+    /**
+     * Resolves a match by its name and scheduled date/time, without loading it.
+     * <p>
+     * Only the ID, edit date and version of the match are read, with a single query on the
+     * {@code (name, scheduled_date)} index. Where several matches share the name and date, the
+     * first one persisted is returned. Without a scheduled date/time, the first match with the
+     * name is returned.
+     * </p>
+     *
+     * @param name              the match name to search for. Can be null.
+     * @param scheduledDateTime the scheduled start date/time of the match. Can be null.
+     * @return an {@link Optional} containing a {@link MatchReference} to the match if one exists;
+     * otherwise, {@link Optional#empty()}.
+     */
+    Optional<MatchReference> findMatchReference(String name, LocalDateTime scheduledDateTime);
+
+    /**
+     * Searches the matches that meet the given criteria, one page at a time.
+     * <p>
+     * The matches are read as projections in order of their scheduled date and ID, without
+     * loading their stages or competitors. A page starts after the given cursor, rather than at
+     * an offset, so that a page deep into the history is read as fast as the first one.
+     * </p>
+     *
+     * @param criteria   the filters of the search. Can be null.
+     * @param after      the position of the last match of the previous page. Can be null, for
+     *                   the first page.
+     * @param maxResults the maximum number of matches to return.
+     * @return the matches found, in order of their scheduled date and ID; or an empty list if
+     * the maximum number of matches is not positive.
+     */
+    List<MatchSearchRow> searchMatches(MatchSearchCriteria criteria, MatchSearchCursor after, int maxResults);
+
+    /**
+     * Finds several matches by their database identifiers at once.
+     * <p>
+     * The matches are read as projections, joined with their clubs only, with a single
+     * {@code IN} query, regardless of the number of IDs. IDs that do not exist are skipped.
+     * </p>
+     *
+     * @param matchIds the unique database IDs of the matches. Can be null, and may contain null
+     *                 or duplicate elements.
+     * @return the matches found, in no particular order.
+     */
+    List<MatchSearchRow> findMatchRowsByIds(Collection<Long> matchIds);
+}
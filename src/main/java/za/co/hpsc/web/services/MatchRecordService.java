@@ -0,0 +1,43 @@
+package za.co.hpsc.web.services;
+
+import za.co.hpsc.web.models.ipsc.common.holders.data.MatchHolder;
+import za.co.hpsc.web.models.ipsc.common.records.CompetitorRecord;
+import za.co.hpsc.web.models.ipsc.common.records.MatchRecord;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Generates the result records of persisted matches from projection queries.
+ * <p>
+ * Unlike {@link TransformationService#generateMatchRecord(MatchHolder)}, which walks the entities
+ * of an imported match, the records are built straight from rows read in a read-only
+ * transaction, and no entities are loaded into the persistence context. The stage results of a
+ * match are streamed in competitor and stage order, so that each competitor record is completed
+ * in a single pass, holding the stage results of one competitor at a time.
+ * </p>
+ */
+public interface MatchRecordService {
+
+    /**
+     * Generates the result record of a persisted match.
+     *
+     * @param matchId the unique database ID of the match. Can be null.
+     * @return an {@link Optional} containing the {@link MatchRecord} of the match when found;
+     * otherwise, {@link Optional#empty()}.
+     */
+    Optional<MatchRecord> generateMatchRecord(Long matchId);
+
+    /**
+     * Generates the competitor records of a persisted match, handing each to the consumer as
+     * soon as its stage results have been read.
+     * <p>
+     * Only competitors with at least one stage result have a record. Nothing is consumed when the
+     * match does not exist.
+     * </p>
+     *
+     * @param matchId  the unique database ID of the match. Can be null.
+     * @param consumer the consumer of the competitor records, in competitor order. Can be null.
+     */
+    void forEachCompetitorRecord(Long matchId, Consumer<CompetitorRecord> consumer);
+}
@@ -0,0 +1,67 @@
+package za.co.hpsc.web.services;
+
+import za.co.hpsc.web.models.ipsc.common.data.SerializedResponse;
+
+import java.util.function.Supplier;
+
+/**
+ * Keeps the serialised responses of match reads in process, keyed by match ID, so that a
+ * repeated read is answered without querying the database or serialising the response again.
+ *
+ * <p>
+ * The match responses and the match result records are held in separate caches, each bounded
+ * by the total size of the response bodies it holds, and expiring a configurable time after an
+ * entry was written. The entries of a match are evicted once a write of the match has
+ * committed. A read of a match that is being evicted waits for the eviction, so that a
+ * response read before the write can not be cached after it.
+ * </p>
+ */
+public interface MatchResponseCacheService {
+
+    /**
+     * Returns the cached response of a match, loading it on a miss.
+     *
+     * @param matchId the unique database ID of the match. Can be null, in which case nothing
+     *                is cached.
+     * @param loader  loads and serialises the response of the match. An exception thrown by the
+     *                loader is propagated, and nothing is cached.
+     * @return the serialised response of the match.
+     */
+    SerializedResponse getMatch(Long matchId, Supplier<SerializedResponse> loader);
+
+    /**
+     * Returns whether the response of a match is cached, without loading it or counting the
+     * read as a hit or a miss.
+     *
+     * @param matchId the unique database ID of the match. Can be null.
+     * @return true if the response of the match is cached, otherwise false.
+     */
+    boolean containsMatch(Long matchId);
+
+    /**
+     * Returns the cached result records of a match, loading them on a miss.
+     *
+     * @param matchId the unique database ID of the match. Can be null, in which case nothing
+     *                is cached.
+     * @param loader  loads and serialises the result records of the match. An exception thrown
+     *                by the loader is propagated, and nothing is cached.
+     * @return the serialised result records of the match.
+     */
+    SerializedResponse getMatchResults(Long matchId, Supplier<SerializedResponse> loader);
+
+    /**
+     * Serialises a response to JSON, the same way it would be written by the web layer.
+     *
+     * @param response the response to be serialised.
+     * @param version  the version of the match the response was read from. Can be null.
+     * @return the serialised response.
+     */
+    SerializedResponse serialize(Object response, Long version);
+
+    /**
+     * Evicts the cached responses of a match after it was written.
+     *
+     * @param matchId the unique database ID of the match. Can be null.
+     */
+    void evictMatch(Long matchId);
+}
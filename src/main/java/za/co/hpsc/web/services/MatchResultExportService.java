@@ -0,0 +1,62 @@
+package za.co.hpsc.web.services;
+
+import za.co.hpsc.web.enums.ExportFormat;
+import za.co.hpsc.web.exceptions.NonFatalException;
+import za.co.hpsc.web.exceptions.ValidationException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+/**
+ * Exports the competitor and stage results of persisted matches as a stream.
+ *
+ * <p>
+ * An export is validated when it is created, so that an invalid request can still be answered
+ * with an error, and only written once its output is opened. The results of each match are
+ * streamed from a forward-only cursor in competitor and stage order, and written as each
+ * competitor is completed. Memory use therefore does not grow with the size of the export, and
+ * the first results are written before the last ones have been read.
+ * </p>
+ */
+public interface MatchResultExportService {
+
+    /**
+     * Creates an export of the results of a match.
+     *
+     * @param matchId the unique database ID of the match.
+     * @param format  the format of the export.
+     * @return the export, to be written to the output of the response.
+     * @throws ValidationException if the match ID is not positive, or the format is null.
+     * @throws NonFatalException   if the match does not exist.
+     */
+    ResultsExport exportMatch(Long matchId, ExportFormat format);
+
+    /**
+     * Creates an export of the results of the matches scheduled within a date range, in order of
+     * their scheduled date.
+     *
+     * @param startDate the first date of the range.
+     * @param endDate   the last date of the range, inclusive.
+     * @param format    the format of the export.
+     * @return the export, to be written to the output of the response.
+     * @throws ValidationException if a date is missing, the start date is after the end date, or
+     *                             the format is null.
+     */
+    ResultsExport exportMatches(LocalDate startDate, LocalDate endDate, ExportFormat format);
+
+    /**
+     * A results export that has been validated, but not yet written.
+     */
+    @FunctionalInterface
+    interface ResultsExport {
+
+        /**
+         * Writes the export. The output stream is flushed, but not closed.
+         *
+         * @param outputStream the output to write the export to.
+         * @throws IOException if the export can not be written.
+         */
+        void writeTo(OutputStream outputStream) throws IOException;
+    }
+}
@@ -35,4 +35,14 @@ public interface MatchStageCompetitorEntityService {
      * criteria; never {@code null}, but may be empty if no matches are found.
      */
     List<MatchStageCompetitor> findMatchStageCompetitors(Long matchStageId, Long competitorId);
+
+    /**
+     * Retrieves all {@link MatchStageCompetitor} entities of all stages of the match with the
+     * provided match ID, for all competitors, in a single query.
+     *
+     * @param matchId the unique identifier of the match.
+     * @return a {@link List} of the {@link MatchStageCompetitor} entities of the match; never
+     * {@code null}, but empty if the match ID is {@code null} or none are found.
+     */
+    List<MatchStageCompetitor> findMatchStageCompetitorsByMatch(Long matchId);
 }
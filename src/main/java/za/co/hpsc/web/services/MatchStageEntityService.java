@@ -2,6 +2,7 @@ package za.co.hpsc.web.services;
 
 import za.co.hpsc.web.domain.IpscMatchStage;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -24,4 +25,13 @@ public interface MatchStageEntityService {
      * or an empty {@code Optional} if no matching stage is found.
      */
     Optional<IpscMatchStage> findMatchStage(Long matchId, Integer stageNumber);
+
+    /**
+     * Retrieves all stages of the match with the provided match ID, in a single query.
+     *
+     * @param matchId the unique identifier of the match to which the stages belong.
+     * @return a {@link List} of the {@link IpscMatchStage} entities of the match; never
+     * {@code null}, but empty if the match ID is {@code null} or the match has no stages.
+     */
+    List<IpscMatchStage> findMatchStagesByMatch(Long matchId);
 }
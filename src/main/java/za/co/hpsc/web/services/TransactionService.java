@@ -1,10 +1,14 @@
 package za.co.hpsc.web.services;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import za.co.hpsc.web.exceptions.FatalException;
 import za.co.hpsc.web.models.ipsc.common.data.DtoMapping;
+import za.co.hpsc.web.models.ipsc.common.dto.ClubDto;
+import za.co.hpsc.web.models.ipsc.common.dto.CompetitorDto;
 import za.co.hpsc.web.models.ipsc.common.holders.data.MatchHolder;
 import za.co.hpsc.web.models.ipsc.match.holders.dto.MatchOnlyResultsDto;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -28,15 +32,39 @@ public interface TransactionService {
      * The supplied {@link DtoMapping} is expected to contain all structures required
      * to save a match and its related graph (for example, stages, competitors, and scores).
      * </p>
+     * <p>
+     * The version of the match guards the whole aggregate. When the match has been written by
+     * another import since it was mapped, nothing is saved, and the conflict is reported so that
+     * the match can be mapped again and retried.
+     * </p>
      *
      * @param dtoMapping mapped input containing all data required to persist match results
      * @return an {@link Optional} containing the saved {@link MatchHolder} when persistence succeeds;
      * {@link Optional#empty()} if no aggregate is persisted
-     * @throws FatalException if an unrecoverable persistence error or transaction error occurs
+     * @throws FatalException                    if an unrecoverable persistence error or transaction
+     *                                           error occurs
+     * @throws OptimisticLockingFailureException if the match was written concurrently
      */
     Optional<MatchHolder> saveMatchResults(DtoMapping dtoMapping)
             throws FatalException;
 
+    /**
+     * Inserts the club and the competitors of a match that do not exist yet, in a transaction of
+     * their own, and sets the unique database IDs of the inserted entities on their DTOs.
+     * <p>
+     * Clubs and competitors are shared between matches. Inserting the new ones ahead of the match
+     * results, in a short transaction, means that only this step has to be serialised between the
+     * imports of different matches, and not the persistence of their results. Existing clubs and
+     * competitors are left to {@link #saveMatchResults(DtoMapping)}.
+     * </p>
+     *
+     * @param clubDto           the club of the match. Can be null.
+     * @param competitorDtoList the competitors of the match. Can be null.
+     * @throws FatalException if an unrecoverable persistence error or transaction error occurs
+     */
+    void saveSharedEntities(ClubDto clubDto, List<CompetitorDto> competitorDtoList)
+            throws FatalException;
+
     // TODO: add Javadoc
     Optional<MatchHolder> saveMatch(MatchOnlyResultsDto matchOnlyResultsDto)
             throws FatalException;
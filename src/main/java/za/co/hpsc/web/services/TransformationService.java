@@ -5,6 +5,7 @@ import za.co.hpsc.web.models.ipsc.common.holders.dto.MatchResultsDto;
 import za.co.hpsc.web.models.ipsc.common.holders.records.IpscMatchRecordHolder;
 import za.co.hpsc.web.models.ipsc.common.holders.request.IpscRequestHolder;
 import za.co.hpsc.web.models.ipsc.common.holders.response.IpscResponseHolder;
+import za.co.hpsc.web.models.ipsc.common.records.MatchRecord;
 import za.co.hpsc.web.models.ipsc.common.response.IpscResponse;
 import za.co.hpsc.web.models.ipsc.match.dto.MatchOnlyDto;
 import za.co.hpsc.web.models.ipsc.match.request.MatchOnlyRequest;
@@ -53,6 +54,20 @@ public interface TransformationService {
      */
     IpscMatchRecordHolder generateIpscMatchRecordHolder(List<MatchHolder> ipscMatchHolderList);
 
+    /**
+     * Generates the {@link MatchRecord} of a single match holder.
+     * <p>
+     * Each match holder only needs to be converted once; callers importing several matches
+     * can append the generated records to a running list instead of regenerating the records
+     * of all previously imported matches.
+     * </p>
+     *
+     * @param matchHolder the {@link MatchHolder} to convert
+     * @return an {@link Optional} containing the generated {@link MatchRecord}; otherwise
+     * {@link Optional#empty()} if the holder or its match is null
+     */
+    Optional<MatchRecord> generateMatchRecord(MatchHolder matchHolder);
+
     /**
      * Initialises a match-results DTO aggregate from a single IPSC response object.
      *
@@ -2,18 +2,15 @@ package za.co.hpsc.web.services.impl;
 
 import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
-import com.fasterxml.jackson.dataformat.csv.CsvMapper;
 import com.fasterxml.jackson.dataformat.csv.CsvReadException;
-import com.fasterxml.jackson.dataformat.csv.CsvSchema;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import za.co.hpsc.web.configs.ObjectReaderRegistry;
 import za.co.hpsc.web.exceptions.FatalException;
 import za.co.hpsc.web.exceptions.ValidationException;
 import za.co.hpsc.web.models.award.request.AwardRequest;
-import za.co.hpsc.web.models.award.request.AwardRequestForCSV;
 import za.co.hpsc.web.models.award.response.AwardCeremonyResponse;
 import za.co.hpsc.web.models.award.response.AwardCeremonyResponseHolder;
 import za.co.hpsc.web.services.AwardService;
@@ -25,6 +22,13 @@ import java.util.List;
 @Slf4j
 @Service
 public class AwardServiceImpl implements AwardService {
+
+    protected final ObjectReaderRegistry objectReaderRegistry;
+
+    public AwardServiceImpl(ObjectReaderRegistry objectReaderRegistry) {
+        this.objectReaderRegistry = objectReaderRegistry;
+    }
+
     @Override
     public AwardCeremonyResponseHolder processCsv(String csvData)
             throws FatalException {
@@ -45,7 +49,7 @@ public class AwardServiceImpl implements AwardService {
      * {@link AwardRequest} objects.
      * <p>
      * <p>
-     * The method uses a {@link CsvMapper} and a custom {@link CsvSchema} configuration
+     * The method uses the shared CSV reader and schema from the {@link ObjectReaderRegistry}
      * to read, map, and convert the input CSV data into instances of {@link AwardRequest}.
      * It ensures that CSV headers are correctly processed and supports reordering of columns.
      * </p>
@@ -59,21 +63,9 @@ public class AwardServiceImpl implements AwardService {
      */
     protected List<AwardRequest> readAwards(@NotNull @NotBlank String csvData)
             throws FatalException {
-        // Prepare the CSV mapper and schema
-        CsvMapper csvMapper = new CsvMapper();
-        csvMapper.registerModule(new JavaTimeModule());
-        CsvSchema csvSchema = csvMapper
-                .schemaFor(AwardRequestForCSV.class)
-                .withArrayElementSeparator("|")
-                .withColumnReordering(true)
-                .withHeader();
-        csvMapper.addMixIn(AwardRequest.class, AwardRequestForCSV.class);
-
-        // Read the CSV data using the mapper and schema
+        // Read the CSV data using the pre-configured reader and schema
         try (MappingIterator<AwardRequest> requestMappingIterator =
-                     csvMapper.readerFor(AwardRequest.class)
-                             .with(csvSchema)
-                             .readValues(csvData)) {
+                     objectReaderRegistry.getAwardRequestReader().readValues(csvData)) {
             return requestMappingIterator.readAll();
 
         } catch (MismatchedInputException | IllegalArgumentException | CsvReadException e) {
@@ -0,0 +1,57 @@
+package za.co.hpsc.web.services.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import za.co.hpsc.web.domain.Club;
+import za.co.hpsc.web.models.ipsc.common.holders.data.ClubDictionary;
+import za.co.hpsc.web.repositories.ClubRepository;
+import za.co.hpsc.web.services.ClubDictionaryService;
+
+@Slf4j
+@Service
+public class ClubDictionaryServiceImpl implements ClubDictionaryService, ApplicationRunner {
+    protected final ClubRepository clubRepository;
+
+    // Replaced as a whole on every change; writers are serialised on this service
+    private volatile ClubDictionary dictionary;
+
+    public ClubDictionaryServiceImpl(ClubRepository clubRepository) {
+        this.clubRepository = clubRepository;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        refresh();
+    }
+
+    @Override
+    public ClubDictionary getDictionary() {
+        ClubDictionary currentDictionary = dictionary;
+        if (currentDictionary == null) {
+            synchronized (this) {
+                if (dictionary == null) {
+                    refresh();
+                }
+                currentDictionary = dictionary;
+            }
+        }
+        return currentDictionary;
+    }
+
+    @Override
+    public synchronized void refresh() {
+        dictionary = new ClubDictionary(clubRepository.findAll(Sort.by("id")));
+        log.info("Loaded {} clubs into the club dictionary", dictionary.size());
+    }
+
+    @Override
+    public synchronized void register(Club club) {
+        if ((club == null) || (club.getId() == null)) {
+            return;
+        }
+        dictionary = getDictionary().with(club);
+    }
+}
@@ -2,8 +2,12 @@ package za.co.hpsc.web.services.impl;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import za.co.hpsc.web.constants.IpscConstants;
 import za.co.hpsc.web.domain.Club;
+import za.co.hpsc.web.enums.ClubIdentifier;
+import za.co.hpsc.web.models.ipsc.common.holders.data.ClubDictionary;
 import za.co.hpsc.web.repositories.ClubRepository;
+import za.co.hpsc.web.services.ClubDictionaryService;
 import za.co.hpsc.web.services.ClubEntityService;
 
 import java.util.Optional;
@@ -12,14 +16,22 @@ import java.util.Optional;
 @Service
 public class ClubEntityServiceImpl implements ClubEntityService {
     protected final ClubRepository clubRepository;
+    protected final ClubDictionaryService clubDictionaryService;
 
-    public ClubEntityServiceImpl(ClubRepository clubRepository) {
+    public ClubEntityServiceImpl(ClubRepository clubRepository, ClubDictionaryService clubDictionaryService) {
         this.clubRepository = clubRepository;
+        this.clubDictionaryService = clubDictionaryService;
     }
 
     @Override
     public Optional<Club> findClubById(Long clubId) {
-        return clubRepository.findById(clubId);
+        Optional<Club> optionalClub = clubDictionaryService.getDictionary().findById(clubId);
+        if (optionalClub.isPresent()) {
+            return optionalClub;
+        }
+
+        // Falls back to the database for clubs added since the dictionary was loaded
+        return register(clubRepository.findById(clubId));
     }
 
     @Override
@@ -28,7 +40,13 @@ public class ClubEntityServiceImpl implements ClubEntityService {
             return Optional.empty();
         }
 
-        Optional<Club> optionalClub = Optional.empty();
+        // Attempt to find the club by name, then by abbreviation, in the dictionary
+        ClubDictionary dictionary = clubDictionaryService.getDictionary();
+        Optional<Club> optionalClub = dictionary.findByName(name)
+                .or(() -> dictionary.findByAbbreviation(abbreviation));
+        if (optionalClub.isPresent()) {
+            return optionalClub;
+        }
 
         // Attempt to find the club by name
         if ((name != null) && (!name.isBlank())) {
@@ -44,11 +62,30 @@ public class ClubEntityServiceImpl implements ClubEntityService {
             return null;
         });
 
-        return Optional.ofNullable(club);
+        return register(Optional.ofNullable(club));
     }
 
     @Override
     public Optional<Club> findClubByNameOrAbbreviation(String name) {
         return findClubByNameOrAbbreviation(name, name);
     }
+
+    @Override
+    public Optional<Club> findClubByIdentifier(ClubIdentifier clubIdentifier) {
+        if ((clubIdentifier == null) || (IpscConstants.EXCLUDE_CLUB_IDENTIFIERS.contains(clubIdentifier))) {
+            return Optional.empty();
+        }
+
+        Optional<Club> optionalClub = clubDictionaryService.getDictionary().findByIdentifier(clubIdentifier);
+        if (optionalClub.isPresent()) {
+            return optionalClub;
+        }
+        return findClubByNameOrAbbreviation(clubIdentifier.getName(), clubIdentifier.getAbbreviation());
+    }
+
+    // Adds a club found in the database to the dictionary
+    protected Optional<Club> register(Optional<Club> optionalClub) {
+        optionalClub.ifPresent(clubDictionaryService::register);
+        return optionalClub;
+    }
 }
@@ -5,18 +5,20 @@ import org.apache.commons.lang3.math.NumberUtils;
 import org.springframework.stereotype.Service;
 import za.co.hpsc.web.constants.IpscConstants;
 import za.co.hpsc.web.domain.Competitor;
+import za.co.hpsc.web.models.ipsc.common.data.CompetitorLookup;
 import za.co.hpsc.web.repositories.CompetitorRepository;
 import za.co.hpsc.web.services.CompetitorEntityService;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 public class CompetitorEntityServiceImpl implements CompetitorEntityService {
+    // The maximum number of values in a single IN (...) clause
+    protected static final int IN_CLAUSE_BATCH_SIZE = 500;
+
     protected final CompetitorRepository competitorRepository;
 
     public CompetitorEntityServiceImpl(CompetitorRepository competitorRepository) {
@@ -35,23 +37,106 @@ public class CompetitorEntityServiceImpl implements CompetitorEntityService {
         List<Competitor> competitorList = new ArrayList<>();
 
         // Attempts competitor lookup by SAPSA number or alias
-        boolean hasIpscAlias = false;
-        if ((icsAlias != null) && (!icsAlias.isBlank()) && (NumberUtils.isCreatable((icsAlias)))) {
-            Integer sapsaNumber = Integer.parseInt(icsAlias);
-            if (!IpscConstants.EXCLUDE_ICS_ALIAS.contains(icsAlias)) {
-                competitorList = competitorRepository.findAllBySapsaNumber(sapsaNumber);
-            }
+        Optional<Integer> sapsaNumber = getSapsaNumber(icsAlias);
+        if (sapsaNumber.isPresent()) {
+            competitorList = competitorRepository.findAllBySapsaNumber(sapsaNumber.get());
         }
 
         // If the competitor was not found
-        if (competitorList.isEmpty()) {
+        boolean hasIpscAlias = !competitorList.isEmpty();
+        if (!hasIpscAlias) {
             // Attempt to find the competitor by first and last name
             competitorList = competitorRepository.findAllByFirstNameAndLastName(firstName, lastName);
+        }
+
+        return selectCompetitor(competitorList, hasIpscAlias, dateTimeOfBirth);
+    }
+
+    @Override
+    public Map<CompetitorLookup, Competitor> findCompetitors(Collection<CompetitorLookup> competitorLookups) {
+        Map<CompetitorLookup, Competitor> competitorMap = new HashMap<>();
+        if (competitorLookups == null) {
+            return competitorMap;
+        }
+        List<CompetitorLookup> lookupList = competitorLookups.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (lookupList.isEmpty()) {
+            return competitorMap;
+        }
+
+        // Attempts competitor lookup by all SAPSA numbers at once
+        Map<CompetitorLookup, Integer> sapsaNumberMap = new HashMap<>();
+        lookupList.forEach(lookup -> getSapsaNumber(lookup.icsAlias())
+                .ifPresent(sapsaNumber -> sapsaNumberMap.put(lookup, sapsaNumber)));
+        Map<Integer, List<Competitor>> competitorsBySapsaNumber = new HashMap<>();
+        partition(new ArrayList<>(new LinkedHashSet<>(sapsaNumberMap.values()))).forEach(sapsaNumbers ->
+                competitorRepository.findAllBySapsaNumberInOrderByIdAsc(sapsaNumbers).stream()
+                        .filter(Objects::nonNull)
+                        .forEach(competitor -> competitorsBySapsaNumber
+                                .computeIfAbsent(competitor.getSapsaNumber(), k -> new ArrayList<>())
+                                .add(competitor)));
+
+        // Resolves the competitors found by SAPSA number, and collects the rest for a name lookup
+        List<CompetitorLookup> nameLookupList = new ArrayList<>();
+        lookupList.forEach(lookup -> {
+            List<Competitor> competitorList =
+                    competitorsBySapsaNumber.getOrDefault(sapsaNumberMap.get(lookup), List.of());
             if (competitorList.isEmpty()) {
-                return Optional.empty();
+                nameLookupList.add(lookup);
+            } else {
+                selectCompetitor(competitorList, true, lookup.dateTimeOfBirth())
+                        .ifPresent(competitor -> competitorMap.put(lookup, competitor));
+            }
+        });
+
+        // Attempts competitor lookup by all first and last names at once
+        Map<String, List<Competitor>> competitorsByName = findAllByNames(nameLookupList);
+        nameLookupList.forEach(lookup -> {
+            List<Competitor> competitorList =
+                    competitorsByName.getOrDefault(getNameKey(lookup.firstName(), lookup.lastName()), List.of());
+            selectCompetitor(competitorList, false, lookup.dateTimeOfBirth())
+                    .ifPresent(competitor -> competitorMap.put(lookup, competitor));
+        });
+
+        return competitorMap;
+    }
+
+    /**
+     * Returns the SAPSA number represented by an ICS alias, unless the alias is excluded.
+     *
+     * @param icsAlias the ICS alias.
+     * @return an {@code Optional} containing the SAPSA number, or empty if the alias is not a
+     * usable SAPSA number.
+     */
+    protected Optional<Integer> getSapsaNumber(String icsAlias) {
+        if ((icsAlias != null) && (!icsAlias.isBlank()) && (NumberUtils.isCreatable((icsAlias)))) {
+            Integer sapsaNumber = Integer.parseInt(icsAlias);
+            if (!IpscConstants.EXCLUDE_ICS_ALIAS.contains(icsAlias)) {
+                return Optional.of(sapsaNumber);
             }
-        } else {
-            hasIpscAlias = true;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Selects a single competitor from the candidates found by SAPSA number or by name.
+     *
+     * <p>
+     * Candidates found by name are narrowed down by date of birth, if present. Candidates with a
+     * SAPSA number are preferred, and the first remaining candidate is selected.
+     * </p>
+     *
+     * @param competitorList  the candidate competitors.
+     * @param hasIpscAlias    whether the candidates were found by SAPSA number.
+     * @param dateTimeOfBirth the date and time of birth of the competitor. Can be null.
+     * @return an {@code Optional} containing the selected competitor, or empty if there is none.
+     */
+    protected Optional<Competitor> selectCompetitor(List<Competitor> competitorList, boolean hasIpscAlias,
+                                                    LocalDateTime dateTimeOfBirth) {
+        if ((competitorList == null) || competitorList.isEmpty()) {
+            return Optional.empty();
         }
 
         // Filters list by date of birth if present
@@ -90,4 +175,57 @@ public class CompetitorEntityServiceImpl implements CompetitorEntityService {
 
         return finalCompetitorList.stream().filter(Objects::nonNull).findFirst();
     }
+
+    /**
+     * Finds all competitors with any of the first and last name pairs of the given lookups.
+     *
+     * <p>
+     * Each batch of names is fetched with a single query on the first names and last names,
+     * which may return other combinations of them; those are never matched to a lookup.
+     * Names are compared ignoring case, as the database collation does.
+     * </p>
+     *
+     * @param competitorLookups the lookups whose names should be found.
+     * @return the matching competitors, in ID order, keyed by their normalised name.
+     */
+    protected Map<String, List<Competitor>> findAllByNames(List<CompetitorLookup> competitorLookups) {
+        Map<String, List<Competitor>> competitorsByName = new HashMap<>();
+        List<CompetitorLookup> namedLookups = competitorLookups.stream()
+                .filter(lookup -> (lookup.firstName() != null) && (lookup.lastName() != null))
+                .toList();
+        if (namedLookups.isEmpty()) {
+            return competitorsByName;
+        }
+
+        // Fetches each batch of names, removing competitors found by more than one batch
+        Map<Long, Competitor> competitorsById = new HashMap<>();
+        partition(namedLookups).forEach(lookups -> competitorRepository
+                .findAllByFirstNameInAndLastNameInOrderByIdAsc(
+                        lookups.stream().map(CompetitorLookup::firstName).collect(Collectors.toSet()),
+                        lookups.stream().map(CompetitorLookup::lastName).collect(Collectors.toSet()))
+                .stream()
+                .filter(Objects::nonNull)
+                .forEach(competitor -> competitorsById.putIfAbsent(competitor.getId(), competitor)));
+
+        competitorsById.values().stream()
+                .sorted(Comparator.comparing(Competitor::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+                .forEach(competitor -> competitorsByName
+                        .computeIfAbsent(getNameKey(competitor.getFirstName(), competitor.getLastName()),
+                                k -> new ArrayList<>())
+                        .add(competitor));
+        return competitorsByName;
+    }
+
+    protected static String getNameKey(String firstName, String lastName) {
+        return Objects.toString(firstName, "").toLowerCase(Locale.ROOT) + "|" +
+                Objects.toString(lastName, "").toLowerCase(Locale.ROOT);
+    }
+
+    protected static <T> List<List<T>> partition(List<T> list) {
+        List<List<T>> partitions = new ArrayList<>();
+        for (int i = 0; i < list.size(); i += IN_CLAUSE_BATCH_SIZE) {
+            partitions.add(list.subList(i, Math.min(list.size(), i + IN_CLAUSE_BATCH_SIZE)));
+        }
+        return partitions;
+    }
 }
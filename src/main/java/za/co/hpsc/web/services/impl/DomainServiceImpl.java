@@ -5,6 +5,7 @@ import org.springframework.stereotype.Service;
 import za.co.hpsc.web.constants.IpscConstants;
 import za.co.hpsc.web.domain.Club;
 import za.co.hpsc.web.enums.ClubIdentifier;
+import za.co.hpsc.web.models.ipsc.common.data.CompetitorLookup;
 import za.co.hpsc.web.models.ipsc.common.data.DtoMapping;
 import za.co.hpsc.web.models.ipsc.common.dto.*;
 import za.co.hpsc.web.models.ipsc.common.holders.dto.MatchResultsDto;
@@ -92,6 +93,41 @@ public class DomainServiceImpl implements DomainService {
         return Optional.empty();
     }
 
+    @Override
+    public void resolveSharedEntities(MatchResultsDto matchResults) {
+        if (matchResults == null) {
+            return;
+        }
+
+        // Resolves a new club by its name or abbreviation
+        ClubDto clubDto = matchResults.getClub();
+        if ((clubDto != null) && (clubDto.getId() == null) && (clubDto.getName() != null)) {
+            clubEntityService.findClubByNameOrAbbreviation(clubDto.getName(), clubDto.getAbbreviation())
+                    .ifPresent(club -> clubDto.setId(club.getId()));
+        }
+
+        if (matchResults.getCompetitors() == null) {
+            return;
+        }
+
+        // Groups the new competitors by their lookup
+        Map<CompetitorLookup, List<CompetitorDto>> newCompetitorMap = new HashMap<>();
+        matchResults.getCompetitors().stream()
+                .filter(Objects::nonNull)
+                .filter(competitorDto -> competitorDto.getId() == null)
+                .forEach(competitorDto -> newCompetitorMap
+                        .computeIfAbsent(getCompetitorLookup(competitorDto), k -> new ArrayList<>())
+                        .add(competitorDto));
+        if (newCompetitorMap.isEmpty()) {
+            return;
+        }
+
+        // Resolves all new competitors by their SAPSA number or names at once
+        competitorEntityService.findCompetitors(newCompetitorMap.keySet())
+                .forEach((competitorLookup, competitor) -> newCompetitorMap.get(competitorLookup)
+                        .forEach(competitorDto -> competitorDto.setId(competitor.getId())));
+    }
+
     // TODO: add Javadoc
     @Override
     public Optional<MatchOnlyResultsDto> initMatchOnlyEntities(MatchOnlyDto matchOnlyDto) {
@@ -111,6 +147,18 @@ public class DomainServiceImpl implements DomainService {
         return Optional.of(matchOnlyResultsDto);
     }
 
+    /**
+     * Creates the lookup used to resolve a competitor DTO to an existing competitor.
+     *
+     * @param competitorDto the competitor DTO, as mapped from its member.
+     * @return lookup with the competitor's ICS alias, names and date of birth
+     */
+    protected CompetitorLookup getCompetitorLookup(CompetitorDto competitorDto) {
+        return new CompetitorLookup(competitorDto.getCompetitorNumber(), competitorDto.getFirstName(),
+                competitorDto.getLastName(),
+                ((competitorDto.getDateOfBirth() != null) ? competitorDto.getDateOfBirth().atStartOfDay() : null));
+    }
+
     /**
      * Initialises a Club entity based on the provided ClubDto.
      * If the ClubDto contains a valid ID, attempts to find the existing Club entity
@@ -148,7 +196,7 @@ public class DomainServiceImpl implements DomainService {
         }
 
         // Find the club entity if present
-        return initClubEntity(clubIdentifier.getName(), clubIdentifier.getAbbreviation());
+        return clubEntityService.findClubByIdentifier(clubIdentifier).map(ClubDto::new);
     }
 
     // TODO: add Javadoc
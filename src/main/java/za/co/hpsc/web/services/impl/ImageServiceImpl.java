@@ -2,17 +2,15 @@ package za.co.hpsc.web.services.impl;
 
 import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
-import com.fasterxml.jackson.dataformat.csv.CsvMapper;
 import com.fasterxml.jackson.dataformat.csv.CsvReadException;
-import com.fasterxml.jackson.dataformat.csv.CsvSchema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import za.co.hpsc.web.configs.ObjectReaderRegistry;
 import za.co.hpsc.web.exceptions.FatalException;
 import za.co.hpsc.web.exceptions.ValidationException;
 import za.co.hpsc.web.models.image.request.ImageRequest;
-import za.co.hpsc.web.models.image.request.ImageRequestForCsv;
 import za.co.hpsc.web.models.image.response.ImageResponse;
 import za.co.hpsc.web.models.image.response.ImageResponseHolder;
 import za.co.hpsc.web.services.ImageService;
@@ -24,6 +22,13 @@ import java.util.Objects;
 @Slf4j
 @Service
 public class ImageServiceImpl implements ImageService {
+
+    protected final ObjectReaderRegistry objectReaderRegistry;
+
+    public ImageServiceImpl(ObjectReaderRegistry objectReaderRegistry) {
+        this.objectReaderRegistry = objectReaderRegistry;
+    }
+
     @Override
     public ImageResponseHolder processCsv(String csvData)
             throws FatalException {
@@ -44,7 +49,7 @@ public class ImageServiceImpl implements ImageService {
      * {@link ImageRequest} objects.
      *
      * <p>
-     * The method uses a {@link CsvMapper} and a custom {@link CsvSchema} configuration
+     * The method uses the shared CSV reader and schema from the {@link ObjectReaderRegistry}
      * to read, map, and convert the input CSV data into instances of {@link ImageRequest}.
      * It ensures that CSV headers are correctly processed and supports reordering of columns.
      * </p>
@@ -60,20 +65,9 @@ public class ImageServiceImpl implements ImageService {
     protected List<ImageRequest> readImages(@NotNull @NotBlank String csvData)
             throws FatalException {
 
-        // Prepare the CSV mapper and schema
-        CsvMapper csvMapper = new CsvMapper();
-        CsvSchema csvSchema = csvMapper
-                .schemaFor(ImageRequestForCsv.class)
-                .withArrayElementSeparator("|")
-                .withColumnReordering(true)
-                .withHeader();
-        csvMapper.addMixIn(ImageRequest.class, ImageRequestForCsv.class);
-
-        // Read the CSV data using the mapper and schema
+        // Read the CSV data using the pre-configured reader and schema
         try (MappingIterator<ImageRequest> requestMappingIterator =
-                     csvMapper.readerFor(ImageRequest.class)
-                             .with(csvSchema)
-                             .readValues(csvData)) {
+                     objectReaderRegistry.getImageRequestReader().readValues(csvData)) {
             return requestMappingIterator.readAll();
 
         } catch (MismatchedInputException | IllegalArgumentException | CsvReadException e) {
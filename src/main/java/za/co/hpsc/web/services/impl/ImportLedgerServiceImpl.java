@@ -0,0 +1,262 @@
+package za.co.hpsc.web.services.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import za.co.hpsc.web.domain.ImportLedger;
+import za.co.hpsc.web.enums.ImportLedgerType;
+import za.co.hpsc.web.models.ipsc.common.data.MatchSectionHash;
+import za.co.hpsc.web.models.ipsc.common.holders.records.IpscMatchRecordHolder;
+import za.co.hpsc.web.models.ipsc.common.records.MatchRecord;
+import za.co.hpsc.web.models.ipsc.common.response.IpscResponse;
+import za.co.hpsc.web.models.ipsc.common.response.MatchResponse;
+import za.co.hpsc.web.repositories.ImportLedgerRepository;
+import za.co.hpsc.web.services.ImportLedgerService;
+import za.co.hpsc.web.utils.IpscUtil;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+@Slf4j
+@Service
+public class ImportLedgerServiceImpl implements ImportLedgerService {
+    protected static final String HASH_ALGORITHM = "SHA-256";
+
+    protected final ImportLedgerRepository importLedgerRepository;
+
+    // Properties are written in a fixed order, so that equal content always has the same hash
+    private final ObjectWriter jsonWriter;
+    private final ObjectReader matchRecordReader;
+    private final ObjectReader matchSectionListReader;
+
+    public ImportLedgerServiceImpl(ImportLedgerRepository importLedgerRepository) {
+        this.importLedgerRepository = importLedgerRepository;
+
+        JsonMapper jsonMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                .build();
+        this.jsonWriter = jsonMapper.writer();
+        this.matchRecordReader = jsonMapper.readerFor(MatchRecord.class);
+        this.matchSectionListReader = jsonMapper.readerFor(new TypeReference<List<MatchSectionHash>>() {
+        });
+    }
+
+    @Override
+    public String hashContent(String content) {
+        if (content == null) {
+            return null;
+        }
+        return hash(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public MessageDigest createContentDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(HASH_ALGORITHM + " is not supported.", e);
+        }
+    }
+
+    @Override
+    public String hashContent(MessageDigest contentDigest) {
+        if (contentDigest == null) {
+            return null;
+        }
+        return HexFormat.of().formatHex(contentDigest.digest());
+    }
+
+    @Override
+    public Optional<MatchSectionHash> hashMatchSection(IpscResponse ipscResponse) {
+        if ((ipscResponse == null) || (ipscResponse.getMatch() == null)) {
+            return Optional.empty();
+        }
+
+        try {
+            // The response holds everything the match is mapped from
+            byte[] section = jsonWriter.writeValueAsBytes(ipscResponse);
+            return Optional.of(new MatchSectionHash(getMatchKey(ipscResponse.getMatch()), hash(section)));
+        } catch (JsonProcessingException e) {
+            log.warn("Unable to hash the match section: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<List<IpscMatchRecordHolder>> findImport(String contentHash) {
+        if (contentHash == null) {
+            return Optional.empty();
+        }
+
+        Optional<ImportLedger> optionalImportLedger =
+                importLedgerRepository.findByLedgerTypeAndLedgerKey(ImportLedgerType.CAB_FILE, contentHash);
+        if (optionalImportLedger.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<MatchSectionHash> matchSections;
+        try {
+            matchSections = matchSectionListReader.readValue(optionalImportLedger.get().getPayload());
+        } catch (JsonProcessingException e) {
+            log.warn("Unable to read the import ledger entry of the CAB file: {}", e.getMessage());
+            return Optional.empty();
+        }
+
+        // Resolves the matches of the CAB file that produced a record, all at once
+        Map<MatchSectionHash, MatchRecord> matchRecords = findUnchangedMatchRecords(matchSections.stream()
+                .filter(matchSection -> matchSection.sectionHash() != null)
+                .toList());
+
+        // Assembles the holders as the import did; the i-th holder exposes the records of the
+        // first i matches
+        List<IpscMatchRecordHolder> ipscMatchRecordHolders = new ArrayList<>();
+        List<MatchRecord> matchRecordList = Arrays.asList(new MatchRecord[matchSections.size()]);
+        int matchRecordCount = 0;
+        for (MatchSectionHash matchSection : matchSections) {
+            if (matchSection.sectionHash() != null) {
+                // A match that has changed, or was evicted, since invalidates the whole CAB file
+                MatchRecord matchRecord = matchRecords.get(matchSection);
+                if (matchRecord == null) {
+                    return Optional.empty();
+                }
+                matchRecordList.set(matchRecordCount++, matchRecord);
+            }
+
+            ipscMatchRecordHolders.add(new IpscMatchRecordHolder(
+                    Collections.unmodifiableList(matchRecordList.subList(0, matchRecordCount))));
+        }
+
+        return Optional.of(ipscMatchRecordHolders);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<MatchSectionHash, MatchRecord> findUnchangedMatchRecords(
+            Collection<MatchSectionHash> matchSectionHashes) {
+
+        Map<MatchSectionHash, MatchRecord> matchRecords = new HashMap<>();
+        if (matchSectionHashes == null) {
+            return matchRecords;
+        }
+
+        Set<String> matchKeys = new HashSet<>();
+        matchSectionHashes.stream()
+                .filter(Objects::nonNull)
+                .filter(matchSection -> (matchSection.matchKey() != null) && (matchSection.sectionHash() != null))
+                .forEach(matchSection -> matchKeys.add(matchSection.matchKey()));
+        if (matchKeys.isEmpty()) {
+            return matchRecords;
+        }
+
+        // Only a match recorded with the same section hash is unchanged
+        for (ImportLedger importLedger :
+                importLedgerRepository.findAllByLedgerTypeAndLedgerKeyIn(ImportLedgerType.MATCH, matchKeys)) {
+            try {
+                MatchRecord matchRecord = matchRecordReader.readValue(importLedger.getPayload());
+                matchRecords.put(new MatchSectionHash(importLedger.getLedgerKey(), importLedger.getContentHash()),
+                        matchRecord);
+            } catch (JsonProcessingException e) {
+                log.warn("Unable to read the import ledger entry of match {}: {}", importLedger.getMatchId(),
+                        e.getMessage());
+            }
+        }
+
+        matchRecords.keySet().retainAll(new HashSet<>(matchSectionHashes));
+        return matchRecords;
+    }
+
+    @Override
+    @Transactional
+    public void recordMatch(MatchSectionHash matchSectionHash, Long matchId, MatchRecord matchRecord) {
+        if ((matchSectionHash == null) || (matchSectionHash.matchKey() == null) ||
+                (matchSectionHash.sectionHash() == null) || (matchRecord == null)) {
+            return;
+        }
+
+        saveEntry(ImportLedgerType.MATCH, matchSectionHash.matchKey(), matchSectionHash.sectionHash(), matchId,
+                matchRecord);
+    }
+
+    @Override
+    @Transactional
+    public void recordImport(String contentHash, List<MatchSectionHash> matchSections) {
+        if ((contentHash == null) || (matchSections == null)) {
+            return;
+        }
+
+        saveEntry(ImportLedgerType.CAB_FILE, contentHash, contentHash, null, matchSections);
+    }
+
+    @Override
+    @Transactional
+    public void evictMatch(Long matchId) {
+        if (matchId == null) {
+            return;
+        }
+
+        int evicted = importLedgerRepository.deleteAllByMatchId(matchId);
+        if (evicted > 0) {
+            log.info("Evicted match {} from the import ledger", matchId);
+        }
+    }
+
+    /**
+     * Creates or replaces the ledger entry under the given key.
+     *
+     * @param ledgerType  the type of the entry.
+     * @param ledgerKey   the key of the entry.
+     * @param contentHash the content hash the entry was recorded from.
+     * @param matchId     the unique database ID of the match. Can be null.
+     * @param payload     the payload to be written as JSON.
+     */
+    protected void saveEntry(ImportLedgerType ledgerType, String ledgerKey, String contentHash, Long matchId,
+                             Object payload) {
+        String json;
+        try {
+            json = jsonWriter.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.warn("Unable to write the import ledger entry {}: {}", ledgerKey, e.getMessage());
+            return;
+        }
+
+        ImportLedger importLedger = importLedgerRepository.findByLedgerTypeAndLedgerKey(ledgerType, ledgerKey)
+                .orElseGet(() -> new ImportLedger(ledgerType, ledgerKey));
+        importLedger.setContentHash(contentHash);
+        importLedger.setMatchId(matchId);
+        importLedger.setPayload(json);
+        importLedgerRepository.save(importLedger);
+    }
+
+    /**
+     * Returns the natural key of a match, its name and scheduled date, the same natural key it
+     * is resolved by.
+     *
+     * @param matchResponse the match.
+     * @return the natural key of the match.
+     */
+    protected String getMatchKey(MatchResponse matchResponse) {
+        return IpscUtil.matchKey(matchResponse.getMatchName(), matchResponse.getMatchDate());
+    }
+
+    /**
+     * Computes the hexadecimal SHA-256 hash of the given bytes.
+     *
+     * @param bytes the bytes to be hashed.
+     * @return the hexadecimal hash.
+     */
+    protected String hash(byte[] bytes) {
+        return HexFormat.of().formatHex(createContentDigest().digest(bytes));
+    }
+}
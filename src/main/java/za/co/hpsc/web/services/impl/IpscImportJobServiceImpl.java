@@ -0,0 +1,218 @@
+package za.co.hpsc.web.services.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import za.co.hpsc.web.configs.ExecutorConfig;
+import za.co.hpsc.web.exceptions.FatalException;
+import za.co.hpsc.web.exceptions.ServiceUnavailableException;
+import za.co.hpsc.web.exceptions.ValidationException;
+import za.co.hpsc.web.models.ipsc.common.holders.records.IpscMatchRecordHolder;
+import za.co.hpsc.web.models.ipsc.job.ImportJob;
+import za.co.hpsc.web.models.ipsc.job.ImportJobResponse;
+import za.co.hpsc.web.services.IpscImportJobService;
+import za.co.hpsc.web.services.IpscService;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+public class IpscImportJobServiceImpl implements IpscImportJobService {
+
+    protected static final String CAB_FILE_PREFIX = "winmss-import-";
+    protected static final String CAB_FILE_SUFFIX = ".cab";
+
+    protected final IpscService ipscService;
+    protected final ExecutorService importJobExecutor;
+    protected final Map<UUID, ImportJob> importJobs = new ConcurrentHashMap<>();
+    protected final Semaphore importSlots;
+
+    @Value("${hpsc.web.app.import.jobs.retention-minutes:60}")
+    protected long retentionMinutes = 60;
+
+    @Value("${hpsc.web.app.import.jobs.retry-after-seconds:30}")
+    protected long retryAfterSeconds = 30;
+
+    public IpscImportJobServiceImpl(IpscService ipscService,
+                                    @Qualifier(ExecutorConfig.IMPORT_JOB_EXECUTOR)
+                                    ExecutorService importJobExecutor,
+                                    @Value("${hpsc.web.app.import.jobs.workers:2}") int workers,
+                                    @Value("${hpsc.web.app.import.jobs.queue-capacity:10}") int queueCapacity) {
+        this.ipscService = ipscService;
+        this.importJobExecutor = importJobExecutor;
+        // One slot for every job the executor can run or queue
+        this.importSlots = new Semaphore(Math.max(1, workers) + Math.max(1, queueCapacity));
+    }
+
+    @Override
+    public ImportJobResponse submitImport(InputStream cabFileStream)
+            throws ValidationException, FatalException {
+
+        if (cabFileStream == null) {
+            log.error("The provided cab file stream is null.");
+            throw new ValidationException("The provided CAB file can not be null or empty.");
+        }
+
+        // Removes finished jobs that have expired
+        evictExpiredJobs();
+
+        // Reserves a place in the queue before the upload is read, so a full queue is answered at once
+        if (!importSlots.tryAcquire()) {
+            log.warn("Import job could not be queued: no import slot is available.");
+            throw new ServiceUnavailableException("The import queue is full; please try again later.",
+                    retryAfterSeconds, null);
+        }
+
+        // The request body is gone once the job is queued, so it is spooled to a file for the job
+        Path cabFile;
+        try {
+            cabFile = spoolCabFile(cabFileStream);
+        } catch (RuntimeException e) {
+            importSlots.release();
+            throw e;
+        }
+
+        // Queues the job on the bounded worker pool; the slot is released once the job has finished
+        ImportJob importJob = new ImportJob(UUID.randomUUID());
+        importJobs.put(importJob.getJobId(), importJob);
+        try {
+            importJobExecutor.execute(() -> {
+                try {
+                    runImport(importJob, cabFile);
+                } finally {
+                    importSlots.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            importJobs.remove(importJob.getJobId());
+            deleteCabFile(cabFile);
+            importSlots.release();
+            log.warn("Import job could not be queued: {}", e.getMessage());
+            throw new ServiceUnavailableException("The import queue is full; please try again later.",
+                    retryAfterSeconds, e);
+        }
+
+        log.info("Import job {} queued.", importJob.getJobId());
+        return new ImportJobResponse(importJob);
+    }
+
+    @Override
+    public Optional<ImportJobResponse> getImportJob(UUID jobId) {
+        if (jobId == null) {
+            return Optional.empty();
+        }
+        // A finished job past its retention is treated as gone, even before the next eviction
+        LocalDateTime expiry = getExpiry();
+        return Optional.ofNullable(importJobs.get(jobId))
+                .filter(importJob -> !importJob.isFinishedBefore(expiry))
+                .map(ImportJobResponse::new);
+    }
+
+    /**
+     * Runs the import of a job and records its results or error.
+     *
+     * <p>
+     * The CAB file is streamed from its spooled file, which is deleted once the job has finished.
+     * </p>
+     *
+     * @param importJob the job being run.
+     * @param cabFile   the spooled WinMSS.cab file to be imported.
+     */
+    protected void runImport(ImportJob importJob, Path cabFile) {
+        importJob.start();
+        try (InputStream cabFileStream = new BufferedInputStream(Files.newInputStream(cabFile))) {
+            List<IpscMatchRecordHolder> results =
+                    ipscService.importWinMssCabStream(cabFileStream, importJob.getProgress());
+            importJob.complete(results);
+            log.info("Import job {} completed.", importJob.getJobId());
+        } catch (Exception e) {
+            log.error("Import job {} failed: {}", importJob.getJobId(), e.getMessage(), e);
+            importJob.fail(e.getMessage());
+        } finally {
+            deleteCabFile(cabFile);
+        }
+    }
+
+    /**
+     * Copies a submitted WinMSS.cab file to a temporary file, without holding it in memory.
+     *
+     * @param cabFileStream the stream containing the WinMSS.cab file.
+     * @return the path of the temporary file.
+     * @throws ValidationException if the CAB file is empty.
+     * @throws FatalException      if the CAB file can not be copied.
+     */
+    protected Path spoolCabFile(InputStream cabFileStream) throws ValidationException, FatalException {
+        Path cabFile = null;
+        try {
+            cabFile = Files.createTempFile(CAB_FILE_PREFIX, CAB_FILE_SUFFIX);
+            long size;
+            try (OutputStream outputStream = Files.newOutputStream(cabFile)) {
+                size = cabFileStream.transferTo(outputStream);
+            }
+            if (size == 0) {
+                log.error("The provided cab file is empty.");
+                throw new ValidationException("The provided CAB file can not be null or empty.");
+            }
+            return cabFile;
+        } catch (IOException e) {
+            deleteCabFile(cabFile);
+            log.error("The cab file could not be spooled: {}", e.getMessage(), e);
+            throw new FatalException("The provided CAB file could not be read.", e);
+        } catch (ValidationException e) {
+            deleteCabFile(cabFile);
+            throw e;
+        }
+    }
+
+    /**
+     * Deletes a spooled WinMSS.cab file, logging rather than failing if it can not be deleted.
+     *
+     * @param cabFile the path of the spooled file. Can be null.
+     */
+    protected void deleteCabFile(Path cabFile) {
+        if (cabFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(cabFile);
+        } catch (IOException e) {
+            log.warn("The spooled cab file {} could not be deleted: {}", cabFile, e.getMessage());
+        }
+    }
+
+    /**
+     * Removes the finished jobs that completed before the retention period.
+     *
+     * <p>
+     * Runs on a fixed delay, so that the results of finished jobs are released even when no
+     * further imports are submitted.
+     * </p>
+     */
+    @Scheduled(fixedDelayString = "${hpsc.web.app.import.jobs.eviction-interval-seconds:60}",
+            timeUnit = TimeUnit.SECONDS)
+    public void evictExpiredJobs() {
+        LocalDateTime expiry = getExpiry();
+        importJobs.values().removeIf(importJob -> importJob.isFinishedBefore(expiry));
+    }
+
+    protected LocalDateTime getExpiry() {
+        return LocalDateTime.now().minusMinutes(retentionMinutes);
+    }
+}
@@ -1,40 +1,79 @@
 package za.co.hpsc.web.services.impl;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import za.co.hpsc.web.domain.IpscMatch;
 import za.co.hpsc.web.exceptions.FatalException;
 import za.co.hpsc.web.exceptions.NonFatalException;
+import za.co.hpsc.web.exceptions.PreconditionFailedException;
 import za.co.hpsc.web.exceptions.ValidationException;
+import za.co.hpsc.web.models.ipsc.common.data.MatchSearchCriteria;
+import za.co.hpsc.web.models.ipsc.common.data.MatchSearchCursor;
+import za.co.hpsc.web.models.ipsc.common.data.MatchSearchRow;
+import za.co.hpsc.web.models.ipsc.common.data.SerializedResponse;
 import za.co.hpsc.web.models.ipsc.common.holders.data.MatchHolder;
+import za.co.hpsc.web.models.ipsc.common.holders.records.IpscMatchRecordHolder;
+import za.co.hpsc.web.models.ipsc.common.records.MatchRecord;
+import za.co.hpsc.web.models.ipsc.common.request.MatchSearchRequest;
 import za.co.hpsc.web.models.ipsc.match.dto.MatchOnlyDto;
 import za.co.hpsc.web.models.ipsc.match.holders.dto.MatchOnlyResultsDto;
 import za.co.hpsc.web.models.ipsc.match.request.MatchOnlyRequest;
+import za.co.hpsc.web.models.ipsc.match.response.MatchLookupResponse;
 import za.co.hpsc.web.models.ipsc.match.response.MatchOnlyResponse;
+import za.co.hpsc.web.models.ipsc.match.response.MatchSearchResponse;
 import za.co.hpsc.web.services.*;
 import za.co.hpsc.web.utils.ValueUtil;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 // TODO: add Javadoc
 @Slf4j
 @Service
 public class IpscMatchServiceImpl implements IpscMatchService {
+    protected static final String SEARCH_CURSOR_SEPARATOR = "|";
 
     protected final TransformationService transformationService;
     protected final DomainService domainService;
     protected final TransactionService transactionService;
 
     protected final MatchEntityService matchEntityService;
+    protected final MatchRecordService matchRecordService;
+    protected final ImportLedgerService importLedgerService;
+    protected final MatchResponseCacheService matchResponseCacheService;
+
+    @Value("${hpsc.web.app.matches.search.default-page-size:50}")
+    protected int defaultSearchPageSize;
+    @Value("${hpsc.web.app.matches.search.max-page-size:200}")
+    protected int maxSearchPageSize;
+    @Value("${hpsc.web.app.matches.batch.max-size:100}")
+    protected int maxBatchSize;
 
     public IpscMatchServiceImpl(TransformationService transformationService,
                                 DomainService domainService,
                                 TransactionService transactionService,
-                                MatchEntityService matchEntityService) {
+                                MatchEntityService matchEntityService,
+                                MatchRecordService matchRecordService,
+                                ImportLedgerService importLedgerService,
+                                MatchResponseCacheService matchResponseCacheService) {
         this.transformationService = transformationService;
         this.domainService = domainService;
         this.transactionService = transactionService;
         this.matchEntityService = matchEntityService;
+        this.matchRecordService = matchRecordService;
+        this.importLedgerService = importLedgerService;
+        this.matchResponseCacheService = matchResponseCacheService;
     }
 
     @Override
@@ -46,39 +85,202 @@ public class IpscMatchServiceImpl implements IpscMatchService {
     @Override
     public Optional<MatchOnlyResponse> updateMatch(Long matchId, MatchOnlyRequest matchOnlyRequest)
             throws FatalException {
-        return modifyMatchResponse(ValueUtil.nullAsZero(matchId), matchOnlyRequest, true);
+        return updateMatch(matchId, matchOnlyRequest, null);
+    }
+
+    @Override
+    public Optional<MatchOnlyResponse> updateMatch(Long matchId, MatchOnlyRequest matchOnlyRequest,
+                                                   Long expectedVersion) throws FatalException {
+        return modifyMatchResponse(ValueUtil.nullAsZero(matchId), matchOnlyRequest, true, expectedVersion);
     }
 
     @Override
     public Optional<MatchOnlyResponse> modifyMatch(Long matchId, MatchOnlyRequest matchOnlyRequest) throws FatalException {
-        return modifyMatchResponse(ValueUtil.nullAsZero(matchId), matchOnlyRequest, false);
+        return modifyMatch(matchId, matchOnlyRequest, null);
+    }
+
+    @Override
+    public Optional<MatchOnlyResponse> modifyMatch(Long matchId, MatchOnlyRequest matchOnlyRequest,
+                                                   Long expectedVersion) throws FatalException {
+        return modifyMatchResponse(ValueUtil.nullAsZero(matchId), matchOnlyRequest, false, expectedVersion);
     }
 
     @Override
     public Optional<MatchOnlyResponse> getMatch(Long matchId) {
-        // Find the match by id
-        Optional<IpscMatch> optionalIpscMatch = matchEntityService.findMatchById(matchId);
-        IpscMatch ipscMatch = optionalIpscMatch.orElseThrow(() ->
+        return Optional.of(initMatchResponse(findExistingMatch(matchId)));
+    }
+
+    @Override
+    public Optional<SerializedResponse> getSerializedMatch(Long matchId) {
+        // Answer from the response cache; only a miss loads and serialises the match
+        return Optional.of(matchResponseCacheService.getMatch(matchId, () -> {
+            IpscMatch ipscMatch = findExistingMatch(matchId);
+            return matchResponseCacheService.serialize(initMatchResponse(ipscMatch), ipscMatch.getVersion());
+        }));
+    }
+
+    @Override
+    public boolean isSerializedMatchCached(Long matchId) {
+        return matchResponseCacheService.containsMatch(matchId);
+    }
+
+    @Override
+    public Optional<Long> getMatchVersion(Long matchId) {
+        // Read the version only, without loading the match
+        Long version = matchEntityService.findMatchVersion(matchId).orElseThrow(() ->
                 new NonFatalException("Match with id %d not found".formatted(matchId)));
+        return Optional.of(version);
+    }
 
-        // Convert the match to a match response
-        Long matchIdNumber = ipscMatch.getId();
-        MatchOnlyDto matchOnlyDto = new MatchOnlyDto(ipscMatch);
-        return Optional.of(new MatchOnlyResponse(matchIdNumber, matchOnlyDto));
+    @Override
+    public Optional<List<MatchLookupResponse>> getMatches(List<Long> matchIds) {
+        if ((matchIds == null) || matchIds.isEmpty()) {
+            throw new ValidationException("Match ids cannot be null or empty");
+        }
+        if (matchIds.size() > maxBatchSize) {
+            throw new ValidationException("Cannot get more than %d matches at once".formatted(maxBatchSize));
+        }
+
+        // Find all the matches at once, without loading the match entities
+        Map<Long, MatchSearchRow> matchSearchRowsById = matchEntityService.findMatchRowsByIds(matchIds).stream()
+                .collect(Collectors.toMap(MatchSearchRow::id, Function.identity()));
+
+        // Answer every id in the requested order, marking the matches not found
+        List<MatchLookupResponse> matchLookupResponses = matchIds.stream()
+                .map(matchId -> {
+                    MatchSearchRow matchSearchRow = matchSearchRowsById.get(matchId);
+                    return (matchSearchRow != null) ?
+                            new MatchLookupResponse(matchId, true, new MatchOnlyResponse(matchSearchRow)) :
+                            new MatchLookupResponse(matchId, false, null);
+                })
+                .toList();
+        return Optional.of(matchLookupResponses);
+    }
+
+    @Override
+    public Optional<IpscMatchRecordHolder> getMatchResults(Long matchId) {
+        // Generate the match record from projections, without loading the match entities
+        MatchRecord matchRecord = matchRecordService.generateMatchRecord(matchId).orElseThrow(() ->
+                new NonFatalException("Match with id %d not found".formatted(matchId)));
+        return Optional.of(new IpscMatchRecordHolder(List.of(matchRecord)));
+    }
+
+    @Override
+    public Optional<SerializedResponse> getSerializedMatchResults(Long matchId) {
+        // Answer from the response cache; only a miss generates and serialises the match record
+        return Optional.of(matchResponseCacheService.getMatchResults(matchId, () ->
+                matchResponseCacheService.serialize(getMatchResults(matchId).orElseThrow(), null)));
+    }
+
+    @Override
+    public Optional<MatchSearchResponse> searchMatches(MatchSearchRequest matchSearchRequest) {
+        MatchSearchRequest request = (matchSearchRequest != null) ? matchSearchRequest : new MatchSearchRequest();
+        MatchSearchCriteria criteria = initMatchSearchCriteria(request);
+        MatchSearchCursor after = decodeSearchCursor(request.getAfter());
+        int pageSize = initSearchPageSize(request.getLimit());
+
+        // Reads one match past the page, which tells whether there is a next page
+        List<MatchSearchRow> matchSearchRows = matchEntityService.searchMatches(criteria, after, pageSize + 1);
+        boolean hasNextPage = (matchSearchRows.size() > pageSize);
+        List<MatchSearchRow> pageRows = hasNextPage ? matchSearchRows.subList(0, pageSize) : matchSearchRows;
+
+        // Convert the rows to match responses
+        List<MatchOnlyResponse> matchOnlyResponses = pageRows.stream()
+                .map(MatchOnlyResponse::new)
+                .toList();
+        String nextCursor = hasNextPage ? encodeSearchCursor(pageRows.getLast()) : null;
+        return Optional.of(new MatchSearchResponse(matchOnlyResponses, nextCursor));
+    }
+
+    protected MatchSearchCriteria initMatchSearchCriteria(MatchSearchRequest matchSearchRequest) {
+        // Parse the match ids
+        List<Long> matchIds = new ArrayList<>();
+        if (matchSearchRequest.getMatchId() != null) {
+            for (String matchId : matchSearchRequest.getMatchId()) {
+                if ((matchId == null) || matchId.isBlank()) {
+                    continue;
+                }
+                try {
+                    matchIds.add(Long.parseLong(matchId.trim()));
+                } catch (NumberFormatException e) {
+                    throw new ValidationException("Invalid match id '%s'".formatted(matchId), e);
+                }
+            }
+        }
+
+        // The end date is inclusive, so the search runs up to the start of the next day
+        if ((matchSearchRequest.getStartDate() != null) && (matchSearchRequest.getEndDate() != null) &&
+                matchSearchRequest.getStartDate().isAfter(matchSearchRequest.getEndDate())) {
+            throw new ValidationException("Start date cannot be after the end date");
+        }
+        LocalDateTime scheduledFrom = (matchSearchRequest.getStartDate() != null) ?
+                matchSearchRequest.getStartDate().atStartOfDay() : null;
+        LocalDateTime scheduledBefore = (matchSearchRequest.getEndDate() != null) ?
+                matchSearchRequest.getEndDate().plusDays(1).atStartOfDay() : null;
+
+        return new MatchSearchCriteria(matchIds, matchSearchRequest.getMatchName(), scheduledFrom,
+                scheduledBefore);
+    }
+
+    protected int initSearchPageSize(Integer limit) {
+        if (limit == null) {
+            return Math.min(defaultSearchPageSize, maxSearchPageSize);
+        }
+        if (limit <= 0) {
+            throw new ValidationException("Limit must be positive");
+        }
+        return Math.min(limit, maxSearchPageSize);
+    }
+
+    protected MatchSearchCursor decodeSearchCursor(String cursor) {
+        if ((cursor == null) || cursor.isBlank()) {
+            return null;
+        }
+
+        // The cursor is the scheduled date and id of the last match of the previous page
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(Pattern.quote(SEARCH_CURSOR_SEPARATOR), -1);
+            if (parts.length == 2) {
+                return new MatchSearchCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ValidationException("Invalid search cursor", e);
+        }
+        throw new ValidationException("Invalid search cursor");
+    }
+
+    protected String encodeSearchCursor(MatchSearchRow matchSearchRow) {
+        String cursor = matchSearchRow.scheduledDate() + SEARCH_CURSOR_SEPARATOR + matchSearchRow.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
     }
 
     protected Optional<MatchOnlyResponse> modifyMatchResponse(Long matchId,
                                                               MatchOnlyRequest matchOnlyRequest,
-                                                              boolean fullUpdate)
+                                                              boolean fullUpdate,
+                                                              Long expectedVersion)
             throws FatalException {
         // Merge the incoming payload with the persisted state for the given match id
         Optional<MatchOnlyResponse> optionalMergedMatchOnlyResponse =
-                mergeMatchResponses(matchId, matchOnlyRequest, fullUpdate);
+                mergeMatchResponses(matchId, matchOnlyRequest, fullUpdate, expectedVersion);
 
         // If a merged response is returned, persist it
         Optional<MatchOnlyResponse> optionalMatchOnlyResponse = Optional.empty();
         if (optionalMergedMatchOnlyResponse.isPresent()) {
-            optionalMatchOnlyResponse = saveMatchResponse(optionalMergedMatchOnlyResponse.get());
+            try {
+                optionalMatchOnlyResponse = saveMatchResponse(optionalMergedMatchOnlyResponse.get(),
+                        expectedVersion);
+            } catch (OptimisticLockingFailureException e) {
+                if (expectedVersion == null) {
+                    throw e;
+                }
+                // The match was written between the version check and the write
+                throw new PreconditionFailedException("Match with id %d has been modified".formatted(matchId),
+                        e);
+            }
+
+            // The match no longer matches what was imported, so the next import must persist it again
+            importLedgerService.evictMatch(matchId);
         }
 
         return optionalMatchOnlyResponse;
@@ -86,10 +288,16 @@ public class IpscMatchServiceImpl implements IpscMatchService {
 
     protected Optional<MatchOnlyResponse> mergeMatchResponses(Long matchId,
                                                               MatchOnlyRequest matchOnlyRequest,
-                                                              boolean fullUpdate) {
+                                                              boolean fullUpdate,
+                                                              Long expectedVersion) {
         // Fetch the persisted entity
         IpscMatch ipscMatch = findMatchById(matchId)
                 .orElseThrow(() -> new NonFatalException("Match with id %d not found".formatted(matchId)));
+
+        // Skip the write if the match has changed since its client read it
+        if ((expectedVersion != null) && !expectedVersion.equals(ipscMatch.getVersion())) {
+            throw new PreconditionFailedException("Match with id %d has been modified".formatted(matchId));
+        }
         Long matchIdNumber = ValueUtil.nullAsZero(matchId);
 
         // Convert to a match response and merge with the incoming payload
@@ -101,7 +309,14 @@ public class IpscMatchServiceImpl implements IpscMatchService {
 
     protected Optional<MatchOnlyResponse> saveMatchResponse(MatchOnlyRequest matchOnlyRequest)
             throws FatalException {
+        return saveMatchResponse(matchOnlyRequest, null);
+    }
+
+    protected Optional<MatchOnlyResponse> saveMatchResponse(MatchOnlyRequest matchOnlyRequest, Long expectedVersion)
+            throws FatalException {
         Optional<MatchOnlyDto> optionalMatchOnlyDto = transformationService.mapMatchOnly(matchOnlyRequest);
+        // The expected version is checked again when the match is written
+        optionalMatchOnlyDto.ifPresent(matchOnlyDto -> matchOnlyDto.setVersion(expectedVersion));
 
         Optional<MatchHolder> optionalMatchHolder = Optional.empty();
         if (optionalMatchOnlyDto.isPresent()) {
@@ -122,6 +337,19 @@ public class IpscMatchServiceImpl implements IpscMatchService {
         return optionalMatchOnlyResponse;
     }
 
+    protected IpscMatch findExistingMatch(Long matchId) {
+        // Find the match by id
+        return matchEntityService.findMatchById(matchId).orElseThrow(() ->
+                new NonFatalException("Match with id %d not found".formatted(matchId)));
+    }
+
+    protected MatchOnlyResponse initMatchResponse(IpscMatch ipscMatch) {
+        // Convert the match to a match response
+        Long matchIdNumber = ipscMatch.getId();
+        MatchOnlyDto matchOnlyDto = new MatchOnlyDto(ipscMatch);
+        return new MatchOnlyResponse(matchIdNumber, matchOnlyDto);
+    }
+
     protected Optional<IpscMatch> findMatchById(Long matchId) {
         // Normalise the match id to zero if null or negative
         if ((matchId == null) || (matchId <= 0)) {
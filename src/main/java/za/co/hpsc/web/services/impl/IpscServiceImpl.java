@@ -1,61 +1,197 @@
 package za.co.hpsc.web.services.impl;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
-import com.fasterxml.jackson.dataformat.xml.XmlMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import za.co.hpsc.web.configs.ExecutorConfig;
+import za.co.hpsc.web.configs.ObjectReaderRegistry;
+import za.co.hpsc.web.enums.ImportJobStatus;
 import za.co.hpsc.web.exceptions.FatalException;
 import za.co.hpsc.web.exceptions.ValidationException;
 import za.co.hpsc.web.models.ipsc.common.data.DtoMapping;
+import za.co.hpsc.web.models.ipsc.common.data.MatchSectionHash;
+import za.co.hpsc.web.models.ipsc.common.dto.MatchDto;
 import za.co.hpsc.web.models.ipsc.common.holders.data.MatchHolder;
 import za.co.hpsc.web.models.ipsc.common.holders.dto.MatchResultsDto;
 import za.co.hpsc.web.models.ipsc.common.holders.dto.MatchResultsDtoHolder;
 import za.co.hpsc.web.models.ipsc.common.holders.records.IpscMatchRecordHolder;
 import za.co.hpsc.web.models.ipsc.common.holders.request.IpscRequestHolder;
 import za.co.hpsc.web.models.ipsc.common.holders.response.IpscResponseHolder;
+import za.co.hpsc.web.models.ipsc.common.records.MatchRecord;
 import za.co.hpsc.web.models.ipsc.common.request.*;
 import za.co.hpsc.web.models.ipsc.common.response.IpscResponse;
+import za.co.hpsc.web.models.ipsc.job.ImportProgress;
 import za.co.hpsc.web.services.DomainService;
+import za.co.hpsc.web.services.ImportLedgerService;
 import za.co.hpsc.web.services.IpscService;
 import za.co.hpsc.web.services.TransactionService;
 import za.co.hpsc.web.services.TransformationService;
+import za.co.hpsc.web.utils.IpscUtil;
+import za.co.hpsc.web.utils.StripedLocks;
 
+import java.io.CharArrayReader;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.security.DigestInputStream;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
 public class IpscServiceImpl implements IpscService {
+    protected static final int MATCH_IMPORT_LOCK_STRIPES = 256;
 
     protected final TransformationService transformationService;
     protected final DomainService domainService;
     protected final TransactionService transactionService;
+    protected final ObjectReaderRegistry objectReaderRegistry;
+    protected final ExecutorService sectionParserExecutor;
+    protected final ExecutorService matchImportExecutor;
+    protected final ImportLedgerService importLedgerService;
+    protected final StripedLocks matchImportLocks = new StripedLocks(MATCH_IMPORT_LOCK_STRIPES);
+    protected final Lock sharedEntityLock = new ReentrantLock();
 
     @Value("${hpsc.web.app.club.filter.abbreviation:'HPSC'}")
     protected String filterClubIdentifier;
+    @Value("${hpsc.web.app.import.sections.parallel:false}")
+    protected boolean parallelSectionParsing;
+    @Value("${hpsc.web.app.import.matches.parallel:false}")
+    protected boolean parallelMatchImport;
+    @Value("${hpsc.web.app.import.matches.max-attempts:3}")
+    protected int maxMatchImportAttempts;
 
     public IpscServiceImpl(TransformationService transformationService,
-                           DomainService domainService, TransactionService transactionService) {
+                           DomainService domainService, TransactionService transactionService,
+                           ObjectReaderRegistry objectReaderRegistry,
+                           @Qualifier(ExecutorConfig.SECTION_PARSER_EXECUTOR)
+                           ExecutorService sectionParserExecutor,
+                           @Qualifier(ExecutorConfig.MATCH_IMPORT_EXECUTOR)
+                           ExecutorService matchImportExecutor,
+                           ImportLedgerService importLedgerService) {
         this.transformationService = transformationService;
         this.domainService = domainService;
         this.transactionService = transactionService;
+        this.objectReaderRegistry = objectReaderRegistry;
+        this.sectionParserExecutor = sectionParserExecutor;
+        this.matchImportExecutor = matchImportExecutor;
+        this.importLedgerService = importLedgerService;
     }
 
     @Override
     public List<IpscMatchRecordHolder> importWinMssCabFile(String cabFileContent)
             throws ValidationException, FatalException {
 
+        return importWinMssCabFile(cabFileContent, null);
+    }
+
+    @Override
+    public List<IpscMatchRecordHolder> importWinMssCabFile(String cabFileContent,
+                                                           ImportProgress importProgress)
+            throws ValidationException, FatalException {
+
+        // Answers an identical CAB file from the import ledger, without parsing or persisting it again
+        String contentHash = importLedgerService.hashContent(cabFileContent);
+        Optional<List<IpscMatchRecordHolder>> optionalPreviousImport =
+                findPreviousImport(contentHash, importProgress);
+        if (optionalPreviousImport.isPresent()) {
+            return optionalPreviousImport.get();
+        }
+
         // Map the CAB file content to DTOs
-        MatchResultsDtoHolder matchResultsDtoHolder = importWinMssCabFileContent(cabFileContent);
+        MatchResultsDtoHolder matchResultsDtoHolder =
+                importWinMssCabFileContent(cabFileContent, importProgress);
+        List<IpscMatchRecordHolder> ipscMatchRecordHolders = importMatchResults(matchResultsDtoHolder,
+                importProgress);
+        recordImport(contentHash, matchResultsDtoHolder, ipscMatchRecordHolders);
+        return ipscMatchRecordHolders;
+    }
+
+    @Override
+    public List<IpscMatchRecordHolder> importWinMssCabStream(InputStream cabFileStream)
+            throws ValidationException, FatalException {
+
+        return importWinMssCabStream(cabFileStream, null);
+    }
+
+    @Override
+    public List<IpscMatchRecordHolder> importWinMssCabStream(InputStream cabFileStream,
+                                                             ImportProgress importProgress)
+            throws ValidationException, FatalException {
+
+        if (cabFileStream == null) {
+            log.error("The provided cab file stream is null.");
+            throw new ValidationException("The provided CAB file can not be null or empty.");
+        }
+
+        // Streams WinMSS cab file content, hashing it as it is read, so that it is read only once
+        if (importProgress != null) {
+            importProgress.setStatus(ImportJobStatus.PARSING);
+        }
+        DigestInputStream digestInputStream =
+                new DigestInputStream(cabFileStream, importLedgerService.createContentDigest());
+        IpscRequestHolder ipscRequestHolder = streamIpscRequests(digestInputStream);
+        String contentHash = hashRemainingContent(digestInputStream);
+
+        // Answers an identical CAB file from the import ledger, without persisting it again
+        Optional<List<IpscMatchRecordHolder>> optionalPreviousImport =
+                findPreviousImport(contentHash, importProgress);
+        if (optionalPreviousImport.isPresent()) {
+            return optionalPreviousImport.get();
+        }
+
+        // Maps the requests to DTOs
+        if (importProgress != null) {
+            importProgress.setStatus(ImportJobStatus.TRANSFORMING);
+        }
+        MatchResultsDtoHolder matchResultsDtoHolder = initMatchResults(ipscRequestHolder);
+        List<IpscMatchRecordHolder> ipscMatchRecordHolders = importMatchResults(matchResultsDtoHolder,
+                importProgress);
+        recordImport(contentHash, matchResultsDtoHolder, ipscMatchRecordHolders);
+        return ipscMatchRecordHolders;
+    }
+
+    /**
+     * Maps the match result DTOs to entities, persists them, and generates the match records.
+     *
+     * <p>
+     * When the concurrent match import is enabled, each match is mapped and persisted in its
+     * own transaction on the bounded match import executor. The match records are always
+     * generated in the input order.
+     * </p>
+     *
+     * <p>
+     * Matches that are unchanged since they were last imported carry their match record from the
+     * import ledger, and are not persisted again. Every other match is recorded in the ledger
+     * once its record has been generated.
+     * </p>
+     *
+     * @param matchResultsDtoHolder the holder of the match result DTOs to be imported.
+     * @param importProgress        the progress to be updated as each match is persisted. Can be null.
+     * @return a list of {@link IpscMatchRecordHolder} objects, one for each imported match.
+     * An empty list is returned if the holder or its matches are null.
+     * @throws FatalException if a match can not be persisted.
+     */
+    protected List<IpscMatchRecordHolder> importMatchResults(MatchResultsDtoHolder matchResultsDtoHolder,
+                                                             ImportProgress importProgress)
+            throws FatalException {
+
         if ((matchResultsDtoHolder == null) || (matchResultsDtoHolder.getMatches() == null)) {
             return new ArrayList<>();
         }
@@ -65,29 +201,378 @@ public class IpscServiceImpl implements IpscService {
         List<MatchResultsDto> ipscResultsList = matchResultsDtoHolder.getMatches().stream()
                 .filter(Objects::nonNull)
                 .toList();
+        if (importProgress != null) {
+            importProgress.setStatus(ImportJobStatus.PERSISTING);
+            importProgress.setTotalMatches(ipscResultsList.size());
+        }
 
-        List<MatchHolder> matchHolderList = new ArrayList<>();
-        // Iterates the DTOs, maps them to entities, and persists the results
+        // Skips the matches that are unchanged since they were last imported
+        List<MatchResultsDto> changedResultsList = new ArrayList<>();
         for (MatchResultsDto matchResultsDto : ipscResultsList) {
-            // Maps the DTO to an entity
-            Optional<DtoMapping> optionalDtoToEntityMapping =
-                    domainService.initMatchEntities(matchResultsDto, filterClubIdentifier, null);
-            if (optionalDtoToEntityMapping.isPresent()) {
-                // Persists the entity
-                DtoMapping dtoMapping = optionalDtoToEntityMapping.get();
-                Optional<MatchHolder> matchHolder = transactionService.saveMatchResults(dtoMapping);
-                matchHolder.ifPresent(matchHolderList::add);
+            if (matchResultsDto.getMatchRecord() == null) {
+                changedResultsList.add(matchResultsDto);
+            } else if (importProgress != null) {
+                importProgress.addProcessedMatch(matchResultsDto);
             }
+        }
 
-            // Generates a match record holder for the current match and adds it to the list
-            IpscMatchRecordHolder ipscMatchRecordHolder =
-                    transformationService.generateIpscMatchRecordHolder(matchHolderList);
-            ipscMatchRecordHolders.add(ipscMatchRecordHolder);
+        // Maps the DTOs to entities and persists the results, in input order
+        List<Optional<MatchHolder>> changedMatchList;
+        if (parallelMatchImport && (matchImportExecutor != null) && (changedResultsList.size() > 1)) {
+            changedMatchList = importMatchesInParallel(changedResultsList, importProgress);
+        } else {
+            changedMatchList = new ArrayList<>();
+            for (MatchResultsDto matchResultsDto : changedResultsList) {
+                changedMatchList.add(importMatch(matchResultsDto, importProgress));
+            }
+        }
+
+        // Each match is converted to a record once; the i-th holder exposes the records of the
+        // first i matches as a view over a fixed-size list that is only ever written ahead of it
+        List<MatchRecord> matchRecordList = Arrays.asList(new MatchRecord[ipscResultsList.size()]);
+        int matchRecordCount = 0;
+        Iterator<Optional<MatchHolder>> changedMatches = changedMatchList.iterator();
+        // Iterates the matches in input order
+        for (MatchResultsDto matchResultsDto : ipscResultsList) {
+            Optional<MatchRecord> matchRecord;
+            if (matchResultsDto.getMatchRecord() != null) {
+                matchRecord = Optional.of(matchResultsDto.getMatchRecord());
+            } else {
+                Optional<MatchHolder> matchHolder = changedMatches.next();
+                matchRecord = matchHolder.flatMap(transformationService::generateMatchRecord);
+                recordMatch(matchResultsDto, matchHolder, matchRecord);
+            }
+            if (matchRecord.isPresent()) {
+                matchRecordList.set(matchRecordCount++, matchRecord.get());
+            }
+
+            // Adds a match record holder with the records imported so far
+            ipscMatchRecordHolders.add(new IpscMatchRecordHolder(
+                    Collections.unmodifiableList(matchRecordList.subList(0, matchRecordCount))));
         }
 
         return ipscMatchRecordHolders;
     }
 
+    /**
+     * Maps a single match to entities and persists it in its own transaction.
+     *
+     * <p>
+     * The natural key of the match is locked for the duration of the import, so that imports of
+     * the same match are persisted one after the other, while different matches are persisted in
+     * parallel. The clubs and competitors that matches share are resolved and inserted in a
+     * separate, short critical section ahead of each match; see
+     * {@link #saveSharedEntities(MatchResultsDto)}.
+     * </p>
+     *
+     * <p>
+     * The results were mapped before the lock was taken, and may refer to a match that has since
+     * been written by another import. Such an optimistic lock conflict is retried, up to the
+     * maximum number of attempts, after mapping the match again under the same lock.
+     * </p>
+     *
+     * @param matchResultsDto the match results to be imported.
+     * @param importProgress  the progress to be updated once the match is persisted. Can be null.
+     * @return an {@link Optional} containing the persisted {@link MatchHolder}, or empty if the
+     * match could not be mapped to entities.
+     * @throws FatalException if the match can not be persisted, or still conflicts after the
+     *                        maximum number of attempts.
+     */
+    protected Optional<MatchHolder> importMatch(MatchResultsDto matchResultsDto, ImportProgress importProgress)
+            throws FatalException {
+
+        Optional<MatchHolder> matchHolder;
+        List<Lock> locks = matchImportLocks.lockAll(Collections.singletonList(getMatchKey(matchResultsDto)));
+        try {
+            MatchResultsDto currentMatchResultsDto = matchResultsDto;
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    matchHolder = saveMatchResults(currentMatchResultsDto);
+                    break;
+                } catch (OptimisticLockingFailureException e) {
+                    if ((attempt >= maxMatchImportAttempts) || (matchResultsDto.getIpscResponse() == null)) {
+                        log.error("Unable to import the match after {} attempts: {}", attempt, e.getMessage());
+                        throw new FatalException("Unable to import the match after " + attempt +
+                                " attempts: " + e.getMessage(), e);
+                    }
+
+                    // Maps the match again, resolving the rows written by the conflicting import
+                    log.warn("Conflicting import of the match, attempt {} of {}: {}", attempt,
+                            maxMatchImportAttempts, e.getMessage());
+                    currentMatchResultsDto = transformationService.initMatchResults(matchResultsDto.getIpscResponse())
+                            .orElseThrow(() -> new FatalException("Unable to map the match again.", e));
+                }
+            }
+        } finally {
+            matchImportLocks.unlockAll(locks);
+        }
+
+        if (importProgress != null) {
+            importProgress.addProcessedMatch(matchResultsDto);
+        }
+        return matchHolder;
+    }
+
+    /**
+     * Maps the match results to entities, and persists them in a single transaction, after their
+     * new club and competitors.
+     *
+     * @param matchResultsDto the match results to be persisted.
+     * @return an {@link Optional} containing the persisted {@link MatchHolder}, or empty if the
+     * match could not be mapped to entities.
+     * @throws FatalException                    if the match can not be persisted.
+     * @throws OptimisticLockingFailureException if the match was written by another import since
+     *                                           it was mapped.
+     */
+    protected Optional<MatchHolder> saveMatchResults(MatchResultsDto matchResultsDto) throws FatalException {
+        // Resolves and inserts the club and competitors shared with other matches
+        saveSharedEntities(matchResultsDto);
+
+        // Maps the DTO to an entity
+        Optional<DtoMapping> optionalDtoToEntityMapping =
+                domainService.initMatchEntities(matchResultsDto, filterClubIdentifier, null);
+        if (optionalDtoToEntityMapping.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // Persists the entity
+        return transactionService.saveMatchResults(optionalDtoToEntityMapping.get());
+    }
+
+    /**
+     * Resolves the club and competitors of a match that were new when it was mapped, and inserts
+     * the ones that are still new.
+     *
+     * <p>
+     * All matches of a CAB file are mapped before any of them is persisted, so matches that share
+     * a new club or shooter each map it as new. Resolving and inserting them under a single lock,
+     * immediately before the match results are persisted, means that each is inserted once, by
+     * the first match to reach this point, and referred to by all the others. The lock is only
+     * held for one bulk lookup and one short insert, never for the transaction of the match.
+     * Clubs and competitors inserted here are kept, even if the match results then fail to
+     * persist.
+     * </p>
+     *
+     * @param matchResultsDto the match results whose club and competitors should be saved.
+     * @throws FatalException if the club or competitors can not be inserted.
+     */
+    protected void saveSharedEntities(MatchResultsDto matchResultsDto) throws FatalException {
+        if (matchResultsDto == null) {
+            return;
+        }
+
+        sharedEntityLock.lock();
+        try {
+            domainService.resolveSharedEntities(matchResultsDto);
+            transactionService.saveSharedEntities(matchResultsDto.getClub(), matchResultsDto.getCompetitors());
+        } finally {
+            sharedEntityLock.unlock();
+        }
+    }
+
+    /**
+     * Imports the matches concurrently on the bounded match import executor.
+     *
+     * @param matchResultsDtoList the match results to be imported.
+     * @param importProgress      the progress to be updated as each match is persisted. Can be null.
+     * @return the imported matches, in the same order as the input.
+     * @throws FatalException if any match can not be persisted, or the import is interrupted.
+     */
+    protected List<Optional<MatchHolder>> importMatchesInParallel(List<MatchResultsDto> matchResultsDtoList,
+                                                                  ImportProgress importProgress)
+            throws FatalException {
+
+        // Submits each match to the executor
+        List<Future<Optional<MatchHolder>>> futures = new ArrayList<>();
+        matchResultsDtoList.forEach(matchResultsDto -> futures.add(
+                matchImportExecutor.submit(() -> importMatch(matchResultsDto, importProgress))));
+
+        // Collects the results in input order
+        List<Optional<MatchHolder>> importedMatchList = new ArrayList<>();
+        try {
+            for (Future<Optional<MatchHolder>> future : futures) {
+                importedMatchList.add(future.get());
+            }
+            return importedMatchList;
+
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof FatalException fatalException) {
+                throw fatalException;
+            }
+            if (e.getCause() instanceof ValidationException validationException) {
+                throw validationException;
+            }
+            log.error("Error importing matches: {}", e.getCause().getMessage(), e.getCause());
+            throw new FatalException("Error importing matches: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            log.error("The import of matches was interrupted.");
+            throw new FatalException("The import of matches was interrupted.", e);
+        }
+    }
+
+    /**
+     * Answers a previously imported CAB file from the import ledger.
+     *
+     * <p>
+     * The ledger only spares work, so a failure to read it is logged and the CAB file is
+     * imported in full.
+     * </p>
+     *
+     * @param contentHash the content hash of the CAB file. Can be null.
+     * @return an {@link Optional} containing the match record holders of the previous import;
+     * otherwise, {@link Optional#empty()}.
+     */
+    protected Optional<List<IpscMatchRecordHolder>> findPreviousImport(String contentHash) {
+        try {
+            return importLedgerService.findImport(contentHash);
+        } catch (DataAccessException e) {
+            log.warn("Unable to read the import ledger: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Answers a previously imported CAB file from the import ledger, reporting its matches to
+     * the given progress.
+     *
+     * @param contentHash    the content hash of the CAB file. Can be null.
+     * @param importProgress the progress to be updated if the CAB file was imported before.
+     *                       Can be null.
+     * @return an {@link Optional} containing the match record holders of the previous import;
+     * otherwise, {@link Optional#empty()}.
+     */
+    protected Optional<List<IpscMatchRecordHolder>> findPreviousImport(String contentHash,
+                                                                     ImportProgress importProgress) {
+        Optional<List<IpscMatchRecordHolder>> optionalPreviousImport = findPreviousImport(contentHash);
+        if (optionalPreviousImport.isPresent()) {
+            log.info("The CAB file is unchanged since it was last imported.");
+            if (importProgress != null) {
+                importProgress.setTotalMatches(optionalPreviousImport.get().size());
+            }
+        }
+        return optionalPreviousImport;
+    }
+
+    /**
+     * Finds the records of the matches that are unchanged since they were last imported.
+     *
+     * @param matchSectionHashList the section hashes of the matches, which may contain null elements.
+     * @return the records of the unchanged matches, keyed by their section hash; empty if the import
+     * ledger can not be read.
+     */
+    protected Map<MatchSectionHash, MatchRecord> findUnchangedMatchRecords(
+            List<MatchSectionHash> matchSectionHashList) {
+
+        try {
+            return importLedgerService.findUnchangedMatchRecords(matchSectionHashList);
+        } catch (DataAccessException e) {
+            log.warn("Unable to read the import ledger: {}", e.getMessage());
+            return new HashMap<>();
+        }
+    }
+
+    /**
+     * Records an imported match in the import ledger, under the section hash it was imported from.
+     *
+     * @param matchResultsDto the imported match results.
+     * @param matchHolder     the persisted match, if any.
+     * @param matchRecord     the record of the persisted match, if any.
+     */
+    protected void recordMatch(MatchResultsDto matchResultsDto, Optional<MatchHolder> matchHolder,
+                               Optional<MatchRecord> matchRecord) {
+
+        if ((matchResultsDto.getMatchSectionHash() == null) || matchRecord.isEmpty() ||
+                matchHolder.map(MatchHolder::getMatch).isEmpty()) {
+            return;
+        }
+
+        try {
+            importLedgerService.recordMatch(matchResultsDto.getMatchSectionHash(),
+                    matchHolder.get().getMatch().getId(), matchRecord.get());
+        } catch (DataAccessException e) {
+            log.warn("Unable to record the match in the import ledger: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Records an imported CAB file in the import ledger, with the section hashes of its matches in
+     * file order.
+     *
+     * <p>
+     * A match that produced a record is listed with its section hash; a match that did not is
+     * listed without one. The CAB file is not recorded when a match with a record can not be
+     * hashed, since it could then never be answered from the ledger.
+     * </p>
+     *
+     * @param contentHash            the content hash of the CAB file. Can be null.
+     * @param matchResultsDtoHolder  the holder of the imported match result DTOs.
+     * @param ipscMatchRecordHolders the match record holders returned by the import.
+     */
+    protected void recordImport(String contentHash, MatchResultsDtoHolder matchResultsDtoHolder,
+                                List<IpscMatchRecordHolder> ipscMatchRecordHolders) {
+
+        if ((contentHash == null) || (matchResultsDtoHolder == null) ||
+                (matchResultsDtoHolder.getMatches() == null)) {
+            return;
+        }
+
+        List<MatchResultsDto> matchResultsList = matchResultsDtoHolder.getMatches().stream()
+                .filter(Objects::nonNull)
+                .toList();
+        if (matchResultsList.size() != ipscMatchRecordHolders.size()) {
+            return;
+        }
+
+        // A match produced a record when its holder holds one more record than the one before it
+        List<MatchSectionHash> matchSections = new ArrayList<>();
+        int previousMatchRecordCount = 0;
+        for (int i = 0; i < matchResultsList.size(); i++) {
+            MatchSectionHash matchSectionHash = matchResultsList.get(i).getMatchSectionHash();
+            int matchRecordCount = ipscMatchRecordHolders.get(i).matches().size();
+            if (matchRecordCount > previousMatchRecordCount) {
+                if (matchSectionHash == null) {
+                    return;
+                }
+                matchSections.add(matchSectionHash);
+            } else {
+                matchSections.add(new MatchSectionHash(
+                        ((matchSectionHash != null) ? matchSectionHash.matchKey() : null), null));
+            }
+            previousMatchRecordCount = matchRecordCount;
+        }
+
+        try {
+            importLedgerService.recordImport(contentHash, matchSections);
+        } catch (DataAccessException e) {
+            log.warn("Unable to record the CAB file in the import ledger: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the natural key of a match, used to serialise imports of the same match.
+     *
+     * <p>
+     * A match is keyed on its club, name and scheduled date, the same natural key a new match is
+     * checked against before it is inserted. Matches of the same name and date at different clubs
+     * are therefore imported concurrently.
+     * </p>
+     *
+     * @param matchResultsDto the match results.
+     * @return the natural key of the match, or null if there is no match.
+     */
+    protected String getMatchKey(MatchResultsDto matchResultsDto) {
+        if ((matchResultsDto == null) || (matchResultsDto.getMatch() == null)) {
+            return null;
+        }
+
+        MatchDto matchDto = matchResultsDto.getMatch();
+        String clubName = (matchResultsDto.getClub() != null) ? matchResultsDto.getClub().getName() : null;
+        return "match:" + IpscUtil.clubMatchKey(clubName, matchDto.getName(), matchDto.getScheduledDate());
+    }
+
     /**
      * Imports and processes the content of a WinMSS.cab file.
      *
@@ -103,13 +588,74 @@ public class IpscServiceImpl implements IpscService {
     protected MatchResultsDtoHolder importWinMssCabFileContent(String cabFileContent)
             throws ValidationException, FatalException {
 
+        return importWinMssCabFileContent(cabFileContent, null);
+    }
+
+    /**
+     * Imports and processes the content of a WinMSS.cab file, reporting the parsing and
+     * transforming phases to the given progress.
+     *
+     * @param cabFileContent the content of the WinMSS.cab file to be imported.
+     * @param importProgress the progress to be updated during the import. Can be null.
+     * @return a {@link MatchResultsDtoHolder} object containing the parsed match results
+     * extracted from the CAB file.
+     * @throws ValidationException if the provided CAB file content fails validation.
+     * @throws FatalException      if a critical error occurs during the processing of the CAB file.
+     */
+    protected MatchResultsDtoHolder importWinMssCabFileContent(String cabFileContent,
+                                                               ImportProgress importProgress)
+            throws ValidationException, FatalException {
+
         if ((cabFileContent == null) || (cabFileContent.isBlank())) {
             log.error("The provided cab file is null or empty.");
             throw new ValidationException("The provided CAB file can not be null or empty.");
         }
 
         // Imports WinMSS cab file content
+        if (importProgress != null) {
+            importProgress.setStatus(ImportJobStatus.PARSING);
+        }
         IpscRequestHolder ipscRequestHolder = readIpscRequests(cabFileContent);
+
+        // Maps the requests to DTOs
+        if (importProgress != null) {
+            importProgress.setStatus(ImportJobStatus.TRANSFORMING);
+        }
+        return initMatchResults(ipscRequestHolder);
+    }
+
+    /**
+     * Completes the content hash of a streamed CAB file once its JSON envelope has been parsed.
+     *
+     * <p>
+     * The parser stops at the end of the envelope, so any trailing bytes are read and hashed
+     * first, so that the hash equals that of the same content imported as a string.
+     * </p>
+     *
+     * @param digestInputStream the stream the CAB file was parsed from.
+     * @return the hexadecimal content hash of the CAB file.
+     * @throws FatalException if an I/O error occurs while reading the trailing bytes.
+     */
+    protected String hashRemainingContent(DigestInputStream digestInputStream) throws FatalException {
+        try {
+            digestInputStream.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            log.error("Error reading JSON data: {}", e.getMessage(), e);
+            throw new FatalException("Error reading JSON data: " + e.getMessage(), e);
+        }
+        return importLedgerService.hashContent(digestInputStream.getMessageDigest());
+    }
+
+    /**
+     * Maps the IPSC requests to match result DTOs.
+     *
+     * @param ipscRequestHolder the holder of the deserialized IPSC requests.
+     * @return a {@link MatchResultsDtoHolder} object containing the mapped match results.
+     * @throws ValidationException if the request holder, or the mapped response holder, is null.
+     */
+    protected MatchResultsDtoHolder initMatchResults(IpscRequestHolder ipscRequestHolder)
+            throws ValidationException {
+
         if (ipscRequestHolder == null) {
             log.error("IPSC request holder is null.");
             throw new ValidationException("IPSC request holder can not be null.");
@@ -122,13 +668,38 @@ public class IpscServiceImpl implements IpscService {
             throw new ValidationException("IPSC response holder can not be null.");
         }
 
+        // Resolves the matches that are unchanged since they were last imported, all at once
+        List<IpscResponse> ipscResponseList = ipscResponseHolder.getIpscList();
+        List<MatchSectionHash> matchSectionHashList = ipscResponseList.stream()
+                .map(ipscResponse -> importLedgerService.hashMatchSection(ipscResponse).orElse(null))
+                .toList();
+        Map<MatchSectionHash, MatchRecord> unchangedMatchRecords = findUnchangedMatchRecords(matchSectionHashList);
+
         // Accumulates the match results to be persisted
         List<MatchResultsDto> matchResultsList = new ArrayList<>();
         // Iterates responses and accumulates DTOs
-        for (IpscResponse ipscResponse : ipscResponseHolder.getIpscList()) {
+        for (int i = 0; i < ipscResponseList.size(); i++) {
+            IpscResponse ipscResponse = ipscResponseList.get(i);
+            MatchSectionHash matchSectionHash = matchSectionHashList.get(i);
+
+            // An unchanged match carries its record, and is not mapped again
+            MatchRecord unchangedMatchRecord = ((matchSectionHash != null) ?
+                    unchangedMatchRecords.get(matchSectionHash) : null);
+            if (unchangedMatchRecord != null) {
+                MatchResultsDto matchResults = new MatchResultsDto();
+                matchResults.setMatchSectionHash(matchSectionHash);
+                matchResults.setMatchRecord(unchangedMatchRecord);
+                matchResultsList.add(matchResults);
+                continue;
+            }
+
             Optional<MatchResultsDto> optionalMatchResults =
                     transformationService.initMatchResults(ipscResponse);
-            optionalMatchResults.ifPresent(matchResultsList::add);
+            optionalMatchResults.ifPresent(matchResults -> {
+                matchResults.setIpscResponse(ipscResponse);
+                matchResults.setMatchSectionHash(matchSectionHash);
+                matchResultsList.add(matchResults);
+            });
         }
 
         return new MatchResultsDtoHolder(matchResultsList);
@@ -149,9 +720,13 @@ public class IpscServiceImpl implements IpscService {
 
         try {
             // Deserializes CAB file content into typed IPSC requests
-            ObjectMapper objectMapper = new ObjectMapper();
-            objectMapper.registerModule(new JavaTimeModule());
-            IpscRequest ipscRequest = objectMapper.readValue(cabFileContent, IpscRequest.class);
+            IpscRequest ipscRequest = objectReaderRegistry.getIpscRequestReader()
+                    .readValue(cabFileContent);
+
+            // Parses the sections concurrently when enabled
+            if (parallelSectionParsing && (sectionParserExecutor != null)) {
+                return readSectionsInParallel(ipscRequest);
+            }
 
             // Populates an IPSC request holder with the deserialized requests
             IpscRequestHolder ipscRequestHolder = new IpscRequestHolder();
@@ -189,6 +764,174 @@ public class IpscServiceImpl implements IpscService {
         }
     }
 
+    /**
+     * Parses the sections of the deserialized CAB file concurrently and populates an
+     * {@link IpscRequestHolder} once all of them have finished.
+     *
+     * <p>
+     * The sections are independent of each other, so each one is submitted to the bounded
+     * section parser executor. Parsing fails fast: the first failing section cancels the
+     * sections that are still pending or running.
+     * </p>
+     *
+     * @param ipscRequest The deserialized CAB file containing the raw XML sections.
+     * @return An {@link IpscRequestHolder} containing the deserialized request data.
+     * @throws ValidationException If the XML content of any section is invalid.
+     * @throws FatalException      If parsing fails unexpectedly or is interrupted.
+     */
+    protected IpscRequestHolder readSectionsInParallel(@NotNull IpscRequest ipscRequest)
+            throws ValidationException, FatalException {
+
+        IpscRequestHolder ipscRequestHolder = new IpscRequestHolder();
+        List<Runnable> sectionTasks = List.of(
+                () -> ipscRequestHolder.setClubs(readRequests(ipscRequest.getClub(),
+                        ClubRequest.class)),
+                () -> ipscRequestHolder.setMatches(readRequests(ipscRequest.getMatch(),
+                        MatchRequest.class)),
+                () -> ipscRequestHolder.setStages(readRequests(ipscRequest.getStage(),
+                        StageRequest.class)),
+                () -> ipscRequestHolder.setTags(readRequests(ipscRequest.getTag(),
+                        TagRequest.class)),
+                () -> ipscRequestHolder.setMembers(readRequests(ipscRequest.getMember(),
+                        MemberRequest.class)),
+                () -> ipscRequestHolder.setClassifications(readRequests(ipscRequest.getClassify(),
+                        ClassificationRequest.class)),
+                () -> ipscRequestHolder.setEnrolledMembers(readRequests(ipscRequest.getEnrolled(),
+                        EnrolledRequest.class)),
+                () -> ipscRequestHolder.setSquads(readRequests(ipscRequest.getSquad(),
+                        SquadRequest.class)),
+                () -> ipscRequestHolder.setTeams(readRequests(ipscRequest.getTeam(),
+                        TeamRequest.class)),
+                () -> ipscRequestHolder.setScores(readRequests(ipscRequest.getScore(),
+                        ScoreRequest.class)));
+
+        // Submits each section to the executor
+        CompletionService<Void> completionService = new ExecutorCompletionService<>(sectionParserExecutor);
+        List<Future<Void>> futures = new ArrayList<>();
+        sectionTasks.forEach(task -> futures.add(completionService.submit(task, null)));
+
+        // Waits for the sections in order of completion, failing on the first error
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                completionService.take().get();
+            }
+            return ipscRequestHolder;
+
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof ValidationException validationException) {
+                throw validationException;
+            }
+            log.error("Error parsing CAB file sections: {}", e.getCause().getMessage(), e.getCause());
+            throw new FatalException("Error parsing CAB file sections: " + e.getCause().getMessage(),
+                    e.getCause());
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            log.error("Parsing of CAB file sections was interrupted.");
+            throw new FatalException("Parsing of CAB file sections was interrupted.", e);
+        }
+    }
+
+    /**
+     * Reads the CAB file from a stream and populates an {@link IpscRequestHolder} with the
+     * request data of each section.
+     *
+     * <p>
+     * The JSON envelope is read token by token, so the raw CAB file is never held in memory as a
+     * whole. Each section is an XML document in a JSON string, which the JSON parser decodes into
+     * its text buffer before the section can be read; the XML of one section at a time is
+     * therefore held in memory. It is parsed straight from that buffer, without being copied into
+     * a string, and is released once the next section is read. The rows of all sections are
+     * retained in the holder, which is what the import transforms.
+     * </p>
+     *
+     * @param cabFileStream The stream containing the CAB file. It is not closed by this method.
+     * @return An {@link IpscRequestHolder} containing the deserialized request data.
+     * @throws ValidationException If the CAB file is empty, or contains invalid JSON or XML data.
+     * @throws FatalException      If an I/O error occurs while reading the CAB file.
+     */
+    protected IpscRequestHolder streamIpscRequests(@NotNull InputStream cabFileStream)
+            throws ValidationException, FatalException {
+
+        try (JsonParser jsonParser = objectReaderRegistry.getJsonFactory().createParser(cabFileStream)) {
+            // Expects the CAB file to contain a single JSON object
+            JsonToken token = jsonParser.nextToken();
+            if (token == null) {
+                log.error("The provided cab file stream is empty.");
+                throw new ValidationException("The provided CAB file can not be null or empty.");
+            }
+            if (token != JsonToken.START_OBJECT) {
+                throw new ValidationException("Invalid JSON data format: expected a JSON object.");
+            }
+
+            // Parses each section as it is encountered
+            IpscRequestHolder ipscRequestHolder = new IpscRequestHolder();
+            while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+                String sectionName = jsonParser.currentName();
+                JsonToken valueToken = jsonParser.nextToken();
+                if (valueToken == JsonToken.VALUE_STRING) {
+                    // Reads the section from the text buffer of the parser, which the next token reuses
+                    Reader xmlReader = new CharArrayReader(jsonParser.getTextCharacters(),
+                            jsonParser.getTextOffset(), jsonParser.getTextLength());
+                    readSection(sectionName, xmlReader, ipscRequestHolder);
+                } else if (valueToken != JsonToken.VALUE_NULL) {
+                    throw new ValidationException("Invalid JSON data format: section '" +
+                            sectionName + "' is not a string.");
+                }
+            }
+
+            return ipscRequestHolder;
+
+        } catch (ValidationException e) {
+            throw e;
+        } catch (IOException e) {
+            log.error("Error reading JSON data: {}", e.getMessage(), e);
+            throw new FatalException("Error reading JSON data: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Parses the XML content of a named CAB file section and adds its rows to the
+     * matching list of the request holder.
+     *
+     * @param sectionName       The name of the CAB file section, e.g. {@code club} or {@code score}.
+     * @param xmlReader         The reader of the XML content of the section.
+     * @param ipscRequestHolder The holder to which the parsed rows are added.
+     * @throws ValidationException If the section is unknown or its XML content is invalid.
+     */
+    protected void readSection(String sectionName, Reader xmlReader,
+                               IpscRequestHolder ipscRequestHolder) throws ValidationException {
+
+        switch (sectionName) {
+            case "club" -> readRequests(xmlReader, ClubRequest.class,
+                    ipscRequestHolder.getClubs()::add);
+            case "match" -> readRequests(xmlReader, MatchRequest.class,
+                    ipscRequestHolder.getMatches()::add);
+            case "stage" -> readRequests(xmlReader, StageRequest.class,
+                    ipscRequestHolder.getStages()::add);
+            case "tag" -> readRequests(xmlReader, TagRequest.class,
+                    ipscRequestHolder.getTags()::add);
+            case "member" -> readRequests(xmlReader, MemberRequest.class,
+                    ipscRequestHolder.getMembers()::add);
+            case "classify" -> readRequests(xmlReader, ClassificationRequest.class,
+                    ipscRequestHolder.getClassifications()::add);
+            case "enrolled" -> readRequests(xmlReader, EnrolledRequest.class,
+                    ipscRequestHolder.getEnrolledMembers()::add);
+            case "squad" -> readRequests(xmlReader, SquadRequest.class,
+                    ipscRequestHolder.getSquads()::add);
+            case "team" -> readRequests(xmlReader, TeamRequest.class,
+                    ipscRequestHolder.getTeams()::add);
+            case "score" -> readRequests(xmlReader, ScoreRequest.class,
+                    ipscRequestHolder.getScores()::add);
+            default -> {
+                log.error("Unknown CAB file section: {}", sectionName);
+                throw new ValidationException("Invalid JSON data format: unknown section '" +
+                        sectionName + "'.");
+            }
+        }
+    }
+
     /**
      * Generic method to parse XML content into a list of request objects.
      *
@@ -205,11 +948,8 @@ public class IpscServiceImpl implements IpscService {
 
         // Parses XML content into a list of typed requests
         try {
-            XmlMapper xmlMapper = new XmlMapper();
-            xmlMapper.registerModule(new JavaTimeModule());
-            var wrapperType = xmlMapper.getTypeFactory()
-                    .constructParametricType(XmlDataWrapper.class, clazz);
-            XmlDataWrapper<T> wrapper = xmlMapper.readValue(xmlContent, wrapperType);
+            XmlDataWrapper<T> wrapper = objectReaderRegistry.getXmlDataReader(clazz)
+                    .readValue(xmlContent);
 
             // Returns an empty list when the XML wrapper is invalid
             if ((wrapper == null) || (wrapper.getData() == null) ||
@@ -223,4 +963,119 @@ public class IpscServiceImpl implements IpscService {
             throw new ValidationException("Invalid XML data format: " + e.getMessage(), e);
         }
     }
+
+    /**
+     * Generic method to parse XML content row by row, passing each request object to a consumer.
+     *
+     * <p>
+     * Unlike {@link #readRequests(String, Class)}, the rows are not collected into an
+     * intermediate wrapper; each {@code row} element under {@code data} is deserialized
+     * and handed to the consumer as soon as it has been read.
+     * </p>
+     *
+     * @param xmlContent  The XML content to parse.
+     * @param clazz       The class type of the request objects.
+     * @param rowConsumer The consumer of each parsed request object.
+     * @param <T>         The type of request objects.
+     * @throws ValidationException If the XML content is invalid.
+     */
+    protected <T> void readRequests(String xmlContent, Class<T> clazz, Consumer<T> rowConsumer)
+            throws ValidationException {
+
+        // Ignores content that is null or blank
+        if ((xmlContent == null) || xmlContent.isBlank()) {
+            return;
+        }
+
+        readRequests(new StringReader(xmlContent), clazz, rowConsumer);
+    }
+
+    /**
+     * Generic method to parse XML content from a reader row by row, passing each request object
+     * to a consumer.
+     *
+     * <p>
+     * Content that is blank is ignored, as with {@link #readRequests(String, Class, Consumer)}.
+     * </p>
+     *
+     * @param xmlReader   The reader of the XML content to parse.
+     * @param clazz       The class type of the request objects.
+     * @param rowConsumer The consumer of each parsed request object.
+     * @param <T>         The type of request objects.
+     * @throws ValidationException If the XML content is invalid.
+     */
+    protected <T> void readRequests(Reader xmlReader, Class<T> clazz, Consumer<T> rowConsumer)
+            throws ValidationException {
+
+        // Descends from the root element to the data element
+        ObjectReader rowReader = objectReaderRegistry.getXmlRowReader(clazz);
+        try (JsonParser xmlParser = createXmlParser(rowReader, xmlReader)) {
+            if ((xmlParser == null) || (xmlParser.nextToken() != JsonToken.START_OBJECT)) {
+                return;
+            }
+            while (xmlParser.nextToken() == JsonToken.FIELD_NAME) {
+                String elementName = xmlParser.currentName();
+                JsonToken token = xmlParser.nextToken();
+                if ("data".equals(elementName) && (token == JsonToken.START_OBJECT)) {
+                    readRows(xmlParser, rowReader, rowConsumer);
+                } else {
+                    xmlParser.skipChildren();
+                }
+            }
+
+        } catch (IOException e) {
+            log.error("Error parsing XML content: {}", e.getMessage(), e);
+            throw new ValidationException("Invalid XML data format: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Creates a parser over XML content read from a reader, unless the content is blank.
+     *
+     * @param rowReader The reader used to deserialize a single row.
+     * @param xmlReader The reader of the XML content.
+     * @return the parser, or null if the content is blank.
+     * @throws IOException If the content can not be read.
+     */
+    protected JsonParser createXmlParser(ObjectReader rowReader, Reader xmlReader) throws IOException {
+        // Skips the leading whitespace, and pushes back the first character of the content
+        PushbackReader pushbackReader = new PushbackReader(xmlReader);
+        int firstChar = pushbackReader.read();
+        while ((firstChar != -1) && Character.isWhitespace(firstChar)) {
+            firstChar = pushbackReader.read();
+        }
+        if (firstChar == -1) {
+            return null;
+        }
+        pushbackReader.unread(firstChar);
+
+        return rowReader.createParser(pushbackReader);
+    }
+
+    /**
+     * Deserializes each {@code row} element of the current data element and passes it to
+     * the consumer. Other elements are skipped.
+     *
+     * @param xmlParser   The parser, positioned at the start of the data element.
+     * @param rowReader   The reader used to deserialize a single row.
+     * @param rowConsumer The consumer of each parsed request object.
+     * @param <T>         The type of request objects.
+     * @throws IOException If a row can not be read or deserialized.
+     */
+    protected <T> void readRows(JsonParser xmlParser, ObjectReader rowReader, Consumer<T> rowConsumer)
+            throws IOException {
+
+        while (xmlParser.nextToken() == JsonToken.FIELD_NAME) {
+            String elementName = xmlParser.currentName();
+            JsonToken token = xmlParser.nextToken();
+            if ("row".equals(elementName) && (token == JsonToken.START_OBJECT)) {
+                T row = rowReader.readValue(xmlParser);
+                if (row != null) {
+                    rowConsumer.accept(row);
+                }
+            } else {
+                xmlParser.skipChildren();
+            }
+        }
+    }
 }
@@ -31,4 +31,12 @@ public class MatchCompetitorEntityServiceImpl implements MatchCompetitorEntitySe
         }
         return matchCompetitorRepository.findAllByCompetitorIdAndMatchId(competitorId, matchId);
     }
+
+    @Override
+    public List<MatchCompetitor> findMatchCompetitorsByMatch(Long matchId) {
+        if (matchId == null) {
+            return new ArrayList<>();
+        }
+        return matchCompetitorRepository.findAllByMatchId(matchId);
+    }
 }
@@ -2,12 +2,20 @@ package za.co.hpsc.web.services.impl;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import za.co.hpsc.web.domain.IpscMatch;
+import za.co.hpsc.web.models.ipsc.common.data.MatchReference;
+import za.co.hpsc.web.models.ipsc.common.data.MatchSearchCriteria;
+import za.co.hpsc.web.models.ipsc.common.data.MatchSearchCursor;
+import za.co.hpsc.web.models.ipsc.common.data.MatchSearchRow;
 import za.co.hpsc.web.repositories.IpscMatchRepository;
+import za.co.hpsc.web.repositories.IpscMatchStageRepository;
 import za.co.hpsc.web.services.MatchEntityService;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 // TOOD: add tests
@@ -15,40 +23,93 @@ import java.util.Optional;
 @Service
 public class MatchEntityServiceImpl implements MatchEntityService {
     protected final IpscMatchRepository matchRepository;
+    protected final IpscMatchStageRepository matchStageRepository;
 
-    public MatchEntityServiceImpl(IpscMatchRepository matchRepository) {
+    public MatchEntityServiceImpl(IpscMatchRepository matchRepository,
+                                  IpscMatchStageRepository matchStageRepository) {
         this.matchRepository = matchRepository;
+        this.matchStageRepository = matchStageRepository;
     }
 
     @Override
     public Optional<IpscMatch> findMatchById(Long matchId) {
         if (matchId != null) {
-            return matchRepository.findById(matchId);
+            return matchRepository.findMatchOnlyById(matchId);
         }
         return Optional.empty();
     }
 
+    @Override
+    public Optional<Long> findMatchVersion(Long matchId) {
+        if (matchId != null) {
+            return matchRepository.findVersionById(matchId);
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<IpscMatch> findMatchResultsById(Long matchId) {
+        if (matchId == null) {
+            return Optional.empty();
+        }
+
+        // Fetches a single collection per query, as several bags cannot be fetched in one query;
+        // the queries share the persistence context, so each initialises the same entities
+        Optional<IpscMatch> optionalMatch = matchRepository.findWithMatchCompetitorsById(matchId);
+        if (optionalMatch.isPresent()) {
+            matchStageRepository.findAllWithMatchStageCompetitorsByMatchId(matchId);
+            matchRepository.findWithMatchStagesById(matchId);
+        }
+        return optionalMatch;
+    }
+
     @Override
     public Optional<IpscMatch> findMatchByNameAndScheduledDate(String name, LocalDateTime scheduledDateTime) {
+        return findMatchReference(name, scheduledDateTime)
+                .flatMap(matchReference -> findMatchById(matchReference.id()));
+    }
+
+    @Override
+    public Optional<MatchReference> findMatchReference(String name, LocalDateTime scheduledDateTime) {
         if (name == null) {
             return Optional.empty();
         }
-        List<IpscMatch> matchList = matchRepository.findAllByName(name);
 
-        // No match found
-        if (matchList.isEmpty()) {
-            return Optional.empty();
+        // Without a scheduled date, falls back to the first match with the name
+        if (scheduledDateTime == null) {
+            return matchRepository.findFirstByNameOrderByIdAsc(name);
         }
+        return matchRepository.findFirstByNameAndScheduledDateOrderByIdAsc(name, scheduledDateTime);
+    }
 
-        // Exactly one match found
-        if (matchList.size() == 1) {
-            return matchList.stream().findFirst();
+    @Override
+    @Transactional(readOnly = true)
+    public List<MatchSearchRow> searchMatches(MatchSearchCriteria criteria, MatchSearchCursor after,
+                                              int maxResults) {
+        if (maxResults <= 0) {
+            return List.of();
         }
+        return matchRepository.searchMatches(criteria, after, maxResults);
+    }
 
-        // More than one match found, filter by scheduled date
-        if (scheduledDateTime == null) {
-            return matchList.stream().findFirst();
+    @Override
+    @Transactional(readOnly = true)
+    public List<MatchSearchRow> findMatchRowsByIds(Collection<Long> matchIds) {
+        if (matchIds == null) {
+            return List.of();
         }
-        return matchList.stream().filter(m -> m.getScheduledDate().equals(scheduledDateTime)).findFirst();
+
+        List<Long> distinctMatchIds = matchIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (distinctMatchIds.isEmpty()) {
+            return List.of();
+        }
+
+        // Searches on the IDs alone, which reads every one of them in a single page
+        MatchSearchCriteria criteria = new MatchSearchCriteria(distinctMatchIds, null, null, null);
+        return matchRepository.searchMatches(criteria, null, distinctMatchIds.size());
     }
 }
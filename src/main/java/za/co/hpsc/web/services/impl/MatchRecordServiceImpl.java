@@ -0,0 +1,184 @@
+package za.co.hpsc.web.services.impl;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import za.co.hpsc.web.constants.IpscConstants;
+import za.co.hpsc.web.domain.Club;
+import za.co.hpsc.web.models.ipsc.common.data.CompetitorStageResultRow;
+import za.co.hpsc.web.models.ipsc.common.data.MatchResultsHeader;
+import za.co.hpsc.web.models.ipsc.common.records.*;
+import za.co.hpsc.web.repositories.IpscMatchRepository;
+import za.co.hpsc.web.repositories.MatchStageCompetitorRepository;
+import za.co.hpsc.web.services.MatchRecordService;
+import za.co.hpsc.web.utils.DateUtil;
+import za.co.hpsc.web.utils.NumberUtil;
+import za.co.hpsc.web.utils.ValueUtil;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Service
+public class MatchRecordServiceImpl implements MatchRecordService {
+    protected final IpscMatchRepository matchRepository;
+    protected final MatchStageCompetitorRepository matchStageCompetitorRepository;
+
+    public MatchRecordServiceImpl(IpscMatchRepository matchRepository,
+                                  MatchStageCompetitorRepository matchStageCompetitorRepository) {
+        this.matchRepository = matchRepository;
+        this.matchStageCompetitorRepository = matchStageCompetitorRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<MatchRecord> generateMatchRecord(Long matchId) {
+        if (matchId == null) {
+            return Optional.empty();
+        }
+
+        Optional<MatchResultsHeader> optionalMatchResultsHeader = matchRepository.findResultsHeaderById(matchId);
+        if (optionalMatchResultsHeader.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<CompetitorRecord> competitorRecordList = new ArrayList<>();
+        forEachCompetitorRecord(matchId, competitorRecordList::add);
+        return Optional.of(initMatchRecord(optionalMatchResultsHeader.get(), competitorRecordList));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachCompetitorRecord(Long matchId, Consumer<CompetitorRecord> consumer) {
+        if ((matchId == null) || (consumer == null)) {
+            return;
+        }
+
+        // The stream holds an open result set, and must be closed before the transaction ends
+        try (Stream<CompetitorStageResultRow> rows = matchStageCompetitorRepository.streamResultRowsByMatchId(matchId)) {
+            assembleCompetitorRecords(rows.iterator(), consumer);
+        }
+    }
+
+    /**
+     * Assembles competitor records from stage result rows in a single pass.
+     *
+     * <p>
+     * The rows of each match competitor must be adjacent. A competitor record is completed, and
+     * handed to the consumer, as soon as a row of the next match competitor is read.
+     * </p>
+     *
+     * @param rows     the stage result rows, grouped by match competitor.
+     * @param consumer the consumer of the competitor records.
+     */
+    protected void assembleCompetitorRecords(Iterator<CompetitorStageResultRow> rows,
+                                             Consumer<CompetitorRecord> consumer) {
+        CompetitorStageResultRow currentRow = null;
+        List<MatchCompetitorStageResultRecord> stageResultList = new ArrayList<>();
+        while (rows.hasNext()) {
+            CompetitorStageResultRow row = rows.next();
+            if (row == null) {
+                continue;
+            }
+
+            // A row of the next match competitor completes the record of the current one
+            if ((currentRow != null) && (!Objects.equals(currentRow.matchCompetitorId(), row.matchCompetitorId()))) {
+                consumer.accept(initCompetitorRecord(currentRow, stageResultList));
+                stageResultList = new ArrayList<>();
+            }
+
+            currentRow = row;
+            stageResultList.add(initStageResult(row));
+        }
+
+        if (currentRow != null) {
+            consumer.accept(initCompetitorRecord(currentRow, stageResultList));
+        }
+    }
+
+    /**
+     * Creates a {@link MatchRecord} from the match details and its competitor records.
+     *
+     * @param matchResultsHeader the match details (required)
+     * @param competitors        competitor records (required, may be empty)
+     * @return the match record
+     */
+    protected MatchRecord initMatchRecord(MatchResultsHeader matchResultsHeader,
+                                          List<CompetitorRecord> competitors) {
+        // Formats the club as the club entity does, for the same output as imported matches
+        String clubName = "";
+        if (matchResultsHeader.clubName() != null) {
+            clubName = new Club(matchResultsHeader.clubName(), matchResultsHeader.clubAbbreviation()).toString();
+        }
+
+        String scheduledDate = DateUtil.formatDateTime(matchResultsHeader.scheduledDate(),
+                IpscConstants.IPSC_OUTPUT_DATE_TIME_FORMAT);
+        String dateEdited = DateUtil.formatDateTime(matchResultsHeader.dateEdited(),
+                IpscConstants.IPSC_OUTPUT_DATE_TIME_FORMAT);
+
+        String matchFirearmType = ValueUtil.nullAsEmptyString(matchResultsHeader.matchFirearmType());
+        String matchCategory = ValueUtil.nullAsEmptyString(matchResultsHeader.matchCategory());
+
+        return new MatchRecord(ValueUtil.nullAsEmptyString(matchResultsHeader.name()), scheduledDate,
+                clubName, matchFirearmType, matchCategory, competitors, dateEdited);
+    }
+
+    /**
+     * Creates a {@link CompetitorRecord} from the match competitor columns of a row and the
+     * stage results of the match competitor.
+     *
+     * @param row          any stage result row of the match competitor (required)
+     * @param stageResults the stage results of the match competitor (required)
+     * @return the competitor record
+     */
+    protected CompetitorRecord initCompetitorRecord(CompetitorStageResultRow row,
+                                                    List<MatchCompetitorStageResultRecord> stageResults) {
+        // Prefers the club the competitor represented over the club of the match
+        String clubName = "";
+        if (row.matchClub() != null) {
+            clubName = ValueUtil.nullAsEmptyString(row.matchClub().getName());
+        }
+        if (clubName.isEmpty()) {
+            clubName = ValueUtil.nullAsEmptyString(row.clubName());
+        }
+
+        // Initialises the overall results for the competitor in this match
+        String matchPoints = NumberUtil.formatBigDecimal(row.matchPoints(), IpscConstants.MATCH_POINTS_SCALE);
+        String matchRanking = NumberUtil.formatBigDecimal(row.matchRanking(), IpscConstants.PERCENTAGE_SCALE);
+        String matchDateEdited = DateUtil.formatDateTime(row.matchDateEdited(),
+                IpscConstants.IPSC_OUTPUT_DATE_TIME_FORMAT);
+        MatchCompetitorOverallResultsRecord overallResult =
+                new MatchCompetitorOverallResultsRecord(matchPoints, matchRanking, matchDateEdited);
+
+        CompetitorResultRecord competitorResult = new CompetitorResultRecord(
+                ValueUtil.nullAsEmptyString(row.firearmType()), ValueUtil.nullAsEmptyString(row.division()),
+                ValueUtil.nullAsEmptyString(row.powerFactor()), overallResult, stageResults);
+
+        String dateOfBirth = DateUtil.formatDate(row.dateOfBirth(), IpscConstants.IPSC_OUTPUT_DATE_FORMAT);
+        return new CompetitorRecord(row.firstName(), row.lastName(), row.middleNames(), dateOfBirth,
+                row.sapsaNumber(), row.competitorNumber(), clubName,
+                ValueUtil.nullAsEmptyString(row.competitorCategory()), competitorResult);
+    }
+
+    /**
+     * Creates a {@link MatchCompetitorStageResultRecord} from the stage columns of a row.
+     *
+     * @param row the stage result row (required)
+     * @return the stage result record
+     */
+    protected MatchCompetitorStageResultRecord initStageResult(CompetitorStageResultRow row) {
+        String time = NumberUtil.formatBigDecimal(row.time(), IpscConstants.TIME_SCALE);
+        String hitFactor = NumberUtil.formatBigDecimal(row.hitFactor(), IpscConstants.HIT_FACTOR_SCALE);
+
+        String stagePoints = NumberUtil.formatBigDecimal(row.stagePoints(), IpscConstants.STAGE_POINTS_SCALE);
+        String stagePercentage = NumberUtil.formatBigDecimal(row.stagePercentage(),
+                IpscConstants.PERCENTAGE_SCALE);
+        String stageRanking = NumberUtil.formatBigDecimal(row.stageRanking(), IpscConstants.PERCENTAGE_SCALE);
+
+        String dateEdited = DateUtil.formatDateTime(row.stageDateEdited(),
+                IpscConstants.IPSC_OUTPUT_DATE_TIME_FORMAT);
+
+        return new MatchCompetitorStageResultRecord(row.stageName(), row.scoreA(), row.scoreB(),
+                row.scoreC(), row.scoreD(), row.points(), row.misses(), row.penalties(), row.procedurals(),
+                time, hitFactor, stagePoints, stagePercentage, stageRanking, dateEdited);
+    }
+}
@@ -0,0 +1,167 @@
+package za.co.hpsc.web.services.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.json.JsonMapper;
+import za.co.hpsc.web.models.ipsc.common.data.SerializedResponse;
+import za.co.hpsc.web.services.MatchResponseCacheService;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+@Slf4j
+@Service
+public class MatchResponseCacheServiceImpl implements MatchResponseCacheService, MeterBinder {
+    public static final String HITS_METRIC = "hpsc.response.cache.hits";
+    public static final String MISSES_METRIC = "hpsc.response.cache.misses";
+    public static final String EVICTIONS_METRIC = "hpsc.response.cache.evictions";
+    public static final String HIT_RATIO_METRIC = "hpsc.response.cache.hit.ratio";
+    public static final String SIZE_METRIC = "hpsc.response.cache.size";
+    public static final String LOAD_METRIC = "hpsc.response.cache.load";
+
+    protected static final String MATCH_CACHE = "match";
+    protected static final String MATCH_RESULTS_CACHE = "match-results";
+
+    protected final JsonMapper jsonMapper;
+
+    protected final Cache<Long, SerializedResponse> matchCache;
+    protected final Cache<Long, SerializedResponse> matchResultsCache;
+
+    // Loads are only timed once the metrics have been bound to a registry
+    protected volatile Timer matchLoadTimer;
+    protected volatile Timer matchResultsLoadTimer;
+
+    public MatchResponseCacheServiceImpl(JsonMapper jsonMapper,
+                                         @Value("${hpsc.web.app.matches.cache.maximum-megabytes:16}")
+                                         long matchMaximumMegabytes,
+                                         @Value("${hpsc.web.app.matches.cache.results-maximum-megabytes:64}")
+                                         long matchResultsMaximumMegabytes,
+                                         @Value("${hpsc.web.app.matches.cache.time-to-live-minutes:10}")
+                                         long timeToLiveMinutes) {
+        this.jsonMapper = jsonMapper;
+        this.matchCache = buildCache(matchMaximumMegabytes, timeToLiveMinutes);
+        this.matchResultsCache = buildCache(matchResultsMaximumMegabytes, timeToLiveMinutes);
+    }
+
+    @Override
+    public SerializedResponse getMatch(Long matchId, Supplier<SerializedResponse> loader) {
+        return get(matchCache, matchId, loader, () -> matchLoadTimer);
+    }
+
+    @Override
+    public boolean containsMatch(Long matchId) {
+        // Reads through the map view, which does not record the read in the cache statistics
+        return (matchId != null) && matchCache.asMap().containsKey(matchId);
+    }
+
+    @Override
+    public SerializedResponse getMatchResults(Long matchId, Supplier<SerializedResponse> loader) {
+        return get(matchResultsCache, matchId, loader, () -> matchResultsLoadTimer);
+    }
+
+    @Override
+    public SerializedResponse serialize(Object response, Long version) {
+        return new SerializedResponse(version, jsonMapper.writeValueAsBytes(response));
+    }
+
+    @Override
+    public void evictMatch(Long matchId) {
+        if (matchId == null) {
+            return;
+        }
+
+        matchCache.invalidate(matchId);
+        matchResultsCache.invalidate(matchId);
+        log.debug("Evicted match {} from the response cache", matchId);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        matchLoadTimer = bindCache(registry, matchCache, MATCH_CACHE);
+        matchResultsLoadTimer = bindCache(registry, matchResultsCache, MATCH_RESULTS_CACHE);
+    }
+
+    /**
+     * Returns the cached response under a match ID, loading it on a miss.
+     *
+     * <p>
+     * The response is loaded while the entry is locked, so that concurrent misses of the same
+     * match load it only once, and an eviction of the match waits for the load to complete.
+     * </p>
+     *
+     * @param cache   the cache holding the response.
+     * @param matchId the unique database ID of the match. Can be null.
+     * @param loader  loads and serialises the response.
+     * @param timer   the timer of the loads, if the metrics have been bound.
+     * @return the serialised response.
+     */
+    protected SerializedResponse get(Cache<Long, SerializedResponse> cache, Long matchId,
+                                     Supplier<SerializedResponse> loader, Supplier<Timer> timer) {
+        if (matchId == null) {
+            return loader.get();
+        }
+
+        return cache.get(matchId, key -> {
+            long start = System.nanoTime();
+            SerializedResponse serializedResponse = loader.get();
+            Timer loadTimer = timer.get();
+            if (loadTimer != null) {
+                loadTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            return serializedResponse;
+        });
+    }
+
+    protected Timer bindCache(MeterRegistry registry, Cache<Long, SerializedResponse> cache, String name) {
+        FunctionCounter.builder(HITS_METRIC, cache, c -> getCount(c, CacheStats::hitCount))
+                .tag("cache", name)
+                .description("The number of reads served by the response cache")
+                .register(registry);
+        FunctionCounter.builder(MISSES_METRIC, cache, c -> getCount(c, CacheStats::missCount))
+                .tag("cache", name)
+                .description("The number of reads not found in the response cache")
+                .register(registry);
+        FunctionCounter.builder(EVICTIONS_METRIC, cache, c -> getCount(c, CacheStats::evictionCount))
+                .tag("cache", name)
+                .description("The number of responses evicted from the response cache by size or expiry")
+                .register(registry);
+        Gauge.builder(HIT_RATIO_METRIC, cache, c -> c.stats().hitRate())
+                .tag("cache", name)
+                .description("The ratio of reads served by the response cache")
+                .register(registry);
+        Gauge.builder(SIZE_METRIC, cache, Cache::estimatedSize)
+                .tag("cache", name)
+                .description("The number of responses held by the response cache")
+                .register(registry);
+        return Timer.builder(LOAD_METRIC)
+                .tag("cache", name)
+                .description("The time taken to read and serialise a response missing from the response cache")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    protected static double getCount(Cache<Long, SerializedResponse> cache, ToLongFunction<CacheStats> count) {
+        return count.applyAsLong(cache.stats());
+    }
+
+    // Bounded by the size of the response bodies, since the results of a match can be large
+    protected static Cache<Long, SerializedResponse> buildCache(long maximumMegabytes, long timeToLiveMinutes) {
+        return Caffeine.newBuilder()
+                .maximumWeight(Math.max(1, maximumMegabytes) * 1024 * 1024)
+                .weigher((Long matchId, SerializedResponse serializedResponse) -> serializedResponse.body().length)
+                .expireAfterWrite(Duration.ofMinutes(Math.max(1, timeToLiveMinutes)))
+                .recordStats()
+                .build();
+    }
+}
@@ -0,0 +1,234 @@
+package za.co.hpsc.web.services.impl;
+
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import za.co.hpsc.web.constants.IpscConstants;
+import za.co.hpsc.web.enums.ExportFormat;
+import za.co.hpsc.web.exceptions.NonFatalException;
+import za.co.hpsc.web.exceptions.ValidationException;
+import za.co.hpsc.web.models.ipsc.common.data.MatchSearchCriteria;
+import za.co.hpsc.web.models.ipsc.common.data.MatchSearchCursor;
+import za.co.hpsc.web.models.ipsc.common.data.MatchSearchRow;
+import za.co.hpsc.web.models.ipsc.common.records.CompetitorExportRecord;
+import za.co.hpsc.web.models.ipsc.common.records.CompetitorRecord;
+import za.co.hpsc.web.models.ipsc.common.records.MatchCompetitorStageResultRecord;
+import za.co.hpsc.web.models.ipsc.common.records.StageResultExportRecord;
+import za.co.hpsc.web.services.MatchEntityService;
+import za.co.hpsc.web.services.MatchRecordService;
+import za.co.hpsc.web.services.MatchResultExportService;
+import za.co.hpsc.web.utils.DateUtil;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.List;
+
+@Slf4j
+@Service
+public class MatchResultExportServiceImpl implements MatchResultExportService {
+    protected final MatchEntityService matchEntityService;
+    protected final MatchRecordService matchRecordService;
+
+    @Value("${hpsc.web.app.matches.export.match-page-size:100}")
+    protected int matchPageSize;
+
+    private final ObjectWriter ndjsonWriter;
+    private final ObjectWriter csvWriter;
+
+    public MatchResultExportServiceImpl(MatchEntityService matchEntityService,
+                                        MatchRecordService matchRecordService) {
+        this.matchEntityService = matchEntityService;
+        this.matchRecordService = matchRecordService;
+
+        // The writers never close the response output, and only flush it once a match is written
+        this.ndjsonWriter = JsonMapper.builder()
+                .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+                .build()
+                .writerFor(CompetitorExportRecord.class);
+        CsvMapper csvMapper = CsvMapper.builder()
+                .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+                .disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .build();
+        this.csvWriter = csvMapper.writer(csvMapper.schemaFor(StageResultExportRecord.class).withHeader());
+    }
+
+    @Override
+    public ResultsExport exportMatch(Long matchId, ExportFormat format) {
+        if ((matchId == null) || (matchId <= 0)) {
+            throw new ValidationException("Match cannot be null, zero or negative");
+        }
+        ExportFormat exportFormat = requireFormat(format);
+
+        // Fail before the response is committed if the match does not exist
+        MatchSearchRow matchSearchRow = matchEntityService.findMatchRowsByIds(List.of(matchId)).stream()
+                .findFirst()
+                .orElseThrow(() -> new NonFatalException("Match with id %d not found".formatted(matchId)));
+
+        return outputStream -> {
+            try (ResultWriter resultWriter = openResultWriter(exportFormat, outputStream)) {
+                writeMatch(matchSearchRow, resultWriter);
+            }
+        };
+    }
+
+    @Override
+    public ResultsExport exportMatches(LocalDate startDate, LocalDate endDate, ExportFormat format) {
+        if ((startDate == null) || (endDate == null)) {
+            throw new ValidationException("Start date and end date cannot be null");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new ValidationException("Start date cannot be after the end date");
+        }
+        ExportFormat exportFormat = requireFormat(format);
+
+        // The end date is inclusive, so the export runs up to the start of the next day
+        MatchSearchCriteria criteria = new MatchSearchCriteria(List.of(), null, startDate.atStartOfDay(),
+                endDate.plusDays(1).atStartOfDay());
+
+        return outputStream -> {
+            try (ResultWriter resultWriter = openResultWriter(exportFormat, outputStream)) {
+                // Pages through the matches by keyset, so that only one page of matches is held at a time
+                int pageSize = Math.max(1, matchPageSize);
+                MatchSearchCursor after = null;
+                List<MatchSearchRow> matchSearchRows;
+                do {
+                    matchSearchRows = matchEntityService.searchMatches(criteria, after, pageSize);
+                    for (MatchSearchRow matchSearchRow : matchSearchRows) {
+                        writeMatch(matchSearchRow, resultWriter);
+                    }
+                    if (!matchSearchRows.isEmpty()) {
+                        MatchSearchRow last = matchSearchRows.getLast();
+                        after = new MatchSearchCursor(last.scheduledDate(), last.id());
+                    }
+                } while (matchSearchRows.size() >= pageSize);
+            }
+        };
+    }
+
+    /**
+     * Writes the results of a match, one competitor at a time, as they are streamed from the
+     * database, and flushes them.
+     *
+     * @param matchSearchRow the match (required)
+     * @param resultWriter   the writer of the export (required)
+     * @throws IOException if the results can not be written.
+     */
+    protected void writeMatch(MatchSearchRow matchSearchRow, ResultWriter resultWriter) throws IOException {
+        String scheduledDate = DateUtil.formatDateTime(matchSearchRow.scheduledDate(),
+                IpscConstants.IPSC_OUTPUT_DATE_TIME_FORMAT);
+
+        try {
+            matchRecordService.forEachCompetitorRecord(matchSearchRow.id(), competitorRecord -> {
+                try {
+                    resultWriter.write(new CompetitorExportRecord(matchSearchRow.id(), matchSearchRow.name(),
+                            scheduledDate, competitorRecord));
+                } catch (IOException e) {
+                    // Ends the stream of results, and the transaction reading them
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            log.warn("Export of the results of match {} ended early: {}", matchSearchRow.id(), e.getMessage());
+            throw e.getCause();
+        }
+
+        resultWriter.flush();
+    }
+
+    protected ResultWriter openResultWriter(ExportFormat exportFormat, OutputStream outputStream)
+            throws IOException {
+        return switch (exportFormat) {
+            case NDJSON -> new NdjsonResultWriter(ndjsonWriter, outputStream);
+            case CSV -> new CsvResultWriter(csvWriter.writeValues(outputStream));
+        };
+    }
+
+    protected ExportFormat requireFormat(ExportFormat format) {
+        if (format == null) {
+            throw new ValidationException("Export format cannot be null");
+        }
+        return format;
+    }
+
+    /**
+     * Writes the competitors of an export in its format.
+     */
+    protected interface ResultWriter extends Closeable {
+
+        void write(CompetitorExportRecord competitorExportRecord) throws IOException;
+
+        void flush() throws IOException;
+    }
+
+    /**
+     * Writes each competitor, with all their stage results, as a line of JSON.
+     */
+    protected static class NdjsonResultWriter implements ResultWriter {
+        private final ObjectWriter objectWriter;
+        private final OutputStream outputStream;
+
+        protected NdjsonResultWriter(ObjectWriter objectWriter, OutputStream outputStream) {
+            this.objectWriter = objectWriter;
+            this.outputStream = outputStream;
+        }
+
+        @Override
+        public void write(CompetitorExportRecord competitorExportRecord) throws IOException {
+            outputStream.write(objectWriter.writeValueAsBytes(competitorExportRecord));
+            outputStream.write('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            outputStream.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
+    /**
+     * Writes each stage result of a competitor as a CSV row, after a header row.
+     */
+    protected static class CsvResultWriter implements ResultWriter {
+        private final SequenceWriter sequenceWriter;
+
+        protected CsvResultWriter(SequenceWriter sequenceWriter) {
+            this.sequenceWriter = sequenceWriter;
+        }
+
+        @Override
+        public void write(CompetitorExportRecord competitorExportRecord) throws IOException {
+            CompetitorRecord competitor = competitorExportRecord.competitor();
+            if ((competitor == null) || (competitor.results() == null) || (competitor.results().stages() == null)) {
+                return;
+            }
+
+            for (MatchCompetitorStageResultRecord stageResult : competitor.results().stages()) {
+                sequenceWriter.write(StageResultExportRecord.of(competitorExportRecord, stageResult));
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            sequenceWriter.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            // Flushes the last rows without closing the response output
+            sequenceWriter.close();
+        }
+    }
+}
@@ -31,4 +31,12 @@ public class MatchStageCompetitorEntityServiceImpl implements MatchStageCompetit
         }
         return matchStageCompetitorRepository.findAllByMatchStageIdAndCompetitorId(matchStageId, competitorId);
     }
+
+    @Override
+    public List<MatchStageCompetitor> findMatchStageCompetitorsByMatch(Long matchId) {
+        if (matchId == null) {
+            return new ArrayList<>();
+        }
+        return matchStageCompetitorRepository.findAllByMatchStageMatchId(matchId);
+    }
 }
@@ -6,6 +6,8 @@ import za.co.hpsc.web.domain.IpscMatchStage;
 import za.co.hpsc.web.repositories.IpscMatchStageRepository;
 import za.co.hpsc.web.services.MatchStageEntityService;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 @Slf4j
@@ -29,4 +31,12 @@ public class MatchStageEntityServiceImpl implements MatchStageEntityService {
         }
         return matchStageRepository.findByMatchIdAndStageNumber(matchId, stageNumber);
     }
+
+    @Override
+    public List<IpscMatchStage> findMatchStagesByMatch(Long matchId) {
+        if (matchId == null) {
+            return new ArrayList<>();
+        }
+        return matchStageRepository.findAllByMatchId(matchId);
+    }
 }
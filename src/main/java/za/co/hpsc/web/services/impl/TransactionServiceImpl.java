@@ -2,6 +2,8 @@ package za.co.hpsc.web.services.impl;
 
 import jakarta.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
@@ -11,17 +13,18 @@ import za.co.hpsc.web.domain.*;
 import za.co.hpsc.web.exceptions.FatalException;
 import za.co.hpsc.web.models.ipsc.common.data.DtoMapping;
 import za.co.hpsc.web.models.ipsc.common.data.DtoToEntityMapping;
+import za.co.hpsc.web.models.ipsc.common.data.MatchReference;
 import za.co.hpsc.web.models.ipsc.common.dto.*;
 import za.co.hpsc.web.models.ipsc.common.holders.data.MatchHolder;
 import za.co.hpsc.web.models.ipsc.match.dto.MatchOnlyDto;
 import za.co.hpsc.web.models.ipsc.match.holders.dto.MatchOnlyResultsDto;
 import za.co.hpsc.web.repositories.*;
+import za.co.hpsc.web.services.ClubDictionaryService;
+import za.co.hpsc.web.services.MatchResponseCacheService;
 import za.co.hpsc.web.services.TransactionService;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -35,13 +38,18 @@ public class TransactionServiceImpl implements TransactionService {
     protected final MatchCompetitorRepository matchCompetitorRepository;
     protected final MatchStageCompetitorRepository matchStageCompetitorRepository;
 
+    protected final ClubDictionaryService clubDictionaryService;
+    protected final MatchResponseCacheService matchResponseCacheService;
+
     public TransactionServiceImpl(PlatformTransactionManager transactionManager,
                                   ClubRepository clubRepository,
                                   CompetitorRepository competitorRepository,
                                   IpscMatchRepository ipscMatchRepository,
                                   IpscMatchStageRepository ipscMatchStageRepository,
                                   MatchCompetitorRepository matchCompetitorRepository,
-                                  MatchStageCompetitorRepository matchStageCompetitorRepository) {
+                                  MatchStageCompetitorRepository matchStageCompetitorRepository,
+                                  ClubDictionaryService clubDictionaryService,
+                                  MatchResponseCacheService matchResponseCacheService) {
 
         this.transactionManager = transactionManager;
         this.clubRepository = clubRepository;
@@ -50,6 +58,8 @@ public class TransactionServiceImpl implements TransactionService {
         this.ipscMatchStageRepository = ipscMatchStageRepository;
         this.matchCompetitorRepository = matchCompetitorRepository;
         this.matchStageCompetitorRepository = matchStageCompetitorRepository;
+        this.clubDictionaryService = clubDictionaryService;
+        this.matchResponseCacheService = matchResponseCacheService;
     }
 
     @Override
@@ -100,25 +110,89 @@ public class TransactionServiceImpl implements TransactionService {
 
             List<MatchCompetitor> matchCompetitorList = getMatchCompetitors(dtoToEntityMapping);
             if (!matchCompetitorList.isEmpty()) {
-                matchCompetitorRepository.saveAll(matchCompetitorList);
+                saveMatchCompetitors(matchCompetitorList);
                 matchHolder.setMatchCompetitors(matchCompetitorList);
             }
 
             List<MatchStageCompetitor> matchStageCompetitorList = getAllMatchStageCompetitors(dtoToEntityMapping);
             if (!matchStageCompetitorList.isEmpty()) {
-                matchStageCompetitorRepository.saveAll(matchStageCompetitorList);
+                saveMatchStageCompetitors(matchStageCompetitorList);
                 matchHolder.setMatchStageCompetitors(matchStageCompetitorList);
             }
 
             ipscMatchRepository.save(ipscMatch);
             transactionManager.commit(transaction);
-            return Optional.of(matchHolder);
 
+        } catch (OptimisticLockingFailureException e) {
+            // A concurrent import of the same match won; the caller may map the match again and retry
+            rollbackIfActive(transaction);
+            log.warn("Conflicting import of the match: {}", e.getMessage());
+            throw e;
         } catch (Exception e) {
-            transactionManager.rollback(transaction);
+            rollbackIfActive(transaction);
             log.error(e.getMessage(), e);
             throw new FatalException("Unable to save the match: " + e.getMessage(), e);
         }
+
+        // Only committed clubs are added to the club dictionary
+        clubDictionaryService.register(matchHolder.getClub());
+
+        // Cached responses of the match are only evicted once the write is visible to their next read
+        if (matchHolder.getMatch() != null) {
+            matchResponseCacheService.evictMatch(matchHolder.getMatch().getId());
+        }
+        return Optional.of(matchHolder);
+    }
+
+    @Override
+    public void saveSharedEntities(ClubDto clubDto, List<CompetitorDto> competitorDtoList)
+            throws FatalException {
+
+        boolean isNewClub = (clubDto != null) && (clubDto.getId() == null) && (clubDto.getName() != null);
+        List<CompetitorDto> newCompetitorDtoList = ((competitorDtoList != null) ? competitorDtoList.stream()
+                .filter(Objects::nonNull)
+                .filter(competitorDto -> competitorDto.getId() == null)
+                .toList() : List.of());
+        if (!isNewClub && newCompetitorDtoList.isEmpty()) {
+            return;
+        }
+
+        TransactionStatus transaction = transactionManager.getTransaction(
+                new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_REQUIRED));
+
+        // Inserts the new club and competitors; rolls back on failure
+        Club club = null;
+        List<Competitor> competitorList = new ArrayList<>();
+        try {
+            if (isNewClub) {
+                club = clubRepository.save(getClub(clubDto).orElseThrow());
+            }
+
+            newCompetitorDtoList.forEach(competitorDto -> {
+                Competitor competitor = new Competitor();
+                competitor.init(competitorDto);
+                competitorList.add(competitor);
+            });
+            if (!competitorList.isEmpty()) {
+                competitorRepository.saveAll(competitorList);
+            }
+
+            transactionManager.commit(transaction);
+
+        } catch (Exception e) {
+            rollbackIfActive(transaction);
+            log.error(e.getMessage(), e);
+            throw new FatalException("Unable to save the club and competitors: " + e.getMessage(), e);
+        }
+
+        // The DTOs only refer to the inserted entities once they have been committed
+        if (club != null) {
+            clubDto.setId(club.getId());
+            clubDictionaryService.register(club);
+        }
+        for (int i = 0; i < newCompetitorDtoList.size(); i++) {
+            newCompetitorDtoList.get(i).setId(competitorList.get(i).getId());
+        }
     }
 
     // TODO: add Javadoc
@@ -153,15 +227,96 @@ public class TransactionServiceImpl implements TransactionService {
 
             transactionManager.commit(transaction);
 
+        } catch (OptimisticLockingFailureException e) {
+            // The match was written since its client read it; the caller decides how to report it
+            rollbackIfActive(transaction);
+            log.warn("Conflicting write of the match: {}", e.getMessage());
+            throw e;
         } catch (Exception e) {
-            transactionManager.rollback(transaction);
+            rollbackIfActive(transaction);
             log.error(e.getMessage(), e);
             throw new FatalException("Unable to save the match: " + e.getMessage(), e);
         }
 
+        // Only committed clubs are added to the club dictionary
+        clubDictionaryService.register(matchHolder.getClub());
+
+        // Cached responses of the match are only evicted once the write is visible to their next read
+        if (matchHolder.getMatch() != null) {
+            matchResponseCacheService.evictMatch(matchHolder.getMatch().getId());
+        }
         return Optional.empty();
     }
 
+    /**
+     * Rolls back the given transaction, unless it has already completed.
+     *
+     * <p>
+     * A transaction that failed to commit has already been rolled back by the transaction manager,
+     * and can not be rolled back again.
+     * </p>
+     *
+     * @param transaction the transaction to roll back.
+     */
+    protected void rollbackIfActive(TransactionStatus transaction) {
+        if (!transaction.isCompleted()) {
+            transactionManager.rollback(transaction);
+        }
+    }
+
+    /**
+     * Saves the given match competitors.
+     *
+     * <p>
+     * New match competitors are inserted in JDBC batches. Match competitors that were already
+     * persisted, and therefore have IDs, are upserted in chunks instead of being merged one by one.
+     * </p>
+     *
+     * @param matchCompetitorList the match competitors to save.
+     */
+    protected void saveMatchCompetitors(List<MatchCompetitor> matchCompetitorList) {
+        List<MatchCompetitor> newMatchCompetitorList = matchCompetitorList.stream()
+                .filter(matchCompetitor -> matchCompetitor.getId() == null)
+                .toList();
+        List<MatchCompetitor> existingMatchCompetitorList = matchCompetitorList.stream()
+                .filter(matchCompetitor -> matchCompetitor.getId() != null)
+                .toList();
+
+        if (!newMatchCompetitorList.isEmpty()) {
+            matchCompetitorRepository.saveAll(newMatchCompetitorList);
+        }
+        if (!existingMatchCompetitorList.isEmpty()) {
+            matchCompetitorRepository.upsertAll(existingMatchCompetitorList);
+        }
+    }
+
+    /**
+     * Saves the given match stage competitors.
+     *
+     * <p>
+     * New match stage competitors are inserted in JDBC batches. Match stage competitors that were
+     * already persisted, and therefore have IDs, are upserted in chunks instead of being merged one
+     * by one.
+     * </p>
+     *
+     * @param matchStageCompetitorList the match stage competitors to save.
+     */
+    protected void saveMatchStageCompetitors(List<MatchStageCompetitor> matchStageCompetitorList) {
+        List<MatchStageCompetitor> newMatchStageCompetitorList = matchStageCompetitorList.stream()
+                .filter(matchStageCompetitor -> matchStageCompetitor.getId() == null)
+                .toList();
+        List<MatchStageCompetitor> existingMatchStageCompetitorList = matchStageCompetitorList.stream()
+                .filter(matchStageCompetitor -> matchStageCompetitor.getId() != null)
+                .toList();
+
+        if (!newMatchStageCompetitorList.isEmpty()) {
+            matchStageCompetitorRepository.saveAll(newMatchStageCompetitorList);
+        }
+        if (!existingMatchStageCompetitorList.isEmpty()) {
+            matchStageCompetitorRepository.upsertAll(existingMatchStageCompetitorList);
+        }
+    }
+
     /**
      * Retrieves a club entity based on the provided club DTO and maps it using the given DTO to entity mapping.
      * If the club DTO is null, an empty {@code Optional} is returned.
@@ -190,8 +345,16 @@ public class TransactionServiceImpl implements TransactionService {
      * is created. The entity is then initialised with the data from the MatchDto.
      * The updated entity is set back into the DtoToEntityMapping.
      *
-     * @param matchDto@return an Optional containing the initialized IpscMatch entity if the MatchDto is
-     *                        present in the mapping, otherwise an empty Optional
+     * <p>
+     * The match guards the optimistic version of all its results. An existing match is loaded
+     * with a forced version increment, and must still have the version it was mapped with.
+     * A match mapped as new must still not exist by its club, name and scheduled date.
+     * </p>
+     *
+     * @param matchDto the match DTO. Can be null.
+     * @return an Optional containing the initialized IpscMatch entity if the MatchDto is
+     * present in the mapping, otherwise an empty Optional
+     * @throws ObjectOptimisticLockingFailureException if the match was written since it was mapped.
      */
     protected Optional<IpscMatch> getIpscMatch(MatchDto matchDto) {
         if (matchDto == null) {
@@ -200,7 +363,23 @@ public class TransactionServiceImpl implements TransactionService {
 
         IpscMatch matchEntity = new IpscMatch();
         if (matchDto.getId() != null) {
-            matchEntity = ipscMatchRepository.findById(matchDto.getId()).orElseGet(IpscMatch::new);
+            matchEntity = ipscMatchRepository.findLockedById(matchDto.getId()).orElseGet(IpscMatch::new);
+            if ((matchDto.getVersion() != null) && (matchEntity.getVersion() != null) &&
+                    (!matchDto.getVersion().equals(matchEntity.getVersion()))) {
+                throw new ObjectOptimisticLockingFailureException(IpscMatch.class, matchDto.getId());
+            }
+        } else {
+            // Another import may have inserted the match at the same club since it was mapped
+            String clubName = (matchDto.getClub() != null) ? matchDto.getClub().getName() : null;
+            Optional<MatchReference> optionalMatchReference = (clubName != null) ?
+                    ipscMatchRepository.findFirstByNameAndScheduledDateAndClubNameOrderByIdAsc(matchDto.getName(),
+                            matchDto.getScheduledDate(), clubName) :
+                    ipscMatchRepository.findFirstByNameAndScheduledDateAndClubIsNullOrderByIdAsc(matchDto.getName(),
+                            matchDto.getScheduledDate());
+            optionalMatchReference
+                    .ifPresent(matchReference -> {
+                        throw new ObjectOptimisticLockingFailureException(IpscMatch.class, matchReference.id());
+                    });
         }
         matchEntity.init(matchDto);
 
@@ -216,6 +395,11 @@ public class TransactionServiceImpl implements TransactionService {
         IpscMatch matchEntity = new IpscMatch();
         if (matchOnlyDto.getId() != null) {
             matchEntity = ipscMatchRepository.findById(matchOnlyDto.getId()).orElseGet(IpscMatch::new);
+            // A conditional write expects the version of the match its client has seen
+            if ((matchOnlyDto.getVersion() != null) && (matchEntity.getVersion() != null) &&
+                    (!matchOnlyDto.getVersion().equals(matchEntity.getVersion()))) {
+                throw new ObjectOptimisticLockingFailureException(IpscMatch.class, matchOnlyDto.getId());
+            }
         }
         matchEntity.init(matchOnlyDto);
 
@@ -329,10 +513,19 @@ public class TransactionServiceImpl implements TransactionService {
 
         List<MatchStageDto> filteredMatchStageDtoList = dtoToEntityMapping.getMatchStageDtoList();
 
+        // Groups the stage competitors by match stage once, rather than scanning them for every stage
+        Map<UUID, List<MatchStageCompetitorDto>> matchStageCompetitorDtosByStage =
+                dtoToEntityMapping.getMatchStageCompetitorDtoList().stream()
+                        .filter(matchStageCompetitorDto -> matchStageCompetitorDto.getMatchStage() != null)
+                        .filter(matchStageCompetitorDto -> matchStageCompetitorDto.getMatchStage().getUuid() != null)
+                        .collect(Collectors.groupingBy(matchStageCompetitorDto ->
+                                matchStageCompetitorDto.getMatchStage().getUuid()));
+
         List<MatchStageCompetitor> matchStageCompetitorList = new ArrayList<>();
         filteredMatchStageDtoList.forEach(matchStageDto -> {
             List<MatchStageCompetitor> matchStageCompetitorsForStage =
-                    getMatchStageCompetitors(matchStageDto, dtoToEntityMapping);
+                    getMatchStageCompetitors(matchStageCompetitorDtosByStage
+                            .getOrDefault(matchStageDto.getUuid(), List.of()), dtoToEntityMapping);
 
             matchStageCompetitorList.addAll(matchStageCompetitorsForStage);
         });
@@ -341,26 +534,19 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     /**
-     * Retrieves a list of match stage competitors by mapping and filtering data from the provided match stage DTO.
+     * Maps the stage competitor DTOs of a single match stage to match stage competitor entities.
      *
-     * @param matchStageDto      the data transfer object representing the match stage containing information to filter competitors
-     * @param dtoToEntityMapping the utility object responsible for mapping DTOs to entities and performing necessary transformations
-     * @return a list of {@link MatchStageCompetitor} objects corresponding to the provided match stage DTO
+     * @param matchStageCompetitorDtoList the stage competitor DTOs of the match stage
+     * @param dtoToEntityMapping          the utility object responsible for mapping DTOs to entities and
+     *                                    performing necessary transformations
+     * @return a list of {@link MatchStageCompetitor} objects corresponding to the provided DTOs
      */
-    protected List<MatchStageCompetitor> getMatchStageCompetitors(MatchStageDto matchStageDto,
-                                                                  @NotNull DtoToEntityMapping dtoToEntityMapping) {
-
-        List<MatchStageCompetitorDto> matchStageCompetitoDtoList =
-                dtoToEntityMapping.getMatchStageCompetitorDtoList();
-        List<MatchStageCompetitorDto> filteredMatchStageCompetitorDtoList =
-                matchStageCompetitoDtoList.stream()
-                        .filter(matchStageCompetitorDto -> matchStageCompetitorDto.getMatchStage() != null)
-                        .filter(matchStageCompetitorDto -> matchStageDto.getUuid()
-                                .equals(matchStageCompetitorDto.getMatchStage().getUuid()))
-                        .toList();
+    protected List<MatchStageCompetitor> getMatchStageCompetitors(
+            List<MatchStageCompetitorDto> matchStageCompetitorDtoList,
+            @NotNull DtoToEntityMapping dtoToEntityMapping) {
 
         List<MatchStageCompetitor> matchStageCompetitorList = new ArrayList<>();
-        filteredMatchStageCompetitorDtoList.forEach(matchStageCompetitorDto -> {
+        matchStageCompetitorDtoList.forEach(matchStageCompetitorDto -> {
             MatchStageCompetitor matchStageCompetitorEntity = new MatchStageCompetitor();
             if (matchStageCompetitorDto.getId() != null) {
                 matchStageCompetitorEntity.setId(matchStageCompetitorDto.getId());
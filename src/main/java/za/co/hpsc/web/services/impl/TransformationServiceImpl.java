@@ -5,19 +5,26 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import za.co.hpsc.web.constants.IpscConstants;
 import za.co.hpsc.web.domain.*;
+import za.co.hpsc.web.enums.Division;
 import za.co.hpsc.web.exceptions.ValidationException;
+import za.co.hpsc.web.models.ipsc.common.data.CompetitorLookup;
+import za.co.hpsc.web.models.ipsc.common.data.MatchReference;
 import za.co.hpsc.web.models.ipsc.common.dto.*;
+import za.co.hpsc.web.models.ipsc.common.holders.data.MatchEntityIndex;
 import za.co.hpsc.web.models.ipsc.common.holders.data.MatchHolder;
 import za.co.hpsc.web.models.ipsc.common.holders.dto.MatchResultsDto;
 import za.co.hpsc.web.models.ipsc.common.holders.records.IpscMatchRecordHolder;
 import za.co.hpsc.web.models.ipsc.common.holders.request.IpscRequestHolder;
+import za.co.hpsc.web.models.ipsc.common.holders.request.IpscRequestIndex;
 import za.co.hpsc.web.models.ipsc.common.holders.response.IpscResponseHolder;
+import za.co.hpsc.web.models.ipsc.common.holders.response.IpscResponseIndex;
 import za.co.hpsc.web.models.ipsc.common.records.*;
 import za.co.hpsc.web.models.ipsc.common.request.*;
 import za.co.hpsc.web.models.ipsc.common.response.*;
 import za.co.hpsc.web.models.ipsc.match.dto.MatchOnlyDto;
 import za.co.hpsc.web.models.ipsc.match.request.MatchOnlyRequest;
 import za.co.hpsc.web.services.*;
+import za.co.hpsc.web.utils.CompetitorDeDuplicator;
 import za.co.hpsc.web.utils.DateUtil;
 import za.co.hpsc.web.utils.NumberUtil;
 import za.co.hpsc.web.utils.ValueUtil;
@@ -63,22 +70,25 @@ public class TransformationServiceImpl implements TransformationService {
             return new IpscResponseHolder(new ArrayList<>());
         }
 
+        // Indexes the request collections once for all matches
+        IpscRequestIndex ipscRequestIndex = new IpscRequestIndex(ipscRequestHolder);
+
         List<IpscResponse> ipscResponses = new ArrayList<>();
         // Maps IPSC requests to responses by match ID
         ipscRequestHolder.getMatches().stream().filter(Objects::nonNull)
                 .forEach(match -> {
-                    Optional<IpscResponse> response = createBasicMatch(ipscRequestHolder, match);
+                    Optional<IpscResponse> response = createBasicMatch(ipscRequestHolder, ipscRequestIndex, match);
                     response.ifPresent(ipscResponses::add);
                 });
 
         // Add members to each match
         ipscResponses.stream().filter(Objects::nonNull)
                 .forEach(ipscResponse ->
-                        addMembersToMatch(ipscResponse, ipscRequestHolder));
+                        addMembersToMatch(ipscResponse, ipscRequestHolder, ipscRequestIndex));
         // Add a club to each match
         ipscResponses.stream().filter(Objects::nonNull)
                 .forEach(ipscResponse ->
-                        addClubToMatch(ipscResponse, ipscRequestHolder));
+                        addClubToMatch(ipscResponse, ipscRequestHolder, ipscRequestIndex));
 
         return new IpscResponseHolder(ipscResponses);
     }
@@ -102,53 +112,65 @@ public class TransformationServiceImpl implements TransformationService {
         }
 
         List<MatchRecord> matchRecordList = new ArrayList<>();
-        for (MatchHolder matchHolder : ipscMatchHolderList.stream().filter(Objects::nonNull).toList()) {
-            // Get the match name
-            matchHolder.getMatch().setName(ValueUtil.nullAsEmptyString(matchHolder.getMatch().getName()));
-
-            // Get the match and match stage competitors
-            Set<MatchStageCompetitor> matchStageCompetitorSet =
-                    getMatchStageCompetitorSet(matchHolder.getMatchStageCompetitors());
-            Set<MatchCompetitor> matchCompetitorSet =
-                    getMatchCompetitorSet(matchHolder.getMatchCompetitors());
-
-            // Initialise one CompetitorRecord per enrollment (MatchCompetitor)
-            Set<CompetitorRecord> competitorRecordSet = new HashSet<>();
-            for (MatchCompetitor matchCompetitor : matchCompetitorSet.stream().filter(Objects::nonNull).toList()) {
-                Competitor competitor = matchCompetitor.getCompetitor();
-                if (competitor == null) continue;
-
-                // Stage competitors for this enrollment, matched by division
-                List<MatchStageCompetitor> matchStageCompetitorList = matchStageCompetitorSet.stream()
-                        .filter(Objects::nonNull)
-                        .filter(msc -> competitor.equals(msc.getCompetitor()))
-                        .filter(msc -> Objects.equals(matchCompetitor.getDivision(), msc.getDivision()))
-                        .toList();
-
-                MatchCompetitorOverallResultsRecord competitorOverallResult =
-                        initMatchCompetitorOverallResult(competitor, List.of(matchCompetitor))
-                                .orElse(null);
-                List<MatchCompetitorStageResultRecord> competitorStageRecordList =
-                        initMatchCompetitorStageResults(competitor, matchStageCompetitorList);
-
-                if ((competitorOverallResult != null) && (competitorStageRecordList != null) &&
-                        (!competitorStageRecordList.isEmpty())) {
-
-                    Optional<CompetitorResultRecord> optionalCompetitorResult =
-                            initCompetitorResult(competitor, matchCompetitor,
-                                    competitorOverallResult, competitorStageRecordList);
-                    optionalCompetitorResult.flatMap(competitorResultRecord ->
-                                    initCompetitorRecord(competitor, matchCompetitor, competitorResultRecord))
-                            .ifPresent(competitorRecordSet::add);
-                }
-            }
+        ipscMatchHolderList.stream()
+                .filter(Objects::nonNull)
+                .forEach(matchHolder -> generateMatchRecord(matchHolder).ifPresent(matchRecordList::add));
+
+        return new IpscMatchRecordHolder(matchRecordList);
+    }
+
+    @Override
+    public Optional<MatchRecord> generateMatchRecord(MatchHolder matchHolder) {
+        if ((matchHolder == null) || (matchHolder.getMatch() == null)) {
+            return Optional.empty();
+        }
 
-            Optional<MatchRecord> ipscResponse = initIpscMatchRecord(matchHolder.getMatch(),
-                    matchHolder.getClub(), new ArrayList<>(competitorRecordSet));
-            ipscResponse.ifPresent(matchRecordList::add);
+        // Get the match name
+        matchHolder.getMatch().setName(ValueUtil.nullAsEmptyString(matchHolder.getMatch().getName()));
+
+        // Get the match and match stage competitors
+        Set<MatchStageCompetitor> matchStageCompetitorSet =
+                getMatchStageCompetitorSet(matchHolder.getMatchStageCompetitors());
+        Set<MatchCompetitor> matchCompetitorSet =
+                getMatchCompetitorSet(matchHolder.getMatchCompetitors());
+
+        // Groups the stage competitors by enrollment (competitor and division) once per match
+        Map<EnrollmentKey, List<MatchStageCompetitor>> matchStageCompetitorsByEnrollment =
+                matchStageCompetitorSet.stream()
+                        .filter(msc -> msc.getCompetitor() != null)
+                        .collect(Collectors.groupingBy(msc ->
+                                new EnrollmentKey(msc.getCompetitor(), msc.getDivision())));
+
+        // Initialise one CompetitorRecord per enrollment (MatchCompetitor)
+        Set<CompetitorRecord> competitorRecordSet = new HashSet<>();
+        for (MatchCompetitor matchCompetitor : matchCompetitorSet.stream().filter(Objects::nonNull).toList()) {
+            Competitor competitor = matchCompetitor.getCompetitor();
+            if (competitor == null) continue;
+
+            // Stage competitors for this enrollment, matched by division
+            List<MatchStageCompetitor> matchStageCompetitorList = matchStageCompetitorsByEnrollment
+                    .getOrDefault(new EnrollmentKey(competitor, matchCompetitor.getDivision()), List.of());
+
+            MatchCompetitorOverallResultsRecord competitorOverallResult =
+                    initMatchCompetitorOverallResult(competitor, List.of(matchCompetitor))
+                            .orElse(null);
+            List<MatchCompetitorStageResultRecord> competitorStageRecordList =
+                    initMatchCompetitorStageResults(competitor, matchStageCompetitorList);
+
+            if ((competitorOverallResult != null) && (competitorStageRecordList != null) &&
+                    (!competitorStageRecordList.isEmpty())) {
+
+                Optional<CompetitorResultRecord> optionalCompetitorResult =
+                        initCompetitorResult(competitor, matchCompetitor,
+                                competitorOverallResult, competitorStageRecordList);
+                optionalCompetitorResult.flatMap(competitorResultRecord ->
+                                initCompetitorRecord(competitor, matchCompetitor, competitorResultRecord))
+                        .ifPresent(competitorRecordSet::add);
+            }
         }
 
-        return new IpscMatchRecordHolder(matchRecordList);
+        return initIpscMatchRecord(matchHolder.getMatch(),
+                matchHolder.getClub(), new ArrayList<>(competitorRecordSet));
     }
 
     @Override
@@ -168,30 +190,39 @@ public class TransformationServiceImpl implements TransformationService {
         MatchDto match = optionalMatch.get();
         MatchResultsDto matchResultsDto = new MatchResultsDto(match);
         matchResultsDto.setClub(optionalClub.orElse(null));
-        matchResultsDto.setStages(initStages(match, ipscResponse.getStages()));
+
+        // Prefetches the existing stages, match competitors and stage competitors of the match once
+        MatchEntityIndex matchEntityIndex = prefetchMatchEntities(match);
+        matchResultsDto.setStages(initStages(match, ipscResponse.getStages(), matchEntityIndex));
 
         // Check if there are competitors
         if (ipscResponse.getMembers() == null) {
             return Optional.of(matchResultsDto);
         }
 
+        // Indexes the members, enrolments and scores of the match once
+        IpscResponseIndex ipscResponseIndex = new IpscResponseIndex(ipscResponse);
+
         // Initialises competitors
-        matchResultsDto.setCompetitors(initCompetitors(matchResultsDto, ipscResponse));
+        matchResultsDto.setCompetitors(initCompetitors(matchResultsDto, ipscResponse, ipscResponseIndex));
 
         // Initialises match results
-        initEnrolledCompetitors(matchResultsDto, ipscResponse);
+        initEnrolledCompetitors(matchResultsDto, ipscResponse, ipscResponseIndex, matchEntityIndex);
 
         return Optional.of(matchResultsDto);
     }
 
     /**
-     * Creates a minimal match-scoped {@link IpscResponse} from request collections.
+     * Creates a minimal match-scoped {@link IpscResponse}, looking up the match collections in the
+     * given index.
      *
      * @param ipscRequestHolder full request holder
+     * @param ipscRequestIndex  index over the request holder
      * @param match             match request used as the grouping anchor
      * @return optional response containing tags plus stage/enrollment/score lists filtered by match ID
      */
-    protected Optional<IpscResponse> createBasicMatch(IpscRequestHolder ipscRequestHolder, MatchRequest match) {
+    protected Optional<IpscResponse> createBasicMatch(IpscRequestHolder ipscRequestHolder,
+                                                      IpscRequestIndex ipscRequestIndex, MatchRequest match) {
         if (match == null) {
             return Optional.empty();
         }
@@ -211,21 +242,10 @@ public class TransformationServiceImpl implements TransformationService {
             return Optional.empty();
         }
 
-        // Add stages to the response, filtered by match ID
-        List<StageRequest> stageRequests = ipscRequestHolder.getStages().stream()
-                .filter(Objects::nonNull)
-                .filter(stage -> matchId.equals(stage.getMatchId()))
-                .toList();
-        // Add enrolled members to the response, filtered by match ID
-        List<EnrolledRequest> enrolledRequests = ipscRequestHolder.getEnrolledMembers().stream()
-                .filter(Objects::nonNull)
-                .filter(enrolled -> matchId.equals(enrolled.getMatchId()))
-                .toList();
-        // Add scores to the response, filtered by match ID
-        List<ScoreRequest> scoreRequests = ipscRequestHolder.getScores().stream()
-                .filter(Objects::nonNull)
-                .filter(score -> matchId.equals(score.getMatchId()))
-                .toList();
+        // Add stages, enrolled members and scores to the response, looked up by match ID
+        List<StageRequest> stageRequests = ipscRequestIndex.getStages(matchId);
+        List<EnrolledRequest> enrolledRequests = ipscRequestIndex.getEnrolledMembers(matchId);
+        List<ScoreRequest> scoreRequests = ipscRequestIndex.getScores(matchId);
 
         IpscResponse response = new IpscResponse(tagRequests, matchResponse, stageRequests,
                 enrolledRequests, scoreRequests);
@@ -233,35 +253,32 @@ public class TransformationServiceImpl implements TransformationService {
     }
 
     /**
-     * Populates {@link IpscResponse#setMembers(List)} with members referenced by scores.
+     * Populates {@link IpscResponse#setMembers(List)} with members referenced by scores, looking
+     * up the members in the given index.
      *
      * @param ipscResponse      response being enriched
      * @param ipscRequestHolder source holder with members and scores
+     * @param ipscRequestIndex  index over the source holder
      */
-    protected void addMembersToMatch(IpscResponse ipscResponse, IpscRequestHolder ipscRequestHolder) {
-        if (ipscResponse == null) {
+    protected void addMembersToMatch(IpscResponse ipscResponse, IpscRequestHolder ipscRequestHolder,
+                                     IpscRequestIndex ipscRequestIndex) {
+        if ((ipscResponse == null) || (ipscRequestHolder == null) || (ipscRequestHolder.getScores() == null)) {
             return;
         }
 
         List<MemberRequest> responseMembers = new ArrayList<>();
         // Filters members by members with scores
         ipscRequestHolder.getScores().stream().filter(Objects::nonNull)
-                .forEach(scoreRequest -> {
-                    List<MemberRequest> memberRequests = ipscRequestHolder.getMembers().stream()
-                            .filter(Objects::nonNull)
-                            .filter(memberRequest ->
-                                    memberRequest.getMemberId().equals(scoreRequest.getMemberId()))
-                            .toList();
-                    // Collects members with scores
-                    responseMembers.addAll(memberRequests);
-                });
+                .forEach(scoreRequest ->
+                        // Collects members with scores
+                        responseMembers.addAll(ipscRequestIndex.getMembers(scoreRequest.getMemberId())));
         // Sets members on the response
         ipscResponse.setMembers(responseMembers.stream().filter(Objects::nonNull)
                 .map(MemberResponse::new).toList());
     }
 
     /**
-     * Resolves and assigns a club for the response match.
+     * Resolves and assigns a club for the response match, looking up the club in the given index.
      * <p>
      * If a matching club request exists by club ID, it is mapped; otherwise a fallback
      * {@link ClubResponse} is created from the match club ID only.
@@ -269,8 +286,10 @@ public class TransformationServiceImpl implements TransformationService {
      *
      * @param ipscResponse      response containing match data
      * @param ipscRequestHolder source holder containing available clubs
+     * @param ipscRequestIndex  index over the source holder
      */
-    protected void addClubToMatch(IpscResponse ipscResponse, IpscRequestHolder ipscRequestHolder) {
+    protected void addClubToMatch(IpscResponse ipscResponse, IpscRequestHolder ipscRequestHolder,
+                                  IpscRequestIndex ipscRequestIndex) {
         if ((ipscResponse == null) || (ipscRequestHolder == null)) {
             return;
         }
@@ -279,10 +298,7 @@ public class TransformationServiceImpl implements TransformationService {
                 (ipscRequestHolder.getClubs() != null)) {
             Integer clubId = ipscResponse.getMatch().getClubId();
             // Finds the club matching ID or provides default
-            ClubRequest club = ipscRequestHolder.getClubs().stream()
-                    .filter(Objects::nonNull)
-                    .filter(clubRequest -> clubId.equals(clubRequest.getClubId()))
-                    .findFirst().orElse(null);
+            ClubRequest club = ipscRequestIndex.getClub(clubId).orElse(null);
             ipscResponse.setClub((club != null) ? new ClubResponse(club) : new ClubResponse(clubId));
         }
     }
@@ -574,13 +590,18 @@ public class TransformationServiceImpl implements TransformationService {
             return Optional.empty();
         }
 
-        // Attempts to find the match by name in the database
-        Optional<IpscMatch> optionalMatch =
-                matchEntityService.findMatchByNameAndScheduledDate(ipscResponse.getMatch().getMatchName(),
+        // Attempts to find the match by name and date in the database, without loading it
+        Optional<MatchReference> optionalMatchReference =
+                matchEntityService.findMatchReference(ipscResponse.getMatch().getMatchName(),
                         ipscResponse.getMatch().getMatchDate());
 
-        // Creates a new match DTO, from either the found entity or the match response
-        MatchDto matchDto = optionalMatch.map(MatchDto::new).orElseGet(MatchDto::new);
+        // Creates a new match DTO, referring to the found match if any, from the match response
+        MatchDto matchDto = new MatchDto();
+        optionalMatchReference.ifPresent(matchReference -> {
+            matchDto.setId(matchReference.id());
+            matchDto.setVersion(matchReference.version());
+            matchDto.setDateEdited(matchReference.dateEdited());
+        });
 
         // Initialises match attributes
         matchDto.init(ipscResponse.getMatch(), clubDto, ipscResponse.getScores());
@@ -589,13 +610,34 @@ public class TransformationServiceImpl implements TransformationService {
     }
 
     /**
-     * Initialises match stage DTOs from stage response payloads for a given match.
+     * Loads the existing stages, match competitors and stage competitors of a match, in one query
+     * each.
+     *
+     * @param matchDto match whose entities should be loaded
+     * @return index over the existing entities; empty when the match has not been persisted
+     */
+    protected MatchEntityIndex prefetchMatchEntities(MatchDto matchDto) {
+        if ((matchDto == null) || (matchDto.getId() == null)) {
+            return new MatchEntityIndex();
+        }
+
+        return new MatchEntityIndex(
+                matchStageEntityService.findMatchStagesByMatch(matchDto.getId()),
+                matchCompetitorEntityService.findMatchCompetitorsByMatch(matchDto.getId()),
+                matchStageCompetitorEntityService.findMatchStageCompetitorsByMatch(matchDto.getId()));
+    }
+
+    /**
+     * Initialises match stage DTOs from stage response payloads for a given match, reusing the
+     * existing stages in the given index.
      *
-     * @param matchDto       parent match DTO
-     * @param stageResponses stage responses to map
+     * @param matchDto         parent match DTO
+     * @param stageResponses   stage responses to map
+     * @param matchEntityIndex index over the existing entities of the match
      * @return non-null list of initialised stage DTOs
      */
-    protected List<MatchStageDto> initStages(MatchDto matchDto, List<StageResponse> stageResponses) {
+    protected List<MatchStageDto> initStages(MatchDto matchDto, List<StageResponse> stageResponses,
+                                             MatchEntityIndex matchEntityIndex) {
         if ((matchDto == null) || (stageResponses == null)) {
             return new ArrayList<>();
         }
@@ -604,10 +646,9 @@ public class TransformationServiceImpl implements TransformationService {
         // Iterates through each stage response
         stageResponses.stream().filter(Objects::nonNull)
                 .forEach(stageResponse -> {
-                    // Attempts to find the match stage by match ID and stage ID in the database
+                    // Attempts to find the match stage by stage ID among the existing stages
                     Optional<IpscMatchStage> optionalMatchStage =
-                            matchStageEntityService.findMatchStage(matchDto.getId(),
-                                    stageResponse.getStageId());
+                            matchEntityIndex.getStage(stageResponse.getStageId());
                     // Creates a new stage DTO, from either the found entity or the stage response
                     MatchStageDto matchStageDto = optionalMatchStage
                             .map(ms -> new MatchStageDto(ms, matchDto))
@@ -622,18 +663,21 @@ public class TransformationServiceImpl implements TransformationService {
     }
 
     /**
-     * Initialises competitor DTOs for participating members based on score/member data.
+     * Initialises competitor DTOs for participating members, looking up the members in the
+     * given index.
      * <p>
      * Competitors with null/zero final score are excluded, then deduplicated by SAPSA number
      * and entity ID while merging source indexes.
      * </p>
      *
-     * @param matchResultsDto match-results context
-     * @param ipscResponse    response containing scores and members
+     * @param matchResultsDto   match-results context
+     * @param ipscResponse      response containing scores and members
+     * @param ipscResponseIndex index over the response
      * @return non-null list of competitor DTOs
      */
     protected List<CompetitorDto> initCompetitors(@NotNull MatchResultsDto matchResultsDto,
-                                                  IpscResponse ipscResponse) {
+                                                  IpscResponse ipscResponse,
+                                                  IpscResponseIndex ipscResponseIndex) {
         if ((ipscResponse == null) || (ipscResponse.getScores() == null) || (ipscResponse.getMembers() == null)) {
             return new ArrayList<>();
         }
@@ -648,37 +692,32 @@ public class TransformationServiceImpl implements TransformationService {
                 .filter(scoreResponse -> scoreResponse.getMatchId() != null)
                 .filter(scoreResponse -> scoreResponse.getMatchId().equals(ipscResponse.getMatch().getMatchId()))
                 .toList();
-        List<MemberResponse> memberResponses = ipscResponse.getMembers();
 
-        // Maps score responses to corresponding competitor responses,
+        // Maps score responses to corresponding member responses,
         // excluding competitors who didn't participate
-        Map<Integer, CompetitorDto> competitorDtoMap = new HashMap<>();
+        List<MemberResponse> scoringMembers = new ArrayList<>();
         scoreResponses.forEach(scoreResponse -> {
             if ((scoreResponse.getFinalScore() != null) && (scoreResponse.getFinalScore() != 0)) {
-                Optional<MemberResponse> optionalMemberResponse = memberResponses.stream()
-                        .filter(Objects::nonNull)
-                        .filter(memberResponse -> memberResponse.getMemberId() != null)
-                        .filter(memberResponse -> memberResponse.getMemberId().equals(scoreResponse.getMemberId()))
-                        .findFirst();
-                optionalMemberResponse.ifPresent(memberResponse -> {
-                    // Attempts to find the competitor by its ICS alias or first name and last name
-                    Optional<Competitor> optionalCompetitor = competitorEntityService.findCompetitor(
-                            memberResponse.getIcsAlias(),
-                            memberResponse.getFirstName(),
-                            memberResponse.getLastName(),
-                            memberResponse.getDateOfBirth());
-                    // Creates a new competitor DTO, from either the found entity or the competitor response
-                    CompetitorDto competitorDto = optionalCompetitor
-                            .map(CompetitorDto::new)
-                            .orElseGet(CompetitorDto::new);
-
-                    // Initialises competitor attributes
-                    competitorDto.init(memberResponse);
-                    competitorDtoMap.put(memberResponse.getMemberId(), competitorDto);
-                });
+                ipscResponseIndex.getMember(scoreResponse.getMemberId()).ifPresent(scoringMembers::add);
             }
         });
 
+        // Attempts to find all competitors by their ICS alias or first name and last name at once
+        Map<CompetitorLookup, Competitor> competitorMap = competitorEntityService.findCompetitors(
+                scoringMembers.stream().map(this::getCompetitorLookup).collect(Collectors.toSet()));
+
+        Map<Integer, CompetitorDto> competitorDtoMap = new HashMap<>();
+        scoringMembers.forEach(memberResponse -> {
+            // Creates a new competitor DTO, from either the found entity or the competitor response
+            CompetitorDto competitorDto = Optional.ofNullable(competitorMap.get(getCompetitorLookup(memberResponse)))
+                    .map(CompetitorDto::new)
+                    .orElseGet(CompetitorDto::new);
+
+            // Initialises competitor attributes
+            competitorDto.init(memberResponse);
+            competitorDtoMap.put(memberResponse.getMemberId(), competitorDto);
+        });
+
         // Filter out duplicates based on sapsaNumber and id
         Map<Integer, CompetitorDto> filteredCompetitorDtoMap = deDuplicateCompetitorDtoList(competitorDtoMap);
 
@@ -686,12 +725,28 @@ public class TransformationServiceImpl implements TransformationService {
     }
 
     /**
-     * Initialises match-competitor and match-stage-competitor DTO collections on {@code matchResultsDto}.
+     * Creates the lookup used to resolve a member to an existing competitor.
+     *
+     * @param memberResponse member whose competitor should be resolved
+     * @return lookup with the member's ICS alias, names and date of birth
+     */
+    protected CompetitorLookup getCompetitorLookup(MemberResponse memberResponse) {
+        return new CompetitorLookup(memberResponse.getIcsAlias(), memberResponse.getFirstName(),
+                memberResponse.getLastName(), memberResponse.getDateOfBirth());
+    }
+
+    /**
+     * Initialises match-competitor and match-stage-competitor DTO collections on
+     * {@code matchResultsDto}, looking up members, enrolments and scores in the given response index
+     * and existing entities in the given match entity index.
      *
-     * @param matchResultsDto target aggregate to update
-     * @param ipscResponse    response providing members/scores/enrollments
+     * @param matchResultsDto   target aggregate to update
+     * @param ipscResponse      response providing members/scores/enrollments
+     * @param ipscResponseIndex index over the response
+     * @param matchEntityIndex  index over the existing entities of the match
      */
-    protected void initEnrolledCompetitors(@NotNull MatchResultsDto matchResultsDto, IpscResponse ipscResponse) {
+    protected void initEnrolledCompetitors(@NotNull MatchResultsDto matchResultsDto, IpscResponse ipscResponse,
+                                           IpscResponseIndex ipscResponseIndex, MatchEntityIndex matchEntityIndex) {
         // Checks for null or missing data in the IPSC response
         if ((ipscResponse == null) || (ipscResponse.getScores() == null) || (ipscResponse.getMembers() == null)) {
             return;
@@ -701,22 +756,22 @@ public class TransformationServiceImpl implements TransformationService {
             return;
         }
 
-        // Filters score responses to those relevant to the current match
-        List<ScoreResponse> scoreResponses = ipscResponse.getScores().stream()
-                .filter(Objects::nonNull)
-                .filter(scoreResponse -> scoreResponse.getMatchId() != null)
-                .filter(scoreResponse -> scoreResponse.getMatchId()
-                        .equals(matchResultsDto.getMatch().getIndex()))
-                .toList();
         List<MemberResponse> memberResponses = ipscResponse.getMembers();
-        List<EnrolledResponse> enrolledResponses =
-                ValueUtil.nullAsDefault(ipscResponse.getEnrolledMembers(), new ArrayList<>());
 
         // Seed competitors when not already initialised
         if ((matchResultsDto.getCompetitors() == null) || (matchResultsDto.getCompetitors().isEmpty())) {
-            matchResultsDto.setCompetitors(initCompetitors(matchResultsDto, ipscResponse));
+            matchResultsDto.setCompetitors(initCompetitors(matchResultsDto, ipscResponse, ipscResponseIndex));
         }
 
+        // Indexes the competitors by member index, keeping the first competitor for each index
+        Map<Integer, CompetitorDto> competitorDtoByMemberId = new HashMap<>();
+        matchResultsDto.getCompetitors().stream()
+                .filter(Objects::nonNull)
+                .filter(cd -> cd.getIndexes() != null)
+                .forEach(cd -> cd.getIndexes().stream()
+                        .filter(Objects::nonNull)
+                        .forEach(index -> competitorDtoByMemberId.putIfAbsent(index, cd)));
+
         // Maps score responses to corresponding member responses,
         // excluding members who didn't participate
         List<MemberResponse> scoreMembers = memberResponses.stream()
@@ -728,28 +783,16 @@ public class TransformationServiceImpl implements TransformationService {
         scoreMembers.stream().filter(Objects::nonNull)
                 .forEach(memberResponse -> {
                     // Collects all enrolled responses for this member (one per enrollment/division)
-                    List<EnrolledResponse> enrolledResponseList = enrolledResponses.stream()
-                            .filter(Objects::nonNull)
-                            .filter(er -> er.getMemberId() != null)
-                            .filter(er -> er.getMemberId()
-                                    .equals(memberResponse.getMemberId()))
-                            .toList();
-
-                    // Get the member response from the map
-                    Optional<MemberResponse> optionalMemberResponse = memberResponses.stream()
-                            .filter(Objects::nonNull)
-                            .filter(mr -> mr.getMemberId() != null)
-                            .filter(mr -> mr.getMemberId()
-                                    .equals(memberResponse.getMemberId()))
-                            .findFirst();
-                    // Get the competitor from the map
-                    Optional<CompetitorDto> optionalCompetitorDto = matchResultsDto.getCompetitors().stream()
-                            .filter(Objects::nonNull)
-                            .filter(cd -> cd.getIndexes() != null)
-                            .filter(cd -> !cd.getIndexes().isEmpty())
-                            .filter(cd -> cd.getIndexes()
-                                    .contains(memberResponse.getMemberId()))
-                            .findFirst();
+                    List<EnrolledResponse> enrolledResponseList =
+                            ipscResponseIndex.getEnrolledMembers(memberResponse.getMemberId());
+
+                    // Get the member response from the index
+                    Optional<MemberResponse> optionalMemberResponse =
+                            ipscResponseIndex.getMember(memberResponse.getMemberId());
+                    // Get the competitor from the index
+                    Optional<CompetitorDto> optionalCompetitorDto = Optional.ofNullable(
+                            (memberResponse.getMemberId() != null) ?
+                                    competitorDtoByMemberId.get(memberResponse.getMemberId()) : null);
 
                     // Caches the competitor and all enrolled responses for later use
                     if (optionalCompetitorDto.isPresent() && optionalMemberResponse.isPresent()
@@ -766,7 +809,8 @@ public class TransformationServiceImpl implements TransformationService {
         competitorDtoMap.keySet().stream().filter(Objects::nonNull)
                 .forEach(memberIndex -> {
                     EnrolledCompetitorDto enrolledCompetitorDto = initCompetitorScores(memberIndex,
-                            matchResultsDto, competitorDtoMap, scoreResponses, enrolledResponseMap);
+                            matchResultsDto, competitorDtoMap, ipscResponseIndex, enrolledResponseMap,
+                            matchEntityIndex);
                     enrolledCompetitorDtoList.add(enrolledCompetitorDto);
                 });
 
@@ -793,25 +837,22 @@ public class TransformationServiceImpl implements TransformationService {
      * @param memberIndex         member ID/index in the request domain
      * @param matchResultsDto     aggregate context with match/stage metadata
      * @param competitorDtoMap    member-index to competitor mapping
-     * @param scoreResponses      match-filtered score responses
+     * @param ipscResponseIndex   index providing the score responses of the member
      * @param enrolledResponseMap member-index to enrollment rows (division/classification context)
+     * @param matchEntityIndex    index providing the existing match and stage competitors
      * @return initialised enrolled competitor DTO
      */
     protected EnrolledCompetitorDto initCompetitorScores(int memberIndex, MatchResultsDto matchResultsDto,
                                                          Map<Integer, CompetitorDto> competitorDtoMap,
-                                                         List<ScoreResponse> scoreResponses,
-                                                         Map<Integer, List<EnrolledResponse>> enrolledResponseMap) {
+                                                         IpscResponseIndex ipscResponseIndex,
+                                                         Map<Integer, List<EnrolledResponse>> enrolledResponseMap,
+                                                         MatchEntityIndex matchEntityIndex) {
         // Gets the competitor DTO and all enrolled responses for this member
         CompetitorDto competitorDto = competitorDtoMap.get(memberIndex);
         List<EnrolledResponse> enrolledResponsesForMember = enrolledResponseMap.get(memberIndex);
 
-        // Attempts to find the match competitor by competitor ID and match ID in the database
-        List<MatchCompetitor> matchCompetitorList = new ArrayList<>();
-        if (matchResultsDto.getMatch().getId() != null) {
-            matchCompetitorList =
-                    matchCompetitorEntityService.findMatchCompetitors(matchResultsDto.getMatch().getId(),
-                            competitorDto.getId());
-        }
+        // Attempts to find the match competitor by competitor ID among the existing match competitors
+        List<MatchCompetitor> matchCompetitorList = matchEntityIndex.getMatchCompetitors(competitorDto.getId());
 
         // Creates one match competitor DTO per enrollment (division/firearm type)
         List<MatchCompetitorDto> matchCompetitorDtoList = new ArrayList<>();
@@ -828,13 +869,17 @@ public class TransformationServiceImpl implements TransformationService {
 
         EnrolledCompetitorDto enrolledCompetitorDto = new EnrolledCompetitorDto(matchCompetitorDtoList.getFirst());
 
-        // Filters scores by member ID (deduplicated by stage so matchPoints is not inflated)
-        List<ScoreResponse> scores = scoreResponses.stream()
-                .filter(Objects::nonNull)
-                .filter(sr -> Objects.equals(sr.getMemberId(), memberIndex))
+        // Gets the scores of the member in this match
+        List<ScoreResponse> scores = ipscResponseIndex.getScores(memberIndex).stream()
+                .filter(sr -> sr.getMatchId() != null)
                 .filter(sr -> Objects.equals(sr.getMatchId(),
                         matchResultsDto.getMatch().getIndex()))
                 .toList();
+        // Indexes the scores by stage ID, keeping the first score for each stage
+        Map<Integer, ScoreResponse> stageScoreResponseMap = new HashMap<>();
+        scores.stream()
+                .filter(scoreResponse -> scoreResponse.getStageId() != null)
+                .forEach(scoreResponse -> stageScoreResponseMap.putIfAbsent(scoreResponse.getStageId(), scoreResponse));
 
         // Initialises each match competitor DTO with its corresponding enrolled response
         for (int i = 0; i < matchCompetitorDtoList.size(); i++) {
@@ -851,17 +896,15 @@ public class TransformationServiceImpl implements TransformationService {
         // Gets the match stage competitors from the match results DTO
         matchResultsDto.getStages().stream().filter(Objects::nonNull)
                 .forEach(stageDto -> {
-                    // Filters scores by stage ID (already filtered by member ID)
-                    Optional<ScoreResponse> optionalStageScoreResponse = scores.stream()
-                            .filter(Objects::nonNull)
-                            .filter(scoreResponse -> scoreResponse.getStageId() != null)
-                            .filter(scoreResponse -> scoreResponse.getStageId().equals(stageDto.getStageNumber()))
-                            .findFirst();
+                    // Gets the score of the member for this stage
+                    Optional<ScoreResponse> optionalStageScoreResponse = Optional.ofNullable(
+                            (stageDto.getStageNumber() != null) ?
+                                    stageScoreResponseMap.get(stageDto.getStageNumber()) : null);
 
                     optionalStageScoreResponse.ifPresent(stageScoreResponse -> {
                         // Attempts to find the match stage competitor by competitor ID and stage ID
                         List<MatchStageCompetitor> matchStageCompetitors =
-                                matchStageCompetitorEntityService.findMatchStageCompetitors(stageDto.getId(),
+                                matchEntityIndex.getMatchStageCompetitors(stageDto.getId(),
                                         competitorDto.getId());
 
                         // Creates one match stage competitor DTO per enrollment
@@ -898,7 +941,7 @@ public class TransformationServiceImpl implements TransformationService {
      * </ol>
      * <p>
      * Duplicate entries are merged by appending index references to the first occurrence.
-     * Insertion order is preserved via {@link LinkedHashMap}.
+     * Insertion order is preserved via {@link LinkedHashMap}. See {@link CompetitorDeDuplicator}.
      * </p>
      *
      * @param competitorDtoMap input map keyed by member index
@@ -909,72 +952,21 @@ public class TransformationServiceImpl implements TransformationService {
             return null;
         }
 
-        // Prepare sets to track seen SAPSA numbers and IDs
-        Set<Integer> seenSapsaNumbers = new HashSet<>();
-        Set<Long> seenIds = new HashSet<>();
-
-        // Sets maps to hold the original and filtered competitor DTOs
-        Map<Integer, CompetitorDto> unfilteredCompetitorMap = competitorDtoMap;
-        Map<Integer, CompetitorDto> filteredCompetitorDtoMap = new LinkedHashMap<>();
-
-        // Filter out duplicates based on the member's SAPSA number, if available
-        Map<Integer, CompetitorDto> intermediateFilteredCompetitorDtoMap = filteredCompetitorDtoMap;
-        unfilteredCompetitorMap.forEach((key, competitorDto) -> {
-            boolean isDuplicate = false;
-
-            if (competitorDto.getSapsaNumber() != null) {
-                if (seenSapsaNumbers.contains(competitorDto.getSapsaNumber())) {
-                    isDuplicate = true;
-                } else {
-                    seenSapsaNumbers.add(competitorDto.getSapsaNumber());
-                }
-            }
-
-            // Is this SAPSA number duplicated?
-            if (!isDuplicate) {
-                intermediateFilteredCompetitorDtoMap.put(key, competitorDto);
-            } else {
-                Optional<CompetitorDto> duplicateCompetitorDto = competitorDtoMap.values().stream()
-                        .filter(Objects::nonNull)
-                        .filter(cd -> cd.getSapsaNumber() != null)
-                        .filter(cd -> cd.getSapsaNumber().equals(competitorDto.getSapsaNumber()))
-                        .findFirst();
-                duplicateCompetitorDto.ifPresent(originalCompetitorDto ->
-                        originalCompetitorDto.getIndexes().addAll(competitorDto.getIndexes()));
-            }
-        });
-
-        // Resets maps to hold the original and filtered competitor DTOs
-        unfilteredCompetitorMap = filteredCompetitorDtoMap;
-        filteredCompetitorDtoMap = new LinkedHashMap<>();
-
-        // Filter out duplicates based on the competitor's ID, if available
-        Map<Integer, CompetitorDto> finalFilteredCompetitorDtoMap = filteredCompetitorDtoMap;
-        unfilteredCompetitorMap.forEach((key, competitorDto) -> {
-            boolean isDuplicate = false;
-
-            if (competitorDto.getId() != null) {
-                if (seenIds.contains(competitorDto.getId())) {
-                    isDuplicate = true;
-                } else {
-                    seenIds.add(competitorDto.getId());
-                }
-            }
+        // Filter out duplicates based on the SAPSA number, then on the competitor ID
+        CompetitorDeDuplicator.Result result = CompetitorDeDuplicator.deDuplicate(competitorDtoMap);
+        result.mergedGroups().forEach(mergedGroup ->
+                log.debug("Merged competitors {} into {} on {} {}.", mergedGroup.mergedIndexes(),
+                        mergedGroup.survivorIndex(), mergedGroup.keyName(), mergedGroup.keyValue()));
 
-            // Is this ID duplicated?
-            if (!isDuplicate) {
-                finalFilteredCompetitorDtoMap.put(key, competitorDto);
-            } else {
-                Optional<CompetitorDto> duplicateCompetitorDto = competitorDtoMap.values().stream()
-                        .filter(Objects::nonNull)
-                        .filter(cd -> cd.getId() != null)
-                        .filter(cd -> cd.getId().equals(competitorDto.getId()))
-                        .findFirst();
-                duplicateCompetitorDto.ifPresent(originalCompetitorDto ->
-                        originalCompetitorDto.getIndexes().addAll(competitorDto.getIndexes()));
-            }
-        });
+        return result.competitors();
+    }
 
-        return finalFilteredCompetitorDtoMap;
+    /**
+     * Identifies an enrollment of a competitor in a match: the competitor with the division entered.
+     *
+     * @param competitor the competitor entity.
+     * @param division   the division entered. Can be null.
+     */
+    private record EnrollmentKey(Competitor competitor, Division division) {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,103 @@
+package za.co.hpsc.web.utils;
+
+import za.co.hpsc.web.models.ipsc.common.dto.CompetitorDto;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * De-duplicates the competitors of a match in linear time.
+ *
+ * <p>
+ * Competitors are de-duplicated in two passes: first by non-null SAPSA number, then by non-null
+ * persisted competitor ID. Each pass keeps a hash index from the key to the surviving competitor,
+ * so every competitor is looked up once per pass. The first competitor with a key survives, in
+ * the iteration order of the input map, and the member indexes of each duplicate are appended to
+ * the indexes of its survivor.
+ * </p>
+ */
+public final class CompetitorDeDuplicator {
+    public static final String SAPSA_NUMBER_KEY = "sapsaNumber";
+    public static final String COMPETITOR_ID_KEY = "id";
+
+    private CompetitorDeDuplicator() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * The result of a de-duplication.
+     *
+     * @param competitors  the surviving competitors, keyed by member index, in input order.
+     * @param mergedGroups the groups of competitors merged into a survivor, per pass, in the order
+     *                     in which the first duplicate of each group was found.
+     */
+    public record Result(Map<Integer, CompetitorDto> competitors, List<MergedGroup> mergedGroups) {
+    }
+
+    /**
+     * A group of competitors merged into a single survivor.
+     *
+     * @param keyName       the name of the key on which the competitors were merged.
+     * @param keyValue      the shared value of the key.
+     * @param survivorIndex the member index of the surviving competitor.
+     * @param mergedIndexes the member indexes of the competitors merged into the survivor.
+     */
+    public record MergedGroup(String keyName, Object keyValue, Integer survivorIndex,
+                              List<Integer> mergedIndexes) {
+    }
+
+    /**
+     * De-duplicates the given competitors by SAPSA number, then by competitor ID.
+     *
+     * <p>
+     * The duplicates' member indexes are merged into the indexes of the surviving competitor
+     * DTOs, which are modified in place. Null competitors are dropped.
+     * </p>
+     *
+     * @param competitorDtoMap the competitors keyed by member index. Can be null.
+     * @return the surviving competitors and the merged groups.
+     */
+    public static Result deDuplicate(Map<Integer, CompetitorDto> competitorDtoMap) {
+        List<MergedGroup> mergedGroups = new ArrayList<>();
+        if (competitorDtoMap == null) {
+            return new Result(new LinkedHashMap<>(), mergedGroups);
+        }
+
+        Map<Integer, CompetitorDto> bySapsaNumber = deDuplicateBy(competitorDtoMap, SAPSA_NUMBER_KEY,
+                CompetitorDto::getSapsaNumber, mergedGroups);
+        Map<Integer, CompetitorDto> byId = deDuplicateBy(bySapsaNumber, COMPETITOR_ID_KEY,
+                CompetitorDto::getId, mergedGroups);
+        return new Result(byId, mergedGroups);
+    }
+
+    private static Map<Integer, CompetitorDto> deDuplicateBy(Map<Integer, CompetitorDto> competitorDtoMap,
+                                                             String keyName,
+                                                             Function<CompetitorDto, Object> keyFunction,
+                                                             List<MergedGroup> mergedGroups) {
+        Map<Integer, CompetitorDto> filteredCompetitorDtoMap = new LinkedHashMap<>();
+        // Maps each key value to its survivor and, once a duplicate is found, its merged group
+        Map<Object, Integer> survivorIndexes = new HashMap<>();
+        Map<Object, MergedGroup> groups = new LinkedHashMap<>();
+
+        competitorDtoMap.forEach((index, competitorDto) -> {
+            if (competitorDto == null) {
+                return;
+            }
+
+            Object keyValue = keyFunction.apply(competitorDto);
+            Integer survivorIndex = ((keyValue != null) ? survivorIndexes.putIfAbsent(keyValue, index) : null);
+            if (survivorIndex == null) {
+                filteredCompetitorDtoMap.put(index, competitorDto);
+                return;
+            }
+
+            // Merges the duplicate's indexes into the survivor
+            filteredCompetitorDtoMap.get(survivorIndex).getIndexes().addAll(competitorDto.getIndexes());
+            groups.computeIfAbsent(keyValue, k -> new MergedGroup(keyName, k, survivorIndex, new ArrayList<>()))
+                    .mergedIndexes().add(index);
+        });
+
+        mergedGroups.addAll(groups.values());
+        return filteredCompetitorDtoMap;
+    }
+}
@@ -0,0 +1,68 @@
+package za.co.hpsc.web.utils;
+
+import org.springframework.http.ETag;
+
+/**
+ * Utility class providing methods to build and compare entity tags for conditional requests.
+ *
+ * <p>
+ * The {@code ETagUtil} class derives strong entity tags from the optimistic lock version of an
+ * entity, which changes with every write of the entity, and compares them with the entity tags
+ * of the {@code If-None-Match} and {@code If-Match} request headers.
+ * </p>
+ */
+public final class ETagUtil {
+    private ETagUtil() {
+        // Utility class, not to be instantiated
+    }
+
+    /**
+     * Builds the strong entity tag of the given version.
+     *
+     * @param version the optimistic lock version of an entity; may be null.
+     * @return the quoted entity tag, or null if the version is null.
+     */
+    public static String toETag(Long version) {
+        if (version == null) {
+            return null;
+        }
+
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Determines whether an {@code If-None-Match} header matches the given entity tag.
+     * The weak comparison applies, and the wildcard matches any entity tag.
+     *
+     * @param ifNoneMatch the value of the {@code If-None-Match} header; may be null.
+     * @param eTag        the current entity tag; may be null.
+     * @return true if the header matches the entity tag; otherwise, false.
+     */
+    public static boolean matchesIfNoneMatch(String ifNoneMatch, String eTag) {
+        return matches(ifNoneMatch, eTag, false);
+    }
+
+    /**
+     * Determines whether an {@code If-Match} header matches the given entity tag.
+     * The strong comparison applies, so a weak entity tag never matches, and the wildcard
+     * matches any entity tag.
+     *
+     * @param ifMatch the value of the {@code If-Match} header; may be null.
+     * @param eTag    the current entity tag; may be null.
+     * @return true if the header matches the entity tag; otherwise, false.
+     */
+    public static boolean matchesIfMatch(String ifMatch, String eTag) {
+        return matches(ifMatch, eTag, true);
+    }
+
+    private static boolean matches(String header, String eTag, boolean strongComparison) {
+        if ((header == null) || header.isBlank() || (eTag == null)) {
+            return false;
+        }
+
+        ETag currentETag = ETag.create(eTag);
+        return ETag.parse(header).stream()
+                .anyMatch(requestETag -> requestETag.isWildcard() ||
+                        requestETag.compare(currentETag, strongComparison));
+    }
+}
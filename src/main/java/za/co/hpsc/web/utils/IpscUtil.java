@@ -2,6 +2,9 @@ package za.co.hpsc.web.utils;
 
 import za.co.hpsc.web.models.ipsc.common.dto.ClubDto;
 
+import java.time.LocalDateTime;
+import java.util.Locale;
+
 // TODO: add Javadoc
 public final class IpscUtil {
     private IpscUtil() {
@@ -56,6 +59,36 @@ public final class IpscUtil {
         return sb.toString().trim();
     }
 
+    /**
+     * Returns the natural key of a match: its trimmed, lower-cased name and its scheduled date.
+     *
+     * <p>
+     * The name is lower-cased in the root locale, so that the key of a match does not depend
+     * on the default locale of the host, e.g. the dotless i of the Turkish locale.
+     * </p>
+     *
+     * @param name          the name of the match. Can be null.
+     * @param scheduledDate the scheduled date of the match. Can be null.
+     * @return the natural key of the match.
+     */
+    public static String matchKey(String name, LocalDateTime scheduledDate) {
+        return ValueUtil.nullAsEmptyString(name).trim().toLowerCase(Locale.ROOT) + "|" + scheduledDate;
+    }
+
+    /**
+     * Returns the natural key of a match at a club: the trimmed, lower-cased name of the club,
+     * followed by the {@link #matchKey(String, LocalDateTime) natural key of the match}.
+     *
+     * @param clubName      the name of the club. Can be null.
+     * @param name          the name of the match. Can be null.
+     * @param scheduledDate the scheduled date of the match. Can be null.
+     * @return the natural key of the match at the club.
+     */
+    public static String clubMatchKey(String clubName, String name, LocalDateTime scheduledDate) {
+        return ValueUtil.nullAsEmptyString(clubName).trim().toLowerCase(Locale.ROOT) + "|" +
+                matchKey(name, scheduledDate);
+    }
+
     public static String matchToString(String name, ClubDto club) {
         if (club != null) {
             return matchToString(name, club.getName(), club.getAbbreviation());
@@ -0,0 +1,100 @@
+package za.co.hpsc.web.utils;
+
+import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A fixed set of locks, shared between an unbounded number of keys.
+ *
+ * <p>
+ * Each key is mapped to one of the stripes by its hash code. Locking a set of keys locks
+ * the distinct stripes in ascending order, so that two threads locking overlapping key sets
+ * can never deadlock, and threads working on the same natural key are always serialised.
+ * Unrelated keys may occasionally share a stripe, which only costs concurrency.
+ * </p>
+ */
+public final class StripedLocks {
+    private final Lock[] stripes;
+
+    /**
+     * Constructs a new {@code StripedLocks} instance with the given number of stripes.
+     *
+     * @param stripeCount the number of locks to spread the keys over. Must be positive.
+     */
+    public StripedLocks(int stripeCount) {
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("The stripe count must be positive.");
+        }
+        this.stripes = new Lock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Acquires the locks of all the stripes the given keys map to.
+     *
+     * <p>
+     * Null keys are ignored. The returned locks must be released with {@link #unlockAll(List)},
+     * typically in a {@code finally} block.
+     * </p>
+     *
+     * @param keys the keys to lock. Can be null or empty.
+     * @return the acquired locks, in the order in which they were acquired.
+     */
+    public List<Lock> lockAll(Collection<?> keys) {
+        if ((keys == null) || keys.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // Resolves the distinct stripes in ascending order
+        SortedSet<Integer> stripeIndexes = new TreeSet<>();
+        keys.stream()
+                .filter(Objects::nonNull)
+                .forEach(key -> stripeIndexes.add(stripeIndex(key)));
+
+        List<Lock> locks = new ArrayList<>(stripeIndexes.size());
+        try {
+            for (Integer stripeIndex : stripeIndexes) {
+                Lock lock = stripes[stripeIndex];
+                lock.lock();
+                locks.add(lock);
+            }
+        } catch (RuntimeException e) {
+            unlockAll(locks);
+            throw e;
+        }
+        return locks;
+    }
+
+    /**
+     * Releases the given locks in the reverse order of acquisition.
+     *
+     * @param locks the locks returned by {@link #lockAll(Collection)}. Can be null.
+     */
+    public void unlockAll(List<Lock> locks) {
+        if (locks == null) {
+            return;
+        }
+        for (int i = locks.size() - 1; i >= 0; i--) {
+            locks.get(i).unlock();
+        }
+    }
+
+    /**
+     * Returns the number of stripes.
+     *
+     * @return the number of stripes.
+     */
+    public int getStripeCount() {
+        return stripes.length;
+    }
+
+    private int stripeIndex(Object key) {
+        // Spreads the hash code so that similar keys do not cluster on neighbouring stripes
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return Math.floorMod(hash, stripes.length);
+    }
+}
@@ -0,0 +1,38 @@
+-- Replaces identity column generation with pooled table generators, so that Hibernate can batch
+-- the inserts of an import. Each entity has its own row, allocating blocks of 50 identifiers.
+-- The AUTO_INCREMENT attribute of the existing id columns is left in place; it is unused once
+-- Hibernate supplies the identifiers.
+CREATE TABLE IF NOT EXISTS id_generator
+(
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val      BIGINT,
+    PRIMARY KEY (sequence_name)
+) ENGINE = InnoDB;
+
+-- Seeds every generator one allocation block past the highest existing identifier. A database to
+-- which this script was applied by hand before it was baselined at version 1 already has the rows,
+-- so a seed never lowers an existing value.
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT *
+FROM (SELECT 'club' AS seed_name, COALESCE(MAX(id), 0) + 51 AS seed_val FROM club) AS seed
+ON DUPLICATE KEY UPDATE next_val = GREATEST(COALESCE(next_val, 0), seed.seed_val);
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT *
+FROM (SELECT 'competitor' AS seed_name, COALESCE(MAX(id), 0) + 51 AS seed_val FROM competitor) AS seed
+ON DUPLICATE KEY UPDATE next_val = GREATEST(COALESCE(next_val, 0), seed.seed_val);
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT *
+FROM (SELECT 'ipsc_match' AS seed_name, COALESCE(MAX(id), 0) + 51 AS seed_val FROM ipsc_match) AS seed
+ON DUPLICATE KEY UPDATE next_val = GREATEST(COALESCE(next_val, 0), seed.seed_val);
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT *
+FROM (SELECT 'ipsc_match_stage' AS seed_name, COALESCE(MAX(id), 0) + 51 AS seed_val FROM ipsc_match_stage) AS seed
+ON DUPLICATE KEY UPDATE next_val = GREATEST(COALESCE(next_val, 0), seed.seed_val);
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT *
+FROM (SELECT 'match_competitor' AS seed_name, COALESCE(MAX(id), 0) + 51 AS seed_val FROM match_competitor) AS seed
+ON DUPLICATE KEY UPDATE next_val = GREATEST(COALESCE(next_val, 0), seed.seed_val);
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT *
+FROM (SELECT 'match_stage_competitor' AS seed_name, COALESCE(MAX(id), 0) + 51 AS seed_val FROM match_stage_competitor) AS seed
+ON DUPLICATE KEY UPDATE next_val = GREATEST(COALESCE(next_val, 0), seed.seed_val);
@@ -0,0 +1,58 @@
+-- Indexes behind the natural-key lookups of the repositories. The leading columns of each index
+-- match the columns of the derived queries, so the same index also serves the per-match queries.
+
+-- ClubRepository.findByAbbreviation; findByName uses the unique key on the name
+CREATE INDEX idx_club_abbreviation ON club (abbreviation);
+
+-- CompetitorRepository.findAllBySapsaNumber and findAllBySapsaNumberIn
+CREATE INDEX idx_competitor_sapsa_number ON competitor (sapsa_number);
+-- CompetitorRepository.findAllByFirstNameAndLastName and findAllByFirstNameInAndLastNameIn
+CREATE INDEX idx_competitor_name ON competitor (first_name, last_name);
+
+-- IpscMatchRepository.findAllByName, filtered on the scheduled date
+CREATE INDEX idx_ipsc_match_name_scheduled_date ON ipsc_match (name, scheduled_date);
+
+-- IpscMatchStageRepository.findByMatchIdAndStageNumber and findAllByMatchId; a match has one stage
+-- per stage number. Concurrent imports could have inserted a stage number of a match more than once,
+-- so the duplicates are merged into the stage with the lowest ID first: their scores are moved to it,
+-- a competitor's score in a division it already has is dropped, keeping the lowest ID, and the
+-- duplicate stages are deleted.
+CREATE TABLE ipsc_match_stage_duplicate AS
+SELECT match_stage.id, surviving_stage.surviving_id
+FROM ipsc_match_stage match_stage
+         JOIN (SELECT match_id, stage_number, MIN(id) AS surviving_id
+               FROM ipsc_match_stage
+               GROUP BY match_id, stage_number
+               HAVING COUNT(*) > 1) surviving_stage
+              ON surviving_stage.match_id = match_stage.match_id
+                  AND surviving_stage.stage_number = match_stage.stage_number
+WHERE match_stage.id <> surviving_stage.surviving_id;
+
+UPDATE match_stage_competitor score
+    JOIN ipsc_match_stage_duplicate duplicate_stage ON duplicate_stage.id = score.match_stage_id
+SET score.match_stage_id = duplicate_stage.surviving_id;
+
+DELETE score
+FROM match_stage_competitor score
+         JOIN match_stage_competitor kept_score
+              ON kept_score.match_stage_id = score.match_stage_id
+                  AND kept_score.competitor_id = score.competitor_id
+                  AND kept_score.division <=> score.division
+                  AND kept_score.id < score.id
+WHERE score.match_stage_id IN (SELECT surviving_id FROM ipsc_match_stage_duplicate);
+
+DELETE match_stage
+FROM ipsc_match_stage match_stage
+         JOIN ipsc_match_stage_duplicate duplicate_stage ON duplicate_stage.id = match_stage.id;
+
+DROP TABLE ipsc_match_stage_duplicate;
+
+ALTER TABLE ipsc_match_stage
+    ADD CONSTRAINT uk_ipsc_match_stage_match_stage_number UNIQUE (match_id, stage_number);
+
+-- MatchCompetitorRepository.findAllByCompetitorIdAndMatchId and findAllByMatchId; a competitor has
+-- one row per division entered, so the index is not unique
+CREATE INDEX idx_match_competitor_match_competitor ON match_competitor (match_id, competitor_id);
+
+-- MatchStageCompetitorRepository.findAllByMatchStageIdAndCompetitorId and findAllByMatchStageMatchId
+CREATE INDEX idx_match_stage_competitor_stage_competitor ON match_stage_competitor (match_stage_id, competitor_id);
@@ -0,0 +1,6 @@
+-- Optimistic lock version of the match results. The version of a match is incremented by every
+-- import of its results, so that concurrent imports of the same match conflict instead of both
+-- writing the match. Match and stage competitors carry no version of their own; they are only
+-- written by an import of their match, under its version.
+ALTER TABLE ipsc_match
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
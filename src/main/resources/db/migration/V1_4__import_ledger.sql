@@ -0,0 +1,26 @@
+-- Ledger of imported WinMSS.cab files and matches. A CAB file entry is keyed on the SHA-256 hash of
+-- the file, and a match entry on the natural key of the match (name and scheduled date); both hold
+-- the JSON payload needed to answer an unchanged import without parsing or persisting it again.
+CREATE TABLE import_ledger
+(
+    id           BIGINT       NOT NULL,
+    ledger_type  VARCHAR(16)  NOT NULL,
+    ledger_key   VARCHAR(320) NOT NULL,
+    content_hash VARCHAR(64)  NOT NULL,
+    match_id     BIGINT,
+    payload      LONGTEXT     NOT NULL,
+    date_created DATETIME(6),
+    date_updated DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_import_ledger_type_key UNIQUE (ledger_type, ledger_key)
+) ENGINE = InnoDB;
+
+-- ImportLedgerRepository.deleteAllByMatchId, when a match is edited outside an import
+CREATE INDEX idx_import_ledger_match_id ON import_ledger (match_id);
+
+-- Seeds the generator one allocation block past the highest identifier, as for the other entities,
+-- without lowering a row that already exists
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT *
+FROM (SELECT 'import_ledger' AS seed_name, COALESCE(MAX(id), 0) + 51 AS seed_val FROM import_ledger) AS seed
+ON DUPLICATE KEY UPDATE next_val = GREATEST(COALESCE(next_val, 0), seed.seed_val);
@@ -0,0 +1,3 @@
+-- IpscMatchRepository.searchMatches; the search seeks to the next page on (scheduled_date, id), so
+-- each page is read from the index alone, however deep into the history it is
+CREATE INDEX idx_ipsc_match_scheduled_date_id ON ipsc_match (scheduled_date, id);
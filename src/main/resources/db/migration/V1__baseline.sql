@@ -0,0 +1,116 @@
+-- Baseline schema of the six entities, as created before schema migrations were introduced.
+-- Databases that already have these tables are baselined at this version and skip this script.
+CREATE TABLE club
+(
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    name         VARCHAR(255) NOT NULL,
+    abbreviation VARCHAR(255),
+    date_created DATETIME(6),
+    date_updated DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_club_name UNIQUE (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE competitor
+(
+    id                BIGINT       NOT NULL AUTO_INCREMENT,
+    first_name        VARCHAR(255) NOT NULL,
+    last_name         VARCHAR(255) NOT NULL,
+    middle_names      VARCHAR(255),
+    date_of_birth     DATE,
+    sapsa_number      INT,
+    competitor_number VARCHAR(255) NOT NULL,
+    date_created      DATETIME(6),
+    date_updated      DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE ipsc_match
+(
+    id                  BIGINT       NOT NULL AUTO_INCREMENT,
+    club_id             BIGINT,
+    name                VARCHAR(255) NOT NULL,
+    scheduled_date      DATETIME(6)  NOT NULL,
+    match_firearm_type  VARCHAR(255),
+    match_category      VARCHAR(255),
+    date_created        DATETIME(6),
+    date_updated        DATETIME(6),
+    date_edited         DATETIME(6),
+    date_refreshed      DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_ipsc_match_club FOREIGN KEY (club_id) REFERENCES club (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE ipsc_match_stage
+(
+    id               BIGINT NOT NULL AUTO_INCREMENT,
+    match_id         BIGINT NOT NULL,
+    stage_number     INT    NOT NULL,
+    stage_name       VARCHAR(255),
+    range_number     INT,
+    target_paper     INT,
+    target_popper    INT,
+    target_plates    INT,
+    target_disappear INT,
+    target_penalty   INT,
+    min_rounds       INT,
+    max_points       INT,
+    date_created     DATETIME(6),
+    date_updated     DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_ipsc_match_stage_match FOREIGN KEY (match_id) REFERENCES ipsc_match (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE match_competitor
+(
+    id                  BIGINT NOT NULL AUTO_INCREMENT,
+    competitor_id       BIGINT NOT NULL,
+    match_id            BIGINT NOT NULL,
+    match_club          VARCHAR(255),
+    firearm_type        VARCHAR(255),
+    division            VARCHAR(255),
+    power_factor        VARCHAR(255),
+    match_points        DECIMAL(38, 2),
+    match_ranking       DECIMAL(38, 2),
+    competitor_category VARCHAR(255),
+    date_created        DATETIME(6),
+    date_updated        DATETIME(6),
+    date_edited         DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_match_competitor_competitor FOREIGN KEY (competitor_id) REFERENCES competitor (id),
+    CONSTRAINT fk_match_competitor_match FOREIGN KEY (match_id) REFERENCES ipsc_match (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE match_stage_competitor
+(
+    id                   BIGINT NOT NULL AUTO_INCREMENT,
+    competitor_id        BIGINT NOT NULL,
+    match_stage_id       BIGINT NOT NULL,
+    match_club           VARCHAR(255),
+    firearm_type         VARCHAR(255),
+    division             VARCHAR(255),
+    power_factor         VARCHAR(255),
+    score_a              INT,
+    score_b              INT,
+    score_c              INT,
+    score_d              INT,
+    points               INT,
+    misses               INT,
+    penalties            INT,
+    procedurals          INT,
+    has_deduction        BIT,
+    deduction_percentage DECIMAL(38, 2),
+    time                 DECIMAL(38, 2),
+    hit_factor           DECIMAL(38, 2),
+    stage_points         DECIMAL(38, 2),
+    stage_percentage     DECIMAL(38, 2),
+    stage_ranking        DECIMAL(38, 2),
+    is_disqualified      BIT,
+    competitor_category  VARCHAR(255),
+    date_created         DATETIME(6),
+    date_updated         DATETIME(6),
+    date_edited          DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_match_stage_competitor_competitor FOREIGN KEY (competitor_id) REFERENCES competitor (id),
+    CONSTRAINT fk_match_stage_competitor_match_stage FOREIGN KEY (match_stage_id) REFERENCES ipsc_match_stage (id)
+) ENGINE = InnoDB;
@@ -33,6 +33,8 @@ class HpscWebApplicationTests {
     private MatchCompetitorRepository matchCompetitorRepository;
     @MockitoBean
     private MatchStageCompetitorRepository matchStageCompetitorRepository;
+    @MockitoBean
+    private ImportLedgerRepository importLedgerRepository;
 
     @SuppressWarnings("EmptyMethod")
     @Test
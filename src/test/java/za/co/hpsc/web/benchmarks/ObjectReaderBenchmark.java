@@ -0,0 +1,149 @@
+package za.co.hpsc.web.benchmarks;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import za.co.hpsc.web.configs.ObjectReaderRegistry;
+import za.co.hpsc.web.models.award.request.AwardRequest;
+import za.co.hpsc.web.models.award.request.AwardRequestForCSV;
+import za.co.hpsc.web.models.ipsc.common.request.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-request cost of building a new Jackson mapper for every request with
+ * reusing the pre-configured readers of the {@link ObjectReaderRegistry}.
+ *
+ * <p>
+ * The benchmark is not part of the test suite; run it through its {@code main} method on the
+ * test classpath, e.g. from the IDE after {@code ./mvnw test-compile}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ObjectReaderBenchmark {
+
+    private static final String CAB_FILE_CONTENT = """
+            {
+                "club": "<xml><data><row ClubId='1' ClubCode='HPSC' Club='HPSC Club'/></data></xml>",
+                "match": "<xml><data><row MatchId='100' MatchName='Benchmark Match' MatchDt='2026-04-25T09:00:00' ClubId='1'/></data></xml>",
+                "stage": "<xml><data><row StageId='200' StageName='Stage 1' MatchId='100'/><row StageId='201' StageName='Stage 2' MatchId='100'/></data></xml>",
+                "tag": "<xml><data><row TagId='10' Tag='Tag'/></data></xml>",
+                "member": "<xml><data><row MemberId='50' Firstname='John' Lastname='Doe' Register='True' DOB='1973-02-17T00:00:00'/></data></xml>",
+                "classify": "<xml><data><row MemberId='50' DivisionId='1' IntlId='5000' NatlId='500'/></data></xml>",
+                "enrolled": "<xml><data><row MemberId='50' CompId='500' MatchId='100' DivId='1'/></data></xml>",
+                "squad": "<xml><data><row SquadId='20' Squad='Squad A' MatchId='100'/></data></xml>",
+                "team": "<xml><data><row TeamId='20' Team='Team A' MatchId='100'/></data></xml>",
+                "score": "<xml><data><row MemberId='50' StageId='200' MatchId='100' HitFactor='6.08' FinalScore='101'/><row MemberId='50' StageId='201' MatchId='100' HitFactor='5.12' FinalScore='96'/></data></xml>"
+            }
+            """;
+
+    private static final String AWARD_CSV = """
+            title,summary,description,category,tags,date,imageFilePath,ceremonyTitle,ceremonySummary,ceremonyDescription,ceremonyCategory,ceremonyTags,firstPlaceName,secondPlaceName,thirdPlaceName,firstPlaceImageFileName,secondPlaceImageFileName,thirdPlaceImageFileName
+            Award 1,Summary 1,Description 1,Category 1,tag1|tag2,2023-10-10,/path/to,Ceremony 1,Ceremony Summary 1,Ceremony Description 1,Ceremony Category 1,tags1,John Doe,Alice Smith,Bob Johnson,w1.png,w2.png,w3.png
+            Award 2,Summary 2,Description 2,Category 2,tag3|tag4,2023-10-10,/path/to,Ceremony 1,Ceremony Summary 1,Ceremony Description 1,Ceremony Category 1,tags1,Mary Jane,Tom Brown,Karen White,wX.png,wY.png,wZ.png
+            """;
+
+    private ObjectReaderRegistry objectReaderRegistry;
+
+    @Setup
+    public void setup() {
+        objectReaderRegistry = new ObjectReaderRegistry();
+    }
+
+    @Benchmark
+    public void ipscRequestsWithNewMappers(Blackhole blackhole) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        IpscRequest ipscRequest = objectMapper.readValue(CAB_FILE_CONTENT, IpscRequest.class);
+
+        blackhole.consume(readWithNewMapper(ipscRequest.getClub(), ClubRequest.class));
+        blackhole.consume(readWithNewMapper(ipscRequest.getMatch(), MatchRequest.class));
+        blackhole.consume(readWithNewMapper(ipscRequest.getStage(), StageRequest.class));
+        blackhole.consume(readWithNewMapper(ipscRequest.getTag(), TagRequest.class));
+        blackhole.consume(readWithNewMapper(ipscRequest.getMember(), MemberRequest.class));
+        blackhole.consume(readWithNewMapper(ipscRequest.getClassify(), ClassificationRequest.class));
+        blackhole.consume(readWithNewMapper(ipscRequest.getEnrolled(), EnrolledRequest.class));
+        blackhole.consume(readWithNewMapper(ipscRequest.getSquad(), SquadRequest.class));
+        blackhole.consume(readWithNewMapper(ipscRequest.getTeam(), TeamRequest.class));
+        blackhole.consume(readWithNewMapper(ipscRequest.getScore(), ScoreRequest.class));
+    }
+
+    @Benchmark
+    public void ipscRequestsWithRegistry(Blackhole blackhole) throws IOException {
+        IpscRequest ipscRequest = objectReaderRegistry.getIpscRequestReader().readValue(CAB_FILE_CONTENT);
+
+        blackhole.consume(readWithRegistry(ipscRequest.getClub(), ClubRequest.class));
+        blackhole.consume(readWithRegistry(ipscRequest.getMatch(), MatchRequest.class));
+        blackhole.consume(readWithRegistry(ipscRequest.getStage(), StageRequest.class));
+        blackhole.consume(readWithRegistry(ipscRequest.getTag(), TagRequest.class));
+        blackhole.consume(readWithRegistry(ipscRequest.getMember(), MemberRequest.class));
+        blackhole.consume(readWithRegistry(ipscRequest.getClassify(), ClassificationRequest.class));
+        blackhole.consume(readWithRegistry(ipscRequest.getEnrolled(), EnrolledRequest.class));
+        blackhole.consume(readWithRegistry(ipscRequest.getSquad(), SquadRequest.class));
+        blackhole.consume(readWithRegistry(ipscRequest.getTeam(), TeamRequest.class));
+        blackhole.consume(readWithRegistry(ipscRequest.getScore(), ScoreRequest.class));
+    }
+
+    @Benchmark
+    public List<AwardRequest> awardsWithNewMapper() throws IOException {
+        CsvMapper csvMapper = new CsvMapper();
+        csvMapper.registerModule(new JavaTimeModule());
+        CsvSchema csvSchema = csvMapper
+                .schemaFor(AwardRequestForCSV.class)
+                .withArrayElementSeparator("|")
+                .withColumnReordering(true)
+                .withHeader();
+        csvMapper.addMixIn(AwardRequest.class, AwardRequestForCSV.class);
+
+        try (MappingIterator<AwardRequest> iterator = csvMapper.readerFor(AwardRequest.class)
+                .with(csvSchema)
+                .readValues(AWARD_CSV)) {
+            return iterator.readAll();
+        }
+    }
+
+    @Benchmark
+    public List<AwardRequest> awardsWithRegistry() throws IOException {
+        try (MappingIterator<AwardRequest> iterator =
+                     objectReaderRegistry.getAwardRequestReader().readValues(AWARD_CSV)) {
+            return iterator.readAll();
+        }
+    }
+
+    private static <T> XmlDataWrapper<T> readWithNewMapper(String xmlContent, Class<T> clazz)
+            throws IOException {
+        XmlMapper xmlMapper = new XmlMapper();
+        xmlMapper.registerModule(new JavaTimeModule());
+        JavaType wrapperType = xmlMapper.getTypeFactory()
+                .constructParametricType(XmlDataWrapper.class, clazz);
+        return xmlMapper.readValue(xmlContent, wrapperType);
+    }
+
+    private <T> XmlDataWrapper<T> readWithRegistry(String xmlContent, Class<T> clazz)
+            throws IOException {
+        return objectReaderRegistry.getXmlDataReader(clazz).readValue(xmlContent);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ObjectReaderBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
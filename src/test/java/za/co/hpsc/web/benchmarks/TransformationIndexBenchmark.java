@@ -0,0 +1,219 @@
+package za.co.hpsc.web.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import za.co.hpsc.web.domain.*;
+import za.co.hpsc.web.enums.CompetitorCategory;
+import za.co.hpsc.web.enums.Division;
+import za.co.hpsc.web.models.ipsc.common.holders.data.MatchHolder;
+import za.co.hpsc.web.models.ipsc.common.holders.dto.MatchResultsDto;
+import za.co.hpsc.web.models.ipsc.common.holders.request.IpscRequestHolder;
+import za.co.hpsc.web.models.ipsc.common.holders.response.IpscResponseHolder;
+import za.co.hpsc.web.models.ipsc.common.records.MatchRecord;
+import za.co.hpsc.web.models.ipsc.common.request.*;
+import za.co.hpsc.web.models.ipsc.common.response.IpscResponse;
+import za.co.hpsc.web.services.*;
+import za.co.hpsc.web.services.impl.TransformationServiceImpl;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Measures the transformation of a synthetic, large WinMSS match into responses and DTOs, and of
+ * the persisted entities of such a match into a match record.
+ *
+ * <p>
+ * The joins between members, stages, enrolments and scores are resolved through the per-import
+ * indexes, and the stage results of each enrolment through a per-match grouping, so the cost
+ * should grow linearly with the number of scores. The entity services are stub-only mocks that
+ * never find an existing entity.
+ * </p>
+ *
+ * <p>
+ * The benchmark is not part of the test suite; run it through its {@code main} method on the
+ * test classpath, e.g. from the IDE after {@code ./mvnw test-compile}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransformationIndexBenchmark {
+
+    @Param({"100", "300"})
+    private int competitors;
+
+    @Param({"30"})
+    private int stages;
+
+    private TransformationServiceImpl transformationService;
+    private IpscRequestHolder ipscRequestHolder;
+    private IpscResponse ipscResponse;
+    private MatchHolder matchHolder;
+
+    @Setup
+    public void setup() {
+        transformationService = new TransformationServiceImpl(
+                mock(ClubEntityService.class, withSettings().stubOnly()),
+                mock(MatchEntityService.class, withSettings().stubOnly()),
+                mock(MatchStageEntityService.class, withSettings().stubOnly()),
+                mock(CompetitorEntityService.class, withSettings().stubOnly()),
+                mock(MatchCompetitorEntityService.class, withSettings().stubOnly()),
+                mock(MatchStageCompetitorEntityService.class, withSettings().stubOnly()));
+
+        ipscRequestHolder = buildRequestHolder(competitors, stages);
+        ipscResponse = transformationService.mapMatchResults(ipscRequestHolder).getIpscList().getFirst();
+        matchHolder = buildMatchHolder(competitors, stages);
+    }
+
+    @Benchmark
+    public IpscResponseHolder mapMatchResults() {
+        return transformationService.mapMatchResults(ipscRequestHolder);
+    }
+
+    @Benchmark
+    public Optional<MatchResultsDto> initMatchResults() {
+        return transformationService.initMatchResults(ipscResponse);
+    }
+
+    @Benchmark
+    public Optional<MatchRecord> generateMatchRecord() {
+        return transformationService.generateMatchRecord(matchHolder);
+    }
+
+    private static IpscRequestHolder buildRequestHolder(int competitorCount, int stageCount) {
+        int matchId = 1;
+        IpscRequestHolder holder = new IpscRequestHolder();
+
+        ClubRequest club = new ClubRequest();
+        club.setClubId(1);
+        club.setClubCode("HPSC");
+        club.setClubName("Benchmark Club");
+        holder.setClubs(List.of(club));
+
+        MatchRequest match = new MatchRequest();
+        match.setMatchId(matchId);
+        match.setMatchName("Benchmark Match");
+        match.setClubId(1);
+        match.setMatchDate(LocalDateTime.of(2026, 4, 25, 9, 0));
+        match.setFirearmId(1);
+        holder.setMatches(List.of(match));
+
+        List<StageRequest> stageRequests = new ArrayList<>();
+        for (int stageId = 1; stageId <= stageCount; stageId++) {
+            StageRequest stage = new StageRequest();
+            stage.setMatchId(matchId);
+            stage.setStageId(stageId);
+            stage.setStageName("Stage " + stageId);
+            stage.setMaxPoints(100);
+            stageRequests.add(stage);
+        }
+        holder.setStages(stageRequests);
+
+        List<MemberRequest> members = new ArrayList<>();
+        List<EnrolledRequest> enrolledMembers = new ArrayList<>();
+        List<ScoreRequest> scores = new ArrayList<>();
+        for (int memberId = 1; memberId <= competitorCount; memberId++) {
+            MemberRequest member = new MemberRequest();
+            member.setMemberId(memberId);
+            member.setFirstName("First" + memberId);
+            member.setLastName("Last" + memberId);
+            member.setDateOfBirth(LocalDateTime.of(1980, 1, 1, 0, 0));
+            member.setIcsAlias(String.valueOf(10000 + memberId));
+            member.setIsRegisteredForMatch(true);
+            members.add(member);
+
+            EnrolledRequest enrolled = new EnrolledRequest();
+            enrolled.setMemberId(memberId);
+            enrolled.setCompetitorId(memberId);
+            enrolled.setMatchId(matchId);
+            enrolled.setDivisionId(1);
+            enrolled.setCompetitorCategoryId(2);
+            enrolledMembers.add(enrolled);
+
+            for (int stageId = 1; stageId <= stageCount; stageId++) {
+                ScoreRequest score = new ScoreRequest();
+                score.setMatchId(matchId);
+                score.setStageId(stageId);
+                score.setMemberId(memberId);
+                score.setFinalScore(50 + (memberId + stageId) % 50);
+                score.setScoreA(5);
+                score.setHitFactor("2.25");
+                score.setTime("12.11");
+                score.setLastModified(LocalDateTime.of(2026, 4, 25, 12, 0));
+                scores.add(score);
+            }
+        }
+        holder.setMembers(members);
+        holder.setEnrolledMembers(enrolledMembers);
+        holder.setScores(scores);
+        return holder;
+    }
+
+    private static MatchHolder buildMatchHolder(int competitorCount, int stageCount) {
+        Club club = new Club();
+        club.setName("Benchmark Club");
+
+        IpscMatch match = new IpscMatch();
+        match.setName("Benchmark Match");
+        match.setClub(club);
+        match.setScheduledDate(LocalDateTime.of(2026, 4, 25, 9, 0));
+
+        List<IpscMatchStage> matchStages = new ArrayList<>();
+        for (int stageNumber = 1; stageNumber <= stageCount; stageNumber++) {
+            IpscMatchStage matchStage = new IpscMatchStage();
+            matchStage.setMatch(match);
+            matchStage.setStageNumber(stageNumber);
+            matchStage.setStageName("Stage " + stageNumber);
+            matchStages.add(matchStage);
+        }
+
+        List<Competitor> competitorList = new ArrayList<>();
+        List<MatchCompetitor> matchCompetitors = new ArrayList<>();
+        List<MatchStageCompetitor> matchStageCompetitors = new ArrayList<>();
+        for (int competitorNumber = 1; competitorNumber <= competitorCount; competitorNumber++) {
+            Competitor competitor = new Competitor();
+            competitor.setFirstName("First" + competitorNumber);
+            competitor.setLastName("Last" + competitorNumber);
+            competitorList.add(competitor);
+
+            MatchCompetitor matchCompetitor = new MatchCompetitor();
+            matchCompetitor.setCompetitor(competitor);
+            matchCompetitor.setMatch(match);
+            matchCompetitor.setDivision(Division.STANDARD);
+            matchCompetitor.setCompetitorCategory(CompetitorCategory.NONE);
+            matchCompetitor.setMatchPoints(BigDecimal.valueOf(50 + competitorNumber % 50));
+            matchCompetitors.add(matchCompetitor);
+
+            for (IpscMatchStage matchStage : matchStages) {
+                MatchStageCompetitor matchStageCompetitor = new MatchStageCompetitor();
+                matchStageCompetitor.setCompetitor(competitor);
+                matchStageCompetitor.setMatchStage(matchStage);
+                matchStageCompetitor.setDivision(Division.STANDARD);
+                matchStageCompetitor.setHitFactor(new BigDecimal("2.25"));
+                matchStageCompetitor.setTime(new BigDecimal("12.11"));
+                matchStageCompetitors.add(matchStageCompetitor);
+            }
+        }
+
+        return new MatchHolder(match, club, matchStages, competitorList, matchCompetitors, matchStageCompetitors);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TransformationIndexBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -5,12 +5,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageConversionException;
 import org.springframework.web.context.request.WebRequest;
 import za.co.hpsc.web.exceptions.FatalException;
 import za.co.hpsc.web.exceptions.NonFatalException;
+import za.co.hpsc.web.exceptions.PreconditionFailedException;
+import za.co.hpsc.web.exceptions.ServiceUnavailableException;
 import za.co.hpsc.web.exceptions.ValidationException;
 import za.co.hpsc.web.models.ControllerResponse;
 
@@ -304,6 +307,59 @@ public class ControllerAdviceTest {
         assertEquals("   ", response.getBody().getMessage());
     }
 
+    // =====================================================================
+    // handlePreconditionFailedException(PreconditionFailedException, WebRequest)
+    // =====================================================================
+
+    @Test
+    void testHandlePreconditionFailedException_whenPreconditionFailedExceptionThrown_thenReturns412() {
+        // Arrange
+        PreconditionFailedException ex = new PreconditionFailedException("Match with id 1 has been modified");
+
+        // Act
+        ResponseEntity<ControllerResponse> response = controllerAdvice.handlePreconditionFailedException(ex,
+                webRequest);
+
+        // Assert
+        assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("Match with id 1 has been modified", response.getBody().getMessage());
+    }
+
+    // =====================================================================
+    // handleServiceUnavailableException(ServiceUnavailableException, WebRequest)
+    // =====================================================================
+
+    @Test
+    void testHandleServiceUnavailableException_whenRetryAfterGiven_thenReturns503WithRetryAfter() {
+        // Arrange
+        ServiceUnavailableException ex = new ServiceUnavailableException("The import queue is full", 30L, null);
+
+        // Act
+        ResponseEntity<ControllerResponse> response = controllerAdvice.handleServiceUnavailableException(ex,
+                webRequest);
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("30", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertNotNull(response.getBody());
+        assertEquals("The import queue is full", response.getBody().getMessage());
+    }
+
+    @Test
+    void testHandleServiceUnavailableException_whenNoRetryAfter_thenReturns503WithoutRetryAfter() {
+        // Arrange
+        ServiceUnavailableException ex = new ServiceUnavailableException("The import queue is full");
+
+        // Act
+        ResponseEntity<ControllerResponse> response = controllerAdvice.handleServiceUnavailableException(ex,
+                webRequest);
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertNull(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
 // =====================================================================
 // handleHttpMessageConversionException(HttpMessageConversionException, WebRequest)
 // =====================================================================
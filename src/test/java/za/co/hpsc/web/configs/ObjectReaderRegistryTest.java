@@ -0,0 +1,101 @@
+package za.co.hpsc.web.configs;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.junit.jupiter.api.Test;
+import za.co.hpsc.web.models.award.request.AwardRequest;
+import za.co.hpsc.web.models.ipsc.common.request.ClubRequest;
+import za.co.hpsc.web.models.ipsc.common.request.IpscRequest;
+import za.co.hpsc.web.models.ipsc.common.request.ScoreRequest;
+import za.co.hpsc.web.models.ipsc.common.request.XmlDataWrapper;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ObjectReaderRegistryTest {
+
+    private final ObjectReaderRegistry objectReaderRegistry = new ObjectReaderRegistry();
+
+    @Test
+    public void testGetXmlDataReader_whenCalledTwice_thenReturnsSameReader() {
+        // Act
+        ObjectReader first = objectReaderRegistry.getXmlDataReader(ClubRequest.class);
+        ObjectReader second = objectReaderRegistry.getXmlDataReader(ClubRequest.class);
+
+        // Assert
+        assertSame(first, second);
+        assertNotSame(first, objectReaderRegistry.getXmlDataReader(ScoreRequest.class));
+    }
+
+    @Test
+    public void testGetXmlRowReader_whenCalledTwice_thenReturnsSameReader() {
+        // Act
+        ObjectReader first = objectReaderRegistry.getXmlRowReader(ClubRequest.class);
+        ObjectReader second = objectReaderRegistry.getXmlRowReader(ClubRequest.class);
+
+        // Assert
+        assertSame(first, second);
+    }
+
+    @Test
+    public void testGetIpscRequestReader_whenValidJson_thenReadsIpscRequest() {
+        // Arrange
+        String json = """
+                {"club": "<xml><data/></xml>", "score": null}
+                """;
+
+        // Act
+        IpscRequest ipscRequest = assertDoesNotThrow(() ->
+                objectReaderRegistry.getIpscRequestReader().readValue(json));
+
+        // Assert
+        assertEquals("<xml><data/></xml>", ipscRequest.getClub());
+        assertNull(ipscRequest.getScore());
+    }
+
+    @Test
+    public void testGetXmlDataReader_whenUsedConcurrently_thenReadsConsistentResults() throws Exception {
+        // Arrange
+        String xml = "<xml><data><row ClubId='1' ClubCode='ABC' Club='Test Club'/>" +
+                "<row ClubId='2' ClubCode='DEF' Club='Other Club'/></data></xml>";
+        ObjectReader reader = objectReaderRegistry.getXmlDataReader(ClubRequest.class);
+
+        // Act
+        List<Future<XmlDataWrapper<ClubRequest>>> futures;
+        try (ExecutorService executorService = Executors.newFixedThreadPool(4)) {
+            futures = IntStream.range(0, 32)
+                    .mapToObj(i -> executorService.submit(() ->
+                            reader.<XmlDataWrapper<ClubRequest>>readValue(xml)))
+                    .toList();
+        }
+
+        // Assert
+        for (Future<XmlDataWrapper<ClubRequest>> future : futures) {
+            List<ClubRequest> rows = future.get().getData().getRow();
+            assertEquals(2, rows.size());
+            assertEquals("ABC", rows.get(0).getClubCode());
+            assertEquals("DEF", rows.get(1).getClubCode());
+        }
+    }
+
+    @Test
+    public void testGetAwardRequestReader_whenValidCsv_thenReadsAwardRequests() {
+        // Arrange
+        String csvData = """
+                title,summary,description,category,tags,date,imageFilePath,ceremonyTitle,ceremonySummary,ceremonyDescription,ceremonyCategory,ceremonyTags,firstPlaceName,secondPlaceName,thirdPlaceName,firstPlaceImageFileName,secondPlaceImageFileName,thirdPlaceImageFileName
+                Award 1,Summary 1,Description 1,Category 1,tag1|tag2,2023-10-10,/path/to,Ceremony 1,Ceremony Summary 1,Ceremony Description 1,Ceremony Category 1,tags1,John Doe,Alice Smith,Bob Johnson,w1.png,w2.png,w3.png
+                """;
+
+        // Act
+        List<AwardRequest> awardRequests = assertDoesNotThrow(() ->
+                objectReaderRegistry.getAwardRequestReader().<AwardRequest>readValues(csvData).readAll());
+
+        // Assert
+        assertEquals(1, awardRequests.size());
+        assertEquals("Award 1", awardRequests.getFirst().getTitle());
+    }
+}
@@ -0,0 +1,52 @@
+package za.co.hpsc.web.configs;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@SpringBootTest
+public class SchemaIndexVerifierTest {
+
+    @Autowired
+    private SchemaIndexVerifier schemaIndexVerifier;
+
+    @Test
+    public void testVerify_whenSchemaCreatedFromEntities_thenAllExpectedIndexesExist() {
+        // Act & Assert
+        assertDoesNotThrow(() -> schemaIndexVerifier.verify(SchemaIndexVerifier.EXPECTED_INDEXES));
+    }
+
+    @Test
+    public void testVerify_whenLeadingColumnsIndexed_thenNonUniqueIndexIsSatisfied() {
+        // Arrange: the unique key on the stage number also serves lookups by match
+        List<SchemaIndexVerifier.ExpectedIndex> expectedIndexes =
+                List.of(new SchemaIndexVerifier.ExpectedIndex("ipsc_match_stage", List.of("match_id"), false));
+
+        // Act & Assert
+        assertDoesNotThrow(() -> schemaIndexVerifier.verify(expectedIndexes));
+    }
+
+    @Test
+    public void testVerify_whenIndexMissing_thenThrowsIllegalStateExceptionListingIt() {
+        // Arrange
+        List<SchemaIndexVerifier.ExpectedIndex> expectedIndexes = List.of(
+                new SchemaIndexVerifier.ExpectedIndex("club", List.of("name"), true),
+                new SchemaIndexVerifier.ExpectedIndex("competitor", List.of("middle_names"), false),
+                new SchemaIndexVerifier.ExpectedIndex("match_competitor", List.of("match_id", "competitor_id"), true));
+
+        // Act
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> schemaIndexVerifier.verify(expectedIndexes));
+
+        // Assert
+        assertTrue(exception.getMessage().contains("competitor(middle_names)"));
+        assertTrue(exception.getMessage().contains("match_competitor(match_id, competitor_id) unique"));
+        assertFalse(exception.getMessage().contains("club(name)"));
+    }
+}
@@ -0,0 +1,59 @@
+package za.co.hpsc.web.controllers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import za.co.hpsc.web.exceptions.FatalException;
+import za.co.hpsc.web.exceptions.NonFatalException;
+import za.co.hpsc.web.models.ipsc.job.ImportJobResponse;
+import za.co.hpsc.web.services.IpscImportJobService;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IpscImportControllerTest {
+
+    @Mock
+    private IpscImportJobService ipscImportJobService;
+
+    private IpscImportController ipscImportController;
+
+    @BeforeEach
+    void setUp() {
+        ipscImportController = new IpscImportController(ipscImportJobService);
+    }
+
+    @Test
+    void testSubmitImport_whenJobQueued_thenReturnsAccepted() throws FatalException {
+        ImportJobResponse importJobResponse = new ImportJobResponse();
+        importJobResponse.setJobId(UUID.randomUUID());
+        InputStream cabFileStream = new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8));
+        when(ipscImportJobService.submitImport(cabFileStream)).thenReturn(importJobResponse);
+
+        ResponseEntity<ImportJobResponse> response = ipscImportController.submitImport(cabFileStream);
+
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertSame(importJobResponse, response.getBody());
+    }
+
+    @Test
+    void testGetImportJob_whenServiceReturnsEmptyOptional_thenThrowsNonFatalException() {
+        UUID jobId = UUID.randomUUID();
+        when(ipscImportJobService.getImportJob(jobId)).thenReturn(Optional.empty());
+
+        assertThrows(NonFatalException.class, () -> ipscImportController.getImportJob(jobId));
+
+        verify(ipscImportJobService).getImportJob(jobId);
+    }
+}
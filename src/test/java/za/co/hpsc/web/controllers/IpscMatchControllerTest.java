@@ -5,12 +5,32 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import za.co.hpsc.web.enums.ExportFormat;
 import za.co.hpsc.web.exceptions.FatalException;
+import za.co.hpsc.web.exceptions.PreconditionFailedException;
+import za.co.hpsc.web.exceptions.ValidationException;
+import za.co.hpsc.web.models.ipsc.common.data.SerializedResponse;
+import za.co.hpsc.web.models.ipsc.common.request.MatchSearchRequest;
 import za.co.hpsc.web.models.ipsc.match.request.MatchOnlyRequest;
+import za.co.hpsc.web.models.ipsc.match.response.MatchOnlyResponse;
+import za.co.hpsc.web.models.ipsc.match.response.MatchSearchResponse;
 import za.co.hpsc.web.services.IpscMatchService;
+import za.co.hpsc.web.services.MatchResultExportService;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
@@ -20,21 +40,127 @@ class IpscMatchControllerTest {
     @Mock
     private IpscMatchService ipscMatchService;
 
+    @Mock
+    private MatchResultExportService matchResultExportService;
+
     private IpscMatchController ipscMatchController;
 
     @BeforeEach
     void setUp() {
-        ipscMatchController = new IpscMatchController(ipscMatchService);
+        ipscMatchController = new IpscMatchController(ipscMatchService, matchResultExportService);
     }
 
     @Test
     void testGetMatch_whenServiceReturnsEmptyOptional_thenThrowsFatalException() {
         Long matchId = 8L;
-        when(ipscMatchService.getMatch(matchId)).thenReturn(Optional.empty());
+        when(ipscMatchService.getSerializedMatch(matchId)).thenReturn(Optional.empty());
+
+        assertThrows(FatalException.class, () -> ipscMatchController.getMatch(matchId, null));
+
+        verify(ipscMatchService).getSerializedMatch(matchId);
+    }
+
+    @Test
+    void testGetMatch_whenCachedAndIfNoneMatchHasCurrentETag_thenReturnsNotModifiedWithoutQueryingVersion()
+            throws FatalException {
+        Long matchId = 8L;
+        when(ipscMatchService.isSerializedMatchCached(matchId)).thenReturn(true);
+        when(ipscMatchService.getSerializedMatch(matchId))
+                .thenReturn(Optional.of(new SerializedResponse(3L, "{}".getBytes(StandardCharsets.UTF_8))));
+
+        ResponseEntity<byte[]> response = ipscMatchController.getMatch(matchId, "\"2\", \"3\"");
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals("\"3\"", response.getHeaders().getETag());
+        assertNull(response.getBody());
+        verify(ipscMatchService, never()).getMatchVersion(any());
+    }
+
+    @Test
+    void testGetMatch_whenNotCachedAndIfNoneMatchHasCurrentETag_thenReturnsNotModifiedWithoutLoadingMatch()
+            throws FatalException {
+        Long matchId = 8L;
+        when(ipscMatchService.isSerializedMatchCached(matchId)).thenReturn(false);
+        when(ipscMatchService.getMatchVersion(matchId)).thenReturn(Optional.of(3L));
+
+        ResponseEntity<byte[]> response = ipscMatchController.getMatch(matchId, "\"3\"");
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals("\"3\"", response.getHeaders().getETag());
+        assertNull(response.getBody());
+        verify(ipscMatchService, never()).getSerializedMatch(any());
+    }
+
+    @Test
+    void testGetMatch_whenNotCachedAndIfNoneMatchHasOlderETag_thenLoadsSerializedMatchWithETag()
+            throws FatalException {
+        Long matchId = 8L;
+        byte[] body = "{\"matchId\":8}".getBytes(StandardCharsets.UTF_8);
+        when(ipscMatchService.isSerializedMatchCached(matchId)).thenReturn(false);
+        when(ipscMatchService.getMatchVersion(matchId)).thenReturn(Optional.of(3L));
+        when(ipscMatchService.getSerializedMatch(matchId)).thenReturn(Optional.of(new SerializedResponse(3L, body)));
+
+        ResponseEntity<byte[]> response = ipscMatchController.getMatch(matchId, "\"2\"");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"3\"", response.getHeaders().getETag());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertSame(body, response.getBody());
+    }
+
+    @Test
+    void testGetMatch_whenNoIfNoneMatch_thenReturnsSerializedMatchWithoutQueryingVersion() throws FatalException {
+        Long matchId = 8L;
+        byte[] body = "{\"matchId\":8}".getBytes(StandardCharsets.UTF_8);
+        when(ipscMatchService.getSerializedMatch(matchId)).thenReturn(Optional.of(new SerializedResponse(3L, body)));
+
+        ResponseEntity<byte[]> response = ipscMatchController.getMatch(matchId, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"3\"", response.getHeaders().getETag());
+        assertSame(body, response.getBody());
+        verify(ipscMatchService, never()).isSerializedMatchCached(any());
+        verify(ipscMatchService, never()).getMatchVersion(any());
+    }
+
+    @Test
+    void testGetMatchResults_whenServiceReturnsSerializedResults_thenReturnsThemAsJson() throws FatalException {
+        Long matchId = 8L;
+        byte[] body = "{\"matches\":[]}".getBytes(StandardCharsets.UTF_8);
+        when(ipscMatchService.getSerializedMatchResults(matchId))
+                .thenReturn(Optional.of(new SerializedResponse(null, body)));
+
+        ResponseEntity<byte[]> response = ipscMatchController.getMatchResults(matchId);
+
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertSame(body, response.getBody());
+    }
+
+    @Test
+    void testModifyMatch_whenIfMatchHasOlderETag_thenThrowsPreconditionFailedWithoutWriting() throws FatalException {
+        Long matchId = 8L;
+        MatchOnlyRequest matchOnlyRequest = new MatchOnlyRequest();
+        when(ipscMatchService.getMatchVersion(matchId)).thenReturn(Optional.of(3L));
 
-        assertThrows(FatalException.class, () -> ipscMatchController.getMatch(matchId));
+        assertThrows(PreconditionFailedException.class,
+                () -> ipscMatchController.modifyMatch(matchId, matchOnlyRequest, "\"2\""));
 
-        verify(ipscMatchService).getMatch(matchId);
+        verify(ipscMatchService, never()).modifyMatch(any(), any(), any());
+    }
+
+    @Test
+    void testUpdateMatch_whenIfMatchHasCurrentETag_thenWritesExpectingVersion() throws FatalException {
+        Long matchId = 8L;
+        MatchOnlyRequest matchOnlyRequest = new MatchOnlyRequest();
+        when(ipscMatchService.getMatchVersion(matchId)).thenReturn(Optional.of(3L), Optional.of(4L));
+        when(ipscMatchService.updateMatch(matchId, matchOnlyRequest, 3L))
+                .thenReturn(Optional.of(new MatchOnlyResponse()));
+
+        ResponseEntity<MatchOnlyResponse> response =
+                ipscMatchController.updateMatch(matchId, matchOnlyRequest, "\"3\"");
+
+        assertEquals("\"4\"", response.getHeaders().getETag());
+        verify(ipscMatchService).updateMatch(matchId, matchOnlyRequest, 3L);
     }
 
     @Test
@@ -46,4 +172,48 @@ class IpscMatchControllerTest {
 
         verify(ipscMatchService).insertMatch(matchOnlyRequest);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testSearchMatches_whenServiceReturnsPage_thenReturnsPage() throws FatalException {
+        MatchSearchRequest matchSearchRequest = new MatchSearchRequest();
+        MatchSearchResponse matchSearchResponse = new MatchSearchResponse();
+        when(ipscMatchService.searchMatches(matchSearchRequest)).thenReturn(Optional.of(matchSearchResponse));
+
+        assertSame(matchSearchResponse, ipscMatchController.searchMatches(matchSearchRequest).getBody());
+
+        verify(ipscMatchService).searchMatches(matchSearchRequest);
+    }
+
+    @Test
+    void testGetMatches_whenServiceReturnsEmptyOptional_thenThrowsFatalException() {
+        List<Long> matchIds = List.of(8L, 9L);
+        when(ipscMatchService.getMatches(matchIds)).thenReturn(Optional.empty());
+
+        assertThrows(FatalException.class, () -> ipscMatchController.getMatches(matchIds));
+
+        verify(ipscMatchService).getMatches(matchIds);
+    }
+
+    @Test
+    void testExportMatchResults_whenCsv_thenStreamsExportAsAttachment() throws IOException {
+        Long matchId = 8L;
+        when(matchResultExportService.exportMatch(matchId, ExportFormat.CSV))
+                .thenReturn(outputStream -> outputStream.write("matchId\n8\n".getBytes(StandardCharsets.UTF_8)));
+
+        ResponseEntity<StreamingResponseBody> response = ipscMatchController.exportMatchResults(matchId, "CSV");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        response.getBody().writeTo(outputStream);
+
+        assertEquals(MediaType.parseMediaType("text/csv"), response.getHeaders().getContentType());
+        assertEquals("match-8-results.csv", response.getHeaders().getContentDisposition().getFilename());
+        assertEquals("matchId\n8\n", outputStream.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testExportMatchesResults_whenFormatUnsupported_thenThrowsValidationExceptionWithoutExporting() {
+        assertThrows(ValidationException.class, () -> ipscMatchController.exportMatchesResults(
+                LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31), "xml"));
+
+        verifyNoInteractions(matchResultExportService);
+    }
+}
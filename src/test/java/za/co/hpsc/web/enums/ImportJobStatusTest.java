@@ -0,0 +1,30 @@
+package za.co.hpsc.web.enums;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImportJobStatusTest {
+
+    @Test
+    void testIsFinished_whenCompletedOrFailed_thenReturnsTrue() {
+        // Act & Assert
+        assertTrue(ImportJobStatus.COMPLETED.isFinished());
+        assertTrue(ImportJobStatus.FAILED.isFinished());
+    }
+
+    @Test
+    void testIsFinished_whenInProgress_thenReturnsFalse() {
+        // Act & Assert
+        assertFalse(ImportJobStatus.QUEUED.isFinished());
+        assertFalse(ImportJobStatus.PARSING.isFinished());
+        assertFalse(ImportJobStatus.TRANSFORMING.isFinished());
+        assertFalse(ImportJobStatus.PERSISTING.isFinished());
+    }
+
+    @Test
+    void testToString_thenReturnsDisplayName() {
+        // Act & Assert
+        assertEquals("Persisting", ImportJobStatus.PERSISTING.toString());
+    }
+}
@@ -0,0 +1,104 @@
+package za.co.hpsc.web.models.ipsc.common.holders.data;
+
+import org.junit.jupiter.api.Test;
+import za.co.hpsc.web.domain.Club;
+import za.co.hpsc.web.enums.ClubIdentifier;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClubDictionaryTest {
+
+    @Test
+    void testConstructor_whenEmpty_thenDictionaryIsEmpty() {
+        // Act
+        ClubDictionary dictionary = new ClubDictionary();
+
+        // Assert
+        assertEquals(0, dictionary.size());
+        assertTrue(dictionary.findById(1L).isEmpty());
+        assertTrue(dictionary.findByName("HPSC").isEmpty());
+        assertTrue(dictionary.findByIdentifier(ClubIdentifier.HPSC).isEmpty());
+    }
+
+    @Test
+    void testFinders_whenClubs_thenFindsByKeysIgnoringCase() {
+        // Arrange
+        Club hpsc = buildClub(1L, "Hartbeespoortdam Practical Shooting Club", "HPSC");
+        Club sosc = buildClub(2L, "Safari Outdoor Shooting Club", "SOSC");
+        Club withoutId = buildClub(null, "No ID Club", "NID");
+
+        // Act
+        ClubDictionary dictionary = new ClubDictionary(Arrays.asList(hpsc, null, sosc, withoutId));
+
+        // Assert
+        assertEquals(2, dictionary.size());
+        assertSame(hpsc, dictionary.findById(1L).orElseThrow());
+        assertSame(hpsc, dictionary.findByName("hartbeespoortdam practical shooting club").orElseThrow());
+        assertSame(sosc, dictionary.findByAbbreviation(" sosc ").orElseThrow());
+        assertSame(hpsc, dictionary.findByIdentifier(ClubIdentifier.HPSC).orElseThrow());
+        assertSame(sosc, dictionary.findByIdentifier(ClubIdentifier.SOSC).orElseThrow());
+        assertTrue(dictionary.findByIdentifier(ClubIdentifier.PMPSC).isEmpty());
+        assertTrue(dictionary.findByIdentifier(ClubIdentifier.UNKNOWN).isEmpty());
+        assertTrue(dictionary.findByName("No ID Club").isEmpty());
+        assertTrue(dictionary.findById(null).isEmpty());
+        assertTrue(dictionary.findByName(" ").isEmpty());
+        assertTrue(dictionary.findByAbbreviation(null).isEmpty());
+    }
+
+    @Test
+    void testFindByIdentifier_whenOnlyAbbreviationMatches_thenFindsByAbbreviation() {
+        // Arrange
+        Club club = buildClub(3L, "Pretoria Military Club", "PMPSC");
+
+        // Act
+        ClubDictionary dictionary = new ClubDictionary(List.of(club));
+
+        // Assert
+        assertSame(club, dictionary.findByIdentifier(ClubIdentifier.PMPSC).orElseThrow());
+    }
+
+    @Test
+    void testWith_whenClubAddedOrReplaced_thenReturnsUpdatedCopy() {
+        // Arrange
+        Club original = buildClub(1L, "Old Name", "OLD");
+        Club other = buildClub(2L, "Other Club", "OTH");
+        ClubDictionary dictionary = new ClubDictionary(List.of(original, other));
+        Club renamed = buildClub(1L, "New Name", "NEW");
+        Club added = buildClub(3L, "Added Club", "ADD");
+
+        // Act
+        ClubDictionary updated = dictionary.with(renamed).with(added);
+
+        // Assert
+        assertEquals(3, updated.size());
+        assertSame(renamed, updated.findById(1L).orElseThrow());
+        assertSame(renamed, updated.findByName("New Name").orElseThrow());
+        assertTrue(updated.findByName("Old Name").isEmpty());
+        assertSame(added, updated.findByAbbreviation("ADD").orElseThrow());
+        assertSame(other, updated.findByName("Other Club").orElseThrow());
+
+        // The original dictionary is unchanged
+        assertEquals(2, dictionary.size());
+        assertSame(original, dictionary.findByName("Old Name").orElseThrow());
+        assertTrue(dictionary.findById(3L).isEmpty());
+    }
+
+    @Test
+    void testWith_whenClubWithoutId_thenReturnsSameDictionary() {
+        // Arrange
+        ClubDictionary dictionary = new ClubDictionary(List.of(buildClub(1L, "Club", "C")));
+
+        // Act & Assert
+        assertSame(dictionary, dictionary.with(null));
+        assertSame(dictionary, dictionary.with(buildClub(null, "Unsaved", "U")));
+    }
+
+    private static Club buildClub(Long id, String name, String abbreviation) {
+        Club club = new Club(name, abbreviation);
+        club.setId(id);
+        return club;
+    }
+}
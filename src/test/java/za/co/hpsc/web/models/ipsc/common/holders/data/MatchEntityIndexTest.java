@@ -0,0 +1,118 @@
+package za.co.hpsc.web.models.ipsc.common.holders.data;
+
+import org.junit.jupiter.api.Test;
+import za.co.hpsc.web.domain.Competitor;
+import za.co.hpsc.web.domain.IpscMatchStage;
+import za.co.hpsc.web.domain.MatchCompetitor;
+import za.co.hpsc.web.domain.MatchStageCompetitor;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchEntityIndexTest {
+
+    @Test
+    void testConstructor_whenEmpty_thenIndexIsEmpty() {
+        // Act
+        MatchEntityIndex index = new MatchEntityIndex();
+
+        // Assert
+        assertTrue(index.getStage(1).isEmpty());
+        assertTrue(index.getMatchCompetitors(1L).isEmpty());
+        assertTrue(index.getMatchStageCompetitors(1L, 1L).isEmpty());
+    }
+
+    @Test
+    void testGetters_whenEntities_thenIndexesByNaturalKeys() {
+        // Arrange
+        IpscMatchStage stage1 = buildStage(10L, 1);
+        IpscMatchStage duplicateStage1 = buildStage(11L, 1);
+        IpscMatchStage stage2 = buildStage(20L, 2);
+        Competitor competitor = buildCompetitor(7L);
+        Competitor otherCompetitor = buildCompetitor(8L);
+
+        MatchCompetitor matchCompetitor1 = buildMatchCompetitor(competitor);
+        MatchCompetitor matchCompetitor2 = buildMatchCompetitor(competitor);
+        MatchCompetitor otherMatchCompetitor = buildMatchCompetitor(otherCompetitor);
+        MatchStageCompetitor stageCompetitor1 = buildMatchStageCompetitor(competitor, stage1);
+        MatchStageCompetitor stageCompetitor2 = buildMatchStageCompetitor(competitor, stage2);
+        MatchStageCompetitor otherStageCompetitor = buildMatchStageCompetitor(otherCompetitor, stage1);
+
+        // Act
+        MatchEntityIndex index = new MatchEntityIndex(
+                Arrays.asList(stage1, null, duplicateStage1, stage2),
+                Arrays.asList(matchCompetitor1, null, otherMatchCompetitor, matchCompetitor2),
+                Arrays.asList(stageCompetitor1, otherStageCompetitor, null, stageCompetitor2));
+
+        // Assert
+        assertSame(stage1, index.getStage(1).orElseThrow());
+        assertSame(stage2, index.getStage(2).orElseThrow());
+        assertTrue(index.getStage(3).isEmpty());
+        assertTrue(index.getStage(null).isEmpty());
+        assertEquals(List.of(matchCompetitor1, matchCompetitor2), index.getMatchCompetitors(7L));
+        assertEquals(List.of(otherMatchCompetitor), index.getMatchCompetitors(8L));
+        assertTrue(index.getMatchCompetitors(null).isEmpty());
+        assertEquals(List.of(stageCompetitor1), index.getMatchStageCompetitors(10L, 7L));
+        assertEquals(List.of(stageCompetitor2), index.getMatchStageCompetitors(20L, 7L));
+        assertEquals(List.of(otherStageCompetitor), index.getMatchStageCompetitors(10L, 8L));
+        assertTrue(index.getMatchStageCompetitors(20L, 8L).isEmpty());
+        assertTrue(index.getMatchStageCompetitors(null, 7L).isEmpty());
+    }
+
+    @Test
+    void testConstructor_whenEntitiesWithoutKeys_thenSkipsThem() {
+        // Arrange
+        MatchCompetitor withoutCompetitor = new MatchCompetitor();
+        MatchCompetitor withUnsavedCompetitor = buildMatchCompetitor(buildCompetitor(null));
+        MatchStageCompetitor withUnsavedStage =
+                buildMatchStageCompetitor(buildCompetitor(7L), buildStage(null, 1));
+
+        // Act
+        MatchEntityIndex index = new MatchEntityIndex(List.of(buildStage(1L, null)),
+                List.of(withoutCompetitor, withUnsavedCompetitor), List.of(withUnsavedStage));
+
+        // Assert
+        assertTrue(index.getStage(null).isEmpty());
+        assertTrue(index.getMatchCompetitors(null).isEmpty());
+        assertTrue(index.getMatchStageCompetitors(null, 7L).isEmpty());
+    }
+
+    @Test
+    void testGetters_whenModified_thenThrowsUnsupportedOperationException() {
+        // Arrange
+        Competitor competitor = buildCompetitor(7L);
+        MatchEntityIndex index = new MatchEntityIndex(null, List.of(buildMatchCompetitor(competitor)), null);
+
+        // Act & Assert
+        assertThrows(UnsupportedOperationException.class,
+                () -> index.getMatchCompetitors(7L).add(new MatchCompetitor()));
+    }
+
+    private static IpscMatchStage buildStage(Long id, Integer stageNumber) {
+        IpscMatchStage stage = new IpscMatchStage();
+        stage.setId(id);
+        stage.setStageNumber(stageNumber);
+        return stage;
+    }
+
+    private static Competitor buildCompetitor(Long id) {
+        Competitor competitor = new Competitor();
+        competitor.setId(id);
+        return competitor;
+    }
+
+    private static MatchCompetitor buildMatchCompetitor(Competitor competitor) {
+        MatchCompetitor matchCompetitor = new MatchCompetitor();
+        matchCompetitor.setCompetitor(competitor);
+        return matchCompetitor;
+    }
+
+    private static MatchStageCompetitor buildMatchStageCompetitor(Competitor competitor, IpscMatchStage stage) {
+        MatchStageCompetitor matchStageCompetitor = new MatchStageCompetitor();
+        matchStageCompetitor.setCompetitor(competitor);
+        matchStageCompetitor.setMatchStage(stage);
+        return matchStageCompetitor;
+    }
+}
@@ -0,0 +1,82 @@
+package za.co.hpsc.web.models.ipsc.common.holders.request;
+
+import org.junit.jupiter.api.Test;
+import za.co.hpsc.web.models.ipsc.common.request.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IpscRequestIndexTest {
+
+    @Test
+    void testConstructor_whenHolderNull_thenIndexIsEmpty() {
+        // Act
+        IpscRequestIndex index = new IpscRequestIndex(null);
+
+        // Assert
+        assertTrue(index.getMembers(1).isEmpty());
+        assertTrue(index.getStages(1).isEmpty());
+        assertTrue(index.getEnrolledMembers(1).isEmpty());
+        assertTrue(index.getScores(1).isEmpty());
+        assertTrue(index.getClub(1).isEmpty());
+    }
+
+    @Test
+    void testGetStagesAndScores_whenMultipleMatches_thenGroupsByMatchIdInSourceOrder() {
+        // Arrange
+        IpscRequestHolder holder = new IpscRequestHolder();
+        holder.setStages(Arrays.asList(buildStage(1, 1), null, buildStage(2, 1), buildStage(1, 2)));
+        holder.setScores(List.of(buildScore(1, 2, 9), buildScore(2, 1, 9), buildScore(1, 1, 10)));
+
+        // Act
+        IpscRequestIndex index = new IpscRequestIndex(holder);
+
+        // Assert
+        assertEquals(List.of(1, 2), index.getStages(1).stream().map(StageRequest::getStageId).toList());
+        assertEquals(1, index.getStages(2).size());
+        assertEquals(List.of(2, 1), index.getScores(1).stream().map(ScoreRequest::getStageId).toList());
+        assertTrue(index.getScores(3).isEmpty());
+        assertTrue(index.getScores(null).isEmpty());
+    }
+
+    @Test
+    void testGetMembersAndClub_whenDuplicateIds_thenKeepsAllMembersAndFirstClub() {
+        // Arrange
+        MemberRequest member1 = new MemberRequest();
+        member1.setMemberId(9);
+        MemberRequest member2 = new MemberRequest();
+        member2.setMemberId(9);
+        ClubRequest club1 = new ClubRequest();
+        club1.setClubId(101);
+        ClubRequest club2 = new ClubRequest();
+        club2.setClubId(101);
+        IpscRequestHolder holder = new IpscRequestHolder();
+        holder.setMembers(List.of(member1, member2));
+        holder.setClubs(List.of(club1, club2));
+
+        // Act
+        IpscRequestIndex index = new IpscRequestIndex(holder);
+
+        // Assert
+        assertEquals(List.of(member1, member2), index.getMembers(9));
+        assertSame(club1, index.getClub(101).orElseThrow());
+        assertThrows(UnsupportedOperationException.class, () -> index.getMembers(9).clear());
+    }
+
+    private StageRequest buildStage(int matchId, int stageId) {
+        StageRequest request = new StageRequest();
+        request.setMatchId(matchId);
+        request.setStageId(stageId);
+        return request;
+    }
+
+    private ScoreRequest buildScore(int matchId, int stageId, int memberId) {
+        ScoreRequest request = new ScoreRequest();
+        request.setMatchId(matchId);
+        request.setStageId(stageId);
+        request.setMemberId(memberId);
+        return request;
+    }
+}
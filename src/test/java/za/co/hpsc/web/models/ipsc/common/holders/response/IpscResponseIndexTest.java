@@ -0,0 +1,58 @@
+package za.co.hpsc.web.models.ipsc.common.holders.response;
+
+import org.junit.jupiter.api.Test;
+import za.co.hpsc.web.models.ipsc.common.response.EnrolledResponse;
+import za.co.hpsc.web.models.ipsc.common.response.IpscResponse;
+import za.co.hpsc.web.models.ipsc.common.response.MemberResponse;
+import za.co.hpsc.web.models.ipsc.common.response.ScoreResponse;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IpscResponseIndexTest {
+
+    @Test
+    void testConstructor_whenResponseNull_thenIndexIsEmpty() {
+        // Act
+        IpscResponseIndex index = new IpscResponseIndex(null);
+
+        // Assert
+        assertTrue(index.getMember(1).isEmpty());
+        assertTrue(index.getEnrolledMembers(1).isEmpty());
+        assertTrue(index.getScores(1).isEmpty());
+    }
+
+    @Test
+    void testGetters_whenMembersEnrolmentsAndScores_thenIndexesByMemberId() {
+        // Arrange
+        MemberResponse member1 = new MemberResponse();
+        member1.setMemberId(9);
+        MemberResponse member2 = new MemberResponse();
+        member2.setMemberId(9);
+        EnrolledResponse enrolled1 = new EnrolledResponse();
+        enrolled1.setMemberId(9);
+        EnrolledResponse enrolled2 = new EnrolledResponse();
+        enrolled2.setMemberId(9);
+        ScoreResponse score1 = new ScoreResponse();
+        score1.setMemberId(9);
+        ScoreResponse score2 = new ScoreResponse();
+        score2.setMemberId(10);
+
+        IpscResponse response = new IpscResponse();
+        response.setMembers(Arrays.asList(member1, null, member2));
+        response.setEnrolledMembers(List.of(enrolled1, enrolled2));
+        response.setScores(List.of(score1, score2));
+
+        // Act
+        IpscResponseIndex index = new IpscResponseIndex(response);
+
+        // Assert
+        assertSame(member1, index.getMember(9).orElseThrow());
+        assertTrue(index.getMember(null).isEmpty());
+        assertEquals(List.of(enrolled1, enrolled2), index.getEnrolledMembers(9));
+        assertEquals(List.of(score1), index.getScores(9));
+        assertEquals(List.of(score2), index.getScores(10));
+    }
+}
@@ -40,6 +40,7 @@ class MatchOnlyDtoTest {
         // Act
         MatchOnlyDto dto = new MatchOnlyDto(
                 12L,
+                3L,
                 clubDto,
                 "HPSC",
                 "League Match",
@@ -51,6 +52,7 @@ class MatchOnlyDtoTest {
 
         // Assert
         assertEquals(12L, dto.getId());
+        assertEquals(3L, dto.getVersion());
         assertEquals(clubDto, dto.getClub());
         assertEquals("HPSC", dto.getClubName());
         assertEquals("League Match", dto.getName());
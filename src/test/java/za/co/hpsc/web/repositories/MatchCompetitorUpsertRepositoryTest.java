@@ -0,0 +1,101 @@
+package za.co.hpsc.web.repositories;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import za.co.hpsc.web.domain.MatchCompetitor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class MatchCompetitorUpsertRepositoryTest {
+
+    private final MatchCompetitorUpsertRepositoryImpl matchCompetitorUpsertRepository =
+            new MatchCompetitorUpsertRepositoryImpl(null, null, 500);
+
+    @Test
+    public void testGetMySqlUpsert_whenTwoRows_thenUpdatesFromRowAliasInsteadOfValuesFunction() {
+        // Act
+        String sql = matchCompetitorUpsertRepository.getMySqlUpsert(2);
+
+        // Assert
+        assertTrue(sql.startsWith("INSERT INTO match_competitor (id, competitor_id, "));
+        String rowPlaceholders = "(" + String.join(", ", Collections.nCopies(12, "?")) + ")";
+        assertEquals(2, sql.split(Pattern.quote(rowPlaceholders), -1).length - 1);
+        assertTrue(sql.contains(" AS new ON DUPLICATE KEY UPDATE competitor_id = new.competitor_id, "));
+        assertTrue(sql.endsWith(", competitor_category = new.competitor_category, date_updated = new.date_updated"));
+        assertFalse(sql.contains("VALUES("));
+        assertFalse(sql.contains("date_created = "));
+        assertFalse(sql.contains("version"));
+    }
+
+    @Test
+    public void testUpsertAll_whenMergeFallbackAndRowExists_thenRetainsCreationAndEditDates() {
+        // Arrange
+        EntityManager entityManager = mock(EntityManager.class);
+        MatchCompetitorUpsertRepositoryImpl mergingRepository = createMergingRepository(entityManager);
+
+        LocalDateTime dateCreated = LocalDateTime.of(2025, 1, 10, 8, 0);
+        LocalDateTime dateEdited = LocalDateTime.of(2025, 2, 20, 9, 30);
+        MatchCompetitor existingMatchCompetitor = new MatchCompetitor();
+        existingMatchCompetitor.setId(1L);
+        existingMatchCompetitor.setDateCreated(dateCreated);
+        existingMatchCompetitor.setDateEdited(dateEdited);
+        when(entityManager.find(MatchCompetitor.class, 1L)).thenReturn(existingMatchCompetitor);
+
+        MatchCompetitor matchCompetitor = new MatchCompetitor();
+        matchCompetitor.setId(1L);
+        matchCompetitor.setMatchPoints(new BigDecimal("85.50"));
+
+        // Act
+        int count = mergingRepository.upsertAll(List.of(matchCompetitor));
+
+        // Assert
+        assertEquals(1, count);
+        ArgumentCaptor<MatchCompetitor> mergedCaptor = ArgumentCaptor.forClass(MatchCompetitor.class);
+        verify(entityManager).merge(mergedCaptor.capture());
+        MatchCompetitor merged = mergedCaptor.getValue();
+        assertSame(matchCompetitor, merged);
+        assertEquals(dateCreated, merged.getDateCreated());
+        assertEquals(dateEdited, merged.getDateEdited());
+        assertNotNull(merged.getDateUpdated());
+        assertEquals(new BigDecimal("85.50"), merged.getMatchPoints());
+        verify(entityManager, never()).flush();
+    }
+
+    @Test
+    public void testUpsertAll_whenMergeFallbackAndRowMissing_thenMergesAsIs() {
+        // Arrange
+        EntityManager entityManager = mock(EntityManager.class);
+        MatchCompetitorUpsertRepositoryImpl mergingRepository = createMergingRepository(entityManager);
+        when(entityManager.find(MatchCompetitor.class, 2L)).thenReturn(null);
+
+        MatchCompetitor matchCompetitor = new MatchCompetitor();
+        matchCompetitor.setId(2L);
+
+        // Act
+        int count = mergingRepository.upsertAll(List.of(matchCompetitor));
+
+        // Assert
+        assertEquals(1, count);
+        verify(entityManager).merge(matchCompetitor);
+        assertNull(matchCompetitor.getDateCreated());
+        assertNotNull(matchCompetitor.getDateUpdated());
+    }
+
+    // Forces the fallback used for databases other than MySQL and H2
+    private MatchCompetitorUpsertRepositoryImpl createMergingRepository(EntityManager entityManager) {
+        return new MatchCompetitorUpsertRepositoryImpl(entityManager, null, 500) {
+            @Override
+            protected UpsertMode getUpsertMode() {
+                return UpsertMode.MERGE_ENTITIES;
+            }
+        };
+    }
+}
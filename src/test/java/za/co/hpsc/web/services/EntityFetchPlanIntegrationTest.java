@@ -0,0 +1,321 @@
+package za.co.hpsc.web.services;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import za.co.hpsc.web.domain.*;
+import za.co.hpsc.web.models.ipsc.common.data.CompetitorLookup;
+import za.co.hpsc.web.models.ipsc.common.holders.data.MatchHolder;
+import za.co.hpsc.web.models.ipsc.common.records.MatchRecord;
+import za.co.hpsc.web.models.ipsc.common.request.MatchSearchRequest;
+import za.co.hpsc.web.models.ipsc.match.response.MatchLookupResponse;
+import za.co.hpsc.web.models.ipsc.match.response.MatchOnlyResponse;
+import za.co.hpsc.web.models.ipsc.match.response.MatchSearchResponse;
+import za.co.hpsc.web.repositories.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class EntityFetchPlanIntegrationTest {
+    private static final int COMPETITORS = 5;
+    private static final int STAGES = 3;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ClubRepository clubRepository;
+
+    @Autowired
+    private CompetitorRepository competitorRepository;
+
+    @Autowired
+    private IpscMatchRepository ipscMatchRepository;
+
+    @Autowired
+    private IpscMatchStageRepository ipscMatchStageRepository;
+
+    @Autowired
+    private MatchCompetitorRepository matchCompetitorRepository;
+
+    @Autowired
+    private MatchStageCompetitorRepository matchStageCompetitorRepository;
+
+    @Autowired
+    private IpscMatchService ipscMatchService;
+
+    @Autowired
+    private MatchEntityService matchEntityService;
+
+    @Autowired
+    private CompetitorEntityService competitorEntityService;
+
+    @Autowired
+    private MatchStageCompetitorEntityService matchStageCompetitorEntityService;
+
+    @Autowired
+    private MatchRecordService matchRecordService;
+
+    @Autowired
+    private TransformationService transformationService;
+
+    private Statistics statistics;
+    private String suffix;
+    private Long matchId;
+
+    @BeforeEach
+    public void setUp() {
+        suffix = UUID.randomUUID().toString();
+        matchId = new TransactionTemplate(transactionManager).execute(status -> {
+            Club club = clubRepository.save(new Club("Fetch Club " + suffix, "FETCH"));
+            List<Competitor> competitors = new ArrayList<>();
+            for (int competitorNumber = 1; competitorNumber <= COMPETITORS; competitorNumber++) {
+                Competitor competitor = new Competitor();
+                competitor.setFirstName("First" + competitorNumber);
+                competitor.setLastName("Last " + suffix);
+                competitor.setCompetitorNumber("F" + competitorNumber);
+                competitors.add(competitorRepository.save(competitor));
+            }
+
+            // The same competitors in a second match, which must not be loaded with the first match
+            Long firstMatchId = persistMatch(club, competitors);
+            persistMatch(club, competitors);
+            return firstMatchId;
+        });
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void testGetMatch_whenMatchHasResults_thenLoadsMatchAndClubInOneStatement() {
+        // Act
+        MatchOnlyResponse response = ipscMatchService.getMatch(matchId).orElseThrow();
+
+        // Assert
+        assertEquals(matchId, response.getMatchId());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testGetMatches_whenSeveralIds_thenLoadsMatchesInOneStatement() {
+        // Act
+        List<MatchLookupResponse> responses = ipscMatchService.getMatches(List.of(-1L, matchId, matchId))
+                .orElseThrow();
+
+        // Assert
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertFalse(responses.get(0).isFound());
+        assertEquals(matchId, responses.get(1).getMatch().getMatchId());
+        assertEquals("Fetch Club " + suffix, responses.get(2).getMatch().getClub());
+    }
+
+    @Test
+    public void testFindMatchById_whenMatchHasResults_thenDoesNotLoadCollections() {
+        // Act
+        IpscMatch match = matchEntityService.findMatchById(matchId).orElseThrow();
+
+        // Assert
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertTrue(Hibernate.isInitialized(match.getClub()));
+        assertFalse(Hibernate.isInitialized(match.getMatchStages()));
+        assertFalse(Hibernate.isInitialized(match.getMatchCompetitors()));
+    }
+
+    @Test
+    public void testFindMatchResultsById_whenMatchHasResults_thenLoadsResultsInThreeStatements() {
+        // Act
+        IpscMatch match = matchEntityService.findMatchResultsById(matchId).orElseThrow();
+
+        // Assert
+        assertEquals(3, statistics.getPrepareStatementCount());
+
+        // Navigating the loaded results issues no further statements
+        assertEquals("Fetch Club " + suffix, match.getClub().getName());
+        assertEquals(COMPETITORS, match.getMatchCompetitors().size());
+        match.getMatchCompetitors().forEach(matchCompetitor ->
+                assertNotNull(matchCompetitor.getCompetitor().getFirstName()));
+        assertEquals(STAGES, match.getMatchStages().size());
+        match.getMatchStages().forEach(stage -> {
+            assertEquals(COMPETITORS, stage.getMatchStageCompetitors().size());
+            stage.getMatchStageCompetitors().forEach(matchStageCompetitor ->
+                    assertNotNull(matchStageCompetitor.getCompetitor().getLastName()));
+        });
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testFindCompetitors_whenCompetitorHasResults_thenLoadsCompetitorOnly() {
+        // Arrange
+        CompetitorLookup lookup = new CompetitorLookup(null, "First1", "Last " + suffix, null);
+
+        // Act
+        Map<CompetitorLookup, Competitor> competitors = competitorEntityService.findCompetitors(List.of(lookup));
+
+        // Assert
+        assertEquals(1, statistics.getPrepareStatementCount());
+        Competitor competitor = competitors.get(lookup);
+        assertNotNull(competitor);
+        assertFalse(Hibernate.isInitialized(competitor.getCompetitorMatches()));
+        assertFalse(Hibernate.isInitialized(competitor.getCompetitorStageMatches()));
+    }
+
+    @Test
+    public void testFindMatchStageCompetitorsByMatch_whenMatchHasResults_thenPrefetchesInOneStatement() {
+        // Act
+        List<MatchStageCompetitor> matchStageCompetitors =
+                matchStageCompetitorEntityService.findMatchStageCompetitorsByMatch(matchId);
+
+        // Assert
+        assertEquals(COMPETITORS * STAGES, matchStageCompetitors.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        matchStageCompetitors.forEach(matchStageCompetitor -> {
+            assertEquals(matchId, matchStageCompetitor.getMatchStage().getMatch().getId());
+            assertFalse(Hibernate.isInitialized(matchStageCompetitor.getCompetitor().getCompetitorMatches()));
+        });
+    }
+
+    @Test
+    public void testGenerateMatchRecord_whenMatchHasResults_thenReadsProjectionsInTwoStatements() {
+        // Act
+        MatchRecord matchRecord = matchRecordService.generateMatchRecord(matchId).orElseThrow();
+
+        // Assert
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals("Fetch Club " + suffix + " (FETCH)", matchRecord.clubName());
+        assertEquals(COMPETITORS, matchRecord.competitors().size());
+        matchRecord.competitors().forEach(competitorRecord -> {
+            assertEquals("Fetch Club " + suffix, competitorRecord.clubName());
+            assertEquals(List.of("Stage 1", "Stage 2", "Stage 3"), competitorRecord.results().stages().stream()
+                    .map(stageResult -> stageResult.stageName())
+                    .toList());
+        });
+    }
+
+    @Test
+    public void testGenerateMatchRecord_whenMatchHasResults_thenMatchesRecordGeneratedFromEntities() {
+        // Arrange
+        IpscMatch match = matchEntityService.findMatchResultsById(matchId).orElseThrow();
+        List<MatchStageCompetitor> matchStageCompetitors = match.getMatchStages().stream()
+                .sorted(Comparator.comparing(IpscMatchStage::getStageNumber))
+                .flatMap(stage -> stage.getMatchStageCompetitors().stream())
+                .toList();
+        MatchHolder matchHolder = new MatchHolder(match, match.getClub(), match.getMatchStages(),
+                new ArrayList<>(), match.getMatchCompetitors(), matchStageCompetitors);
+        MatchRecord expectedRecord = transformationService.generateMatchRecord(matchHolder).orElseThrow();
+
+        // Act
+        MatchRecord matchRecord = matchRecordService.generateMatchRecord(matchId).orElseThrow();
+
+        // Assert
+        assertEquals(expectedRecord.name(), matchRecord.name());
+        assertEquals(expectedRecord.scheduledDate(), matchRecord.scheduledDate());
+        assertEquals(expectedRecord.clubName(), matchRecord.clubName());
+        assertEquals(expectedRecord.matchFirearmType(), matchRecord.matchFirearmType());
+        assertEquals(expectedRecord.matchCategory(), matchRecord.matchCategory());
+        assertEquals(expectedRecord.dateEdited(), matchRecord.dateEdited());
+        assertEquals(new HashSet<>(expectedRecord.competitors()), new HashSet<>(matchRecord.competitors()));
+    }
+
+    @Test
+    public void testGenerateMatchRecord_whenMatchMissing_thenEmpty() {
+        // Act
+        Optional<MatchRecord> matchRecord = matchRecordService.generateMatchRecord(-1L);
+
+        // Assert
+        assertTrue(matchRecord.isEmpty());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testSearchMatches_whenPaged_thenSeeksEachPageInOneStatementWithoutLoadingMatches() {
+        // Arrange
+        List<Long> expectedMatchIds = new TransactionTemplate(transactionManager).execute(status -> {
+            Club club = clubRepository.save(new Club("Search Club " + suffix, "SEARCH"));
+            List<IpscMatch> matches = new ArrayList<>();
+            // Two matches share each scheduled date, so the pages also split on the ID
+            for (int matchNumber = 5; matchNumber >= 1; matchNumber--) {
+                IpscMatch match = new IpscMatch();
+                match.setClub(club);
+                match.setName("Search_" + suffix + " " + matchNumber);
+                match.setScheduledDate(LocalDateTime.of(2020, 1, 1 + (matchNumber / 2), 9, 0));
+                matches.add(ipscMatchRepository.save(match));
+            }
+            return matches.stream()
+                    .sorted(Comparator.comparing(IpscMatch::getScheduledDate).thenComparing(IpscMatch::getId))
+                    .map(IpscMatch::getId)
+                    .toList();
+        });
+        statistics.clear();
+
+        // Act
+        List<Long> matchIds = new ArrayList<>();
+        List<Long> statementCounts = new ArrayList<>();
+        MatchSearchRequest matchSearchRequest = new MatchSearchRequest(null, "Search_" + suffix, null, null,
+                null, 2);
+        do {
+            long statementCount = statistics.getPrepareStatementCount();
+            MatchSearchResponse page = ipscMatchService.searchMatches(matchSearchRequest).orElseThrow();
+            statementCounts.add(statistics.getPrepareStatementCount() - statementCount);
+            page.getMatches().forEach(match -> matchIds.add(match.getMatchId()));
+            matchSearchRequest.setAfter(page.getNextCursor());
+        } while (matchSearchRequest.getAfter() != null);
+
+        // Assert
+        assertEquals(expectedMatchIds, matchIds);
+        assertEquals(List.of(1L, 1L, 1L), statementCounts);
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+    }
+
+    private Long persistMatch(Club club, List<Competitor> competitors) {
+        IpscMatch match = new IpscMatch();
+        match.setClub(club);
+        match.setName("Fetch Match " + UUID.randomUUID());
+        match.setScheduledDate(LocalDateTime.of(2026, 5, 2, 9, 0));
+        ipscMatchRepository.save(match);
+
+        for (Competitor competitor : competitors) {
+            MatchCompetitor matchCompetitor = new MatchCompetitor();
+            matchCompetitor.setCompetitor(competitor);
+            matchCompetitor.setMatch(match);
+            matchCompetitorRepository.save(matchCompetitor);
+        }
+
+        for (int stageNumber = 1; stageNumber <= STAGES; stageNumber++) {
+            IpscMatchStage stage = new IpscMatchStage();
+            stage.setMatch(match);
+            stage.setStageNumber(stageNumber);
+            stage.setStageName("Stage " + stageNumber);
+            ipscMatchStageRepository.save(stage);
+
+            for (Competitor competitor : competitors) {
+                MatchStageCompetitor matchStageCompetitor = new MatchStageCompetitor();
+                matchStageCompetitor.setCompetitor(competitor);
+                matchStageCompetitor.setMatchStage(stage);
+                matchStageCompetitor.setPoints(stageNumber * 10);
+                matchStageCompetitor.setHitFactor(BigDecimal.valueOf(stageNumber));
+                matchStageCompetitorRepository.save(matchStageCompetitor);
+            }
+        }
+        return match.getId();
+    }
+}
@@ -215,23 +215,31 @@ public class IpscMatchIntegrationTest {
                                                      IpscMatchRepository ipscMatchRepository,
                                                      IpscMatchStageRepository ipscMatchStageRepository,
                                                      MatchCompetitorRepository matchCompetitorRepository,
-                                                     MatchStageCompetitorRepository matchStageCompetitorRepository) {
+                                                     MatchStageCompetitorRepository matchStageCompetitorRepository,
+                                                     ClubDictionaryService clubDictionaryService,
+                                                     MatchResponseCacheService matchResponseCacheService) {
             return new TransactionServiceImpl(platformTransactionManager, clubRepository,
                     competitorRepository, ipscMatchRepository, ipscMatchStageRepository,
-                    matchCompetitorRepository, matchStageCompetitorRepository);
+                    matchCompetitorRepository, matchStageCompetitorRepository, clubDictionaryService,
+                    matchResponseCacheService);
         }
 
         @Bean
-        public MatchEntityService matchEntityService(IpscMatchRepository ipscMatchRepository) {
-            return new MatchEntityServiceImpl(ipscMatchRepository);
+        public MatchEntityService matchEntityService(IpscMatchRepository ipscMatchRepository,
+                                                     IpscMatchStageRepository ipscMatchStageRepository) {
+            return new MatchEntityServiceImpl(ipscMatchRepository, ipscMatchStageRepository);
         }
 
         @Bean
         public IpscMatchService ipscMatchService(TransformationService transformationService,
                                                  DomainService domainService,
                                                  TransactionService transactionService,
-                                                 MatchEntityService matchEntityService) {
-            return new IpscMatchServiceImpl(transformationService, domainService, transactionService, matchEntityService);
+                                                 MatchEntityService matchEntityService,
+                                                 MatchRecordService matchRecordService,
+                                                 ImportLedgerService importLedgerService,
+                                                 MatchResponseCacheService matchResponseCacheService) {
+            return new IpscMatchServiceImpl(transformationService, domainService, transactionService,
+                    matchEntityService, matchRecordService, importLedgerService, matchResponseCacheService);
         }
     }
 }
@@ -3,11 +3,15 @@ package za.co.hpsc.web.services;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.PlatformTransactionManager;
+import za.co.hpsc.web.configs.ExecutorConfig;
+import za.co.hpsc.web.configs.ObjectReaderRegistry;
+import za.co.hpsc.web.domain.ImportLedger;
 import za.co.hpsc.web.domain.IpscMatch;
 import za.co.hpsc.web.domain.IpscMatchStage;
 import za.co.hpsc.web.domain.MatchCompetitor;
@@ -24,6 +28,7 @@ import za.co.hpsc.web.services.impl.TransactionServiceImpl;
 import za.co.hpsc.web.services.impl.TransformationServiceImpl;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -40,9 +45,15 @@ public class IpscServiceIntegrationTest {
     @Autowired
     private IpscMatchRepository ipscMatchRepository;
 
+    @Autowired
+    private ImportLedgerRepository importLedgerRepository;
+
     @Autowired
     private IpscService ipscService;
 
+    @Autowired
+    private MatchEntityService matchEntityService;
+
     // Test Group: importWinMssCabFile - Integration tests
     // Test Group: Null/Empty/Blank Input Handling
     @Test
@@ -851,6 +862,52 @@ public class IpscServiceIntegrationTest {
         );
     }
 
+    // Test Group: Import ledger
+    @Test
+    public void testImportWinMssCabFile_whenSameCabFileImportedTwice_thenAnswersFromImportLedger() {
+        // Arrange
+        String matchName = "Import Ledger Match";
+        String cabFileContent = buildCabFileContent(1107, 2208, 183, 583, matchName, " Chrono='True'",
+                "RefNo='BBB' DivId='4' MajorPF='True'");
+        List<IpscMatchRecordHolder> firstImport = assertDoesNotThrow(() ->
+                ipscService.importWinMssCabFile(cabFileContent));
+        Long version = ipscMatchRepository.findAllByName(matchName).getFirst().getVersion();
+
+        // Act
+        List<IpscMatchRecordHolder> secondImport = assertDoesNotThrow(() ->
+                ipscService.importWinMssCabFile(cabFileContent));
+
+        // Assert
+        assertEquals(firstImport, secondImport);
+        // The match was not written again
+        assertEquals(version, ipscMatchRepository.findAllByName(matchName).getFirst().getVersion());
+    }
+
+    @Test
+    public void testImportWinMssCabFile_whenScoresChangedSinceImported_thenImportsMatchAgain() {
+        // Arrange
+        String matchName = "Import Ledger Changed Match";
+        String matchKey = "import ledger changed match|2026-04-25T09:00";
+        String cabFileContent = buildCabFileContent(1108, 2209, 184, 584, matchName, " Chrono='True'",
+                "RefNo='BBB' DivId='4' MajorPF='True'");
+        String changedCabFileContent = cabFileContent.replace("FinalScore='110'", "FinalScore='111'");
+        assertDoesNotThrow(() -> ipscService.importWinMssCabFile(cabFileContent));
+        ImportLedger importedMatch = importLedgerRepository
+                .findByLedgerTypeAndLedgerKey(ImportLedgerType.MATCH, matchKey).orElseThrow();
+
+        // Act
+        List<IpscMatchRecordHolder> recordHolders = assertDoesNotThrow(() ->
+                ipscService.importWinMssCabFile(changedCabFileContent));
+
+        // Assert
+        assertEquals(1, recordHolders.size());
+        ImportLedger reimportedMatch = importLedgerRepository
+                .findByLedgerTypeAndLedgerKey(ImportLedgerType.MATCH, matchKey).orElseThrow();
+        assertEquals(importedMatch.getId(), reimportedMatch.getId());
+        assertEquals(importedMatch.getMatchId(), reimportedMatch.getMatchId());
+        assertNotEquals(importedMatch.getContentHash(), reimportedMatch.getContentHash());
+    }
+
     private String buildCabFileContent(int matchId, int stageId, int memberId, int competitorId,
                                        String matchName, String matchAttributes, String enrolledAttributes) {
         return """
@@ -873,7 +930,8 @@ public class IpscServiceIntegrationTest {
     private IpscMatch loadSinglePersistedMatch(String matchName) {
         List<IpscMatch> persistedMatches = ipscMatchRepository.findAllByName(matchName);
         assertEquals(1, persistedMatches.size());
-        return persistedMatches.getFirst();
+        // Loads the stages, competitors and scores, which are not loaded with the match
+        return matchEntityService.findMatchResultsById(persistedMatches.getFirst().getId()).orElseThrow();
     }
 
     private MatchCompetitor getOnlyMatchCompetitor(IpscMatch persistedMatch) {
@@ -913,23 +971,34 @@ public class IpscServiceIntegrationTest {
                                                      IpscMatchRepository ipscMatchRepository,
                                                      IpscMatchStageRepository ipscMatchStageRepository,
                                                      MatchCompetitorRepository matchCompetitorRepository,
-                                                     MatchStageCompetitorRepository matchStageCompetitorRepository) {
+                                                     MatchStageCompetitorRepository matchStageCompetitorRepository,
+                                                     ClubDictionaryService clubDictionaryService,
+                                                     MatchResponseCacheService matchResponseCacheService) {
             return new TransactionServiceImpl(platformTransactionManager, clubRepository,
                     competitorRepository, ipscMatchRepository, ipscMatchStageRepository,
-                    matchCompetitorRepository, matchStageCompetitorRepository);
+                    matchCompetitorRepository, matchStageCompetitorRepository, clubDictionaryService,
+                    matchResponseCacheService);
         }
 
         @Bean
-        public MatchEntityService matchEntityService(IpscMatchRepository ipscMatchRepository) {
-            return new MatchEntityServiceImpl(ipscMatchRepository);
+        public MatchEntityService matchEntityService(IpscMatchRepository ipscMatchRepository,
+                                                     IpscMatchStageRepository ipscMatchStageRepository) {
+            return new MatchEntityServiceImpl(ipscMatchRepository, ipscMatchStageRepository);
         }
 
         @Bean
         public IpscService ipscService(TransformationService transformationService,
                                        DomainService domainService,
-                                       TransactionService transactionService) {
+                                       TransactionService transactionService,
+                                       ObjectReaderRegistry objectReaderRegistry,
+                                       @Qualifier(ExecutorConfig.SECTION_PARSER_EXECUTOR)
+                                       ExecutorService sectionParserExecutor,
+                                       @Qualifier(ExecutorConfig.MATCH_IMPORT_EXECUTOR)
+                                       ExecutorService matchImportExecutor,
+                                       ImportLedgerService importLedgerService) {
             return new IpscServiceImpl(transformationService, domainService,
-                    transactionService);
+                    transactionService, objectReaderRegistry, sectionParserExecutor,
+                    matchImportExecutor, importLedgerService);
         }
     }
 }
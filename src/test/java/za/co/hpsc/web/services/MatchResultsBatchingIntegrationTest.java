@@ -0,0 +1,333 @@
+package za.co.hpsc.web.services;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import za.co.hpsc.web.domain.MatchStageCompetitor;
+import za.co.hpsc.web.models.ipsc.common.data.DtoMapping;
+import za.co.hpsc.web.models.ipsc.common.holders.data.MatchHolder;
+import za.co.hpsc.web.models.ipsc.common.holders.dto.MatchResultsDto;
+import za.co.hpsc.web.models.ipsc.common.holders.request.IpscRequestHolder;
+import za.co.hpsc.web.models.ipsc.common.request.*;
+import za.co.hpsc.web.models.ipsc.common.response.IpscResponse;
+import za.co.hpsc.web.repositories.MatchStageCompetitorRepository;
+import za.co.hpsc.web.utils.ValueUtil;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class MatchResultsBatchingIntegrationTest {
+    private static final int COMPETITORS = 200;
+    private static final int STAGES = 20;
+    private static final int UPSERT_CHUNK_SIZE = 500;
+    // More competitors than the 50 IDs allocated at once, with a remainder past the last full JDBC batch of 50
+    private static final int BATCHED_COMPETITORS = 120;
+    private static final int BATCHED_STAGES = 3;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransformationService transformationService;
+
+    @Autowired
+    private DomainService domainService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private MatchStageCompetitorRepository matchStageCompetitorRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    public void testSaveMatchResults_whenLargeMatch_thenInsertsEachTableInFullBatches() throws Exception {
+        // Arrange
+        String suffix = UUID.randomUUID().toString();
+        DtoMapping dtoMapping = buildDtoMapping(suffix, BATCHED_COMPETITORS, BATCHED_STAGES, 0);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        BatchCountingConfig.BATCHES_BY_TABLE.clear();
+
+        // Act
+        Optional<MatchHolder> matchHolder = transactionService.saveMatchResults(dtoMapping);
+
+        // Assert
+        assertTrue(matchHolder.isPresent());
+        assertEquals(BATCHED_COMPETITORS, matchHolder.get().getCompetitors().size());
+        assertEquals(BATCHED_STAGES, matchHolder.get().getMatchStages().size());
+        assertEquals(BATCHED_COMPETITORS * BATCHED_STAGES, matchHolder.get().getMatchStageCompetitors().size());
+        assertTrue(statistics.getEntityInsertCount()
+                >= (long) BATCHED_COMPETITORS * BATCHED_STAGES + (2L * BATCHED_COMPETITORS) + BATCHED_STAGES);
+
+        // 120 rows are written in batches of 50, 50 and 20; 360 rows in seven batches of 50 and one of 10
+        assertEquals(3, getBatchCount("competitor"));
+        assertEquals(3, getBatchCount("match_competitor"));
+        assertEquals(1, getBatchCount("ipsc_match_stage"));
+        assertEquals(8, getBatchCount("match_stage_competitor"));
+    }
+
+    @Test
+    public void testSaveMatchResults_whenReImported_thenUpsertsExistingScores() throws Exception {
+        // Arrange
+        String suffix = UUID.randomUUID().toString();
+        MatchHolder firstImport = transactionService.saveMatchResults(buildDtoMapping(suffix, 0)).orElseThrow();
+        Long matchId = firstImport.getMatch().getId();
+        Map<Long, MatchStageCompetitor> firstScores = matchStageCompetitorRepository
+                .findAllByMatchStageMatchId(matchId).stream()
+                .collect(Collectors.toMap(MatchStageCompetitor::getId, Function.identity()));
+        DtoMapping dtoMapping = buildDtoMapping(suffix, 1);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        Optional<MatchHolder> matchHolder = transactionService.saveMatchResults(dtoMapping);
+
+        // Assert
+        assertTrue(matchHolder.isPresent());
+        assertEquals(matchId, matchHolder.get().getMatch().getId());
+
+        // The scores were written past the persistence context, without a select or update per row
+        String entityName = MatchStageCompetitor.class.getName();
+        assertEquals(0, statistics.getEntityStatistics(entityName).getInsertCount());
+        assertEquals(0, statistics.getEntityStatistics(entityName).getUpdateCount());
+
+        List<MatchStageCompetitor> secondScores = matchStageCompetitorRepository.findAllByMatchStageMatchId(matchId);
+        assertEquals(COMPETITORS * STAGES, secondScores.size());
+        secondScores.forEach(score -> {
+            MatchStageCompetitor firstScore = firstScores.get(score.getId());
+            assertNotNull(firstScore, "Expected the existing score to be updated in place");
+            assertEquals(firstScore.getPoints() + 1, score.getPoints());
+            assertEquals(firstScore.getDateCreated(), score.getDateCreated());
+            assertNotNull(score.getDateUpdated());
+        });
+    }
+
+    @Test
+    public void testUpsertAll_whenExistingScores_thenExecutesOneStatementPerChunk() throws Exception {
+        // Arrange
+        String suffix = UUID.randomUUID().toString();
+        MatchHolder matchHolder = transactionService.saveMatchResults(buildDtoMapping(suffix, 0)).orElseThrow();
+        List<MatchStageCompetitor> scores = matchHolder.getMatchStageCompetitors();
+        scores.forEach(score -> score.setPoints(score.getPoints() + 2));
+        int expectedChunks = (scores.size() + UPSERT_CHUNK_SIZE - 1) / UPSERT_CHUNK_SIZE;
+
+        // Act
+        Integer statementCount = new TransactionTemplate(transactionManager)
+                .execute(status -> matchStageCompetitorRepository.upsertAll(scores));
+
+        // Assert
+        assertEquals(expectedChunks, statementCount);
+        assertEquals(scores.size(), matchStageCompetitorRepository
+                .findAllByMatchStageMatchId(matchHolder.getMatch().getId()).size());
+    }
+
+    @Test
+    public void testSaveMatchResults_whenMatchImportedSinceMapped_thenConflicts() throws Exception {
+        // Arrange
+        String suffix = UUID.randomUUID().toString();
+        Long matchId = transactionService.saveMatchResults(buildDtoMapping(suffix, 0)).orElseThrow()
+                .getMatch().getId();
+        DtoMapping staleDtoMapping = buildDtoMapping(suffix, 1);
+        transactionService.saveMatchResults(buildDtoMapping(suffix, 2));
+        Map<Long, Integer> winningPoints = matchStageCompetitorRepository.findAllByMatchStageMatchId(matchId)
+                .stream()
+                .collect(Collectors.toMap(MatchStageCompetitor::getId, MatchStageCompetitor::getPoints));
+
+        // Act & Assert
+        assertThrows(OptimisticLockingFailureException.class,
+                () -> transactionService.saveMatchResults(staleDtoMapping));
+
+        // The scores of the import that won are retained
+        matchStageCompetitorRepository.findAllByMatchStageMatchId(matchId)
+                .forEach(score -> assertEquals(winningPoints.get(score.getId()), score.getPoints()));
+    }
+
+    @Test
+    public void testSaveMatchResults_whenNewMatchInsertedSinceMapped_thenConflicts() throws Exception {
+        // Arrange
+        String suffix = UUID.randomUUID().toString();
+        DtoMapping firstDtoMapping = buildDtoMapping(suffix, 0);
+        DtoMapping secondDtoMapping = buildDtoMapping(suffix, 0);
+        transactionService.saveMatchResults(firstDtoMapping);
+
+        // Act & Assert
+        assertThrows(OptimisticLockingFailureException.class,
+                () -> transactionService.saveMatchResults(secondDtoMapping));
+    }
+
+    private int getBatchCount(String tableName) {
+        AtomicInteger batchCount = BatchCountingConfig.BATCHES_BY_TABLE.get(tableName);
+        return (batchCount != null) ? batchCount.get() : 0;
+    }
+
+    private DtoMapping buildDtoMapping(String suffix, int scoreOffset) {
+        return buildDtoMapping(suffix, COMPETITORS, STAGES, scoreOffset);
+    }
+
+    private DtoMapping buildDtoMapping(String suffix, int competitorCount, int stageCount, int scoreOffset) {
+        IpscResponse ipscResponse = transformationService.mapMatchResults(
+                buildRequestHolder(suffix, competitorCount, stageCount, scoreOffset)).getIpscList().getFirst();
+        MatchResultsDto matchResultsDto = transformationService.initMatchResults(ipscResponse).orElseThrow();
+        return domainService.initMatchEntities(matchResultsDto, null, null).orElseThrow();
+    }
+
+    private static IpscRequestHolder buildRequestHolder(String suffix, int competitorCount, int stageCount,
+                                                        int scoreOffset) {
+        int matchId = 1;
+        IpscRequestHolder holder = new IpscRequestHolder();
+
+        ClubRequest club = new ClubRequest();
+        club.setClubId(1);
+        club.setClubCode("BATCH");
+        club.setClubName("Batching Club " + suffix);
+        holder.setClubs(List.of(club));
+
+        MatchRequest match = new MatchRequest();
+        match.setMatchId(matchId);
+        match.setMatchName("Batching Match " + suffix);
+        match.setClubId(1);
+        match.setMatchDate(LocalDateTime.of(2026, 4, 25, 9, 0));
+        match.setFirearmId(1);
+        holder.setMatches(List.of(match));
+
+        List<StageRequest> stageRequests = new ArrayList<>();
+        for (int stageId = 1; stageId <= stageCount; stageId++) {
+            StageRequest stage = new StageRequest();
+            stage.setMatchId(matchId);
+            stage.setStageId(stageId);
+            stage.setStageName("Stage " + stageId);
+            stage.setMaxPoints(100);
+            stageRequests.add(stage);
+        }
+        holder.setStages(stageRequests);
+
+        List<MemberRequest> members = new ArrayList<>();
+        List<EnrolledRequest> enrolledMembers = new ArrayList<>();
+        List<ScoreRequest> scores = new ArrayList<>();
+        for (int memberId = 1; memberId <= competitorCount; memberId++) {
+            MemberRequest member = new MemberRequest();
+            member.setMemberId(memberId);
+            member.setFirstName("First" + memberId);
+            member.setLastName("Last" + memberId + " " + suffix);
+            member.setDateOfBirth(LocalDateTime.of(1980, 1, 1, 0, 0));
+            member.setIcsAlias("B" + memberId);
+            member.setIsRegisteredForMatch(true);
+            members.add(member);
+
+            EnrolledRequest enrolled = new EnrolledRequest();
+            enrolled.setMemberId(memberId);
+            enrolled.setCompetitorId(memberId);
+            enrolled.setMatchId(matchId);
+            enrolled.setDivisionId(1);
+            enrolled.setCompetitorCategoryId(2);
+            enrolledMembers.add(enrolled);
+
+            for (int stageId = 1; stageId <= stageCount; stageId++) {
+                ScoreRequest score = new ScoreRequest();
+                score.setMatchId(matchId);
+                score.setStageId(stageId);
+                score.setMemberId(memberId);
+                score.setFinalScore(50 + (memberId + stageId) % 50 + scoreOffset);
+                score.setScoreA(5);
+                score.setHitFactor("2.25");
+                score.setTime("12.11");
+                score.setLastModified(LocalDateTime.of(2026, 4, 25, 12, 0));
+                scores.add(score);
+            }
+        }
+        holder.setMembers(members);
+        holder.setEnrolledMembers(enrolledMembers);
+        holder.setScores(scores);
+        return holder;
+    }
+
+    /**
+     * Counts the JDBC batches executed per table, by wrapping the data source, its connections and
+     * their prepared statements in proxies.
+     */
+    @TestConfiguration
+    static class BatchCountingConfig {
+        static final Map<String, AtomicInteger> BATCHES_BY_TABLE = new ConcurrentHashMap<>();
+        private static final Pattern INSERT_TABLE = Pattern.compile("^\\s*insert\\s+into\\s+(\\w+)",
+                Pattern.CASE_INSENSITIVE);
+
+        @Bean
+        static BeanPostProcessor batchCountingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return (bean instanceof DataSource) ? wrap(bean, DataSource.class, null) : bean;
+                }
+            };
+        }
+
+        private static Object wrap(Object target, Class<?> type, String sql) {
+            Class<?>[] interfaces = (target instanceof AutoCloseable) && !AutoCloseable.class.isAssignableFrom(type) ?
+                    new Class<?>[]{type, AutoCloseable.class} : new Class<?>[]{type};
+            return Proxy.newProxyInstance(BatchCountingConfig.class.getClassLoader(), interfaces,
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "equals" -> {
+                                return proxy == args[0];
+                            }
+                            case "hashCode" -> {
+                                return System.identityHashCode(proxy);
+                            }
+                            case "executeBatch" -> {
+                                Matcher matcher = INSERT_TABLE.matcher(ValueUtil.nullAsEmptyString(sql));
+                                if (matcher.find()) {
+                                    BATCHES_BY_TABLE.computeIfAbsent(matcher.group(1).toLowerCase(Locale.ROOT),
+                                            tableName -> new AtomicInteger()).incrementAndGet();
+                                }
+                            }
+                            default -> {
+                            }
+                        }
+
+                        Object result;
+                        try {
+                            result = method.invoke(target, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                        if ((result instanceof Connection) && "getConnection".equals(method.getName())) {
+                            return wrap(result, Connection.class, null);
+                        }
+                        if ((result instanceof PreparedStatement) && "prepareStatement".equals(method.getName())) {
+                            return wrap(result, PreparedStatement.class, (String) args[0]);
+                        }
+                        return result;
+                    });
+        }
+    }
+}
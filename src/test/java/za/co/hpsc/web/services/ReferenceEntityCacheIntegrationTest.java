@@ -0,0 +1,151 @@
+package za.co.hpsc.web.services;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import za.co.hpsc.web.configs.PersistenceCacheMetrics;
+import za.co.hpsc.web.constants.PersistenceConstants;
+import za.co.hpsc.web.domain.Club;
+import za.co.hpsc.web.domain.Competitor;
+import za.co.hpsc.web.repositories.ClubRepository;
+import za.co.hpsc.web.repositories.CompetitorRepository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class ReferenceEntityCacheIntegrationTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ClubRepository clubRepository;
+
+    @Autowired
+    private CompetitorRepository competitorRepository;
+
+    @Autowired
+    private CompetitorEntityService competitorEntityService;
+
+    private Statistics statistics;
+    private String suffix;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        suffix = UUID.randomUUID().toString();
+    }
+
+    @Test
+    public void testFindByName_whenRepeated_thenServedFromCache() throws Exception {
+        // Arrange
+        clubRepository.save(new Club("Cache Club " + suffix, "CACHE"));
+        awaitNextTimestamp();
+        clubRepository.findByName("Cache Club " + suffix);
+        statistics.clear();
+
+        // Act
+        Optional<Club> club = clubRepository.findByName("Cache Club " + suffix);
+
+        // Assert
+        assertTrue(club.isPresent());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryRegionStatistics(PersistenceConstants.CLUB_QUERY_CACHE_REGION)
+                .getHitCount());
+    }
+
+    @Test
+    public void testFindByName_whenClubUpdated_thenReturnsUpdatedClub() throws Exception {
+        // Arrange
+        Long clubId = clubRepository.save(new Club("Updated Club " + suffix, "OLD")).getId();
+        awaitNextTimestamp();
+        clubRepository.findByName("Updated Club " + suffix);
+
+        // Act
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Club club = clubRepository.findById(clubId).orElseThrow();
+            club.setAbbreviation("NEW " + suffix);
+            clubRepository.save(club);
+        });
+        Optional<Club> clubByName = clubRepository.findByName("Updated Club " + suffix);
+        Optional<Club> clubByAbbreviation = clubRepository.findByAbbreviation("NEW " + suffix);
+
+        // Assert
+        assertTrue(clubByName.isPresent());
+        assertEquals("NEW " + suffix, clubByName.get().getAbbreviation());
+        assertTrue(clubByAbbreviation.isPresent());
+        assertEquals(clubId, clubByAbbreviation.get().getId());
+    }
+
+    @Test
+    public void testFindCompetitor_whenRepeated_thenServedFromCache() throws Exception {
+        // Arrange
+        Competitor competitor = new Competitor();
+        competitor.setFirstName("Cached");
+        competitor.setLastName("Competitor " + suffix);
+        competitor.setCompetitorNumber("C1");
+        competitorRepository.save(competitor);
+        awaitNextTimestamp();
+        competitorEntityService.findCompetitor(null, "Cached", "Competitor " + suffix, null);
+        statistics.clear();
+
+        // Act
+        Optional<Competitor> foundCompetitor =
+                competitorEntityService.findCompetitor(null, "Cached", "Competitor " + suffix, null);
+
+        // Assert
+        assertTrue(foundCompetitor.isPresent());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics(PersistenceConstants.COMPETITOR_CACHE_REGION)
+                .getHitCount());
+    }
+
+    @Test
+    public void testCacheMetrics_whenCacheHit_thenCountsHitsPerRegion() throws Exception {
+        // Arrange
+        clubRepository.save(new Club("Metrics Club " + suffix, "METRICS"));
+        awaitNextTimestamp();
+        clubRepository.findByName("Metrics Club " + suffix);
+        double hits = getHits(PersistenceConstants.CLUB_QUERY_CACHE_REGION);
+        double misses = meterRegistry.get(PersistenceCacheMetrics.MISSES_METRIC)
+                .tag("region", PersistenceConstants.CLUB_QUERY_CACHE_REGION)
+                .functionCounter().count();
+
+        // Act
+        clubRepository.findByName("Metrics Club " + suffix);
+
+        // Assert
+        assertTrue(misses >= 1);
+        assertEquals(hits + 1, getHits(PersistenceConstants.CLUB_QUERY_CACHE_REGION));
+        assertTrue(getHits(PersistenceConstants.CLUB_CACHE_REGION) >= 1);
+    }
+
+    private double getHits(String region) {
+        return meterRegistry.get(PersistenceCacheMetrics.HITS_METRIC)
+                .tag("region", region)
+                .functionCounter().count();
+    }
+
+    // Query results cached in the same instant as the last write to their tables are treated as stale
+    private static void awaitNextTimestamp() throws InterruptedException {
+        Thread.sleep(10);
+    }
+}
@@ -3,7 +3,9 @@ package za.co.hpsc.web.services.impl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import za.co.hpsc.web.configs.ObjectReaderRegistry;
 import za.co.hpsc.web.exceptions.ValidationException;
 import za.co.hpsc.web.models.award.request.AwardRequest;
 import za.co.hpsc.web.models.award.response.AwardCeremonyResponse;
@@ -19,6 +21,8 @@ import static org.junit.jupiter.api.Assertions.*;
 @ExtendWith(MockitoExtension.class)
 public class AwardServiceTest {
 
+    @Spy
+    private ObjectReaderRegistry objectReaderRegistry = new ObjectReaderRegistry();
     @InjectMocks
     private AwardServiceImpl awardService;
 
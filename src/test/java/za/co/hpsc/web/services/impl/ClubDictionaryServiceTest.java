@@ -0,0 +1,83 @@
+package za.co.hpsc.web.services.impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import za.co.hpsc.web.domain.Club;
+import za.co.hpsc.web.models.ipsc.common.holders.data.ClubDictionary;
+import za.co.hpsc.web.repositories.ClubRepository;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ClubDictionaryServiceTest {
+
+    @Mock
+    private ClubRepository clubRepository;
+
+    @InjectMocks
+    private ClubDictionaryServiceImpl clubDictionaryService;
+
+    @Test
+    void testGetDictionary_whenCalledRepeatedly_thenLoadsClubsOnce() {
+        // Arrange
+        when(clubRepository.findAll(any(Sort.class))).thenReturn(List.of(buildClub(1L, "Club One", "ONE")));
+
+        // Act
+        ClubDictionary first = clubDictionaryService.getDictionary();
+        ClubDictionary second = clubDictionaryService.getDictionary();
+
+        // Assert
+        assertSame(first, second);
+        assertTrue(first.findByName("Club One").isPresent());
+        verify(clubRepository, times(1)).findAll(any(Sort.class));
+    }
+
+    @Test
+    void testRegister_whenClubSaved_thenReplacesDictionaryWithoutQuerying() {
+        // Arrange
+        when(clubRepository.findAll(any(Sort.class))).thenReturn(List.of(buildClub(1L, "Club One", "ONE")));
+        ClubDictionary before = clubDictionaryService.getDictionary();
+
+        // Act
+        clubDictionaryService.register(buildClub(2L, "Club Two", "TWO"));
+        clubDictionaryService.register(null);
+
+        // Assert
+        ClubDictionary after = clubDictionaryService.getDictionary();
+        assertNotSame(before, after);
+        assertTrue(before.findByName("Club Two").isEmpty());
+        assertTrue(after.findByAbbreviation("two").isPresent());
+        assertTrue(after.findByName("Club One").isPresent());
+        verify(clubRepository, times(1)).findAll(any(Sort.class));
+    }
+
+    @Test
+    void testRefresh_whenClubsChanged_thenReloadsDictionary() {
+        // Arrange
+        when(clubRepository.findAll(any(Sort.class)))
+                .thenReturn(List.of(buildClub(1L, "Club One", "ONE")))
+                .thenReturn(List.of(buildClub(1L, "Renamed Club", "ONE")));
+        clubDictionaryService.getDictionary();
+
+        // Act
+        clubDictionaryService.refresh();
+
+        // Assert
+        assertTrue(clubDictionaryService.getDictionary().findByName("Renamed Club").isPresent());
+        assertTrue(clubDictionaryService.getDictionary().findByName("Club One").isEmpty());
+    }
+
+    private static Club buildClub(Long id, String name, String abbreviation) {
+        Club club = new Club(name, abbreviation);
+        club.setId(id);
+        return club;
+    }
+}
@@ -0,0 +1,131 @@
+package za.co.hpsc.web.services.impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import za.co.hpsc.web.domain.Club;
+import za.co.hpsc.web.enums.ClubIdentifier;
+import za.co.hpsc.web.models.ipsc.common.holders.data.ClubDictionary;
+import za.co.hpsc.web.repositories.ClubRepository;
+import za.co.hpsc.web.services.ClubDictionaryService;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ClubEntityServiceTest {
+
+    @Mock
+    private ClubRepository clubRepository;
+
+    @Mock
+    private ClubDictionaryService clubDictionaryService;
+
+    @InjectMocks
+    private ClubEntityServiceImpl clubEntityService;
+
+    @Test
+    void testFindClubByNameOrAbbreviation_whenInDictionary_thenDoesNotQueryDatabase() {
+        // Arrange
+        Club club = buildClub(1L, "Hartbeespoortdam Practical Shooting Club", "HPSC");
+        when(clubDictionaryService.getDictionary()).thenReturn(new ClubDictionary(List.of(club)));
+
+        // Act
+        Optional<Club> byName = clubEntityService.findClubByNameOrAbbreviation("HARTBEESPOORTDAM PRACTICAL SHOOTING CLUB");
+        Optional<Club> byAbbreviation = clubEntityService.findClubByNameOrAbbreviation("hpsc");
+
+        // Assert
+        assertSame(club, byName.orElseThrow());
+        assertSame(club, byAbbreviation.orElseThrow());
+        verifyNoInteractions(clubRepository);
+    }
+
+    @Test
+    void testFindClubByNameOrAbbreviation_whenNotInDictionary_thenFindsInDatabaseAndRegisters() {
+        // Arrange
+        Club club = buildClub(2L, "New Club", "NEW");
+        when(clubDictionaryService.getDictionary()).thenReturn(new ClubDictionary());
+        when(clubRepository.findByName("New Club")).thenReturn(Optional.empty());
+        when(clubRepository.findByAbbreviation("NEW")).thenReturn(Optional.of(club));
+
+        // Act
+        Optional<Club> result = clubEntityService.findClubByNameOrAbbreviation("New Club", "NEW");
+
+        // Assert
+        assertSame(club, result.orElseThrow());
+        verify(clubDictionaryService).register(club);
+    }
+
+    @Test
+    void testFindClubByNameOrAbbreviation_whenNotFound_thenReturnsEmptyWithoutRegistering() {
+        // Arrange
+        when(clubDictionaryService.getDictionary()).thenReturn(new ClubDictionary());
+        when(clubRepository.findByName("Unknown")).thenReturn(Optional.empty());
+        when(clubRepository.findByAbbreviation("Unknown")).thenReturn(Optional.empty());
+
+        // Act
+        Optional<Club> result = clubEntityService.findClubByNameOrAbbreviation("Unknown");
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(clubDictionaryService, never()).register(any());
+    }
+
+    @Test
+    void testFindClubByNameOrAbbreviation_whenBlank_thenReturnsEmptyWithoutLookups() {
+        // Act
+        Optional<Club> result = clubEntityService.findClubByNameOrAbbreviation(" ", null);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(clubRepository, clubDictionaryService);
+    }
+
+    @Test
+    void testFindClubById_whenInDictionary_thenDoesNotQueryDatabase() {
+        // Arrange
+        Club club = buildClub(3L, "Club", "C");
+        when(clubDictionaryService.getDictionary()).thenReturn(new ClubDictionary(List.of(club)));
+
+        // Act
+        Optional<Club> result = clubEntityService.findClubById(3L);
+
+        // Assert
+        assertSame(club, result.orElseThrow());
+        verifyNoInteractions(clubRepository);
+    }
+
+    @Test
+    void testFindClubByIdentifier_whenInDictionary_thenReturnsIdentifiedClub() {
+        // Arrange
+        Club club = buildClub(4L, ClubIdentifier.SOSC.getName(), ClubIdentifier.SOSC.getAbbreviation());
+        when(clubDictionaryService.getDictionary()).thenReturn(new ClubDictionary(List.of(club)));
+
+        // Act
+        Optional<Club> result = clubEntityService.findClubByIdentifier(ClubIdentifier.SOSC);
+
+        // Assert
+        assertSame(club, result.orElseThrow());
+        verifyNoInteractions(clubRepository);
+    }
+
+    @Test
+    void testFindClubByIdentifier_whenExcluded_thenReturnsEmpty() {
+        // Act & Assert
+        assertTrue(clubEntityService.findClubByIdentifier(ClubIdentifier.UNKNOWN).isEmpty());
+        assertTrue(clubEntityService.findClubByIdentifier(null).isEmpty());
+        verifyNoInteractions(clubRepository, clubDictionaryService);
+    }
+
+    private static Club buildClub(Long id, String name, String abbreviation) {
+        Club club = new Club(name, abbreviation);
+        club.setId(id);
+        return club;
+    }
+}
@@ -0,0 +1,127 @@
+package za.co.hpsc.web.services.impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import za.co.hpsc.web.domain.Competitor;
+import za.co.hpsc.web.models.ipsc.common.data.CompetitorLookup;
+import za.co.hpsc.web.repositories.CompetitorRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CompetitorEntityServiceTest {
+
+    @Mock
+    private CompetitorRepository competitorRepository;
+
+    @InjectMocks
+    private CompetitorEntityServiceImpl competitorEntityService;
+
+    @Test
+    void testFindCompetitors_whenNullOrEmpty_thenReturnsEmptyMapWithoutQueries() {
+        // Act & Assert
+        assertTrue(competitorEntityService.findCompetitors(null).isEmpty());
+        assertTrue(competitorEntityService.findCompetitors(List.of()).isEmpty());
+        verifyNoInteractions(competitorRepository);
+    }
+
+    @Test
+    void testFindCompetitors_whenSapsaNumbersFound_thenResolvesInSingleQuery() {
+        // Arrange
+        CompetitorLookup first = new CompetitorLookup("1001", "John", "Doe", null);
+        CompetitorLookup second = new CompetitorLookup("1002", "Jane", "Doe", null);
+        Competitor john = buildCompetitor(1L, "John", "Doe", 1001, null);
+        Competitor jane = buildCompetitor(2L, "Jane", "Doe", 1002, null);
+        when(competitorRepository.findAllBySapsaNumberInOrderByIdAsc(anyCollection()))
+                .thenReturn(List.of(john, jane));
+
+        // Act
+        Map<CompetitorLookup, Competitor> result = competitorEntityService.findCompetitors(List.of(first, second));
+
+        // Assert
+        assertEquals(2, result.size());
+        assertSame(john, result.get(first));
+        assertSame(jane, result.get(second));
+        verify(competitorRepository, times(1)).findAllBySapsaNumberInOrderByIdAsc(anyCollection());
+        verify(competitorRepository, never()).findAllByFirstNameInAndLastNameInOrderByIdAsc(anyCollection(),
+                anyCollection());
+    }
+
+    @Test
+    void testFindCompetitors_whenSapsaNumberNotFound_thenFallsBackToNamesAndDateOfBirth() {
+        // Arrange
+        LocalDateTime dateOfBirth = LocalDateTime.of(1980, 5, 17, 0, 0);
+        CompetitorLookup lookup = new CompetitorLookup("1001", "John", "Doe", dateOfBirth);
+        Competitor otherJohn = buildCompetitor(1L, "John", "Doe", null, LocalDate.of(1975, 1, 1));
+        Competitor john = buildCompetitor(2L, "john", "DOE", null, LocalDate.of(1980, 5, 17));
+        when(competitorRepository.findAllBySapsaNumberInOrderByIdAsc(anyCollection())).thenReturn(List.of());
+        when(competitorRepository.findAllByFirstNameInAndLastNameInOrderByIdAsc(anyCollection(), anyCollection()))
+                .thenReturn(List.of(otherJohn, john));
+
+        // Act
+        Map<CompetitorLookup, Competitor> result = competitorEntityService.findCompetitors(List.of(lookup));
+
+        // Assert
+        assertSame(john, result.get(lookup));
+    }
+
+    @Test
+    void testFindCompetitors_whenExcludedAliasAndUnknownName_thenLeavesLookupUnresolved() {
+        // Arrange
+        CompetitorLookup excluded = new CompetitorLookup("15000", "John", "Doe", null);
+        CompetitorLookup unknown = new CompetitorLookup(null, "Jane", "Smith", null);
+        Competitor johnSmith = buildCompetitor(1L, "John", "Smith", null, null);
+        when(competitorRepository.findAllByFirstNameInAndLastNameInOrderByIdAsc(anyCollection(), anyCollection()))
+                .thenReturn(List.of(johnSmith));
+
+        // Act
+        Map<CompetitorLookup, Competitor> result =
+                competitorEntityService.findCompetitors(List.of(excluded, unknown));
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(competitorRepository, never()).findAllBySapsaNumberInOrderByIdAsc(anyCollection());
+    }
+
+    @Test
+    void testFindCompetitors_whenSameLookups_thenMatchesFindCompetitor() {
+        // Arrange
+        LocalDateTime dateOfBirth = LocalDateTime.of(1990, 2, 3, 0, 0);
+        CompetitorLookup lookup = new CompetitorLookup(null, "Jane", "Doe", dateOfBirth);
+        List<Competitor> candidates = List.of(
+                buildCompetitor(3L, "Jane", "Doe", null, LocalDate.of(1990, 2, 3)),
+                buildCompetitor(4L, "Jane", "Doe", 2002, LocalDate.of(1990, 2, 3)));
+        when(competitorRepository.findAllByFirstNameAndLastName("Jane", "Doe")).thenReturn(candidates);
+        when(competitorRepository.findAllByFirstNameInAndLastNameInOrderByIdAsc(anyCollection(), anyCollection()))
+                .thenReturn(candidates);
+
+        // Act
+        Optional<Competitor> single = competitorEntityService.findCompetitor(null, "Jane", "Doe", dateOfBirth);
+        Map<CompetitorLookup, Competitor> bulk = competitorEntityService.findCompetitors(List.of(lookup));
+
+        // Assert
+        assertTrue(single.isPresent());
+        assertSame(single.get(), bulk.get(lookup));
+        assertEquals(4L, single.get().getId());
+    }
+
+    private static Competitor buildCompetitor(Long id, String firstName, String lastName, Integer sapsaNumber,
+                                              LocalDate dateOfBirth) {
+        Competitor competitor = new Competitor();
+        competitor.setId(id);
+        competitor.setFirstName(firstName);
+        competitor.setLastName(lastName);
+        competitor.setSapsaNumber(sapsaNumber);
+        competitor.setDateOfBirth(dateOfBirth);
+        return competitor;
+    }
+}
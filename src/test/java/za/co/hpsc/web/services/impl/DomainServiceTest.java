@@ -7,6 +7,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import za.co.hpsc.web.domain.*;
 import za.co.hpsc.web.enums.ClubIdentifier;
+import za.co.hpsc.web.models.ipsc.common.data.CompetitorLookup;
 import za.co.hpsc.web.models.ipsc.common.data.DtoMapping;
 import za.co.hpsc.web.models.ipsc.common.dto.*;
 import za.co.hpsc.web.models.ipsc.common.holders.dto.MatchResultsDto;
@@ -112,8 +113,7 @@ public class DomainServiceTest {
         clubEntity.setName("Holster Club");
         clubEntity.setAbbreviation("HPSC");
         ClubIdentifier clubIdentifier = ClubIdentifier.HPSC;
-        when(clubEntityService.findClubByNameOrAbbreviation(clubIdentifier.getName(), clubIdentifier.getAbbreviation()))
-                .thenReturn(Optional.of(clubEntity));
+        when(clubEntityService.findClubByIdentifier(clubIdentifier)).thenReturn(Optional.of(clubEntity));
 
         // Act
         Optional<DtoMapping> result = domainService.initMatchEntities(matchResultsDto, null, "HPSC");
@@ -122,7 +122,7 @@ public class DomainServiceTest {
         assertTrue(result.isPresent());
         assertNotNull(result.get().getClub());
         assertEquals(11L, result.get().getClub().getId());
-        verify(clubEntityService).findClubByNameOrAbbreviation(clubIdentifier.getName(), clubIdentifier.getAbbreviation());
+        verify(clubEntityService).findClubByIdentifier(clubIdentifier);
     }
 
     @Test
@@ -388,8 +388,7 @@ public class DomainServiceTest {
         clubEntity.setAbbreviation("HPSC");
         ClubIdentifier clubIdentifier = ClubIdentifier.HPSC;
 
-        when(clubEntityService.findClubByNameOrAbbreviation(clubIdentifier.getName(), clubIdentifier.getAbbreviation()))
-                .thenReturn(Optional.of(clubEntity));
+        when(clubEntityService.findClubByIdentifier(clubIdentifier)).thenReturn(Optional.of(clubEntity));
 
         // Act
         Optional<ClubDto> result = domainService.initClubEntity(ClubIdentifier.HPSC);
@@ -404,8 +403,7 @@ public class DomainServiceTest {
     public void testInitClubEntityFromIdentifier_whenIdentifierNameIsNotFound_thenReturnsEmpty() {
         // Arrange
         ClubIdentifier soscClub = ClubIdentifier.SOSC;
-        when(clubEntityService.findClubByNameOrAbbreviation(soscClub.getName(), soscClub.getAbbreviation()))
-                .thenReturn(Optional.empty());
+        when(clubEntityService.findClubByIdentifier(soscClub)).thenReturn(Optional.empty());
 
         // Act
         Optional<ClubDto> result = domainService.initClubEntity(ClubIdentifier.SOSC);
@@ -1182,8 +1180,37 @@ public class DomainServiceTest {
         dto.setClub(ClubIdentifier.HPSC);
         return dto;
     }
-}
-
 
+    @Test
+    public void testResolveSharedEntities_whenClubAndCompetitorInsertedSinceMapping_thenSetsTheirIds() {
+        // Arrange
+        ClubDto clubDto = new ClubDto();
+        clubDto.setName("HPSC Club");
+        clubDto.setAbbreviation("HPSC");
+        Club club = new Club();
+        club.setId(3L);
+        CompetitorDto newCompetitorDto = new CompetitorDto();
+        newCompetitorDto.setFirstName("John");
+        newCompetitorDto.setLastName("Doe");
+        newCompetitorDto.setCompetitorNumber("12345");
+        CompetitorDto existingCompetitorDto = new CompetitorDto();
+        existingCompetitorDto.setId(7L);
+        Competitor competitor = new Competitor();
+        competitor.setId(8L);
+        MatchResultsDto matchResultsDto = new MatchResultsDto();
+        matchResultsDto.setClub(clubDto);
+        matchResultsDto.setCompetitors(List.of(newCompetitorDto, existingCompetitorDto));
+        when(clubEntityService.findClubByNameOrAbbreviation("HPSC Club", "HPSC")).thenReturn(Optional.of(club));
+        when(competitorEntityService.findCompetitors(
+                Set.of(new CompetitorLookup("12345", "John", "Doe", null))))
+                .thenReturn(Map.of(new CompetitorLookup("12345", "John", "Doe", null), competitor));
 
+        // Act
+        domainService.resolveSharedEntities(matchResultsDto);
 
+        // Assert
+        assertEquals(3L, clubDto.getId());
+        assertEquals(8L, newCompetitorDto.getId());
+        assertEquals(7L, existingCompetitorDto.getId());
+    }
+}
@@ -3,7 +3,9 @@ package za.co.hpsc.web.services.impl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import za.co.hpsc.web.configs.ObjectReaderRegistry;
 import za.co.hpsc.web.exceptions.ValidationException;
 import za.co.hpsc.web.models.image.request.ImageRequest;
 import za.co.hpsc.web.models.image.response.ImageResponse;
@@ -16,6 +18,8 @@ import static org.junit.jupiter.api.Assertions.*;
 @ExtendWith(MockitoExtension.class)
 class ImageServiceTest {
 
+    @Spy
+    private ObjectReaderRegistry objectReaderRegistry = new ObjectReaderRegistry();
     @InjectMocks
     private ImageServiceImpl imageService;
 
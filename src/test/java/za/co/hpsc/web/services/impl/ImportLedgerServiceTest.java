@@ -0,0 +1,259 @@
+package za.co.hpsc.web.services.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import za.co.hpsc.web.domain.ImportLedger;
+import za.co.hpsc.web.enums.ImportLedgerType;
+import za.co.hpsc.web.models.ipsc.common.data.MatchSectionHash;
+import za.co.hpsc.web.models.ipsc.common.holders.records.IpscMatchRecordHolder;
+import za.co.hpsc.web.models.ipsc.common.records.MatchRecord;
+import za.co.hpsc.web.models.ipsc.common.response.IpscResponse;
+import za.co.hpsc.web.models.ipsc.common.response.MatchResponse;
+import za.co.hpsc.web.models.ipsc.common.response.ScoreResponse;
+import za.co.hpsc.web.repositories.ImportLedgerRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ImportLedgerServiceTest {
+
+    @Mock
+    private ImportLedgerRepository importLedgerRepository;
+
+    @InjectMocks
+    private ImportLedgerServiceImpl importLedgerService;
+
+    @Test
+    public void testHashContent_whenSameContent_thenReturnsSameHash() {
+        // Act
+        String hash1 = importLedgerService.hashContent("{\"match\": \"<xml/>\"}");
+        String hash2 = importLedgerService.hashContent("{\"match\": \"<xml/>\"}");
+        String hash3 = importLedgerService.hashContent("{\"match\": \"<xml />\"}");
+
+        // Assert
+        assertEquals(64, hash1.length());
+        assertEquals(hash1, hash2);
+        assertNotEquals(hash1, hash3);
+        assertNull(importLedgerService.hashContent((String) null));
+    }
+
+    @Test
+    public void testHashContent_whenDigestUpdatedWithSameContent_thenReturnsSameHashAsString() {
+        // Arrange
+        String content = "{\"match\": \"<xml/>\"}";
+        MessageDigest contentDigest = importLedgerService.createContentDigest();
+        contentDigest.update(content.getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        String hash = importLedgerService.hashContent(contentDigest);
+
+        // Assert
+        assertEquals(importLedgerService.hashContent(content), hash);
+        assertNull(importLedgerService.hashContent((MessageDigest) null));
+    }
+
+    @Test
+    public void testHashMatchSection_whenScoresChange_thenKeepsMatchKeyAndChangesHash() {
+        // Arrange
+        IpscResponse ipscResponse1 = buildIpscResponse(" Club Shoot ", 101);
+        IpscResponse ipscResponse2 = buildIpscResponse("Club Shoot", 101);
+        IpscResponse ipscResponse3 = buildIpscResponse("Club Shoot", 102);
+
+        // Act
+        MatchSectionHash matchSection1 = importLedgerService.hashMatchSection(ipscResponse1).orElseThrow();
+        MatchSectionHash matchSection2 = importLedgerService.hashMatchSection(ipscResponse2).orElseThrow();
+        MatchSectionHash matchSection3 = importLedgerService.hashMatchSection(ipscResponse3).orElseThrow();
+
+        // Assert
+        assertEquals("club shoot|2026-05-02T09:00", matchSection1.matchKey());
+        assertEquals(matchSection1.matchKey(), matchSection3.matchKey());
+        assertNotEquals(matchSection1.sectionHash(), matchSection2.sectionHash());
+        assertNotEquals(matchSection2.sectionHash(), matchSection3.sectionHash());
+        assertEquals(matchSection2, importLedgerService.hashMatchSection(
+                buildIpscResponse("Club Shoot", 101)).orElseThrow());
+    }
+
+    @Test
+    public void testHashMatchSection_whenNoMatch_thenReturnsEmpty() {
+        // Act & Assert
+        assertTrue(importLedgerService.hashMatchSection(null).isEmpty());
+        assertTrue(importLedgerService.hashMatchSection(new IpscResponse()).isEmpty());
+    }
+
+    @Test
+    public void testFindImport_whenMatchesUnchanged_thenReturnsHoldersInFileOrder() throws Exception {
+        // Arrange
+        MatchSectionHash matchSection1 = new MatchSectionHash("match 1|null", "hash-1");
+        MatchSectionHash matchSection2 = new MatchSectionHash("match 2|null", null);
+        MatchSectionHash matchSection3 = new MatchSectionHash("match 3|null", "hash-3");
+        MatchRecord matchRecord1 = new MatchRecord("Match 1", "", "", "", "", List.of(), "");
+        MatchRecord matchRecord3 = new MatchRecord("Match 3", "", "", "", "", List.of(), "");
+
+        when(importLedgerRepository.findByLedgerTypeAndLedgerKey(ImportLedgerType.CAB_FILE, "cab-hash"))
+                .thenReturn(Optional.of(buildEntry(ImportLedgerType.CAB_FILE, "cab-hash", "cab-hash",
+                        List.of(matchSection1, matchSection2, matchSection3))));
+        when(importLedgerRepository.findAllByLedgerTypeAndLedgerKeyIn(eq(ImportLedgerType.MATCH), anyCollection()))
+                .thenReturn(List.of(
+                        buildEntry(ImportLedgerType.MATCH, "match 1|null", "hash-1", matchRecord1),
+                        buildEntry(ImportLedgerType.MATCH, "match 3|null", "hash-3", matchRecord3)));
+
+        // Act
+        List<IpscMatchRecordHolder> result = importLedgerService.findImport("cab-hash").orElseThrow();
+
+        // Assert
+        assertEquals(3, result.size());
+        assertEquals(List.of(matchRecord1), result.get(0).matches());
+        assertEquals(List.of(matchRecord1), result.get(1).matches());
+        assertEquals(List.of(matchRecord1, matchRecord3), result.get(2).matches());
+    }
+
+    @Test
+    public void testFindImport_whenMatchChangedSince_thenReturnsEmpty() throws Exception {
+        // Arrange
+        MatchSectionHash matchSection = new MatchSectionHash("match 1|null", "hash-1");
+        MatchRecord matchRecord = new MatchRecord("Match 1", "", "", "", "", List.of(), "");
+
+        when(importLedgerRepository.findByLedgerTypeAndLedgerKey(ImportLedgerType.CAB_FILE, "cab-hash"))
+                .thenReturn(Optional.of(buildEntry(ImportLedgerType.CAB_FILE, "cab-hash", "cab-hash",
+                        List.of(matchSection))));
+        when(importLedgerRepository.findAllByLedgerTypeAndLedgerKeyIn(eq(ImportLedgerType.MATCH), anyCollection()))
+                .thenReturn(List.of(buildEntry(ImportLedgerType.MATCH, "match 1|null", "hash-2", matchRecord)));
+
+        // Act
+        Optional<List<IpscMatchRecordHolder>> result = importLedgerService.findImport("cab-hash");
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    public void testFindImport_whenNotImported_thenReturnsEmptyWithoutReadingMatches() {
+        // Arrange
+        when(importLedgerRepository.findByLedgerTypeAndLedgerKey(ImportLedgerType.CAB_FILE, "cab-hash"))
+                .thenReturn(Optional.empty());
+
+        // Act
+        Optional<List<IpscMatchRecordHolder>> result = importLedgerService.findImport("cab-hash");
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(importLedgerRepository, never()).findAllByLedgerTypeAndLedgerKeyIn(any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFindUnchangedMatchRecords_whenSomeMatchesChanged_thenReturnsOnlyUnchangedInOneQuery()
+            throws Exception {
+        // Arrange
+        MatchSectionHash unchanged = new MatchSectionHash("match 1|null", "hash-1");
+        MatchSectionHash changed = new MatchSectionHash("match 2|null", "hash-2");
+        MatchSectionHash unknown = new MatchSectionHash("match 3|null", "hash-3");
+        MatchRecord matchRecord1 = new MatchRecord("Match 1", "", "", "", "", List.of(), "");
+        MatchRecord matchRecord2 = new MatchRecord("Match 2", "", "", "", "", List.of(), "");
+
+        when(importLedgerRepository.findAllByLedgerTypeAndLedgerKeyIn(eq(ImportLedgerType.MATCH), anyCollection()))
+                .thenReturn(List.of(
+                        buildEntry(ImportLedgerType.MATCH, "match 1|null", "hash-1", matchRecord1),
+                        buildEntry(ImportLedgerType.MATCH, "match 2|null", "hash-old", matchRecord2)));
+
+        // Act
+        Map<MatchSectionHash, MatchRecord> result = importLedgerService.findUnchangedMatchRecords(
+                Arrays.asList(unchanged, changed, unknown, null));
+
+        // Assert
+        assertEquals(Map.of(unchanged, matchRecord1), result);
+        ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(importLedgerRepository, times(1))
+                .findAllByLedgerTypeAndLedgerKeyIn(eq(ImportLedgerType.MATCH), captor.capture());
+        assertEquals(3, captor.getValue().size());
+    }
+
+    @Test
+    public void testRecordMatch_whenMatchRecordedBefore_thenReplacesEntry() {
+        // Arrange
+        ImportLedger importLedger = new ImportLedger(ImportLedgerType.MATCH, "match 1|null");
+        importLedger.setId(7L);
+        importLedger.setContentHash("hash-old");
+        importLedger.setMatchId(1L);
+        importLedger.setPayload("{}");
+        when(importLedgerRepository.findByLedgerTypeAndLedgerKey(ImportLedgerType.MATCH, "match 1|null"))
+                .thenReturn(Optional.of(importLedger));
+        MatchRecord matchRecord = new MatchRecord("Match 1", "", "", "", "", List.of(), "");
+
+        // Act
+        importLedgerService.recordMatch(new MatchSectionHash("match 1|null", "hash-new"), 2L, matchRecord);
+
+        // Assert
+        ArgumentCaptor<ImportLedger> captor = ArgumentCaptor.forClass(ImportLedger.class);
+        verify(importLedgerRepository).save(captor.capture());
+        assertSame(importLedger, captor.getValue());
+        assertEquals("hash-new", captor.getValue().getContentHash());
+        assertEquals(2L, captor.getValue().getMatchId());
+        assertTrue(captor.getValue().getPayload().contains("\"name\":\"Match 1\""));
+    }
+
+    @Test
+    public void testRecordMatch_whenNoSectionHash_thenDoesNotRecord() {
+        // Act
+        importLedgerService.recordMatch(new MatchSectionHash("match 1|null", null), 1L,
+                new MatchRecord("Match 1", "", "", "", "", List.of(), ""));
+
+        // Assert
+        verifyNoInteractions(importLedgerRepository);
+    }
+
+    @Test
+    public void testEvictMatch_whenMatchId_thenDeletesEntriesOfMatch() {
+        // Arrange
+        when(importLedgerRepository.deleteAllByMatchId(5L)).thenReturn(1);
+
+        // Act
+        importLedgerService.evictMatch(5L);
+        importLedgerService.evictMatch(null);
+
+        // Assert
+        verify(importLedgerRepository, times(1)).deleteAllByMatchId(anyLong());
+    }
+
+    private static ImportLedger buildEntry(ImportLedgerType ledgerType, String ledgerKey, String contentHash,
+                                           Object payload) throws JsonProcessingException {
+        ImportLedger importLedger = new ImportLedger(ledgerType, ledgerKey);
+        importLedger.setContentHash(contentHash);
+        importLedger.setMatchId(1L);
+        importLedger.setPayload(new ObjectMapper().writeValueAsString(payload));
+        return importLedger;
+    }
+
+    private static IpscResponse buildIpscResponse(String matchName, int finalScore) {
+        MatchResponse matchResponse = new MatchResponse();
+        matchResponse.setMatchId(100);
+        matchResponse.setMatchName(matchName);
+        matchResponse.setMatchDate(LocalDateTime.of(2026, 5, 2, 9, 0));
+
+        ScoreResponse scoreResponse = new ScoreResponse();
+        scoreResponse.setMatchId(100);
+        scoreResponse.setMemberId(50);
+        scoreResponse.setFinalScore(finalScore);
+
+        IpscResponse ipscResponse = new IpscResponse();
+        ipscResponse.setMatch(matchResponse);
+        ipscResponse.setScores(List.of(scoreResponse));
+        return ipscResponse;
+    }
+}
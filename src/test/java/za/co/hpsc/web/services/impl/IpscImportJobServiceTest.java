@@ -0,0 +1,250 @@
+package za.co.hpsc.web.services.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import za.co.hpsc.web.enums.ImportJobStatus;
+import za.co.hpsc.web.exceptions.FatalException;
+import za.co.hpsc.web.exceptions.ServiceUnavailableException;
+import za.co.hpsc.web.exceptions.ValidationException;
+import za.co.hpsc.web.models.ipsc.common.holders.records.IpscMatchRecordHolder;
+import za.co.hpsc.web.models.ipsc.job.ImportJob;
+import za.co.hpsc.web.models.ipsc.job.ImportJobResponse;
+import za.co.hpsc.web.models.ipsc.job.ImportProgress;
+import za.co.hpsc.web.services.IpscService;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class IpscImportJobServiceTest {
+
+    @Mock
+    private IpscService ipscService;
+
+    private ExecutorService importJobExecutor;
+    private IpscImportJobServiceImpl ipscImportJobService;
+
+    @BeforeEach
+    void setUp() {
+        importJobExecutor = Executors.newSingleThreadExecutor();
+        ipscImportJobService = new IpscImportJobServiceImpl(ipscService, importJobExecutor, 2, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        importJobExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testSubmitImport_whenCabFileIsEmpty_thenThrowsValidationException() {
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> ipscImportJobService.submitImport(toStream("")));
+        assertThrows(ValidationException.class, () -> ipscImportJobService.submitImport(null));
+        verifyNoInteractions(ipscService);
+        assertTrue(ipscImportJobService.importJobs.isEmpty());
+    }
+
+    @Test
+    public void testSubmitImport_whenImportSucceeds_thenJobCompletesWithResults() throws Exception {
+        // Arrange
+        IpscMatchRecordHolder recordHolder = new IpscMatchRecordHolder(List.of());
+        List<String> importedContent = new CopyOnWriteArrayList<>();
+        when(ipscService.importWinMssCabStream(any(InputStream.class), any(ImportProgress.class)))
+                .thenAnswer(invocation -> {
+                    InputStream cabFileStream = invocation.getArgument(0);
+                    importedContent.add(new String(cabFileStream.readAllBytes(), StandardCharsets.UTF_8));
+                    return List.of(recordHolder);
+                });
+
+        // Act
+        ImportJobResponse submitted = ipscImportJobService.submitImport(toStream("{}"));
+        ImportJobResponse finished = awaitFinished(submitted.getJobId());
+
+        // Assert
+        assertNotNull(submitted.getJobId());
+        assertEquals(List.of("{}"), importedContent);
+        assertEquals(ImportJobStatus.COMPLETED, finished.getStatus());
+        assertEquals(List.of(recordHolder), finished.getResults());
+        assertNull(finished.getError());
+        assertNotNull(finished.getDateStarted());
+        assertNotNull(finished.getDateCompleted());
+    }
+
+    @Test
+    public void testSubmitImport_whenImportFails_thenJobFailsWithError() throws Exception {
+        // Arrange
+        when(ipscService.importWinMssCabStream(any(InputStream.class), any(ImportProgress.class)))
+                .thenThrow(new FatalException("Error reading JSON data"));
+
+        // Act
+        ImportJobResponse submitted = ipscImportJobService.submitImport(toStream("{}"));
+        ImportJobResponse finished = awaitFinished(submitted.getJobId());
+
+        // Assert
+        assertEquals(ImportJobStatus.FAILED, finished.getStatus());
+        assertEquals("Error reading JSON data", finished.getError());
+        assertNull(finished.getResults());
+    }
+
+    @Test
+    public void testSubmitImport_whenQueueIsFull_thenThrowsServiceUnavailableExceptionWithRetryAfter() {
+        // Arrange
+        ExecutorService rejectingExecutor = mock(ExecutorService.class);
+        doThrow(new RejectedExecutionException("full")).when(rejectingExecutor).execute(any(Runnable.class));
+        IpscImportJobServiceImpl service = new IpscImportJobServiceImpl(ipscService, rejectingExecutor, 1, 1);
+
+        // Act
+        ServiceUnavailableException exception =
+                assertThrows(ServiceUnavailableException.class, () -> service.submitImport(toStream("{}")));
+
+        // Assert
+        assertEquals(30L, exception.getRetryAfterSeconds());
+        assertTrue(service.importJobs.isEmpty());
+        assertEquals(2, service.importSlots.availablePermits());
+    }
+
+    @Test
+    public void testSubmitImport_whenNoSlotIsAvailable_thenThrowsServiceUnavailableExceptionBeforeReadingUpload() {
+        // Arrange
+        ExecutorService idleExecutor = mock(ExecutorService.class);
+        IpscImportJobServiceImpl service = new IpscImportJobServiceImpl(ipscService, idleExecutor, 1, 1);
+        service.submitImport(toStream("{}"));
+        service.submitImport(toStream("{}"));
+        ByteArrayInputStream cabFileStream = new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        ServiceUnavailableException exception =
+                assertThrows(ServiceUnavailableException.class, () -> service.submitImport(cabFileStream));
+
+        // Assert
+        assertEquals(30L, exception.getRetryAfterSeconds());
+        assertEquals(2, cabFileStream.available());
+        assertEquals(2, service.importJobs.size());
+        verify(idleExecutor, times(2)).execute(any(Runnable.class));
+    }
+
+    @Test
+    public void testSubmitImport_whenSpoolingFails_thenReleasesSlot() {
+        // Arrange
+        ExecutorService idleExecutor = mock(ExecutorService.class);
+        IpscImportJobServiceImpl service = new IpscImportJobServiceImpl(ipscService, idleExecutor, 1, 1);
+
+        // Act
+        assertThrows(ValidationException.class, () -> service.submitImport(toStream("")));
+
+        // Assert
+        assertEquals(2, service.importSlots.availablePermits());
+        verifyNoInteractions(idleExecutor);
+    }
+
+    @Test
+    public void testSubmitImport_whenJobFinishes_thenReleasesSlot() throws Exception {
+        // Arrange
+        when(ipscService.importWinMssCabStream(any(InputStream.class), any(ImportProgress.class)))
+                .thenReturn(List.of());
+        int availableSlots = ipscImportJobService.importSlots.availablePermits();
+
+        // Act
+        ImportJobResponse submitted = ipscImportJobService.submitImport(toStream("{}"));
+        awaitFinished(submitted.getJobId());
+
+        // Assert
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(5));
+        while ((ipscImportJobService.importSlots.availablePermits() < availableSlots) &&
+                Instant.now().isBefore(deadline)) {
+            Thread.sleep(10);
+        }
+        assertEquals(availableSlots, ipscImportJobService.importSlots.availablePermits());
+    }
+
+    @Test
+    public void testGetImportJob_whenJobDoesNotExist_thenReturnsEmpty() {
+        // Act
+        Optional<ImportJobResponse> result = ipscImportJobService.getImportJob(UUID.randomUUID());
+
+        // Assert
+        assertTrue(result.isEmpty());
+        assertTrue(ipscImportJobService.getImportJob(null).isEmpty());
+    }
+
+    @Test
+    public void testEvictExpiredJobs_whenJobFinishedBeforeRetention_thenRemovesJob() throws Exception {
+        // Arrange
+        when(ipscService.importWinMssCabStream(any(InputStream.class), any(ImportProgress.class)))
+                .thenReturn(List.of());
+        ImportJobResponse submitted = ipscImportJobService.submitImport(toStream("{}"));
+        awaitFinished(submitted.getJobId());
+        ipscImportJobService.retentionMinutes = -1;
+
+        // Act
+        ipscImportJobService.evictExpiredJobs();
+
+        // Assert
+        assertFalse(ipscImportJobService.importJobs.containsKey(submitted.getJobId()));
+    }
+
+    @Test
+    public void testGetImportJob_whenJobFinishedBeforeRetention_thenReturnsEmptyBeforeEviction() throws Exception {
+        // Arrange
+        when(ipscService.importWinMssCabStream(any(InputStream.class), any(ImportProgress.class)))
+                .thenReturn(List.of());
+        ImportJobResponse submitted = ipscImportJobService.submitImport(toStream("{}"));
+        awaitFinished(submitted.getJobId());
+        ipscImportJobService.retentionMinutes = -1;
+
+        // Act
+        Optional<ImportJobResponse> result = ipscImportJobService.getImportJob(submitted.getJobId());
+
+        // Assert
+        assertTrue(result.isEmpty());
+        assertTrue(ipscImportJobService.importJobs.containsKey(submitted.getJobId()));
+    }
+
+    @Test
+    public void testRunImport_whenJobFinishes_thenDeletesSpooledCabFile() throws Exception {
+        // Arrange
+        when(ipscService.importWinMssCabStream(any(InputStream.class), any(ImportProgress.class)))
+                .thenReturn(List.of());
+        Path cabFile = ipscImportJobService.spoolCabFile(toStream("{}"));
+        ImportJob importJob = new ImportJob(UUID.randomUUID());
+
+        // Act
+        ipscImportJobService.runImport(importJob, cabFile);
+
+        // Assert
+        assertTrue(importJob.getProgress().getStatus().isFinished());
+        assertFalse(Files.exists(cabFile));
+    }
+
+    private InputStream toStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ImportJobResponse awaitFinished(UUID jobId) throws InterruptedException {
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(5));
+        while (Instant.now().isBefore(deadline)) {
+            ImportJobResponse response = ipscImportJobService.getImportJob(jobId).orElseThrow();
+            if (response.getStatus().isFinished()) {
+                return response;
+            }
+            Thread.sleep(10);
+        }
+        return fail("Import job did not finish in time");
+    }
+}
@@ -5,25 +5,43 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import tools.jackson.databind.json.JsonMapper;
 import za.co.hpsc.web.domain.Club;
 import za.co.hpsc.web.domain.IpscMatch;
 import za.co.hpsc.web.enums.FirearmType;
 import za.co.hpsc.web.exceptions.FatalException;
 import za.co.hpsc.web.exceptions.NonFatalException;
+import za.co.hpsc.web.exceptions.PreconditionFailedException;
 import za.co.hpsc.web.exceptions.ValidationException;
+import za.co.hpsc.web.models.ipsc.common.data.MatchSearchCriteria;
+import za.co.hpsc.web.models.ipsc.common.data.MatchSearchCursor;
+import za.co.hpsc.web.models.ipsc.common.data.MatchSearchRow;
+import za.co.hpsc.web.models.ipsc.common.data.SerializedResponse;
 import za.co.hpsc.web.models.ipsc.common.dto.ClubDto;
 import za.co.hpsc.web.models.ipsc.common.holders.data.MatchHolder;
+import za.co.hpsc.web.models.ipsc.common.holders.records.IpscMatchRecordHolder;
+import za.co.hpsc.web.models.ipsc.common.records.MatchRecord;
+import za.co.hpsc.web.models.ipsc.common.request.MatchSearchRequest;
 import za.co.hpsc.web.models.ipsc.match.dto.MatchOnlyDto;
 import za.co.hpsc.web.models.ipsc.match.holders.dto.MatchOnlyResultsDto;
 import za.co.hpsc.web.models.ipsc.match.request.MatchOnlyRequest;
+import za.co.hpsc.web.models.ipsc.match.response.MatchLookupResponse;
 import za.co.hpsc.web.models.ipsc.match.response.MatchOnlyResponse;
+import za.co.hpsc.web.models.ipsc.match.response.MatchSearchResponse;
 import za.co.hpsc.web.services.DomainService;
+import za.co.hpsc.web.services.ImportLedgerService;
+import za.co.hpsc.web.services.MatchRecordService;
 import za.co.hpsc.web.services.TransactionService;
 import za.co.hpsc.web.services.TransformationService;
 import za.co.hpsc.web.utils.ValueUtil;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -44,6 +62,16 @@ class IpscMatchServiceTest {
     @Mock
     private MatchEntityServiceImpl matchEntityService;
 
+    @Mock
+    private MatchRecordService matchRecordService;
+
+    @Mock
+    private ImportLedgerService importLedgerService;
+
+    @Spy
+    private MatchResponseCacheServiceImpl matchResponseCacheService =
+            new MatchResponseCacheServiceImpl(JsonMapper.builder().build(), 1, 1, 10);
+
     @InjectMocks
     private IpscMatchServiceImpl ipscMatchService;
 
@@ -72,6 +100,7 @@ class IpscMatchServiceTest {
         assertEquals("Existing Match", captor.getValue().getMatchName());
         assertEquals("Updated Club", captor.getValue().getClub());
         assertEquals("Rifle", captor.getValue().getFirearm());
+        verify(importLedgerService).evictMatch(22L);
     }
 
     @Test
@@ -88,6 +117,61 @@ class IpscMatchServiceTest {
         verifyNoInteractions(transformationService);
         verifyNoInteractions(domainService);
         verifyNoInteractions(transactionService);
+        verifyNoInteractions(importLedgerService);
+    }
+
+    @Test
+    void testModifyMatch_withStaleExpectedVersion_thenThrowsPreconditionFailedWithoutWriting() {
+        // Arrange
+        IpscMatch existingMatch = buildIpscMatch(31L, "Existing Match", "HPSC",
+                FirearmType.HANDGUN, 2026, 5, 1, 9, 0);
+        existingMatch.setVersion(4L);
+        when(matchEntityService.findMatchById(31L)).thenReturn(Optional.of(existingMatch));
+
+        // Act
+        PreconditionFailedException exception = assertThrows(PreconditionFailedException.class,
+                () -> ipscMatchService.modifyMatch(31L, new MatchOnlyRequest(), 3L));
+
+        // Assert
+        assertEquals("Match with id 31 has been modified", exception.getMessage());
+        verifyNoInteractions(transformationService);
+        verifyNoInteractions(transactionService);
+        verifyNoInteractions(importLedgerService);
+    }
+
+    @Test
+    void testUpdateMatch_withConcurrentWrite_thenThrowsPreconditionFailedException() throws Exception {
+        // Arrange
+        IpscMatch existingMatch = buildIpscMatch(32L, "Existing Match", "HPSC",
+                FirearmType.HANDGUN, 2026, 5, 1, 9, 0);
+        existingMatch.setVersion(3L);
+        MatchOnlyDto matchOnlyDto = new MatchOnlyDto();
+        matchOnlyDto.setId(32L);
+        MatchOnlyResultsDto matchOnlyResultsDto = new MatchOnlyResultsDto();
+        matchOnlyResultsDto.setMatch(matchOnlyDto);
+        when(matchEntityService.findMatchById(32L)).thenReturn(Optional.of(existingMatch));
+        when(transformationService.mapMatchOnly(any())).thenReturn(Optional.of(matchOnlyDto));
+        when(domainService.initMatchOnlyEntities(matchOnlyDto)).thenReturn(Optional.of(matchOnlyResultsDto));
+        when(transactionService.saveMatch(matchOnlyResultsDto))
+                .thenThrow(new ObjectOptimisticLockingFailureException(IpscMatch.class, 32L));
+
+        // Act
+        assertThrows(PreconditionFailedException.class,
+                () -> ipscMatchService.updateMatch(32L, new MatchOnlyRequest(), 3L));
+
+        // Assert
+        assertEquals(3L, matchOnlyDto.getVersion());
+        verifyNoInteractions(importLedgerService);
+    }
+
+    @Test
+    void testGetMatchVersion_withMissingMatch_thenThrowsNonFatalException() {
+        // Arrange
+        when(matchEntityService.findMatchVersion(33L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(NonFatalException.class, () -> ipscMatchService.getMatchVersion(33L));
+        verify(matchEntityService, never()).findMatchById(any());
     }
 
     @Test
@@ -122,6 +206,220 @@ class IpscMatchServiceTest {
         assertTrue(exception.getMessage().contains("Match with id 41 not found"));
     }
 
+    @Test
+    void testGetSerializedMatch_whenReadTwice_thenLoadsAndSerializesMatchOnce() {
+        // Arrange
+        IpscMatch existingMatch = buildIpscMatch(44L, "Cached Match", "HPSC",
+                FirearmType.HANDGUN, 2026, 7, 1, 9, 0);
+        existingMatch.setVersion(5L);
+        when(matchEntityService.findMatchById(44L)).thenReturn(Optional.of(existingMatch));
+
+        // Act
+        SerializedResponse first = ipscMatchService.getSerializedMatch(44L).orElseThrow();
+        SerializedResponse second = ipscMatchService.getSerializedMatch(44L).orElseThrow();
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(5L, first.version());
+        assertTrue(new String(first.body(), StandardCharsets.UTF_8).contains("\"Cached Match\""));
+        verify(matchEntityService, times(1)).findMatchById(44L);
+        verify(matchResponseCacheService, times(1)).serialize(any(), any());
+    }
+
+    @Test
+    void testGetSerializedMatch_whenEvictedAfterWrite_thenLoadsMatchAgain() {
+        // Arrange
+        IpscMatch existingMatch = buildIpscMatch(45L, "Cached Match", "HPSC",
+                FirearmType.HANDGUN, 2026, 7, 1, 9, 0);
+        existingMatch.setVersion(1L);
+        when(matchEntityService.findMatchById(45L)).thenReturn(Optional.of(existingMatch));
+        ipscMatchService.getSerializedMatch(45L);
+        existingMatch.setVersion(2L);
+
+        // Act
+        matchResponseCacheService.evictMatch(45L);
+        SerializedResponse result = ipscMatchService.getSerializedMatch(45L).orElseThrow();
+
+        // Assert
+        assertEquals(2L, result.version());
+        verify(matchEntityService, times(2)).findMatchById(45L);
+    }
+
+    @Test
+    void testGetSerializedMatch_withMissingMatch_thenThrowsWithoutCaching() {
+        // Arrange
+        when(matchEntityService.findMatchById(46L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(NonFatalException.class, () -> ipscMatchService.getSerializedMatch(46L));
+        assertThrows(NonFatalException.class, () -> ipscMatchService.getSerializedMatch(46L));
+        verify(matchEntityService, times(2)).findMatchById(46L);
+    }
+
+    @Test
+    void testGetMatches_withFoundAndMissingIds_thenReturnsMatchesInRequestOrder() {
+        // Arrange
+        ipscMatchService.maxBatchSize = 10;
+        LocalDateTime scheduledDate = LocalDateTime.of(2026, 7, 1, 9, 0);
+        List<Long> matchIds = List.of(3L, 1L, 99L, 3L);
+        when(matchEntityService.findMatchRowsByIds(matchIds)).thenReturn(List.of(
+                new MatchSearchRow(1L, "Match 1", scheduledDate, "HPSC", FirearmType.HANDGUN),
+                new MatchSearchRow(3L, "Match 3", scheduledDate, "HPSC", FirearmType.HANDGUN)));
+
+        // Act
+        List<MatchLookupResponse> result = ipscMatchService.getMatches(matchIds).orElseThrow();
+
+        // Assert
+        assertEquals(matchIds, result.stream().map(MatchLookupResponse::getMatchId).toList());
+        assertEquals(List.of(true, true, false, true), result.stream().map(MatchLookupResponse::isFound).toList());
+        assertEquals("Match 3", result.get(0).getMatch().getMatchName());
+        assertEquals("Match 1", result.get(1).getMatch().getMatchName());
+        assertNull(result.get(2).getMatch());
+        verify(matchEntityService, times(1)).findMatchRowsByIds(any());
+        verify(matchEntityService, never()).findMatchById(any());
+    }
+
+    @Test
+    void testGetMatches_withTooManyOrNoIds_thenThrowsValidationException() {
+        // Arrange
+        ipscMatchService.maxBatchSize = 2;
+
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> ipscMatchService.getMatches(List.of(1L, 2L, 3L)));
+        assertThrows(ValidationException.class, () -> ipscMatchService.getMatches(List.of()));
+        assertThrows(ValidationException.class, () -> ipscMatchService.getMatches(null));
+        verifyNoInteractions(matchEntityService);
+    }
+
+    @Test
+    void testGetMatchResults_withExistingMatch_thenReturnsMatchRecord() {
+        // Arrange
+        MatchRecord matchRecord = new MatchRecord("Queried Match", "2026-07-01 09:00", "HPSC",
+                "Handgun", "", List.of(), "");
+        when(matchRecordService.generateMatchRecord(42L)).thenReturn(Optional.of(matchRecord));
+
+        // Act
+        Optional<IpscMatchRecordHolder> result = ipscMatchService.getMatchResults(42L);
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals(List.of(matchRecord), result.get().matches());
+        verifyNoInteractions(matchEntityService);
+    }
+
+    @Test
+    void testGetSerializedMatchResults_whenReadTwice_thenGeneratesMatchRecordOnce() {
+        // Arrange
+        MatchRecord matchRecord = new MatchRecord("Cached Match", "2026-07-01 09:00", "HPSC",
+                "Handgun", "", List.of(), "");
+        when(matchRecordService.generateMatchRecord(47L)).thenReturn(Optional.of(matchRecord));
+
+        // Act
+        SerializedResponse first = ipscMatchService.getSerializedMatchResults(47L).orElseThrow();
+        SerializedResponse second = ipscMatchService.getSerializedMatchResults(47L).orElseThrow();
+
+        // Assert
+        assertSame(first, second);
+        assertNull(first.version());
+        assertTrue(new String(first.body(), StandardCharsets.UTF_8).contains("\"Cached Match\""));
+        verify(matchRecordService, times(1)).generateMatchRecord(47L);
+    }
+
+    @Test
+    void testGetMatchResults_withMissingMatch_thenThrowsNonFatalException() {
+        // Arrange
+        when(matchRecordService.generateMatchRecord(43L)).thenReturn(Optional.empty());
+
+        // Act
+        NonFatalException exception = assertThrows(NonFatalException.class,
+                () -> ipscMatchService.getMatchResults(43L));
+
+        // Assert
+        assertTrue(exception.getMessage().contains("Match with id 43 not found"));
+    }
+
+    @Test
+    void testSearchMatches_withMoreMatchesThanPage_thenReturnsPageAndNextCursor() {
+        // Arrange
+        ipscMatchService.defaultSearchPageSize = 2;
+        ipscMatchService.maxSearchPageSize = 10;
+        LocalDateTime scheduledDate = LocalDateTime.of(2026, 7, 1, 9, 0);
+        List<MatchSearchRow> matchSearchRows = List.of(
+                new MatchSearchRow(1L, "Match 1", scheduledDate, "HPSC", FirearmType.HANDGUN),
+                new MatchSearchRow(2L, "Match 2", scheduledDate, null, null),
+                new MatchSearchRow(3L, "Match 3", scheduledDate.plusDays(1), "HPSC", FirearmType.HANDGUN));
+        when(matchEntityService.searchMatches(any(), isNull(), eq(3))).thenReturn(matchSearchRows);
+        when(matchEntityService.searchMatches(any(), isNotNull(), eq(3))).thenReturn(matchSearchRows.subList(2, 3));
+
+        // Act
+        MatchSearchResponse firstPage = ipscMatchService.searchMatches(new MatchSearchRequest()).orElseThrow();
+        MatchSearchRequest nextRequest = new MatchSearchRequest();
+        nextRequest.setAfter(firstPage.getNextCursor());
+        MatchSearchResponse lastPage = ipscMatchService.searchMatches(nextRequest).orElseThrow();
+
+        // Assert
+        assertEquals(List.of(1L, 2L), firstPage.getMatches().stream().map(MatchOnlyResponse::getMatchId).toList());
+        assertEquals("HPSC", firstPage.getMatches().getFirst().getClub());
+        assertEquals(FirearmType.HANDGUN.getNames().getFirst(), firstPage.getMatches().getFirst().getFirearm());
+        assertNotNull(firstPage.getNextCursor());
+        assertEquals(List.of(3L), lastPage.getMatches().stream().map(MatchOnlyResponse::getMatchId).toList());
+        assertNull(lastPage.getNextCursor());
+
+        // The next page seeks past the last match of the first page
+        ArgumentCaptor<MatchSearchCursor> captor = ArgumentCaptor.forClass(MatchSearchCursor.class);
+        verify(matchEntityService, times(2)).searchMatches(any(), captor.capture(), eq(3));
+        assertEquals(new MatchSearchCursor(scheduledDate, 2L), captor.getAllValues().getLast());
+    }
+
+    @Test
+    void testSearchMatches_withFilters_thenSearchesByCriteriaUpToMaxPageSize() {
+        // Arrange
+        ipscMatchService.defaultSearchPageSize = 2;
+        ipscMatchService.maxSearchPageSize = 10;
+        MatchSearchRequest matchSearchRequest = new MatchSearchRequest(new String[]{"5", " 6 ", ""}, "Club",
+                LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31), null, 500);
+        when(matchEntityService.searchMatches(any(), isNull(), eq(11))).thenReturn(List.of());
+
+        // Act
+        MatchSearchResponse result = ipscMatchService.searchMatches(matchSearchRequest).orElseThrow();
+
+        // Assert
+        assertTrue(result.getMatches().isEmpty());
+        assertNull(result.getNextCursor());
+        ArgumentCaptor<MatchSearchCriteria> captor = ArgumentCaptor.forClass(MatchSearchCriteria.class);
+        verify(matchEntityService).searchMatches(captor.capture(), isNull(), eq(11));
+        assertEquals(new MatchSearchCriteria(List.of(5L, 6L), "Club", LocalDateTime.of(2026, 1, 1, 0, 0),
+                LocalDateTime.of(2026, 2, 1, 0, 0)), captor.getValue());
+    }
+
+    @Test
+    void testSearchMatches_withInvalidCursor_thenThrowsValidationException() {
+        // Arrange
+        MatchSearchRequest matchSearchRequest = new MatchSearchRequest();
+        matchSearchRequest.setAfter("not-a-cursor");
+
+        // Act
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> ipscMatchService.searchMatches(matchSearchRequest));
+
+        // Assert
+        assertEquals("Invalid search cursor", exception.getMessage());
+        verifyNoInteractions(matchEntityService);
+    }
+
+    @Test
+    void testSearchMatches_withInvalidMatchIdOrDates_thenThrowsValidationException() {
+        // Arrange
+        MatchSearchRequest invalidId = new MatchSearchRequest(new String[]{"abc"}, null, null, null, null, null);
+        MatchSearchRequest invalidDates = new MatchSearchRequest(null, null, LocalDate.of(2026, 2, 1),
+                LocalDate.of(2026, 1, 1), null, null);
+
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> ipscMatchService.searchMatches(invalidId));
+        assertThrows(ValidationException.class, () -> ipscMatchService.searchMatches(invalidDates));
+        verifyNoInteractions(matchEntityService);
+    }
+
     @Test
     void testFindMatchById_withNullId_thenThrowsValidationException() {
         // Act
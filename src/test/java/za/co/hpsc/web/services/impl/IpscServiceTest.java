@@ -3,27 +3,51 @@ package za.co.hpsc.web.services.impl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import za.co.hpsc.web.configs.ObjectReaderRegistry;
+import za.co.hpsc.web.domain.IpscMatch;
+import za.co.hpsc.web.enums.ImportJobStatus;
 import za.co.hpsc.web.exceptions.FatalException;
 import za.co.hpsc.web.exceptions.ValidationException;
 import za.co.hpsc.web.models.ipsc.common.data.DtoMapping;
+import za.co.hpsc.web.models.ipsc.common.data.MatchSectionHash;
+import za.co.hpsc.web.models.ipsc.common.dto.ClubDto;
+import za.co.hpsc.web.models.ipsc.common.dto.CompetitorDto;
+import za.co.hpsc.web.models.ipsc.common.dto.MatchDto;
+import za.co.hpsc.web.models.ipsc.common.dto.MatchStageCompetitorDto;
+import za.co.hpsc.web.models.ipsc.common.dto.MatchStageDto;
 import za.co.hpsc.web.models.ipsc.common.holders.data.MatchHolder;
 import za.co.hpsc.web.models.ipsc.common.holders.dto.MatchResultsDto;
 import za.co.hpsc.web.models.ipsc.common.holders.dto.MatchResultsDtoHolder;
 import za.co.hpsc.web.models.ipsc.common.holders.records.IpscMatchRecordHolder;
 import za.co.hpsc.web.models.ipsc.common.holders.request.IpscRequestHolder;
 import za.co.hpsc.web.models.ipsc.common.holders.response.IpscResponseHolder;
+import za.co.hpsc.web.models.ipsc.common.records.MatchRecord;
 import za.co.hpsc.web.models.ipsc.common.request.*;
 import za.co.hpsc.web.models.ipsc.common.response.IpscResponse;
+import za.co.hpsc.web.models.ipsc.job.ImportProgress;
 import za.co.hpsc.web.services.DomainService;
+import za.co.hpsc.web.services.ImportLedgerService;
 import za.co.hpsc.web.services.TransactionService;
 import za.co.hpsc.web.services.TransformationService;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -38,6 +62,10 @@ public class IpscServiceTest {
     private TransformationService transformationService;
     @Mock
     private DomainService domainService;
+    @Mock
+    private ImportLedgerService importLedgerService;
+    @Spy
+    private ObjectReaderRegistry objectReaderRegistry = new ObjectReaderRegistry();
     @InjectMocks
     private IpscServiceImpl ipscService;
 
@@ -977,8 +1005,8 @@ public class IpscServiceTest {
                 .thenReturn(Optional.of(new DtoMapping()));
         when(transactionService.saveMatchResults(any(DtoMapping.class)))
                 .thenReturn(Optional.of(matchHolder));
-        when(transformationService.generateIpscMatchRecordHolder(anyList()))
-                .thenReturn(new IpscMatchRecordHolder(List.of()));
+        when(transformationService.generateMatchRecord(matchHolder))
+                .thenReturn(Optional.empty());
 
         // Act
         List<IpscMatchRecordHolder> response = assertDoesNotThrow(() ->
@@ -2568,4 +2596,601 @@ public class IpscServiceTest {
         assertEquals(2, captured.getStages().size());
         verify(transformationService, times(1)).mapMatchResults(any(IpscRequestHolder.class));
     }
+
+    // Test Group: importWinMssCabStream - streamed CAB file import
+    @Test
+    public void testImportWinMssCabStream_whenNullStream_thenThrowsValidationException() {
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> ipscService.importWinMssCabStream(null));
+        verifyNoInteractions(transformationService, domainService, transactionService);
+    }
+
+    @Test
+    public void testImportWinMssCabStream_whenEmptyStream_thenThrowsValidationException() {
+        // Arrange
+        InputStream cabFileStream = toStream("");
+
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> ipscService.importWinMssCabStream(cabFileStream));
+        verifyNoInteractions(transformationService, domainService, transactionService);
+    }
+
+    @Test
+    public void testImportWinMssCabStream_whenValidJson_thenForwardsSameRequestsAsStringImport() {
+        // Arrange
+        String cabFileContent = """
+                {
+                    "club": "<xml><data><row ClubId='1' ClubCode='HPSC' Club='HPSC Club'/></data></xml>",
+                    "match": "<xml><data><row MatchId='100' MatchName='Streamed Match'/></data></xml>",
+                    "stage": "<xml><data><row StageId='200' StageName='Stage 1' MatchId='100'/><row StageId='201' StageName='Stage 2' MatchId='100'/></data></xml>",
+                    "tag": "<xml><data></data></xml>",
+                    "member": "<xml><data><row MemberId='50' Firstname='John' Lastname='Doe' Register='True' DOB='1973-02-17T00:00:00'/></data></xml>",
+                    "classify": "<xml><data/></xml>",
+                    "enrolled": "<xml><data><row MemberId='50' CompId='500' MatchId='100' DivId='1'/></data></xml>",
+                    "squad": "",
+                    "team": null,
+                    "score": "<xml><data><row MemberId='50' StageId='200' MatchId='100' FinalScore='101' HitFactor='6.08'/></data></xml>"
+                }
+                """;
+
+        ArgumentCaptor<IpscRequestHolder> requestHolderCaptor = ArgumentCaptor.forClass(IpscRequestHolder.class);
+        when(importLedgerService.createContentDigest()).thenAnswer(invocation -> MessageDigest.getInstance("SHA-256"));
+        when(transformationService.mapMatchResults(requestHolderCaptor.capture()))
+                .thenReturn(new IpscResponseHolder(List.of()));
+
+        // Act
+        List<IpscMatchRecordHolder> result =
+                assertDoesNotThrow(() -> ipscService.importWinMssCabStream(toStream(cabFileContent)));
+
+        // Assert
+        assertNotNull(result);
+        assertTrue(result.isEmpty());
+        IpscRequestHolder streamed = requestHolderCaptor.getValue();
+        IpscRequestHolder expected = assertDoesNotThrow(() -> ipscService.readIpscRequests(cabFileContent));
+        assertEquals(expected.getClubs().size(), streamed.getClubs().size());
+        assertEquals(expected.getMatches().size(), streamed.getMatches().size());
+        assertEquals(expected.getStages().size(), streamed.getStages().size());
+        assertEquals(expected.getTags().size(), streamed.getTags().size());
+        assertEquals(expected.getMembers().size(), streamed.getMembers().size());
+        assertEquals(expected.getClassifications().size(), streamed.getClassifications().size());
+        assertEquals(expected.getEnrolledMembers().size(), streamed.getEnrolledMembers().size());
+        assertEquals(expected.getSquads().size(), streamed.getSquads().size());
+        assertEquals(expected.getTeams().size(), streamed.getTeams().size());
+        assertEquals(expected.getScores().size(), streamed.getScores().size());
+
+        assertEquals("HPSC", streamed.getClubs().getFirst().getClubCode());
+        assertEquals(200, streamed.getStages().get(0).getStageId());
+        assertEquals(201, streamed.getStages().get(1).getStageId());
+        assertEquals(LocalDateTime.of(1973, 2, 17, 0, 0, 0),
+                streamed.getMembers().getFirst().getDateOfBirth());
+        assertEquals(101, streamed.getScores().getFirst().getFinalScore());
+        assertEquals("6.08", streamed.getScores().getFirst().getHitFactor());
+    }
+
+    @Test
+    public void testImportWinMssCabStream_whenImportedBefore_thenReadsWholeStreamAndReturnsLedgerRecords() {
+        // Arrange
+        String cabFileContent = """
+                {
+                    "match": "<xml><data><row MatchId='100' MatchName='Match 1'/></data></xml>"
+                }
+                """;
+        InputStream cabFileStream = toStream(cabFileContent);
+        MessageDigest contentDigest = assertDoesNotThrow(() -> MessageDigest.getInstance("SHA-256"));
+        MatchRecord matchRecord = new MatchRecord("Match 1", "", "", "", "", List.of(), "");
+        List<IpscMatchRecordHolder> previousImport = List.of(new IpscMatchRecordHolder(List.of(matchRecord)));
+        when(importLedgerService.createContentDigest()).thenReturn(contentDigest);
+        when(importLedgerService.hashContent(contentDigest)).thenReturn("cab-hash");
+        when(importLedgerService.findImport("cab-hash")).thenReturn(Optional.of(previousImport));
+        ImportProgress importProgress = new ImportProgress();
+
+        // Act
+        List<IpscMatchRecordHolder> result = assertDoesNotThrow(() ->
+                ipscService.importWinMssCabStream(cabFileStream, importProgress));
+
+        // Assert
+        assertSame(previousImport, result);
+        assertEquals(1, importProgress.getTotalMatches());
+        assertEquals(-1, assertDoesNotThrow(() -> cabFileStream.read()));
+        verifyNoInteractions(transformationService, domainService, transactionService);
+        verify(importLedgerService, never()).recordImport(any(), any());
+    }
+
+    @Test
+    public void testStreamIpscRequests_whenInvalidXmlSection_thenThrowsValidationException() {
+        // Arrange
+        InputStream cabFileStream = toStream("""
+                {
+                    "club": "<xml><data><row ClubId='1' ClubCode='ABC'</data></xml>"
+                }
+                """);
+
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> ipscService.streamIpscRequests(cabFileStream));
+    }
+
+    @Test
+    public void testStreamIpscRequests_whenUnknownSection_thenThrowsValidationException() {
+        // Arrange
+        InputStream cabFileStream = toStream("""
+                {
+                    "unknown": "<xml><data></data></xml>"
+                }
+                """);
+
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> ipscService.streamIpscRequests(cabFileStream));
+    }
+
+    @Test
+    public void testStreamIpscRequests_whenSectionsAreEscapedOrBlank_thenReadsDecodedXml() {
+        // Arrange
+        InputStream cabFileStream = toStream("""
+                {
+                    "club": "\\n  <xml><data><row ClubId=\\"1\\" ClubCode=\\"HPSC\\" Club=\\"H\\u00e4rtbees Club\\"/></data></xml>",
+                    "squad": " \\t\\n "
+                }
+                """);
+
+        // Act
+        IpscRequestHolder result = assertDoesNotThrow(() -> ipscService.streamIpscRequests(cabFileStream));
+
+        // Assert
+        assertEquals(1, result.getClubs().size());
+        assertEquals("HPSC", result.getClubs().getFirst().getClubCode());
+        assertEquals("H\u00e4rtbees Club", result.getClubs().getFirst().getClubName());
+        assertTrue(result.getSquads().isEmpty());
+    }
+
+    @Test
+    public void testStreamIpscRequests_whenTruncatedJson_thenThrowsFatalException() {
+        // Arrange
+        InputStream cabFileStream = toStream("""
+                {
+                    "club": "<xml><data><row ClubId='1' ClubCode='ABC' Club='Test Club'/></data></xml>",
+                """);
+
+        // Act & Assert
+        assertThrows(FatalException.class, () -> ipscService.streamIpscRequests(cabFileStream));
+    }
+
+    // Test Group: importWinMssCabFile - progress tracking
+    @Test
+    public void testImportWinMssCabFile_whenProgressProvided_thenCountsMatchesStagesAndScores() {
+        // Arrange
+        String cabFileContent = """
+                {
+                    "club": "<xml><data><row ClubId='1' ClubCode='ABC' Club='Club A'/></data></xml>",
+                    "match": "<xml><data><row MatchId='100' MatchName='Match 1'/><row MatchId='101' MatchName='Match 2'/></data></xml>"
+                }
+                """;
+
+        IpscResponse ipscResponse1 = new IpscResponse();
+        IpscResponse ipscResponse2 = new IpscResponse();
+        when(transformationService.mapMatchResults(any(IpscRequestHolder.class)))
+                .thenReturn(new IpscResponseHolder(List.of(ipscResponse1, ipscResponse2)));
+
+        MatchResultsDto matchResults1 = new MatchResultsDto();
+        matchResults1.setStages(List.of(new MatchStageDto(), new MatchStageDto()));
+        matchResults1.setMatchStageCompetitors(List.of(new MatchStageCompetitorDto(),
+                new MatchStageCompetitorDto(), new MatchStageCompetitorDto()));
+        MatchResultsDto matchResults2 = new MatchResultsDto();
+        matchResults2.setStages(List.of(new MatchStageDto()));
+        matchResults2.setMatchStageCompetitors(List.of(new MatchStageCompetitorDto()));
+        when(transformationService.initMatchResults(ipscResponse1)).thenReturn(Optional.of(matchResults1));
+        when(transformationService.initMatchResults(ipscResponse2)).thenReturn(Optional.of(matchResults2));
+
+        ImportProgress importProgress = new ImportProgress();
+
+        // Act
+        List<IpscMatchRecordHolder> result = assertDoesNotThrow(() ->
+                ipscService.importWinMssCabFile(cabFileContent, importProgress));
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals(ImportJobStatus.PERSISTING, importProgress.getStatus());
+        assertEquals(2, importProgress.getTotalMatches());
+        assertEquals(2, importProgress.getMatchesProcessed());
+        assertEquals(3, importProgress.getStagesProcessed());
+        assertEquals(4, importProgress.getScoresProcessed());
+    }
+
+    // Test Group: importWinMssCabFile - concurrent match import
+    @Test
+    public void testImportMatchResults_whenParallelMatchImportEnabled_thenReturnsRecordsInInputOrder() throws FatalException {
+        // Arrange
+        List<MatchResultsDto> matchResultsList = new ArrayList<>();
+        List<MatchHolder> matchHolders = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            MatchResultsDto matchResultsDto = new MatchResultsDto();
+            DtoMapping dtoMapping = mock(DtoMapping.class);
+            MatchHolder matchHolder = new MatchHolder();
+            matchResultsList.add(matchResultsDto);
+            matchHolders.add(matchHolder);
+            when(domainService.initMatchEntities(matchResultsDto, null, null))
+                    .thenReturn(Optional.of(dtoMapping));
+            when(transactionService.saveMatchResults(dtoMapping)).thenReturn(Optional.of(matchHolder));
+        }
+        List<MatchRecord> matchRecords = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            MatchRecord matchRecord = new MatchRecord("Match " + i, "", "", "", "", List.of(), "");
+            matchRecords.add(matchRecord);
+            when(transformationService.generateMatchRecord(matchHolders.get(i)))
+                    .thenReturn(Optional.of(matchRecord));
+        }
+
+        try (ExecutorService executorService = Executors.newFixedThreadPool(4)) {
+            IpscServiceImpl parallelService = new IpscServiceImpl(transformationService, domainService,
+                    transactionService, objectReaderRegistry, null, executorService, importLedgerService);
+            parallelService.parallelMatchImport = true;
+            ImportProgress importProgress = new ImportProgress();
+
+            // Act
+            List<IpscMatchRecordHolder> result = parallelService.importMatchResults(
+                    new MatchResultsDtoHolder(matchResultsList), importProgress);
+
+            // Assert
+            assertEquals(8, result.size());
+            assertEquals(8, importProgress.getMatchesProcessed());
+            for (int i = 0; i < 8; i++) {
+                assertEquals(matchRecords.subList(0, i + 1), result.get(i).matches());
+            }
+        }
+    }
+
+    // Test Group: importWinMssCabFile - incremental match record generation
+    @Test
+    public void testImportMatchResults_whenMultipleMatches_thenGeneratesEachMatchRecordOnce() throws FatalException {
+        // Arrange
+        MatchResultsDto matchResults1 = new MatchResultsDto();
+        MatchResultsDto matchResults2 = new MatchResultsDto();
+        MatchResultsDto matchResults3 = new MatchResultsDto();
+        DtoMapping dtoMapping1 = mock(DtoMapping.class);
+        DtoMapping dtoMapping2 = mock(DtoMapping.class);
+        DtoMapping dtoMapping3 = mock(DtoMapping.class);
+        MatchHolder matchHolder1 = new MatchHolder();
+        MatchHolder matchHolder2 = new MatchHolder();
+        MatchHolder matchHolder3 = new MatchHolder();
+        MatchRecord matchRecord1 = new MatchRecord("Match 1", "", "", "", "", List.of(), "");
+        MatchRecord matchRecord3 = new MatchRecord("Match 3", "", "", "", "", List.of(), "");
+
+        when(domainService.initMatchEntities(matchResults1, null, null)).thenReturn(Optional.of(dtoMapping1));
+        when(domainService.initMatchEntities(matchResults2, null, null)).thenReturn(Optional.of(dtoMapping2));
+        when(domainService.initMatchEntities(matchResults3, null, null)).thenReturn(Optional.of(dtoMapping3));
+        when(transactionService.saveMatchResults(dtoMapping1)).thenReturn(Optional.of(matchHolder1));
+        when(transactionService.saveMatchResults(dtoMapping2)).thenReturn(Optional.of(matchHolder2));
+        when(transactionService.saveMatchResults(dtoMapping3)).thenReturn(Optional.of(matchHolder3));
+        when(transformationService.generateMatchRecord(matchHolder1)).thenReturn(Optional.of(matchRecord1));
+        when(transformationService.generateMatchRecord(matchHolder2)).thenReturn(Optional.empty());
+        when(transformationService.generateMatchRecord(matchHolder3)).thenReturn(Optional.of(matchRecord3));
+
+        // Act
+        List<IpscMatchRecordHolder> result = ipscService.importMatchResults(
+                new MatchResultsDtoHolder(List.of(matchResults1, matchResults2, matchResults3)), null);
+
+        // Assert
+        assertEquals(3, result.size());
+        assertEquals(List.of(matchRecord1), result.get(0).matches());
+        assertEquals(List.of(matchRecord1), result.get(1).matches());
+        assertEquals(List.of(matchRecord1, matchRecord3), result.get(2).matches());
+        verify(transformationService, times(3)).generateMatchRecord(any(MatchHolder.class));
+        verify(transformationService, never()).generateIpscMatchRecordHolder(anyList());
+    }
+
+    @Test
+    public void testImportMatchResults_whenParallelMatchImportFails_thenThrowsFatalException() throws FatalException {
+        // Arrange
+        MatchResultsDto matchResults1 = new MatchResultsDto();
+        MatchResultsDto matchResults2 = new MatchResultsDto();
+        DtoMapping dtoMapping = mock(DtoMapping.class);
+        when(domainService.initMatchEntities(any(MatchResultsDto.class), any(), any()))
+                .thenReturn(Optional.of(dtoMapping));
+        when(transactionService.saveMatchResults(dtoMapping))
+                .thenThrow(new FatalException("Unable to save the match"));
+
+        try (ExecutorService executorService = Executors.newFixedThreadPool(2)) {
+            IpscServiceImpl parallelService = new IpscServiceImpl(transformationService, domainService,
+                    transactionService, objectReaderRegistry, null, executorService, importLedgerService);
+            parallelService.parallelMatchImport = true;
+
+            // Act & Assert
+            assertThrows(FatalException.class, () -> parallelService.importMatchResults(
+                    new MatchResultsDtoHolder(List.of(matchResults1, matchResults2)), null));
+        }
+    }
+
+    @Test
+    public void testGetMatchKey_whenMatch_thenReturnsMatchKey() {
+        // Arrange
+        MatchDto matchDto = new MatchDto();
+        matchDto.setName(" Club Shoot ");
+        matchDto.setScheduledDate(LocalDateTime.of(2026, 5, 2, 9, 0));
+        MatchResultsDto matchResultsDto = new MatchResultsDto(matchDto);
+
+        // Act
+        String result = ipscService.getMatchKey(matchResultsDto);
+
+        // Assert
+        assertEquals("match:|club shoot|2026-05-02T09:00", result);
+        assertNull(ipscService.getMatchKey(new MatchResultsDto()));
+    }
+
+    @Test
+    public void testGetMatchKey_whenMatchHasClub_thenKeysMatchOnClub() {
+        // Arrange
+        MatchDto matchDto = new MatchDto();
+        matchDto.setName(" Club Shoot ");
+        matchDto.setScheduledDate(LocalDateTime.of(2026, 5, 2, 9, 0));
+        MatchResultsDto matchResultsDto = new MatchResultsDto(matchDto);
+        ClubDto clubDto = new ClubDto();
+        clubDto.setName("Hartbeespoort Practical Shooting Club");
+        matchResultsDto.setClub(clubDto);
+
+        // Act
+        String result = ipscService.getMatchKey(matchResultsDto);
+
+        // Assert
+        assertEquals("match:hartbeespoort practical shooting club|club shoot|2026-05-02T09:00", result);
+    }
+
+    @Test
+    public void testSaveMatchResults_whenNewClubAndCompetitors_thenSavesThemBeforeTheMatch() throws FatalException {
+        // Arrange
+        ClubDto clubDto = new ClubDto();
+        clubDto.setName("HPSC Club");
+        CompetitorDto competitorDto = new CompetitorDto();
+        MatchResultsDto matchResultsDto = new MatchResultsDto();
+        matchResultsDto.setClub(clubDto);
+        matchResultsDto.setCompetitors(List.of(competitorDto));
+        DtoMapping dtoMapping = mock(DtoMapping.class);
+        MatchHolder matchHolder = new MatchHolder();
+        when(domainService.initMatchEntities(matchResultsDto, null, null)).thenReturn(Optional.of(dtoMapping));
+        when(transactionService.saveMatchResults(dtoMapping)).thenReturn(Optional.of(matchHolder));
+
+        // Act
+        Optional<MatchHolder> result = ipscService.saveMatchResults(matchResultsDto);
+
+        // Assert
+        assertSame(matchHolder, result.orElseThrow());
+        InOrder inOrder = inOrder(domainService, transactionService);
+        inOrder.verify(domainService).resolveSharedEntities(matchResultsDto);
+        inOrder.verify(transactionService).saveSharedEntities(clubDto, List.of(competitorDto));
+        inOrder.verify(domainService).initMatchEntities(matchResultsDto, null, null);
+        inOrder.verify(transactionService).saveMatchResults(dtoMapping);
+    }
+
+    @Test
+    public void testImportMatch_whenOptimisticLockConflict_thenMapsMatchAgainAndRetries() throws FatalException {
+        // Arrange
+        ipscService.maxMatchImportAttempts = 3;
+        IpscResponse ipscResponse = new IpscResponse();
+        MatchResultsDto matchResultsDto = new MatchResultsDto();
+        matchResultsDto.setIpscResponse(ipscResponse);
+        MatchResultsDto remappedMatchResultsDto = new MatchResultsDto();
+        DtoMapping dtoMapping = mock(DtoMapping.class);
+        DtoMapping remappedDtoMapping = mock(DtoMapping.class);
+        MatchHolder matchHolder = new MatchHolder();
+
+        when(domainService.initMatchEntities(matchResultsDto, null, null)).thenReturn(Optional.of(dtoMapping));
+        when(transactionService.saveMatchResults(dtoMapping))
+                .thenThrow(new ObjectOptimisticLockingFailureException(IpscMatch.class, 1L));
+        when(transformationService.initMatchResults(ipscResponse)).thenReturn(Optional.of(remappedMatchResultsDto));
+        when(domainService.initMatchEntities(remappedMatchResultsDto, null, null))
+                .thenReturn(Optional.of(remappedDtoMapping));
+        when(transactionService.saveMatchResults(remappedDtoMapping)).thenReturn(Optional.of(matchHolder));
+        ImportProgress importProgress = new ImportProgress();
+
+        // Act
+        Optional<MatchHolder> result = ipscService.importMatch(matchResultsDto, importProgress);
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertSame(matchHolder, result.get());
+        assertEquals(1, importProgress.getMatchesProcessed());
+        verify(transformationService).initMatchResults(ipscResponse);
+    }
+
+    @Test
+    public void testImportMatch_whenConflictPersists_thenThrowsFatalExceptionAfterMaxAttempts() throws FatalException {
+        // Arrange
+        ipscService.maxMatchImportAttempts = 3;
+        IpscResponse ipscResponse = new IpscResponse();
+        MatchResultsDto matchResultsDto = new MatchResultsDto();
+        matchResultsDto.setIpscResponse(ipscResponse);
+        DtoMapping dtoMapping = mock(DtoMapping.class);
+
+        when(domainService.initMatchEntities(matchResultsDto, null, null)).thenReturn(Optional.of(dtoMapping));
+        when(transactionService.saveMatchResults(dtoMapping))
+                .thenThrow(new ObjectOptimisticLockingFailureException(IpscMatch.class, 1L));
+        when(transformationService.initMatchResults(ipscResponse)).thenReturn(Optional.of(matchResultsDto));
+
+        // Act
+        FatalException exception = assertThrows(FatalException.class,
+                () -> ipscService.importMatch(matchResultsDto, null));
+
+        // Assert
+        assertTrue(exception.getMessage().startsWith("Unable to import the match after 3 attempts"));
+        verify(transactionService, times(3)).saveMatchResults(dtoMapping);
+        verify(transformationService, times(2)).initMatchResults(ipscResponse);
+    }
+
+    // Test Group: importWinMssCabFile - import ledger
+    @Test
+    public void testImportWinMssCabFile_whenImportedBefore_thenReturnsLedgerRecordsWithoutImporting() {
+        // Arrange
+        String cabFileContent = """
+                {
+                    "match": "<xml><data><row MatchId='100' MatchName='Match 1'/></data></xml>"
+                }
+                """;
+        MatchRecord matchRecord = new MatchRecord("Match 1", "", "", "", "", List.of(), "");
+        List<IpscMatchRecordHolder> previousImport = List.of(new IpscMatchRecordHolder(List.of(matchRecord)));
+        when(importLedgerService.hashContent(cabFileContent)).thenReturn("cab-hash");
+        when(importLedgerService.findImport("cab-hash")).thenReturn(Optional.of(previousImport));
+        ImportProgress importProgress = new ImportProgress();
+
+        // Act
+        List<IpscMatchRecordHolder> result = assertDoesNotThrow(() ->
+                ipscService.importWinMssCabFile(cabFileContent, importProgress));
+
+        // Assert
+        assertSame(previousImport, result);
+        assertEquals(1, importProgress.getTotalMatches());
+        verifyNoInteractions(transformationService, domainService, transactionService);
+        verify(importLedgerService, never()).recordImport(any(), any());
+    }
+
+    @Test
+    public void testImportWinMssCabFile_whenMatchUnchanged_thenSkipsMatchAndRecordsImport() throws FatalException {
+        // Arrange
+        String cabFileContent = """
+                {
+                    "match": "<xml><data><row MatchId='100' MatchName='Match 1'/><row MatchId='101' MatchName='Match 2'/></data></xml>"
+                }
+                """;
+        IpscResponse ipscResponse1 = new IpscResponse();
+        IpscResponse ipscResponse2 = new IpscResponse();
+        MatchSectionHash matchSection1 = new MatchSectionHash("match 1|null", "hash-1");
+        MatchSectionHash matchSection2 = new MatchSectionHash("match 2|null", "hash-2");
+        MatchRecord matchRecord1 = new MatchRecord("Match 1", "", "", "", "", List.of(), "");
+        MatchRecord matchRecord2 = new MatchRecord("Match 2", "", "", "", "", List.of(), "");
+
+        when(importLedgerService.hashContent(cabFileContent)).thenReturn("cab-hash");
+        when(transformationService.mapMatchResults(any(IpscRequestHolder.class)))
+                .thenReturn(new IpscResponseHolder(List.of(ipscResponse1, ipscResponse2)));
+        when(importLedgerService.hashMatchSection(ipscResponse1)).thenReturn(Optional.of(matchSection1));
+        when(importLedgerService.hashMatchSection(ipscResponse2)).thenReturn(Optional.of(matchSection2));
+        when(importLedgerService.findUnchangedMatchRecords(List.of(matchSection1, matchSection2)))
+                .thenReturn(Map.of(matchSection1, matchRecord1));
+
+        MatchResultsDto matchResults2 = new MatchResultsDto();
+        DtoMapping dtoMapping2 = mock(DtoMapping.class);
+        IpscMatch ipscMatch2 = new IpscMatch();
+        ipscMatch2.setId(2L);
+        MatchHolder matchHolder2 = new MatchHolder();
+        matchHolder2.setMatch(ipscMatch2);
+        when(transformationService.initMatchResults(ipscResponse2)).thenReturn(Optional.of(matchResults2));
+        when(domainService.initMatchEntities(matchResults2, null, null)).thenReturn(Optional.of(dtoMapping2));
+        when(transactionService.saveMatchResults(dtoMapping2)).thenReturn(Optional.of(matchHolder2));
+        when(transformationService.generateMatchRecord(matchHolder2)).thenReturn(Optional.of(matchRecord2));
+
+        // Act
+        List<IpscMatchRecordHolder> result = assertDoesNotThrow(() ->
+                ipscService.importWinMssCabFile(cabFileContent));
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals(List.of(matchRecord1), result.get(0).matches());
+        assertEquals(List.of(matchRecord1, matchRecord2), result.get(1).matches());
+        verify(transformationService, never()).initMatchResults(ipscResponse1);
+        verify(transactionService, times(1)).saveMatchResults(any(DtoMapping.class));
+        verify(importLedgerService).recordMatch(matchSection2, 2L, matchRecord2);
+        verify(importLedgerService).recordImport("cab-hash", List.of(matchSection1, matchSection2));
+    }
+
+    @Test
+    public void testImportWinMssCabFile_whenImportLedgerUnavailable_thenImportsInFull() throws FatalException {
+        // Arrange
+        String cabFileContent = """
+                {
+                    "match": "<xml><data><row MatchId='100' MatchName='Match 1'/></data></xml>"
+                }
+                """;
+        IpscResponse ipscResponse = new IpscResponse();
+        MatchResultsDto matchResults = new MatchResultsDto();
+        DtoMapping dtoMapping = mock(DtoMapping.class);
+        MatchHolder matchHolder = new MatchHolder();
+        MatchRecord matchRecord = new MatchRecord("Match 1", "", "", "", "", List.of(), "");
+
+        when(importLedgerService.hashContent(cabFileContent)).thenReturn("cab-hash");
+        when(importLedgerService.findImport("cab-hash"))
+                .thenThrow(new DataAccessResourceFailureException("Ledger unavailable"));
+        when(importLedgerService.findUnchangedMatchRecords(anyList()))
+                .thenThrow(new DataAccessResourceFailureException("Ledger unavailable"));
+        when(transformationService.mapMatchResults(any(IpscRequestHolder.class)))
+                .thenReturn(new IpscResponseHolder(List.of(ipscResponse)));
+        when(transformationService.initMatchResults(ipscResponse)).thenReturn(Optional.of(matchResults));
+        when(domainService.initMatchEntities(matchResults, null, null)).thenReturn(Optional.of(dtoMapping));
+        when(transactionService.saveMatchResults(dtoMapping)).thenReturn(Optional.of(matchHolder));
+        when(transformationService.generateMatchRecord(matchHolder)).thenReturn(Optional.of(matchRecord));
+
+        // Act
+        List<IpscMatchRecordHolder> result = assertDoesNotThrow(() ->
+                ipscService.importWinMssCabFile(cabFileContent));
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals(List.of(matchRecord), result.getFirst().matches());
+        // A match without a section hash can not be recorded, nor can the CAB file holding it
+        verify(importLedgerService, never()).recordMatch(any(), any(), any());
+        verify(importLedgerService, never()).recordImport(any(), any());
+    }
+
+    // Test Group: readIpscRequests - parallel section parsing
+    @Test
+    public void testReadIpscRequests_whenParallelParsingEnabled_thenReturnsSameSectionsAsSequential() {
+        // Arrange
+        String cabFileContent = """
+                {
+                    "club": "<xml><data><row ClubId='1' ClubCode='ABC' Club='Test Club'/></data></xml>",
+                    "match": "<xml><data><row MatchId='100' MatchName='Test Match'/></data></xml>",
+                    "stage": "<xml><data><row StageId='200' StageName='Stage 1' MatchId='100'/><row StageId='201' StageName='Stage 2' MatchId='100'/></data></xml>",
+                    "tag": "<xml><data></data></xml>",
+                    "member": "<xml><data><row MemberId='50' Firstname='John' Lastname='Doe'/><row MemberId='51' Firstname='Jane' Lastname='Doe'/></data></xml>",
+                    "classify": "<xml><data/></xml>",
+                    "enrolled": "<xml><data><row MemberId='50' CompId='500' MatchId='100'/></data></xml>",
+                    "squad": "",
+                    "team": "<xml><data><row TeamId='20' Team='Team A' MatchId='100'/></data></xml>",
+                    "score": "<xml><data><row MemberId='50' StageId='200' MatchId='100' FinalScore='101'/><row MemberId='51' StageId='200' MatchId='100' FinalScore='99'/></data></xml>"
+                }
+                """;
+
+        try (ExecutorService executorService = Executors.newFixedThreadPool(4)) {
+            IpscServiceImpl parallelService = new IpscServiceImpl(transformationService, domainService,
+                    transactionService, objectReaderRegistry, executorService, null, importLedgerService);
+            parallelService.parallelSectionParsing = true;
+
+            // Act
+            IpscRequestHolder expected = assertDoesNotThrow(() -> ipscService.readIpscRequests(cabFileContent));
+            IpscRequestHolder result = assertDoesNotThrow(() -> parallelService.readIpscRequests(cabFileContent));
+
+            // Assert
+            assertEquals(expected.getClubs().size(), result.getClubs().size());
+            assertEquals(expected.getMatches().size(), result.getMatches().size());
+            assertEquals(expected.getStages().size(), result.getStages().size());
+            assertEquals(expected.getTags().size(), result.getTags().size());
+            assertEquals(expected.getMembers().size(), result.getMembers().size());
+            assertEquals(expected.getClassifications().size(), result.getClassifications().size());
+            assertEquals(expected.getEnrolledMembers().size(), result.getEnrolledMembers().size());
+            assertEquals(expected.getSquads().size(), result.getSquads().size());
+            assertEquals(expected.getTeams().size(), result.getTeams().size());
+            assertEquals(expected.getScores().size(), result.getScores().size());
+            assertEquals(201, result.getStages().get(1).getStageId());
+            assertEquals(99, result.getScores().get(1).getFinalScore());
+        }
+    }
+
+    @Test
+    public void testReadIpscRequests_whenParallelParsingAndInvalidXmlSection_thenThrowsValidationException() {
+        // Arrange
+        String cabFileContent = """
+                {
+                    "club": "<xml><data><row ClubId='1' ClubCode='ABC' Club='Test Club'/></data></xml>",
+                    "score": "<xml><data><row MemberId='50' StageId='200'</data></xml>"
+                }
+                """;
+
+        try (ExecutorService executorService = Executors.newFixedThreadPool(4)) {
+            IpscServiceImpl parallelService = new IpscServiceImpl(transformationService, domainService,
+                    transactionService, objectReaderRegistry, executorService, null, importLedgerService);
+            parallelService.parallelSectionParsing = true;
+
+            // Act & Assert
+            assertThrows(ValidationException.class, () -> parallelService.readIpscRequests(cabFileContent));
+        }
+    }
+
+    private static InputStream toStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
 }
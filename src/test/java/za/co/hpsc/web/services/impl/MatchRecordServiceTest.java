@@ -0,0 +1,150 @@
+package za.co.hpsc.web.services.impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import za.co.hpsc.web.enums.*;
+import za.co.hpsc.web.models.ipsc.common.data.CompetitorStageResultRow;
+import za.co.hpsc.web.models.ipsc.common.data.MatchResultsHeader;
+import za.co.hpsc.web.models.ipsc.common.records.CompetitorRecord;
+import za.co.hpsc.web.models.ipsc.common.records.MatchCompetitorStageResultRecord;
+import za.co.hpsc.web.models.ipsc.common.records.MatchRecord;
+import za.co.hpsc.web.repositories.IpscMatchRepository;
+import za.co.hpsc.web.repositories.MatchStageCompetitorRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class MatchRecordServiceTest {
+
+    @Mock
+    private IpscMatchRepository matchRepository;
+
+    @Mock
+    private MatchStageCompetitorRepository matchStageCompetitorRepository;
+
+    @InjectMocks
+    private MatchRecordServiceImpl matchRecordService;
+
+    @Test
+    public void testGenerateMatchRecord_whenNullMatchId_thenReturnsEmpty() {
+        // Act
+        Optional<MatchRecord> result = matchRecordService.generateMatchRecord(null);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(matchRepository, matchStageCompetitorRepository);
+    }
+
+    @Test
+    public void testGenerateMatchRecord_whenMatchMissing_thenReturnsEmptyWithoutReadingResults() {
+        // Arrange
+        when(matchRepository.findResultsHeaderById(1L)).thenReturn(Optional.empty());
+
+        // Act
+        Optional<MatchRecord> result = matchRecordService.generateMatchRecord(1L);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(matchStageCompetitorRepository);
+    }
+
+    @Test
+    public void testGenerateMatchRecord_whenRowsOfSeveralCompetitors_thenGroupsStagesPerCompetitor() {
+        // Arrange
+        when(matchRepository.findResultsHeaderById(1L)).thenReturn(Optional.of(new MatchResultsHeader(1L,
+                "Match", LocalDateTime.of(2026, 5, 2, 9, 0), "Club", "CLB", FirearmType.HANDGUN,
+                MatchCategory.CLUB_SHOOT, LocalDateTime.of(2026, 5, 3, 10, 0))));
+        when(matchStageCompetitorRepository.streamResultRowsByMatchId(1L)).thenReturn(Stream.of(
+                buildRow(10L, "Alice", ClubIdentifier.HPSC, "Stage 1"),
+                buildRow(10L, "Alice", ClubIdentifier.HPSC, "Stage 2"),
+                buildRow(11L, "Bob", null, "Stage 1"),
+                buildRow(12L, "Alice", ClubIdentifier.HPSC, "Stage 1")));
+
+        // Act
+        MatchRecord result = matchRecordService.generateMatchRecord(1L).orElseThrow();
+
+        // Assert
+        assertEquals("Match", result.name());
+        assertEquals("Club (CLB)", result.clubName());
+        assertEquals(3, result.competitors().size());
+
+        CompetitorRecord first = result.competitors().get(0);
+        assertEquals("Alice", first.firstName());
+        assertEquals(ClubIdentifier.HPSC.getName(), first.clubName());
+        assertEquals(List.of("Stage 1", "Stage 2"), first.results().stages().stream()
+                .map(MatchCompetitorStageResultRecord::stageName)
+                .toList());
+
+        CompetitorRecord second = result.competitors().get(1);
+        assertEquals("Bob", second.firstName());
+        assertEquals("Club", second.clubName());
+        assertEquals(1, second.results().stages().size());
+
+        // A second enrolment of the same competitor has a record of its own
+        assertEquals("Alice", result.competitors().get(2).firstName());
+        assertEquals(1, result.competitors().get(2).results().stages().size());
+    }
+
+    @Test
+    public void testGenerateMatchRecord_whenMatchWithoutClubOrResults_thenReturnsEmptyCompetitors() {
+        // Arrange
+        when(matchRepository.findResultsHeaderById(1L)).thenReturn(Optional.of(new MatchResultsHeader(1L,
+                "Match", LocalDateTime.of(2026, 5, 2, 9, 0), null, null, null, null, null)));
+        when(matchStageCompetitorRepository.streamResultRowsByMatchId(1L)).thenReturn(Stream.empty());
+
+        // Act
+        MatchRecord result = matchRecordService.generateMatchRecord(1L).orElseThrow();
+
+        // Assert
+        assertEquals("", result.clubName());
+        assertEquals("", result.matchFirearmType());
+        assertTrue(result.competitors().isEmpty());
+    }
+
+    @Test
+    public void testForEachCompetitorRecord_whenRowsStreamed_thenClosesStream() {
+        // Arrange
+        AtomicBoolean closed = new AtomicBoolean(false);
+        when(matchStageCompetitorRepository.streamResultRowsByMatchId(1L)).thenReturn(Stream.of(
+                buildRow(10L, "Alice", null, "Stage 1")).onClose(() -> closed.set(true)));
+        List<CompetitorRecord> competitorRecords = new ArrayList<>();
+
+        // Act
+        matchRecordService.forEachCompetitorRecord(1L, competitorRecords::add);
+
+        // Assert
+        assertEquals(1, competitorRecords.size());
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void testForEachCompetitorRecord_whenNullConsumer_thenDoesNotReadResults() {
+        // Act
+        matchRecordService.forEachCompetitorRecord(1L, null);
+
+        // Assert
+        verifyNoInteractions(matchStageCompetitorRepository);
+    }
+
+    private static CompetitorStageResultRow buildRow(Long matchCompetitorId, String firstName,
+                                                     ClubIdentifier matchClub, String stageName) {
+        return new CompetitorStageResultRow(matchCompetitorId, firstName, "Last", null,
+                LocalDate.of(1990, 1, 1), 1234, "C1", matchClub, "Club", CompetitorCategory.NONE,
+                FirearmType.HANDGUN, Division.PRODUCTION, PowerFactor.MINOR, BigDecimal.TEN, BigDecimal.ONE,
+                null, stageName, 1, 2, 3, 4, 50, 0, 0, 0, BigDecimal.valueOf(12.5), BigDecimal.valueOf(4),
+                BigDecimal.valueOf(40), BigDecimal.valueOf(80), BigDecimal.ONE, null);
+    }
+}
@@ -0,0 +1,116 @@
+package za.co.hpsc.web.services.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+import za.co.hpsc.web.exceptions.NonFatalException;
+import za.co.hpsc.web.models.ipsc.common.data.SerializedResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MatchResponseCacheServiceTest {
+
+    private MatchResponseCacheServiceImpl matchResponseCacheService;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    public void setUp() {
+        matchResponseCacheService = new MatchResponseCacheServiceImpl(JsonMapper.builder().build(), 1, 1, 10);
+        meterRegistry = new SimpleMeterRegistry();
+        matchResponseCacheService.bindTo(meterRegistry);
+    }
+
+    @Test
+    public void testGetMatch_whenReadTwice_thenLoadsOnceAndRecordsHitAndLoadTime() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        SerializedResponse first = matchResponseCacheService.getMatch(1L, () -> {
+            loads.incrementAndGet();
+            return matchResponseCacheService.serialize(Map.of("matchName", "Match 1"), 3L);
+        });
+        SerializedResponse second = matchResponseCacheService.getMatch(1L, () -> {
+            loads.incrementAndGet();
+            return matchResponseCacheService.serialize(Map.of("matchName", "Match 1"), 3L);
+        });
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals("{\"matchName\":\"Match 1\"}", new String(first.body(), StandardCharsets.UTF_8));
+        assertEquals(1, meterRegistry.get(MatchResponseCacheServiceImpl.HITS_METRIC)
+                .tag("cache", "match").functionCounter().count());
+        assertEquals(1, meterRegistry.get(MatchResponseCacheServiceImpl.MISSES_METRIC)
+                .tag("cache", "match").functionCounter().count());
+        assertEquals(0.5, meterRegistry.get(MatchResponseCacheServiceImpl.HIT_RATIO_METRIC)
+                .tag("cache", "match").gauge().value());
+        assertEquals(1, meterRegistry.get(MatchResponseCacheServiceImpl.LOAD_METRIC)
+                .tag("cache", "match").timer().count());
+    }
+
+    @Test
+    public void testContainsMatch_whenMatchCached_thenReturnsTrueWithoutRecordingRead() {
+        // Arrange
+        matchResponseCacheService.getMatch(1L, () -> new SerializedResponse(1L, new byte[]{'1'}));
+
+        // Act / Assert
+        assertTrue(matchResponseCacheService.containsMatch(1L));
+        assertFalse(matchResponseCacheService.containsMatch(2L));
+        assertFalse(matchResponseCacheService.containsMatch(null));
+        assertEquals(0, meterRegistry.get(MatchResponseCacheServiceImpl.HITS_METRIC)
+                .tag("cache", "match").functionCounter().count());
+        assertEquals(1, meterRegistry.get(MatchResponseCacheServiceImpl.MISSES_METRIC)
+                .tag("cache", "match").functionCounter().count());
+    }
+
+    @Test
+    public void testEvictMatch_whenMatchCached_thenEvictsResponseAndResultsOfMatchOnly() {
+        // Arrange
+        SerializedResponse response = new SerializedResponse(1L, new byte[]{'1'});
+        matchResponseCacheService.getMatch(1L, () -> response);
+        matchResponseCacheService.getMatchResults(1L, () -> response);
+        matchResponseCacheService.getMatch(2L, () -> response);
+
+        // Act
+        matchResponseCacheService.evictMatch(1L);
+        matchResponseCacheService.evictMatch(null);
+
+        // Assert
+        assertNull(matchResponseCacheService.matchCache.getIfPresent(1L));
+        assertNull(matchResponseCacheService.matchResultsCache.getIfPresent(1L));
+        assertSame(response, matchResponseCacheService.matchCache.getIfPresent(2L));
+    }
+
+    @Test
+    public void testGetMatchResults_whenBodiesExceedMaximumSize_thenEvictsAndCountsEviction() {
+        // Arrange
+        byte[] body = new byte[700 * 1024];
+
+        // Act
+        matchResponseCacheService.getMatchResults(1L, () -> new SerializedResponse(null, body));
+        matchResponseCacheService.getMatchResults(2L, () -> new SerializedResponse(null, body));
+        matchResponseCacheService.matchResultsCache.cleanUp();
+
+        // Assert
+        assertEquals(1, matchResponseCacheService.matchResultsCache.estimatedSize());
+        assertEquals(1, meterRegistry.get(MatchResponseCacheServiceImpl.EVICTIONS_METRIC)
+                .tag("cache", "match-results").functionCounter().count());
+    }
+
+    @Test
+    public void testGetMatch_whenLoaderThrows_thenPropagatesWithoutCaching() {
+        // Act
+        assertThrows(NonFatalException.class, () -> matchResponseCacheService.getMatch(1L, () -> {
+            throw new NonFatalException("Match with id 1 not found");
+        }));
+
+        // Assert
+        assertNull(matchResponseCacheService.matchCache.getIfPresent(1L));
+    }
+}
@@ -0,0 +1,174 @@
+package za.co.hpsc.web.services.impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import za.co.hpsc.web.enums.ExportFormat;
+import za.co.hpsc.web.enums.FirearmType;
+import za.co.hpsc.web.exceptions.NonFatalException;
+import za.co.hpsc.web.exceptions.ValidationException;
+import za.co.hpsc.web.models.ipsc.common.data.MatchSearchCursor;
+import za.co.hpsc.web.models.ipsc.common.data.MatchSearchRow;
+import za.co.hpsc.web.models.ipsc.common.records.*;
+import za.co.hpsc.web.services.MatchEntityService;
+import za.co.hpsc.web.services.MatchRecordService;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class MatchResultExportServiceTest {
+
+    @Mock
+    private MatchEntityService matchEntityService;
+
+    @Mock
+    private MatchRecordService matchRecordService;
+
+    @InjectMocks
+    private MatchResultExportServiceImpl matchResultExportService;
+
+    @Test
+    public void testExportMatch_whenNdjson_thenWritesOneLinePerCompetitor() throws IOException {
+        // Arrange
+        when(matchEntityService.findMatchRowsByIds(List.of(1L))).thenReturn(List.of(buildMatchRow(1L)));
+        stubCompetitorRecords(1L, buildCompetitorRecord("Alice", "Stage 1", "Stage 2"),
+                buildCompetitorRecord("Bob", "Stage 1"));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // Act
+        matchResultExportService.exportMatch(1L, ExportFormat.NDJSON).writeTo(outputStream);
+
+        // Assert
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"matchId\":1") && lines[0].contains("\"matchName\":\"Match 1\""));
+        assertTrue(lines[0].contains("\"firstName\":\"Alice\""));
+        assertTrue(lines[1].contains("\"firstName\":\"Bob\""));
+    }
+
+    @Test
+    public void testExportMatch_whenCsv_thenWritesHeaderAndOneRowPerStageResult() throws IOException {
+        // Arrange
+        when(matchEntityService.findMatchRowsByIds(List.of(1L))).thenReturn(List.of(buildMatchRow(1L)));
+        stubCompetitorRecords(1L, buildCompetitorRecord("Alice", "Stage 1", "Stage 2"),
+                buildCompetitorRecord("Bob", "Stage 1"));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // Act
+        matchResultExportService.exportMatch(1L, ExportFormat.CSV).writeTo(outputStream);
+
+        // Assert
+        List<String> lines = outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(4, lines.size());
+        assertTrue(lines.get(0).startsWith("matchId,matchName,scheduledDate,firstName,lastName"));
+        assertTrue(lines.get(1).startsWith("1,\"Match 1\",") || lines.get(1).startsWith("1,Match 1,"));
+        assertTrue(lines.get(1).contains("Alice") && lines.get(1).contains("Stage 1"));
+        assertTrue(lines.get(2).contains("Alice") && lines.get(2).contains("Stage 2"));
+        assertTrue(lines.get(3).contains("Bob") && lines.get(3).contains("Stage 1"));
+    }
+
+    @Test
+    public void testExportMatch_whenWritten_thenFlushesWithoutClosingOutput() throws IOException {
+        // Arrange
+        when(matchEntityService.findMatchRowsByIds(List.of(1L))).thenReturn(List.of(buildMatchRow(1L)));
+        stubCompetitorRecords(1L, buildCompetitorRecord("Alice", "Stage 1"));
+        OutputStream outputStream = spy(new ByteArrayOutputStream());
+
+        // Act
+        matchResultExportService.exportMatch(1L, ExportFormat.CSV).writeTo(outputStream);
+
+        // Assert
+        verify(outputStream, atLeastOnce()).flush();
+        verify(outputStream, never()).close();
+    }
+
+    @Test
+    public void testExportMatch_whenMatchMissing_thenThrowsBeforeReadingResults() {
+        // Arrange
+        when(matchEntityService.findMatchRowsByIds(List.of(2L))).thenReturn(List.of());
+
+        // Act & Assert
+        assertThrows(NonFatalException.class,
+                () -> matchResultExportService.exportMatch(2L, ExportFormat.NDJSON));
+        assertThrows(ValidationException.class,
+                () -> matchResultExportService.exportMatch(0L, ExportFormat.NDJSON));
+        verifyNoInteractions(matchRecordService);
+    }
+
+    @Test
+    public void testExportMatches_whenSeveralPages_thenWritesMatchesPageByPage() throws IOException {
+        // Arrange
+        matchResultExportService.matchPageSize = 2;
+        MatchSearchRow match1 = buildMatchRow(1L);
+        MatchSearchRow match2 = buildMatchRow(2L);
+        MatchSearchRow match3 = buildMatchRow(3L);
+        when(matchEntityService.searchMatches(any(), isNull(), eq(2))).thenReturn(List.of(match1, match2));
+        when(matchEntityService.searchMatches(any(), eq(new MatchSearchCursor(match2.scheduledDate(), 2L)), eq(2)))
+                .thenReturn(List.of(match3));
+        stubCompetitorRecords(1L, buildCompetitorRecord("Alice", "Stage 1"));
+        stubCompetitorRecords(2L);
+        stubCompetitorRecords(3L, buildCompetitorRecord("Carol", "Stage 1"));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // Act
+        matchResultExportService.exportMatches(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31),
+                ExportFormat.NDJSON).writeTo(outputStream);
+
+        // Assert
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"matchId\":1"));
+        assertTrue(lines[1].contains("\"matchId\":3"));
+        verify(matchEntityService, times(2)).searchMatches(any(), any(), eq(2));
+    }
+
+    @Test
+    public void testExportMatches_whenInvalidDateRange_thenThrowsValidationException() {
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> matchResultExportService.exportMatches(
+                LocalDate.of(2026, 2, 1), LocalDate.of(2026, 1, 1), ExportFormat.CSV));
+        assertThrows(ValidationException.class, () -> matchResultExportService.exportMatches(
+                null, LocalDate.of(2026, 1, 1), ExportFormat.CSV));
+        verifyNoInteractions(matchEntityService, matchRecordService);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubCompetitorRecords(Long matchId, CompetitorRecord... competitorRecords) {
+        doAnswer(invocation -> {
+            Consumer<CompetitorRecord> consumer = invocation.getArgument(1);
+            for (CompetitorRecord competitorRecord : competitorRecords) {
+                consumer.accept(competitorRecord);
+            }
+            return null;
+        }).when(matchRecordService).forEachCompetitorRecord(eq(matchId), any(Consumer.class));
+    }
+
+    private static MatchSearchRow buildMatchRow(Long id) {
+        return new MatchSearchRow(id, "Match " + id, LocalDateTime.of(2026, 5, id.intValue(), 9, 0), "Club",
+                FirearmType.HANDGUN);
+    }
+
+    private static CompetitorRecord buildCompetitorRecord(String firstName, String... stageNames) {
+        List<MatchCompetitorStageResultRecord> stages = Arrays.stream(stageNames)
+                .map(stageName -> new MatchCompetitorStageResultRecord(stageName, 1, 2, 3, 4, 50, 0, 0, 0,
+                        "12.50", "4.0000", "40.0000", "80.00", "1.00", ""))
+                .toList();
+        CompetitorResultRecord results = new CompetitorResultRecord("Handgun", "Production", "Minor",
+                new MatchCompetitorOverallResultsRecord("100.0000", "90.00", ""), stages);
+        return new CompetitorRecord(firstName, "Last", null, "1990-01-01", 1234, "C1", "Club", "None",
+                results);
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionStatus;
 import za.co.hpsc.web.domain.*;
@@ -14,11 +15,14 @@ import za.co.hpsc.web.enums.FirearmType;
 import za.co.hpsc.web.exceptions.FatalException;
 import za.co.hpsc.web.models.ipsc.common.data.DtoMapping;
 import za.co.hpsc.web.models.ipsc.common.data.DtoToEntityMapping;
+import za.co.hpsc.web.models.ipsc.common.data.MatchReference;
 import za.co.hpsc.web.models.ipsc.common.dto.*;
 import za.co.hpsc.web.models.ipsc.common.holders.data.MatchHolder;
 import za.co.hpsc.web.models.ipsc.match.dto.MatchOnlyDto;
 import za.co.hpsc.web.models.ipsc.match.holders.dto.MatchOnlyResultsDto;
 import za.co.hpsc.web.repositories.*;
+import za.co.hpsc.web.services.ClubDictionaryService;
+import za.co.hpsc.web.services.MatchResponseCacheService;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -45,6 +49,10 @@ public class TransactionServiceTest {
     @Mock
     private MatchStageCompetitorRepository matchStageCompetitorRepository;
     @Mock
+    private ClubDictionaryService clubDictionaryService;
+    @Mock
+    private MatchResponseCacheService matchResponseCacheService;
+    @Mock
     private TransactionStatus transactionStatus;
 
     @InjectMocks
@@ -188,7 +196,7 @@ public class TransactionServiceTest {
         existingMatch.setId(10L);
         existingMatch.setName("Old Name");
         existingMatch.setScheduledDate(LocalDateTime.now());
-        when(ipscMatchRepository.findById(10L)).thenReturn(Optional.of(existingMatch));
+        when(ipscMatchRepository.findLockedById(10L)).thenReturn(Optional.of(existingMatch));
         stubTransactionStart();
 
         // Act
@@ -414,6 +422,79 @@ public class TransactionServiceTest {
         verify(transactionManager, never()).commit(any());
     }
 
+    @Test
+    public void testSaveMatch_withClubAndMatch_thenRegistersSavedClubAfterCommit() {
+        // Arrange
+        MatchOnlyResultsDto matchOnlyResultsDto = buildMatchOnlyResultsDto();
+        ClubDto clubDto = new ClubDto();
+        clubDto.setName("Test Club");
+        matchOnlyResultsDto.setClub(clubDto);
+        Club savedClub = new Club("Test Club", "TC");
+        savedClub.setId(7L);
+        stubTransactionStart();
+        when(clubRepository.save(any(Club.class))).thenReturn(savedClub);
+
+        // Act
+        assertDoesNotThrow(() -> transactionService.saveMatch(matchOnlyResultsDto));
+
+        // Assert
+        var inOrder = inOrder(transactionManager, clubDictionaryService);
+        inOrder.verify(transactionManager).commit(transactionStatus);
+        inOrder.verify(clubDictionaryService).register(savedClub);
+    }
+
+    @Test
+    public void testSaveMatch_withExistingMatch_thenEvictsCachedResponsesAfterCommit() {
+        // Arrange
+        MatchOnlyResultsDto matchOnlyResultsDto = buildMatchOnlyResultsDto();
+        matchOnlyResultsDto.setClub(null);
+        IpscMatch savedMatch = new IpscMatch();
+        savedMatch.setId(12L);
+        stubTransactionStart();
+        when(ipscMatchRepository.save(any(IpscMatch.class))).thenReturn(savedMatch);
+
+        // Act
+        assertDoesNotThrow(() -> transactionService.saveMatch(matchOnlyResultsDto));
+
+        // Assert
+        var inOrder = inOrder(transactionManager, matchResponseCacheService);
+        inOrder.verify(transactionManager).commit(transactionStatus);
+        inOrder.verify(matchResponseCacheService).evictMatch(12L);
+    }
+
+    @Test
+    public void testSaveMatch_withRepositoryFailure_thenDoesNotEvictCachedResponses() {
+        // Arrange
+        MatchOnlyResultsDto matchOnlyResultsDto = buildMatchOnlyResultsDto();
+        stubTransactionStart();
+        when(ipscMatchRepository.save(any(IpscMatch.class))).thenThrow(new RuntimeException("DB error"));
+
+        // Act
+        assertThrows(FatalException.class, () -> transactionService.saveMatch(matchOnlyResultsDto));
+
+        // Assert
+        verifyNoInteractions(matchResponseCacheService);
+    }
+
+    @Test
+    public void testSaveMatchResults_whenRepositoryThrowsException_thenDoesNotRegisterClub() {
+        // Arrange
+        DtoMapping dtoMapping = buildMinimalDtoMapping();
+        ClubDto clubDto = new ClubDto();
+        clubDto.setName("Test Club");
+        dtoMapping.setClub(clubDto);
+        stubTransactionStart();
+        when(clubRepository.save(any(Club.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(ipscMatchRepository.save(any())).thenThrow(new RuntimeException("DB error"));
+
+        // Act
+        assertThrows(FatalException.class, () -> transactionService.saveMatchResults(dtoMapping));
+
+        // Assert
+        verify(transactionManager).rollback(transactionStatus);
+        verifyNoInteractions(clubDictionaryService);
+    }
+
     @Test
     public void testSaveMatch_withRepositoryFailure_thenRollsBackAndThrowsFatalException() {
         // Arrange
@@ -512,6 +593,111 @@ public class TransactionServiceTest {
         verifyNoInteractions(ipscMatchRepository);
     }
 
+    @Test
+    public void testGetIpscMatch_whenMatchDtoVersionIsCurrent_thenReturnsLockedEntity() {
+        // Arrange
+        MatchDto matchDto = buildMatchDto();
+        matchDto.setId(10L);
+        matchDto.setVersion(2L);
+        IpscMatch existingMatch = new IpscMatch();
+        existingMatch.setId(10L);
+        existingMatch.setVersion(2L);
+        when(ipscMatchRepository.findLockedById(10L)).thenReturn(Optional.of(existingMatch));
+
+        // Act
+        Optional<IpscMatch> result = transactionService.getIpscMatch(matchDto);
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertSame(existingMatch, result.get());
+        assertEquals("Test Match", result.get().getName());
+        verify(ipscMatchRepository, never()).findById(any());
+    }
+
+    @Test
+    public void testGetIpscMatch_whenMatchDtoVersionIsStale_thenThrowsOptimisticLockingFailure() {
+        // Arrange
+        MatchDto matchDto = buildMatchDto();
+        matchDto.setId(10L);
+        matchDto.setVersion(2L);
+        IpscMatch existingMatch = new IpscMatch();
+        existingMatch.setId(10L);
+        existingMatch.setVersion(3L);
+        when(ipscMatchRepository.findLockedById(10L)).thenReturn(Optional.of(existingMatch));
+
+        // Act & Assert
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> transactionService.getIpscMatch(matchDto));
+    }
+
+    @Test
+    public void testGetIpscMatch_whenNewMatchInsertedConcurrently_thenThrowsOptimisticLockingFailure() {
+        // Arrange
+        MatchDto matchDto = buildMatchDto();
+        when(ipscMatchRepository.findFirstByNameAndScheduledDateAndClubIsNullOrderByIdAsc(matchDto.getName(),
+                matchDto.getScheduledDate())).thenReturn(Optional.of(new MatchReference(11L, null, 0L)));
+
+        // Act & Assert
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> transactionService.getIpscMatch(matchDto));
+    }
+
+    @Test
+    public void testGetIpscMatch_whenNewMatchExistsAtAnotherClub_thenReturnsNewMatch() {
+        // Arrange
+        MatchDto matchDto = buildMatchDto();
+        ClubDto clubDto = new ClubDto();
+        clubDto.setName("HPSC");
+        matchDto.setClub(clubDto);
+        when(ipscMatchRepository.findFirstByNameAndScheduledDateAndClubNameOrderByIdAsc(matchDto.getName(),
+                matchDto.getScheduledDate(), "HPSC")).thenReturn(Optional.empty());
+
+        // Act
+        Optional<IpscMatch> result = transactionService.getIpscMatch(matchDto);
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertNull(result.get().getId());
+        verify(ipscMatchRepository, never()).findFirstByNameAndScheduledDateOrderByIdAsc(any(), any());
+    }
+
+    @Test
+    public void testSaveMatchResults_whenCommitConflicts_thenRethrowsWithoutRollingBackAgain() {
+        // Arrange
+        DtoMapping dtoMapping = buildMinimalDtoMapping();
+        stubTransactionStart();
+        when(ipscMatchRepository.save(any(IpscMatch.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new ObjectOptimisticLockingFailureException(IpscMatch.class, 1L))
+                .when(transactionManager).commit(transactionStatus);
+        when(transactionStatus.isCompleted()).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> transactionService.saveMatchResults(dtoMapping));
+        verify(transactionManager, never()).rollback(any());
+        verifyNoInteractions(clubDictionaryService);
+    }
+
+    @Test
+    public void testSaveMatch_whenMatchOnlyDtoVersionIsStale_thenRollsBackAndRethrows() {
+        // Arrange
+        MatchOnlyResultsDto matchOnlyResultsDto = buildMatchOnlyResultsDto();
+        matchOnlyResultsDto.setClub(null);
+        matchOnlyResultsDto.getMatch().setId(10L);
+        matchOnlyResultsDto.getMatch().setVersion(2L);
+        IpscMatch existingMatch = new IpscMatch();
+        existingMatch.setId(10L);
+        existingMatch.setVersion(3L);
+        stubTransactionStart();
+        when(ipscMatchRepository.findById(10L)).thenReturn(Optional.of(existingMatch));
+
+        // Act & Assert
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> transactionService.saveMatch(matchOnlyResultsDto));
+        verify(ipscMatchRepository, never()).save(any());
+        verify(transactionManager).rollback(transactionStatus);
+    }
+
     @Test
     public void testGetIpscMatch_withNullMatchOnlyDto_thenReturnsEmptyOptional() {
         // Act
@@ -1333,5 +1519,97 @@ public class TransactionServiceTest {
         assertFalse(result.isEmpty());
         assertNull(result.getFirst().getId());
     }
-}
 
+    @Test
+    public void testSaveMatchCompetitors_whenNewAndExisting_thenInsertsNewAndUpsertsExisting() {
+        // Arrange
+        MatchCompetitor newMatchCompetitor = new MatchCompetitor();
+        MatchCompetitor existingMatchCompetitor = new MatchCompetitor();
+        existingMatchCompetitor.setId(10L);
+
+        // Act
+        transactionService.saveMatchCompetitors(List.of(newMatchCompetitor, existingMatchCompetitor));
+
+        // Assert
+        verify(matchCompetitorRepository).saveAll(List.of(newMatchCompetitor));
+        verify(matchCompetitorRepository).upsertAll(List.of(existingMatchCompetitor));
+    }
+
+    @Test
+    public void testSaveMatchCompetitors_whenAllNew_thenDoesNotUpsert() {
+        // Arrange
+        MatchCompetitor newMatchCompetitor = new MatchCompetitor();
+
+        // Act
+        transactionService.saveMatchCompetitors(List.of(newMatchCompetitor));
+
+        // Assert
+        verify(matchCompetitorRepository).saveAll(List.of(newMatchCompetitor));
+        verify(matchCompetitorRepository, never()).upsertAll(anyList());
+    }
+
+    @Test
+    public void testSaveMatchStageCompetitors_whenAllExisting_thenUpsertsWithoutInserting() {
+        // Arrange
+        MatchStageCompetitor first = new MatchStageCompetitor();
+        first.setId(20L);
+        MatchStageCompetitor second = new MatchStageCompetitor();
+        second.setId(21L);
+
+        // Act
+        transactionService.saveMatchStageCompetitors(List.of(first, second));
+
+        // Assert
+        verify(matchStageCompetitorRepository).upsertAll(List.of(first, second));
+        verify(matchStageCompetitorRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    public void testSaveSharedEntities_whenNewClubAndCompetitor_thenInsertsOnlyNewOnesAndSetsTheirIds()
+            throws FatalException {
+        // Arrange
+        stubTransactionStart();
+        ClubDto clubDto = new ClubDto();
+        clubDto.setName("HPSC Club");
+        CompetitorDto newCompetitorDto = buildCompetitorDto();
+        CompetitorDto existingCompetitorDto = buildCompetitorDto();
+        existingCompetitorDto.setId(7L);
+        when(clubRepository.save(any(Club.class))).thenAnswer(invocation -> {
+            Club club = invocation.getArgument(0);
+            club.setId(3L);
+            return club;
+        });
+        when(competitorRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Competitor> competitors = invocation.getArgument(0);
+            competitors.forEach(competitor -> competitor.setId(8L));
+            return competitors;
+        });
+
+        // Act
+        transactionService.saveSharedEntities(clubDto, List.of(newCompetitorDto, existingCompetitorDto));
+
+        // Assert
+        assertEquals(3L, clubDto.getId());
+        assertEquals(8L, newCompetitorDto.getId());
+        assertEquals(7L, existingCompetitorDto.getId());
+        verify(competitorRepository).saveAll(argThat((List<Competitor> competitors) -> competitors.size() == 1));
+        verify(transactionManager).commit(transactionStatus);
+        verify(clubDictionaryService).register(any(Club.class));
+    }
+
+    @Test
+    public void testSaveSharedEntities_whenNothingNew_thenDoesNotStartTransaction() throws FatalException {
+        // Arrange
+        ClubDto clubDto = new ClubDto();
+        clubDto.setId(3L);
+        CompetitorDto competitorDto = buildCompetitorDto();
+        competitorDto.setId(7L);
+
+        // Act
+        transactionService.saveSharedEntities(clubDto, List.of(competitorDto));
+        transactionService.saveSharedEntities(null, null);
+
+        // Assert
+        verifyNoInteractions(transactionManager, clubRepository, competitorRepository);
+    }
+}
@@ -9,23 +9,24 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import za.co.hpsc.web.domain.*;
 import za.co.hpsc.web.enums.*;
 import za.co.hpsc.web.exceptions.ValidationException;
+import za.co.hpsc.web.models.ipsc.common.data.MatchReference;
 import za.co.hpsc.web.models.ipsc.common.dto.ClubDto;
 import za.co.hpsc.web.models.ipsc.common.dto.CompetitorDto;
 import za.co.hpsc.web.models.ipsc.common.dto.MatchDto;
 import za.co.hpsc.web.models.ipsc.common.dto.MatchStageDto;
+import za.co.hpsc.web.models.ipsc.common.holders.data.MatchEntityIndex;
 import za.co.hpsc.web.models.ipsc.common.holders.data.MatchHolder;
 import za.co.hpsc.web.models.ipsc.common.holders.dto.MatchResultsDto;
 import za.co.hpsc.web.models.ipsc.common.holders.request.IpscRequestHolder;
+import za.co.hpsc.web.models.ipsc.common.holders.request.IpscRequestIndex;
 import za.co.hpsc.web.models.ipsc.common.holders.response.IpscResponseHolder;
+import za.co.hpsc.web.models.ipsc.common.holders.response.IpscResponseIndex;
 import za.co.hpsc.web.models.ipsc.common.records.*;
 import za.co.hpsc.web.models.ipsc.common.request.*;
 import za.co.hpsc.web.models.ipsc.common.response.*;
 import za.co.hpsc.web.models.ipsc.match.dto.MatchOnlyDto;
 import za.co.hpsc.web.models.ipsc.match.request.MatchOnlyRequest;
-import za.co.hpsc.web.services.ClubEntityService;
-import za.co.hpsc.web.services.CompetitorEntityService;
-import za.co.hpsc.web.services.MatchEntityService;
-import za.co.hpsc.web.services.MatchStageEntityService;
+import za.co.hpsc.web.services.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -46,6 +47,10 @@ public class TransformationServiceTest {
     private MatchStageEntityService matchStageEntityService;
     @Mock
     private CompetitorEntityService competitorEntityService;
+    @Mock
+    private MatchCompetitorEntityService matchCompetitorEntityService;
+    @Mock
+    private MatchStageCompetitorEntityService matchStageCompetitorEntityService;
 
     @InjectMocks
     private TransformationServiceImpl transformationService;
@@ -186,6 +191,13 @@ public class TransformationServiceTest {
         assertTrue(result.matches().isEmpty());
     }
 
+    @Test
+    public void testGenerateMatchRecord_whenNullHolderOrMatch_thenReturnsEmpty() {
+        // Act & Assert
+        assertTrue(transformationService.generateMatchRecord(null).isEmpty());
+        assertTrue(transformationService.generateMatchRecord(new MatchHolder()).isEmpty());
+    }
+
     @Test
     public void testGenerateIpscMatchRecordHolder_whenValidEntities_thenReturnsRecords() {
         // Arrange
@@ -261,8 +273,12 @@ public class TransformationServiceTest {
 
     @Test
     public void testCreateBasicMatch_whenMatchNull_thenEmpty() {
+        // Arrange
+        IpscRequestHolder holder = new IpscRequestHolder();
+
         // Act / Assert
-        Optional<IpscResponse> result = transformationService.createBasicMatch(new IpscRequestHolder(), null);
+        Optional<IpscResponse> result = transformationService.createBasicMatch(holder,
+                new IpscRequestIndex(holder), null);
         assertTrue(result.isEmpty());
     }
 
@@ -271,9 +287,11 @@ public class TransformationServiceTest {
         // Arrange
         MatchRequest request = buildMatchRequest(1);
         request.setMatchId(null);
+        IpscRequestHolder holder = new IpscRequestHolder();
 
         // Act / Assert
-        Optional<IpscResponse> result = transformationService.createBasicMatch(new IpscRequestHolder(), request);
+        Optional<IpscResponse> result = transformationService.createBasicMatch(holder,
+                new IpscRequestIndex(holder), request);
         assertTrue(result.isEmpty());
     }
 
@@ -286,7 +304,8 @@ public class TransformationServiceTest {
         holder.setScores(new ArrayList<>());
 
         // Act / Assert
-        Optional<IpscResponse> result = transformationService.createBasicMatch(holder, buildMatchRequest(1));
+        Optional<IpscResponse> result = transformationService.createBasicMatch(holder,
+                new IpscRequestIndex(holder), buildMatchRequest(1));
         assertTrue(result.isEmpty());
     }
 
@@ -300,7 +319,8 @@ public class TransformationServiceTest {
         holder.setScores(List.of(buildScoreRequest(1, 1, 9, 10), buildScoreRequest(2, 1, 10, 20)));
 
         // Act
-        Optional<IpscResponse> result = transformationService.createBasicMatch(holder, buildMatchRequest(1));
+        Optional<IpscResponse> result = transformationService.createBasicMatch(holder,
+                new IpscRequestIndex(holder), buildMatchRequest(1));
 
         // Assert
         assertTrue(result.isPresent());
@@ -317,7 +337,7 @@ public class TransformationServiceTest {
         holder.setMembers(new ArrayList<>());
 
         // Act / Assert
-        assertDoesNotThrow(() -> transformationService.addMembersToMatch(null, holder));
+        assertDoesNotThrow(() -> transformationService.addMembersToMatch(null, holder, new IpscRequestIndex(holder)));
     }
 
     @Test
@@ -329,7 +349,7 @@ public class TransformationServiceTest {
         holder.setMembers(List.of(buildMemberRequest(9), buildMemberRequest(10)));
 
         // Act
-        transformationService.addMembersToMatch(response, holder);
+        transformationService.addMembersToMatch(response, holder, new IpscRequestIndex(holder));
 
         // Assert
         assertEquals(1, response.getMembers().size());
@@ -339,7 +359,7 @@ public class TransformationServiceTest {
     @Test
     public void testAddClubToMatch_whenNullArgs_thenNoThrow() {
         // Act / Assert
-        assertDoesNotThrow(() -> transformationService.addClubToMatch(null, null));
+        assertDoesNotThrow(() -> transformationService.addClubToMatch(null, null, null));
     }
 
     @Test
@@ -351,7 +371,7 @@ public class TransformationServiceTest {
         holder.setClubs(List.of(buildClubRequest(500)));
 
         // Act
-        transformationService.addClubToMatch(response, holder);
+        transformationService.addClubToMatch(response, holder, new IpscRequestIndex(holder));
 
         // Assert
         assertNotNull(response.getClub());
@@ -367,7 +387,7 @@ public class TransformationServiceTest {
         holder.setClubs(List.of(buildClubRequest(500)));
 
         // Act
-        transformationService.addClubToMatch(response, holder);
+        transformationService.addClubToMatch(response, holder, new IpscRequestIndex(holder));
 
         // Assert
         assertNotNull(response.getClub());
@@ -522,10 +542,8 @@ public class TransformationServiceTest {
                 0, 0, 0, "", false, "", 0, "", "", 0,
                 false, LocalDateTime.of(2026, 3, 31, 12, 0))));
 
-        IpscMatch existing = new IpscMatch();
-        existing.setName("Existing");
-        existing.setDateEdited(LocalDateTime.of(2026, 3, 31, 10, 0));
-        when(matchEntityService.findMatchByNameAndScheduledDate(anyString(), any()))
+        MatchReference existing = new MatchReference(5L, LocalDateTime.of(2026, 3, 31, 10, 0), 2L);
+        when(matchEntityService.findMatchReference(anyString(), any()))
                 .thenReturn(Optional.of(existing));
 
         // Act
@@ -534,13 +552,16 @@ public class TransformationServiceTest {
         // Assert
         assertTrue(result.isPresent());
         assertEquals(1, result.get().getIndex());
+        assertEquals(5L, result.get().getId());
+        assertEquals(2L, result.get().getVersion());
+        verify(matchEntityService, never()).findMatchByNameAndScheduledDate(anyString(), any());
     }
 
     @Test
     public void testInitMatch_whenNoExistingMatch_thenPresent() {
         // Arrange
         IpscResponse response = buildBaseIpscResponse(1);
-        when(matchEntityService.findMatchByNameAndScheduledDate(anyString(), any()))
+        when(matchEntityService.findMatchReference(anyString(), any()))
                 .thenReturn(Optional.empty());
 
         // Act
@@ -548,13 +569,14 @@ public class TransformationServiceTest {
 
         // Assert
         assertTrue(result.isPresent());
+        assertNull(result.get().getId());
     }
 
     @Test
     public void testInitStages_whenNullArgs_thenEmptyList() {
         // Act / Assert
-        assertTrue(transformationService.initStages(null, new ArrayList<>()).isEmpty());
-        assertTrue(transformationService.initStages(new MatchDto(), null).isEmpty());
+        assertTrue(transformationService.initStages(null, new ArrayList<>(), new MatchEntityIndex()).isEmpty());
+        assertTrue(transformationService.initStages(new MatchDto(), null, new MatchEntityIndex()).isEmpty());
     }
 
     @Test
@@ -566,10 +588,9 @@ public class TransformationServiceTest {
         StageResponse stageResponse = new StageResponse(1, 1, "Stage 1", "Desc", 1,
                 1, 10, 0, 0, 0, 0, 20, 100, 0, 0);
 
-        when(matchStageEntityService.findMatchStage(1L, 1)).thenReturn(Optional.empty());
-
         // Act
-        List<MatchStageDto> result = transformationService.initStages(matchDto, List.of(stageResponse));
+        List<MatchStageDto> result = transformationService.initStages(matchDto, List.of(stageResponse),
+                new MatchEntityIndex());
 
         // Assert
         assertEquals(1, result.size());
@@ -582,7 +603,7 @@ public class TransformationServiceTest {
         MatchResultsDto emptyResults = new MatchResultsDto();
 
         // Act / Assert
-        assertTrue(transformationService.initCompetitors(emptyResults, null).isEmpty());
+        assertTrue(transformationService.initCompetitors(emptyResults, null, new IpscResponseIndex(null)).isEmpty());
     }
 
     @Test
@@ -607,11 +628,12 @@ public class TransformationServiceTest {
                         LocalDateTime.of(1991, 1, 1, 0, 0), "222", "BBB", true, null, null, null)
         ));
 
-        when(competitorEntityService.findCompetitor(anyString(), anyString(), anyString(), any()))
-                .thenReturn(Optional.empty());
+        when(competitorEntityService.findCompetitors(anyCollection()))
+                .thenReturn(Map.of());
 
         // Act
-        List<CompetitorDto> result = transformationService.initCompetitors(results, response);
+        List<CompetitorDto> result = transformationService.initCompetitors(results, response,
+                new IpscResponseIndex(response));
 
         // Assert
         assertEquals(1, result.size());
@@ -631,7 +653,8 @@ public class TransformationServiceTest {
         response.setMembers(new ArrayList<>());
 
         // Act / Assert
-        assertDoesNotThrow(() -> transformationService.initEnrolledCompetitors(results, response));
+        assertDoesNotThrow(() -> transformationService.initEnrolledCompetitors(results, response,
+                new IpscResponseIndex(response), new MatchEntityIndex()));
         assertTrue(results.getMatchCompetitors().isEmpty());
     }
 
@@ -1022,7 +1045,7 @@ public class TransformationServiceTest {
         holder.setMembers(List.of(buildMemberRequest(9)));
 
         // Act
-        transformationService.addMembersToMatch(response, holder);
+        transformationService.addMembersToMatch(response, holder, new IpscRequestIndex(holder));
 
         // Assert
         assertTrue(response.getMembers().isEmpty());
@@ -1037,7 +1060,7 @@ public class TransformationServiceTest {
         holder.setMembers(List.of(buildMemberRequest(10), buildMemberRequest(11)));
 
         // Act
-        transformationService.addMembersToMatch(response, holder);
+        transformationService.addMembersToMatch(response, holder, new IpscRequestIndex(holder));
 
         // Assert
         assertTrue(response.getMembers().isEmpty());
@@ -1061,7 +1084,7 @@ public class TransformationServiceTest {
         ));
 
         // Act
-        transformationService.addMembersToMatch(response, holder);
+        transformationService.addMembersToMatch(response, holder, new IpscRequestIndex(holder));
 
         // Assert
         assertEquals(3, response.getMembers().size());
@@ -1076,7 +1099,7 @@ public class TransformationServiceTest {
         holder.setClubs(List.of(buildClubRequest(500)));
 
         // Act
-        transformationService.addClubToMatch(response, holder);
+        transformationService.addClubToMatch(response, holder, new IpscRequestIndex(holder));
 
         // Assert
         assertNull(response.getClub());
@@ -1091,7 +1114,7 @@ public class TransformationServiceTest {
         holder.setClubs(null);
 
         // Act
-        transformationService.addClubToMatch(response, holder);
+        transformationService.addClubToMatch(response, holder, new IpscRequestIndex(holder));
 
         // Assert
         assertNull(response.getClub());
@@ -1103,10 +1126,8 @@ public class TransformationServiceTest {
         IpscResponse response = buildBaseIpscResponse(1);
         response.setScores(List.of(new ScoreResponse(1, 1, 9, 0, 0, 0, 0, 0, 0, 0, "", false, "", 0, "", "", 0,
                 false, LocalDateTime.of(2026, 4, 1, 15, 0))));
-        IpscMatch existing = new IpscMatch();
-        existing.setName("Existing");
-        existing.setScheduledDate(LocalDateTime.of(2026, 3, 31, 10, 0));
-        when(matchEntityService.findMatchByNameAndScheduledDate(anyString(), any()))
+        MatchReference existing = new MatchReference(6L, LocalDateTime.of(2026, 3, 31, 10, 0), 0L);
+        when(matchEntityService.findMatchReference(anyString(), any()))
                 .thenReturn(Optional.of(existing));
 
         // Act
@@ -1127,10 +1148,8 @@ public class TransformationServiceTest {
         responses.add(new StageResponse(1, 1, "Stage 1", "Desc", 1, 1, 10, 0, 0, 0, 0, 20, 100, 0, 0));
         responses.add(null);
 
-        when(matchStageEntityService.findMatchStage(1L, 1)).thenReturn(Optional.empty());
-
         // Act
-        List<MatchStageDto> result = transformationService.initStages(matchDto, responses);
+        List<MatchStageDto> result = transformationService.initStages(matchDto, responses, new MatchEntityIndex());
 
         // Assert
         assertEquals(1, result.size());
@@ -1146,16 +1165,51 @@ public class TransformationServiceTest {
         IpscMatchStage existingStage = buildMatchStage("Existing Stage 1", 1);
         existingStage.setId(99L);
 
-        when(matchStageEntityService.findMatchStage(1L, 1)).thenReturn(Optional.of(existingStage));
+        MatchEntityIndex matchEntityIndex = new MatchEntityIndex(List.of(existingStage), null, null);
 
         // Act
-        List<MatchStageDto> result = transformationService.initStages(matchDto, List.of(stageResponse));
+        List<MatchStageDto> result = transformationService.initStages(matchDto, List.of(stageResponse),
+                matchEntityIndex);
 
         // Assert
         assertEquals(1, result.size());
         assertEquals(99L, result.getFirst().getId());
     }
 
+    @Test
+    public void prefetchMatchEntities_whenMatchHasNoId_thenReturnsEmptyIndexWithoutQuerying() {
+        // Arrange
+        MatchDto matchDto = new MatchDto();
+
+        // Act
+        MatchEntityIndex result = transformationService.prefetchMatchEntities(matchDto);
+
+        // Assert
+        assertTrue(result.getStage(1).isEmpty());
+        verifyNoInteractions(matchStageEntityService, matchCompetitorEntityService,
+                matchStageCompetitorEntityService);
+    }
+
+    @Test
+    public void prefetchMatchEntities_whenExistingMatch_thenIndexesTheLoadedEntities() {
+        // Arrange
+        MatchDto matchDto = new MatchDto();
+        matchDto.setId(5L);
+        IpscMatchStage existingStage = buildMatchStage("Stage 1", 1);
+        existingStage.setId(99L);
+
+        when(matchStageEntityService.findMatchStagesByMatch(5L)).thenReturn(List.of(existingStage));
+        when(matchCompetitorEntityService.findMatchCompetitorsByMatch(5L)).thenReturn(List.of());
+        when(matchStageCompetitorEntityService.findMatchStageCompetitorsByMatch(5L)).thenReturn(List.of());
+
+        // Act
+        MatchEntityIndex result = transformationService.prefetchMatchEntities(matchDto);
+
+        // Assert
+        assertTrue(result.getStage(1).isPresent());
+        assertEquals(99L, result.getStage(1).get().getId());
+    }
+
     @Test
     public void initCompetitors_whenAllScoresAreZero_thenReturnsEmptyList() {
         // Arrange
@@ -1175,7 +1229,8 @@ public class TransformationServiceTest {
         ));
 
         // Act
-        List<CompetitorDto> result = transformationService.initCompetitors(results, response);
+        List<CompetitorDto> result = transformationService.initCompetitors(results, response,
+                new IpscResponseIndex(response));
 
         // Assert
         assertTrue(result.isEmpty());
@@ -1199,11 +1254,12 @@ public class TransformationServiceTest {
                 new MemberResponse(10, "Poe", "Jane", "", false, LocalDateTime.of(1991, 1, 1, 0, 0), "222", "BBB", true, null, null, null)
         ));
 
-        when(competitorEntityService.findCompetitor(anyString(), anyString(), anyString(), any()))
-                .thenReturn(Optional.empty());
+        when(competitorEntityService.findCompetitors(anyCollection()))
+                .thenReturn(Map.of());
 
         // Act
-        List<CompetitorDto> result = transformationService.initCompetitors(results, response);
+        List<CompetitorDto> result = transformationService.initCompetitors(results, response,
+                new IpscResponseIndex(response));
 
         // Assert
         assertEquals(1, result.size());
@@ -1226,11 +1282,12 @@ public class TransformationServiceTest {
                 new MemberResponse(9, "Doe", "John", "", false, LocalDateTime.of(1990, 1, 1, 0, 0), "111", "BBB", true, null, null, null)
         ));
 
-        when(competitorEntityService.findCompetitor(anyString(), anyString(), anyString(), any()))
-                .thenReturn(Optional.empty());
+        when(competitorEntityService.findCompetitors(anyCollection()))
+                .thenReturn(Map.of());
 
         // Act
-        List<CompetitorDto> result = transformationService.initCompetitors(results, response);
+        List<CompetitorDto> result = transformationService.initCompetitors(results, response,
+                new IpscResponseIndex(response));
 
         // Assert
         assertEquals(1, result.size());
@@ -1253,7 +1310,8 @@ public class TransformationServiceTest {
         response.setEnrolledMembers(new ArrayList<>());
 
         // Act / Assert
-        assertDoesNotThrow(() -> transformationService.initEnrolledCompetitors(results, response));
+        assertDoesNotThrow(() -> transformationService.initEnrolledCompetitors(results, response,
+                new IpscResponseIndex(response), new MatchEntityIndex()));
         assertTrue(results.getMatchCompetitors().isEmpty());
     }
 
@@ -1273,12 +1331,62 @@ public class TransformationServiceTest {
         response.setEnrolledMembers(new ArrayList<>());
 
         // Act
-        transformationService.initEnrolledCompetitors(results, response);
+        transformationService.initEnrolledCompetitors(results, response, new IpscResponseIndex(response),
+                new MatchEntityIndex());
 
         // Assert
         assertTrue(results.getMatchCompetitors().isEmpty());
     }
 
+    @Test
+    public void initEnrolledCompetitors_whenExistingMatch_thenReusesIndexedEntities() {
+        // Arrange
+        MatchResultsDto results = new MatchResultsDto();
+        MatchDto match = new MatchDto();
+        match.setId(5L);
+        match.setIndex(1);
+        results.setMatch(match);
+
+        IpscMatchStage existingStage = buildMatchStage("Stage 1", 1);
+        existingStage.setId(99L);
+        MatchStageDto stageDto = new MatchStageDto(existingStage, match);
+        stageDto.setIndex(1);
+        results.setStages(List.of(stageDto));
+
+        CompetitorDto competitorDto = new CompetitorDto();
+        competitorDto.setId(7L);
+        competitorDto.getIndexes().add(9);
+        results.setCompetitors(List.of(competitorDto));
+
+        IpscResponse response = buildBaseIpscResponse(1);
+        response.setMembers(List.of(buildMemberResponse(9)));
+        response.setEnrolledMembers(List.of(new EnrolledResponse(buildEnrolledRequest(9, 1))));
+        response.setScores(List.of(new ScoreResponse(1, 1, 9, 0, 0, 0, 0, 0,
+                0, 0, "", false, "", 0, "", "", 50, false, LocalDateTime.now())));
+
+        Competitor competitor = buildCompetitor("John", "Doe");
+        competitor.setId(7L);
+        MatchCompetitor existingMatchCompetitor = buildMatchCompetitor(competitor);
+        existingMatchCompetitor.setId(11L);
+        MatchStageCompetitor existingMatchStageCompetitor = buildMatchStageCompetitor(competitor, existingStage);
+        existingMatchStageCompetitor.setId(12L);
+
+        MatchEntityIndex matchEntityIndex = new MatchEntityIndex(List.of(existingStage),
+                List.of(existingMatchCompetitor), List.of(existingMatchStageCompetitor));
+
+        // Act
+        transformationService.initEnrolledCompetitors(results, response, new IpscResponseIndex(response),
+                matchEntityIndex);
+
+        // Assert
+        assertEquals(1, results.getMatchCompetitors().size());
+        assertEquals(11L, results.getMatchCompetitors().getFirst().getId());
+        assertEquals(1, results.getMatchStageCompetitors().size());
+        assertEquals(12L, results.getMatchStageCompetitors().getFirst().getId());
+        verify(matchCompetitorEntityService, never()).findMatchCompetitors(any(), any());
+        verify(matchStageCompetitorEntityService, never()).findMatchStageCompetitors(any(), any());
+    }
+
     @Test
     public void initMatchCompetitorOverallResult_whenMultipleCompetitorsInList_thenReturnsOnlyFirstMatch() {
         // Arrange
@@ -1557,7 +1665,8 @@ public class TransformationServiceTest {
         ));
 
         // Act
-        Optional<IpscResponse> result = transformationService.createBasicMatch(holder, buildMatchRequest(1));
+        Optional<IpscResponse> result = transformationService.createBasicMatch(holder,
+                new IpscRequestIndex(holder), buildMatchRequest(1));
 
         // Assert
         assertTrue(result.isPresent());
@@ -0,0 +1,155 @@
+package za.co.hpsc.web.utils;
+
+import org.junit.jupiter.api.Test;
+import za.co.hpsc.web.models.ipsc.common.dto.CompetitorDto;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompetitorDeDuplicatorTest {
+
+    @Test
+    void testDeDuplicate_whenNull_thenReturnsEmptyResult() {
+        // Act
+        CompetitorDeDuplicator.Result result = CompetitorDeDuplicator.deDuplicate(null);
+
+        // Assert
+        assertTrue(result.competitors().isEmpty());
+        assertTrue(result.mergedGroups().isEmpty());
+    }
+
+    @Test
+    void testDeDuplicate_whenDuplicateSapsaNumbersAndIds_thenReportsMergedGroups() {
+        // Arrange
+        Map<Integer, CompetitorDto> input = new LinkedHashMap<>();
+        input.put(1, buildCompetitor(1, 1001, 10L));
+        input.put(2, buildCompetitor(2, 1001, null));
+        input.put(3, buildCompetitor(3, 1001, 11L));
+        input.put(4, buildCompetitor(4, null, 10L));
+        input.put(5, buildCompetitor(5, null, null));
+
+        // Act
+        CompetitorDeDuplicator.Result result = CompetitorDeDuplicator.deDuplicate(input);
+
+        // Assert
+        assertEquals(List.of(1, 5), List.copyOf(result.competitors().keySet()));
+        assertEquals(List.of(1, 2, 3, 4), result.competitors().get(1).getIndexes());
+        assertEquals(List.of(
+                new CompetitorDeDuplicator.MergedGroup(CompetitorDeDuplicator.SAPSA_NUMBER_KEY, 1001, 1,
+                        List.of(2, 3)),
+                new CompetitorDeDuplicator.MergedGroup(CompetitorDeDuplicator.COMPETITOR_ID_KEY, 10L, 1,
+                        List.of(4))), result.mergedGroups());
+    }
+
+    @Test
+    void testDeDuplicate_whenIdSurvivorWasMergedBySapsa_thenMergesIntoRemainingSurvivor() {
+        // Arrange
+        Map<Integer, CompetitorDto> input = new LinkedHashMap<>();
+        input.put(1, buildCompetitor(1, 1001, null));
+        input.put(2, buildCompetitor(2, 1001, 5L));
+        input.put(3, buildCompetitor(3, 1002, 5L));
+        input.put(4, buildCompetitor(4, 1003, 5L));
+
+        // Act
+        CompetitorDeDuplicator.Result result = CompetitorDeDuplicator.deDuplicate(input);
+
+        // Assert
+        assertEquals(List.of(1, 3), List.copyOf(result.competitors().keySet()));
+        assertEquals(List.of(3, 4), result.competitors().get(3).getIndexes());
+    }
+
+    @Test
+    void testDeDuplicate_whenRecordedMatchFixture_thenMatchesLegacyBehaviour() {
+        // Arrange: members of a recorded club match, including a competitor enrolled in two
+        // divisions, a competitor re-registered under a new member ID, and unregistered guests
+        Object[][] rows = {
+                {1, 76543, 101L}, {2, 76543, 101L}, {3, 81234, 102L}, {4, null, 103L}, {5, 81234, null},
+                {6, null, null}, {7, 90001, 104L}, {8, null, 104L}, {9, null, null}, {10, 90002, 105L},
+                {11, 90003, null}, {12, 90003, 106L}, {13, null, 106L}, {14, 90004, 107L}, {15, 90004, 107L},
+        };
+
+        // Act & Assert
+        assertSameAsLegacy(() -> {
+            Map<Integer, CompetitorDto> input = new LinkedHashMap<>();
+            for (Object[] row : rows) {
+                input.put((Integer) row[0], buildCompetitor((Integer) row[0], (Integer) row[1], (Long) row[2]));
+            }
+            return input;
+        });
+    }
+
+    @Test
+    void testDeDuplicate_whenRandomFixtures_thenMatchesLegacyBehaviour() {
+        for (long seed = 0; seed < 50; seed++) {
+            Random random = new Random(seed);
+            int size = 1 + random.nextInt(300);
+            List<Object[]> rows = new ArrayList<>();
+            for (int i = 1; i <= size; i++) {
+                Integer sapsaNumber = (random.nextInt(4) == 0) ? null : 1000 + random.nextInt(size);
+                Long id = (random.nextInt(3) == 0) ? null : (long) random.nextInt(size);
+                rows.add(new Object[]{i, sapsaNumber, id});
+            }
+
+            // Act & Assert
+            assertSameAsLegacy(() -> {
+                Map<Integer, CompetitorDto> input = new LinkedHashMap<>();
+                for (Object[] row : rows) {
+                    input.put((Integer) row[0], buildCompetitor((Integer) row[0], (Integer) row[1], (Long) row[2]));
+                }
+                return input;
+            });
+        }
+    }
+
+    private void assertSameAsLegacy(Supplier<Map<Integer, CompetitorDto>> fixture) {
+        Map<Integer, CompetitorDto> expected = legacyDeDuplicate(fixture.get());
+        Map<Integer, CompetitorDto> actual = CompetitorDeDuplicator.deDuplicate(fixture.get()).competitors();
+
+        // The same competitors survive, in the same order
+        assertEquals(List.copyOf(expected.keySet()), List.copyOf(actual.keySet()));
+        // Every index merged by the legacy implementation is merged into the same survivor
+        expected.forEach((index, competitorDto) ->
+                assertTrue(actual.get(index).getIndexes().containsAll(competitorDto.getIndexes())));
+    }
+
+    // The de-duplication as implemented before the linear-time engine, kept as a reference
+    private static Map<Integer, CompetitorDto> legacyDeDuplicate(Map<Integer, CompetitorDto> competitorDtoMap) {
+        Set<Integer> seenSapsaNumbers = new HashSet<>();
+        Set<Long> seenIds = new HashSet<>();
+
+        Map<Integer, CompetitorDto> bySapsaNumber = new LinkedHashMap<>();
+        competitorDtoMap.forEach((key, competitorDto) -> {
+            if ((competitorDto.getSapsaNumber() == null) || seenSapsaNumbers.add(competitorDto.getSapsaNumber())) {
+                bySapsaNumber.put(key, competitorDto);
+            } else {
+                competitorDtoMap.values().stream()
+                        .filter(cd -> competitorDto.getSapsaNumber().equals(cd.getSapsaNumber()))
+                        .findFirst()
+                        .ifPresent(cd -> cd.getIndexes().addAll(competitorDto.getIndexes()));
+            }
+        });
+
+        Map<Integer, CompetitorDto> byId = new LinkedHashMap<>();
+        bySapsaNumber.forEach((key, competitorDto) -> {
+            if ((competitorDto.getId() == null) || seenIds.add(competitorDto.getId())) {
+                byId.put(key, competitorDto);
+            } else {
+                competitorDtoMap.values().stream()
+                        .filter(cd -> competitorDto.getId().equals(cd.getId()))
+                        .findFirst()
+                        .ifPresent(cd -> cd.getIndexes().addAll(competitorDto.getIndexes()));
+            }
+        });
+        return byId;
+    }
+
+    private static CompetitorDto buildCompetitor(int index, Integer sapsaNumber, Long id) {
+        CompetitorDto competitorDto = new CompetitorDto();
+        competitorDto.setSapsaNumber(sapsaNumber);
+        competitorDto.setId(id);
+        competitorDto.getIndexes().add(index);
+        return competitorDto;
+    }
+}
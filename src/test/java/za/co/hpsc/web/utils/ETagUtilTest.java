@@ -0,0 +1,41 @@
+package za.co.hpsc.web.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ETagUtilTest {
+
+    @Test
+    void testToETag_whenVersion_thenReturnsQuotedETag() {
+        // Act & Assert
+        assertEquals("\"3\"", ETagUtil.toETag(3L));
+        assertNull(ETagUtil.toETag(null));
+    }
+
+    @Test
+    void testMatchesIfNoneMatch_whenListContainsETag_thenReturnsTrue() {
+        // Act & Assert
+        assertTrue(ETagUtil.matchesIfNoneMatch("\"2\", \"3\"", "\"3\""));
+        assertTrue(ETagUtil.matchesIfNoneMatch("W/\"3\"", "\"3\""));
+        assertTrue(ETagUtil.matchesIfNoneMatch("*", "\"3\""));
+    }
+
+    @Test
+    void testMatchesIfNoneMatch_whenETagDiffersOrHeaderMissing_thenReturnsFalse() {
+        // Act & Assert
+        assertFalse(ETagUtil.matchesIfNoneMatch("\"2\"", "\"3\""));
+        assertFalse(ETagUtil.matchesIfNoneMatch(null, "\"3\""));
+        assertFalse(ETagUtil.matchesIfNoneMatch("", "\"3\""));
+        assertFalse(ETagUtil.matchesIfNoneMatch("\"3\"", null));
+    }
+
+    @Test
+    void testMatchesIfMatch_whenWeakETag_thenReturnsFalse() {
+        // Act & Assert
+        assertTrue(ETagUtil.matchesIfMatch("\"3\"", "\"3\""));
+        assertTrue(ETagUtil.matchesIfMatch("*", "\"3\""));
+        assertFalse(ETagUtil.matchesIfMatch("W/\"3\"", "\"3\""));
+        assertFalse(ETagUtil.matchesIfMatch("\"2\"", "\"3\""));
+    }
+}
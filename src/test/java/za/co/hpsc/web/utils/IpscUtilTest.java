@@ -3,6 +3,9 @@ package za.co.hpsc.web.utils;
 import org.junit.jupiter.api.Test;
 import za.co.hpsc.web.models.ipsc.common.dto.ClubDto;
 
+import java.time.LocalDateTime;
+import java.util.Locale;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class IpscUtilTest {
@@ -110,5 +113,41 @@ class IpscUtilTest {
         // Assert
         assertEquals("Eufees Club Shoot @ Hartbeespoortdam Practical Shooting Club (HPSC)", result);
     }
-}
 
+    @Test
+    void testMatchKey_withDefaultLocaleTurkish_thenLowerCasesNameInRootLocale() {
+        // Arrange
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+
+        try {
+            // Act
+            String result = IpscUtil.matchKey(" IPSC CLUB SHOOT ", LocalDateTime.of(2026, 5, 2, 9, 0));
+
+            // Assert
+            assertEquals("ipsc club shoot|2026-05-02T09:00", result);
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    void testMatchKey_withNullNameAndDate_thenReturnsEmptyNameKey() {
+        // Act
+        String result = IpscUtil.matchKey(null, null);
+
+        // Assert
+        assertEquals("|null", result);
+    }
+
+    @Test
+    void testClubMatchKey_withClubName_thenPrefixesLowerCasedClubName() {
+        // Act
+        String result = IpscUtil.clubMatchKey(" HPSC ", "Club Shoot", LocalDateTime.of(2026, 5, 2, 9, 0));
+
+        // Assert
+        assertEquals("hpsc|club shoot|2026-05-02T09:00", result);
+        assertEquals("|club shoot|2026-05-02T09:00",
+                IpscUtil.clubMatchKey(null, "Club Shoot", LocalDateTime.of(2026, 5, 2, 9, 0)));
+    }
+}
@@ -0,0 +1,82 @@
+package za.co.hpsc.web.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StripedLocksTest {
+
+    @Test
+    void testConstructor_whenStripeCountNotPositive_thenThrowsIllegalArgumentException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new StripedLocks(0));
+    }
+
+    @Test
+    void testLockAll_whenKeysNullOrEmpty_thenReturnsEmptyList() {
+        // Arrange
+        StripedLocks stripedLocks = new StripedLocks(8);
+
+        // Act & Assert
+        assertTrue(stripedLocks.lockAll(null).isEmpty());
+        assertTrue(stripedLocks.lockAll(List.of()).isEmpty());
+    }
+
+    @Test
+    void testLockAll_whenDuplicateAndNullKeys_thenLocksEachStripeOnce() {
+        // Arrange
+        StripedLocks stripedLocks = new StripedLocks(1);
+
+        // Act
+        List<Lock> locks = stripedLocks.lockAll(Arrays.asList("a", "b", null, "a"));
+
+        // Assert
+        assertEquals(1, locks.size());
+        assertEquals(1, ((ReentrantLock) locks.getFirst()).getHoldCount());
+        stripedLocks.unlockAll(locks);
+        assertFalse(((ReentrantLock) locks.getFirst()).isLocked());
+    }
+
+    @Test
+    void testLockAll_whenOverlappingKeysUsedConcurrently_thenSerialisesAccess() throws Exception {
+        // Arrange
+        StripedLocks stripedLocks = new StripedLocks(16);
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+
+        // Act
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executorService = Executors.newFixedThreadPool(4)) {
+            for (int i = 0; i < 32; i++) {
+                List<String> keys = (i % 2 == 0) ? List.of("shared", "a" + i) : List.of("b" + i, "shared");
+                futures.add(executorService.submit(() -> {
+                    List<Lock> locks = stripedLocks.lockAll(keys);
+                    try {
+                        maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                        Thread.sleep(1);
+                        active.decrementAndGet();
+                    } finally {
+                        stripedLocks.unlockAll(locks);
+                    }
+                    return null;
+                }));
+            }
+        }
+
+        // Assert
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        assertEquals(1, maxActive.get());
+    }
+}